@@ -413,6 +413,25 @@ public class Properties {
             description = "Determines amount of migrants per communication step")
     public static int MIGRANTS_COMMUNICATION_RATE = 3;
 
+    public enum MigrationTopology {
+        RING, RANDOM
+    }
+
+    @Parameter(key = "migration_topology", group = "Test Creation",
+            description = "Determines which client receives the migrants of a client: the next one in a ring, "
+                    + "or a random one")
+    public static MigrationTopology MIGRATION_TOPOLOGY = MigrationTopology.RING;
+
+    @Parameter(key = "migrants_queue_size", group = "Test Creation",
+            description = "Maximum number of migrant groups buffered per client before they are sent or merged "
+                    + "into the population; the oldest group is dropped when the buffer is full")
+    public static int MIGRANTS_QUEUE_SIZE = 4;
+
+    @Parameter(key = "num_islands", group = "Test Creation",
+            description = "Number of populations evolved inside each client process (MOSA only). Islands share "
+                    + "the instrumented classes, test cluster and archive, and exchange migrants in memory")
+    public static int NUM_ISLANDS = 1;
+
     // ---------------------------------------------------------------
     // Search algorithm
     public enum Algorithm {
@@ -461,6 +480,26 @@ public class Properties {
             description = "Enable this to disable feature based mapping")
     public static boolean MAP_ELITES_IGNORE_FEATURES = false;
 
+    public enum NoveltyArchiveEviction {
+        OLDEST,
+        LEAST_NOVEL,
+        RANDOM
+    }
+
+    @Parameter(key = "novelty_neighbours", group = "Search Algorithm",
+            description = "Number of nearest neighbours the novelty of an individual is averaged over (0 = all)")
+    @IntValue(min = 0)
+    public static int NOVELTY_NEIGHBOURS = 15;
+
+    @Parameter(key = "novelty_archive_size", group = "Search Algorithm",
+            description = "Maximum number of behaviours kept in the novelty archive")
+    @IntValue(min = 0)
+    public static int NOVELTY_ARCHIVE_SIZE = 500;
+
+    @Parameter(key = "novelty_archive_eviction", group = "Search Algorithm",
+            description = "Which behaviour to drop when the novelty archive is full")
+    public static NoveltyArchiveEviction NOVELTY_ARCHIVE_EVICTION = NoveltyArchiveEviction.OLDEST;
+
     @Parameter(key = "algorithm", group = "Search Algorithm", description = "Search algorithm")
     public static Algorithm ALGORITHM = Algorithm.DYNAMOSA;
 
@@ -478,6 +517,13 @@ public class Properties {
             description = "The model of neighborhood used in case of CGA. L5 is default")
     public static CgaModels MODEL = CgaModels.LINEAR_FIVE;
 
+    @Parameter(key = "cga_threads", group = "Search Algorithm",
+            description = "Number of threads breeding and evaluating the cells of the Cellular GA. "
+                    + "Values above 1 require evaluation and mutation to be thread-safe, "
+                    + "which test execution is not, so they are rejected for test generation")
+    @IntValue(min = 1)
+    public static int CGA_THREADS = 1;
+
     @Parameter(key = "random_seed", group = "Search Algorithm",
             description = "Seed used for random generator. If left empty, use current time")
     public static Long RANDOM_SEED = null;
@@ -632,6 +678,35 @@ public class Properties {
                     + "Note: external solver will need to be installed and cofigured separately")
     public static SolverType DSE_SOLVER = SolverType.EVOSUITE_SOLVER;
 
+    @Parameter(key = "dse_max_path_condition_length", group = "DSE",
+            description = "Maximum number of branch conditions recorded in a concolic execution, "
+                    + "the rest of the path is not recorded (0 for no limit)")
+    public static int DSE_MAX_PATH_CONDITION_LENGTH = 0;
+
+    @Parameter(key = "dse_max_conditions_per_branch", group = "DSE",
+            description = "Maximum number of branch conditions recorded for the same branch instruction in a "
+                    + "concolic execution, which bounds the conditions recorded for loop iterations (0 for no limit)")
+    public static int DSE_MAX_CONDITIONS_PER_BRANCH = 0;
+
+    @Parameter(key = "dse_deduplicate_branch_conditions", group = "DSE",
+            description = "Do not record a branch condition that is equal to one already recorded in the same "
+                    + "concolic execution (same branch, constraint and supporting constraints)")
+    public static boolean DSE_DEDUPLICATE_BRANCH_CONDITIONS = false;
+
+    @Parameter(key = "dse_concolic_execution_cache_size", group = "DSE",
+            description = "Number of path conditions of recent concolic executions that are kept to be reused "
+                    + "when a DSE test is identical to an already executed one (0 to disable)")
+    public static int DSE_CONCOLIC_EXECUTION_CACHE_SIZE = 100;
+
+    @Parameter(key = "dse_solver_portfolio", group = "DSE",
+            description = "Constraint solvers to run in parallel on each query, the first SAT or UNSAT answer "
+                    + "is used and the other solvers are cancelled. If empty, only dse_solver is used")
+    public static SolverType[] DSE_SOLVER_PORTFOLIO = new SolverType[0];
+
+    @Parameter(key = "dse_solver_threads", group = "DSE",
+            description = "Number of threads used to solve the child queries of a DSE expansion in parallel")
+    public static int DSE_SOLVER_THREADS = 1;
+
     @Parameter(key = "z3_path", group = "DSE", description = "Indicates the path to the Z3 solver")
     public static String Z3_PATH = null;
 
@@ -726,6 +801,10 @@ public class Properties {
             description = "How many mutations to apply to a string to check whether it improves coverage")
     public static int LOCAL_SEARCH_PROBES = 10;
 
+    @Parameter(key = "local_search_cache_evaluations", group = "Local Search",
+            description = "Do not re-execute a test when local search probes a value it has already tried for the same statement")
+    public static boolean LOCAL_SEARCH_CACHE_EVALUATIONS = true;
+
     @Parameter(key = "local_search_primitives", group = "Local Search",
             description = "Perform local search on primitive values")
     public static boolean LOCAL_SEARCH_PRIMITIVES = true;
@@ -1544,12 +1623,21 @@ public class Properties {
     public static boolean SERIALIZE_DSE = false;
 
     public enum StatisticsBackend {
-        NONE, CONSOLE, CSV, HTML, DEBUG
+        NONE, CONSOLE, CSV, HTML, DEBUG, COLUMNAR
     }
 
     @Parameter(key = "statistics_backend", group = "Output", description = "Which backend to use to collect data")
     public static StatisticsBackend STATISTICS_BACKEND = StatisticsBackend.CSV;
 
+    @Parameter(key = "statistics_flush_interval", group = "Output",
+            description = "Number of statistics rows buffered by the file backends before they are flushed to disk")
+    public static int STATISTICS_FLUSH_INTERVAL = 1;
+
+    @Parameter(key = "statistics_batch_interval", group = "Output",
+            description = "Time in milliseconds a client collects statistics updates before sending them "
+                    + "to the master in one batch")
+    public static long STATISTICS_BATCH_INTERVAL = 500;
+
     @Parameter(key = "timeline_interval", group = "Output",
             description = "Time interval in milliseconds for timeline statistics")
     public static long TIMELINE_INTERVAL = 60 * 1000;
@@ -2053,6 +2141,10 @@ public class Properties {
     @Parameter(key = "cpu_timeout", description = "Measure timeouts on CPU time, not global time")
     public static boolean CPU_TIMEOUT = false;
 
+    @Parameter(key = "test_handoff_spin",
+            description = "Microseconds the search and test threads busy-wait for each other before blocking")
+    public static long TEST_HANDOFF_SPIN = 50;
+
     @Parameter(key = "log_timeout", description = "Produce output each time a test times out")
     public static boolean LOG_TIMEOUT = false;
 
@@ -2228,6 +2320,11 @@ public class Properties {
             description = "Milliseconds grace time to shut down test cleanly")
     public static int SHUTDOWN_TIMEOUT = 1000;
 
+    @Parameter(key = "execution_result_store_size", group = "Test Execution",
+            description = "Number of execution results kept during post-processing so that later phases "
+                    + "do not re-execute the same test (0 to disable)")
+    public static int EXECUTION_RESULT_STORE_SIZE = 1000;
+
     @Parameter(key = "mutation_timeouts", group = "Test Execution",
             description = "Number of timeouts before we consider a mutant killed")
     public static int MUTATION_TIMEOUTS = 3;
@@ -3004,6 +3101,17 @@ public class Properties {
                 }
 
                 f.set(this, criteria);
+            } else if (f.getType().getComponentType().isEnum()) {
+                String[] values = value.isEmpty() ? new String[0] : value.split(":");
+                Object array = Array.newInstance(f.getType().getComponentType(), values.length);
+
+                int pos = 0;
+                for (String stringValue : values) {
+                    Array.set(array, pos++, Enum.valueOf((Class<Enum>) f.getType().getComponentType(),
+                            stringValue.toUpperCase()));
+                }
+
+                f.set(this, array);
             }
         } else {
             f.set(null, value);
@@ -27,6 +27,7 @@ import org.evosuite.coverage.branch.BranchPool;
 import org.evosuite.coverage.dataflow.DefUsePool;
 import org.evosuite.coverage.mutation.MutationPool;
 import org.evosuite.coverage.mutation.MutationTimeoutStoppingCondition;
+import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.archive.Archive;
 import org.evosuite.ga.stoppingconditions.GlobalTimeStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
@@ -211,6 +212,7 @@ public class TestGenerationContext {
         TestCaseExecutor.initExecutor();
 
         Archive.getArchiveInstance().reset();
+        FitnessFunction.resetIndices();
 
         // Constant pool
         ConstantPoolManager.getInstance().reset();
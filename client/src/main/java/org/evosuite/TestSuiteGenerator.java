@@ -58,6 +58,7 @@ import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.EvosuiteError;
 import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionResultStore;
 import org.evosuite.testcase.execution.ExecutionTrace;
 import org.evosuite.testcase.execution.ExecutionTracer;
 import org.evosuite.testcase.execution.TestCaseExecutor;
@@ -249,14 +250,21 @@ public class TestSuiteGenerator {
 
         TestGenerationResult result = null;
         if (ClientProcess.DEFAULT_CLIENT_NAME.equals(ClientProcess.getIdentifier())) {
-            postProcessTests(testCases);
-            ClientServices.getInstance().getClientNode().publishPermissionStatistics();
-            PermissionStatistics.getInstance().printStatistics(LoggingUtils.getEvoLogger());
-
-            // progressMonitor.setCurrentPhase("Writing JUnit test cases");
-            LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier() + "Writing tests to file");
-            result = writeJUnitTestsAndCreateResult(testCases);
-            writeJUnitFailingTests();
+            // The final tests are executed by several of the following phases
+            ExecutionResultStore.getInstance().enable();
+            try {
+                postProcessTests(testCases);
+                ClientServices.getInstance().getClientNode().publishPermissionStatistics();
+                PermissionStatistics.getInstance().printStatistics(LoggingUtils.getEvoLogger());
+
+                // progressMonitor.setCurrentPhase("Writing JUnit test cases");
+                LoggingUtils.getEvoLogger().info("* " + ClientProcess.getPrettyPrintIdentifier()
+                        + "Writing tests to file");
+                result = writeJUnitTestsAndCreateResult(testCases);
+                writeJUnitFailingTests();
+            } finally {
+                ExecutionResultStore.getInstance().disable();
+            }
         }
         TestCaseExecutor.pullDown();
         /*
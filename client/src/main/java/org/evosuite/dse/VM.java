@@ -19,8 +19,12 @@
  */
 package org.evosuite.dse;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 
@@ -123,6 +127,13 @@ public final class VM {
     // protected IVM[] listeners = new IVM[] { new InsnLogger() };
     protected IVM[] listeners = new IVM[0];
 
+    /*
+     * For each callback index of VMCallbacks, the listeners that override
+     * the callback, in the order of listeners. Listeners that inherit the
+     * empty callback of AbstractVM are skipped.
+     */
+    protected IVM[][] callbackListeners = dispatchTable(listeners);
+
     protected List<IVM> prependListeners = new LinkedList<>();
     protected List<IVM> appendListeners = new LinkedList<>();
 
@@ -138,6 +149,52 @@ public final class VM {
         list.addAll(paramListeners);
         list.addAll(appendListeners);
         this.listeners = list.toArray(new IVM[list.size()]);
+        this.callbackListeners = dispatchTable(this.listeners);
+    }
+
+    /**
+     * Computes, for every callback in {@link VMCallbacks}, the listeners that
+     * have to be called for it.
+     *
+     * @param listeners the registered listeners, in calling order
+     * @return the listeners to call, indexed by callback
+     */
+    static IVM[][] dispatchTable(IVM[] listeners) {
+        IVM[][] table = new IVM[VMCallbacks.NAMES.length][];
+        List<Set<String>> overridden = new ArrayList<>(listeners.length);
+        for (IVM listener : listeners) {
+            overridden.add(getOverriddenCallbacks(listener.getClass()));
+        }
+        for (int callback = 0; callback < table.length; callback++) {
+            List<IVM> selected = new ArrayList<>(listeners.length);
+            for (int i = 0; i < listeners.length; i++) {
+                Set<String> names = overridden.get(i);
+                if (names == null || names.contains(VMCallbacks.NAMES[callback])) {
+                    selected.add(listeners[i]);
+                }
+            }
+            table[callback] = selected.toArray(new IVM[0]);
+        }
+        return table;
+    }
+
+    /**
+     * Returns the names of the methods declared by the subclasses of
+     * {@link AbstractVM} between {@code listenerClass} and {@link AbstractVM},
+     * or null if the listener does not extend {@link AbstractVM}, in which
+     * case it has to be called for every callback.
+     */
+    private static Set<String> getOverriddenCallbacks(Class<?> listenerClass) {
+        if (!AbstractVM.class.isAssignableFrom(listenerClass)) {
+            return null;
+        }
+        Set<String> names = new HashSet<>();
+        for (Class<?> c = listenerClass; c != AbstractVM.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                names.add(method.getName());
+            }
+        }
+        return names;
     }
 
     /**
@@ -189,7 +246,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.NEW]) {
                 listener.NEW(typeName);
             }
         } catch (Throwable t) {
@@ -219,6 +276,7 @@ public final class VM {
             // TODO catch StopVMException in Listeners. Enforce no listener
             // exception reaches the VM.
             vm.listeners = new IVM[0];
+            vm.callbackListeners = dispatchTable(vm.listeners);
             vm.stopped = true;
         } else if (t instanceof OutOfMemoryError) {
             // do not wrap memory exceptions
@@ -264,7 +322,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -288,7 +346,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -312,7 +370,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -336,7 +394,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -360,7 +418,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -384,7 +442,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -408,7 +466,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -432,7 +490,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -456,7 +514,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALLER_STACK_PARAM]) {
                 listener.CALLER_STACK_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -477,7 +535,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.SRC_LINE_NUMBER]) {
                 listener.SRC_LINE_NUMBER(lineNr);
             }
         } catch (Throwable t) {
@@ -502,7 +560,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN]) {
                 listener.METHOD_BEGIN(access, className, methName, methDesc);
             }
         } catch (Throwable t) {
@@ -528,7 +586,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_MAXS]) {
                 listener.METHOD_MAXS(className, methName, methDesc, maxStack,
                         maxLocals);
             }
@@ -554,7 +612,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -578,7 +636,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -602,7 +660,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -626,7 +684,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -650,7 +708,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -674,7 +732,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -698,7 +756,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -722,7 +780,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -746,7 +804,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_PARAM]) {
                 listener.METHOD_BEGIN_PARAM(nr, calleeLocalsIndex, value);
             }
         } catch (Throwable t) {
@@ -767,7 +825,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.METHOD_BEGIN_RECEIVER]) {
                 listener.METHOD_BEGIN_RECEIVER(value);
             }
         } catch (Throwable t) {
@@ -790,7 +848,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(owner, name, desc);
             }
         } catch (Throwable t) {
@@ -815,7 +873,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -840,7 +898,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -865,7 +923,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -890,7 +948,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -915,7 +973,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -940,7 +998,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALL_RESULT]) {
                 listener.CALL_RESULT(res, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -959,7 +1017,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.BB_BEGIN]) {
                 listener.BB_BEGIN();
             }
         } catch (Throwable t) {
@@ -979,7 +1037,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.HANDLER_BEGIN]) {
                 listener.HANDLER_BEGIN(access, className, methName, methDesc);
             }
         } catch (Throwable t) {
@@ -1002,7 +1060,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.NOP]) {
                 listener.NOP();
             }
         } catch (Throwable t) {
@@ -1021,7 +1079,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ACONST_NULL]) {
                 listener.ACONST_NULL();
             }
         } catch (Throwable t) {
@@ -1041,7 +1099,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_M1]) {
                 listener.ICONST_M1();
             }
         } catch (Throwable t) {
@@ -1061,7 +1119,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_0]) {
                 listener.ICONST_0();
             }
         } catch (Throwable t) {
@@ -1081,7 +1139,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_1]) {
                 listener.ICONST_1();
             }
         } catch (Throwable t) {
@@ -1101,7 +1159,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_2]) {
                 listener.ICONST_2();
             }
         } catch (Throwable t) {
@@ -1121,7 +1179,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_3]) {
                 listener.ICONST_3();
             }
         } catch (Throwable t) {
@@ -1141,7 +1199,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_4]) {
                 listener.ICONST_4();
             }
         } catch (Throwable t) {
@@ -1161,7 +1219,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ICONST_5]) {
                 listener.ICONST_5();
             }
         } catch (Throwable t) {
@@ -1180,7 +1238,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LCONST_0]) {
                 listener.LCONST_0();
             }
         } catch (Throwable t) {
@@ -1199,7 +1257,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LCONST_1]) {
                 listener.LCONST_1();
             }
         } catch (Throwable t) {
@@ -1218,7 +1276,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FCONST_0]) {
                 listener.FCONST_0();
             }
         } catch (Throwable t) {
@@ -1237,7 +1295,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FCONST_1]) {
                 listener.FCONST_1();
             }
         } catch (Throwable t) {
@@ -1256,7 +1314,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FCONST_2]) {
                 listener.FCONST_2();
             }
         } catch (Throwable t) {
@@ -1275,7 +1333,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DCONST_0]) {
                 listener.DCONST_0();
             }
         } catch (Throwable t) {
@@ -1294,7 +1352,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DCONST_1]) {
                 listener.DCONST_1();
             }
         } catch (Throwable t) {
@@ -1315,7 +1373,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.BIPUSH]) {
                 listener.BIPUSH(value);
             }
         } catch (Throwable t) {
@@ -1336,7 +1394,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.SIPUSH]) {
                 listener.SIPUSH(value);
             }
         } catch (Throwable t) {
@@ -1356,7 +1414,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC]) {
                 listener.LDC(x);
             }
         } catch (Throwable t) {
@@ -1376,7 +1434,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC]) {
                 listener.LDC(x);
             }
         } catch (Throwable t) {
@@ -1396,7 +1454,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC]) {
                 listener.LDC(x);
             }
         } catch (Throwable t) {
@@ -1416,7 +1474,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC]) {
                 listener.LDC(x);
             }
         } catch (Throwable t) {
@@ -1435,7 +1493,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC_W]) {
                 listener.LDC_W();
             }
         } catch (Throwable t) {
@@ -1455,7 +1513,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC2_W]) {
                 listener.LDC2_W(x);
             }
         } catch (Throwable t) {
@@ -1475,7 +1533,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDC2_W]) {
                 listener.LDC2_W(x);
             }
         } catch (Throwable t) {
@@ -1495,7 +1553,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ILOAD]) {
                 listener.ILOAD(i);
             }
         } catch (Throwable t) {
@@ -1516,7 +1574,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LLOAD]) {
                 listener.LLOAD(i);
             }
         } catch (Throwable t) {
@@ -1537,7 +1595,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FLOAD]) {
                 listener.FLOAD(i);
             }
         } catch (Throwable t) {
@@ -1558,7 +1616,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DLOAD]) {
                 listener.DLOAD(i);
             }
         } catch (Throwable t) {
@@ -1579,7 +1637,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ALOAD]) {
                 listener.ALOAD(i);
             }
         } catch (Throwable t) {
@@ -1599,7 +1657,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ILOAD_0]) {
                 listener.ILOAD_0();
             }
         } catch (Throwable t) {
@@ -1619,7 +1677,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ILOAD_1]) {
                 listener.ILOAD_1();
             }
         } catch (Throwable t) {
@@ -1639,7 +1697,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ILOAD_2]) {
                 listener.ILOAD_2();
             }
         } catch (Throwable t) {
@@ -1659,7 +1717,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ILOAD_3]) {
                 listener.ILOAD_3();
             }
         } catch (Throwable t) {
@@ -1679,7 +1737,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LLOAD_0]) {
                 listener.LLOAD_0();
             }
         } catch (Throwable t) {
@@ -1699,7 +1757,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LLOAD_1]) {
                 listener.LLOAD_1();
             }
         } catch (Throwable t) {
@@ -1719,7 +1777,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LLOAD_2]) {
                 listener.LLOAD_2();
             }
         } catch (Throwable t) {
@@ -1739,7 +1797,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LLOAD_3]) {
                 listener.LLOAD_3();
             }
         } catch (Throwable t) {
@@ -1759,7 +1817,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FLOAD_0]) {
                 listener.FLOAD_0();
             }
         } catch (Throwable t) {
@@ -1779,7 +1837,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FLOAD_1]) {
                 listener.FLOAD_1();
             }
         } catch (Throwable t) {
@@ -1799,7 +1857,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FLOAD_2]) {
                 listener.FLOAD_2();
             }
         } catch (Throwable t) {
@@ -1819,7 +1877,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FLOAD_3]) {
                 listener.FLOAD_3();
             }
         } catch (Throwable t) {
@@ -1839,7 +1897,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DLOAD_0]) {
                 listener.DLOAD_0();
             }
         } catch (Throwable t) {
@@ -1859,7 +1917,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DLOAD_1]) {
                 listener.DLOAD_1();
             }
         } catch (Throwable t) {
@@ -1879,7 +1937,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DLOAD_2]) {
                 listener.DLOAD_2();
             }
         } catch (Throwable t) {
@@ -1899,7 +1957,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DLOAD_3]) {
                 listener.DLOAD_3();
             }
         } catch (Throwable t) {
@@ -1919,7 +1977,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ALOAD_0]) {
                 listener.ALOAD_0();
             }
         } catch (Throwable t) {
@@ -1939,7 +1997,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ALOAD_1]) {
                 listener.ALOAD_1();
             }
         } catch (Throwable t) {
@@ -1959,7 +2017,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ALOAD_2]) {
                 listener.ALOAD_2();
             }
         } catch (Throwable t) {
@@ -1979,7 +2037,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ALOAD_3]) {
                 listener.ALOAD_3();
             }
         } catch (Throwable t) {
@@ -2003,7 +2061,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IALOAD]) {
                 listener.IALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2027,7 +2085,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LALOAD]) {
                 listener.LALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2051,7 +2109,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FALOAD]) {
                 listener.FALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2075,7 +2133,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DALOAD]) {
                 listener.DALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2099,7 +2157,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.AALOAD]) {
                 listener.AALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2123,7 +2181,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.BALOAD]) {
                 listener.BALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2147,7 +2205,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CALOAD]) {
                 listener.CALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2171,7 +2229,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.SALOAD]) {
                 listener.SALOAD(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2191,7 +2249,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISTORE]) {
                 listener.ISTORE(i);
             }
         } catch (Throwable t) {
@@ -2212,7 +2270,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSTORE]) {
                 listener.LSTORE(i);
             }
         } catch (Throwable t) {
@@ -2233,7 +2291,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSTORE]) {
                 listener.FSTORE(i);
             }
         } catch (Throwable t) {
@@ -2254,7 +2312,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSTORE]) {
                 listener.DSTORE(i);
             }
         } catch (Throwable t) {
@@ -2275,7 +2333,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ASTORE]) {
                 listener.ASTORE(i);
             }
         } catch (Throwable t) {
@@ -2295,7 +2353,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISTORE_0]) {
                 listener.ISTORE_0();
             }
         } catch (Throwable t) {
@@ -2315,7 +2373,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISTORE_1]) {
                 listener.ISTORE_1();
             }
         } catch (Throwable t) {
@@ -2335,7 +2393,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISTORE_2]) {
                 listener.ISTORE_2();
             }
         } catch (Throwable t) {
@@ -2355,7 +2413,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISTORE_3]) {
                 listener.ISTORE_3();
             }
         } catch (Throwable t) {
@@ -2375,7 +2433,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSTORE_0]) {
                 listener.LSTORE_0();
             }
         } catch (Throwable t) {
@@ -2395,7 +2453,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSTORE_1]) {
                 listener.LSTORE_1();
             }
         } catch (Throwable t) {
@@ -2415,7 +2473,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSTORE_2]) {
                 listener.LSTORE_2();
             }
         } catch (Throwable t) {
@@ -2435,7 +2493,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSTORE_3]) {
                 listener.LSTORE_3();
             }
         } catch (Throwable t) {
@@ -2455,7 +2513,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSTORE_0]) {
                 listener.FSTORE_0();
             }
         } catch (Throwable t) {
@@ -2475,7 +2533,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSTORE_1]) {
                 listener.FSTORE_1();
             }
         } catch (Throwable t) {
@@ -2495,7 +2553,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSTORE_2]) {
                 listener.FSTORE_2();
             }
         } catch (Throwable t) {
@@ -2515,7 +2573,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSTORE_3]) {
                 listener.FSTORE_3();
             }
         } catch (Throwable t) {
@@ -2535,7 +2593,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSTORE_0]) {
                 listener.DSTORE_0();
             }
         } catch (Throwable t) {
@@ -2555,7 +2613,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSTORE_1]) {
                 listener.DSTORE_1();
             }
         } catch (Throwable t) {
@@ -2575,7 +2633,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSTORE_2]) {
                 listener.DSTORE_2();
             }
         } catch (Throwable t) {
@@ -2595,7 +2653,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSTORE_3]) {
                 listener.DSTORE_3();
             }
         } catch (Throwable t) {
@@ -2615,7 +2673,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ASTORE_0]) {
                 listener.ASTORE_0();
             }
         } catch (Throwable t) {
@@ -2635,7 +2693,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ASTORE_1]) {
                 listener.ASTORE_1();
             }
         } catch (Throwable t) {
@@ -2655,7 +2713,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ASTORE_2]) {
                 listener.ASTORE_2();
             }
         } catch (Throwable t) {
@@ -2675,7 +2733,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ASTORE_3]) {
                 listener.ASTORE_3();
             }
         } catch (Throwable t) {
@@ -2699,7 +2757,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IASTORE]) {
                 listener.IASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2723,7 +2781,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LASTORE]) {
                 listener.LASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2747,7 +2805,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FASTORE]) {
                 listener.FASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2771,7 +2829,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DASTORE]) {
                 listener.DASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2801,7 +2859,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.AASTORE]) {
                 listener.AASTORE(receiver, index, value, className, methodName);
             }
         } catch (Throwable t) {
@@ -2825,7 +2883,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.BASTORE]) {
                 listener.BASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2849,7 +2907,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CASTORE]) {
                 listener.CASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2873,7 +2931,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.SASTORE]) {
                 listener.SASTORE(receiver, index, className, methodName);
             }
         } catch (Throwable t) {
@@ -2892,7 +2950,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.POP]) {
                 listener.POP();
             }
         } catch (Throwable t) {
@@ -2911,7 +2969,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.POP2]) {
                 listener.POP2();
             }
         } catch (Throwable t) {
@@ -2930,7 +2988,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP]) {
                 listener.DUP();
             }
         } catch (Throwable t) {
@@ -2949,7 +3007,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP_X1]) {
                 listener.DUP_X1();
             }
         } catch (Throwable t) {
@@ -2968,7 +3026,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP_X2]) {
                 listener.DUP_X2();
             }
         } catch (Throwable t) {
@@ -2987,7 +3045,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP2]) {
                 listener.DUP2();
             }
         } catch (Throwable t) {
@@ -3006,7 +3064,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP2_X1]) {
                 listener.DUP2_X1();
             }
         } catch (Throwable t) {
@@ -3025,7 +3083,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DUP2_X2]) {
                 listener.DUP2_X2();
             }
         } catch (Throwable t) {
@@ -3044,7 +3102,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.SWAP]) {
                 listener.SWAP();
             }
         } catch (Throwable t) {
@@ -3064,7 +3122,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IADD]) {
                 listener.IADD();
             }
         } catch (Throwable t) {
@@ -3083,7 +3141,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LADD]) {
                 listener.LADD();
             }
         } catch (Throwable t) {
@@ -3102,7 +3160,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FADD]) {
                 listener.FADD();
             }
         } catch (Throwable t) {
@@ -3121,7 +3179,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DADD]) {
                 listener.DADD();
             }
         } catch (Throwable t) {
@@ -3140,7 +3198,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISUB]) {
                 listener.ISUB();
             }
         } catch (Throwable t) {
@@ -3159,7 +3217,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSUB]) {
                 listener.LSUB();
             }
         } catch (Throwable t) {
@@ -3178,7 +3236,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FSUB]) {
                 listener.FSUB();
             }
         } catch (Throwable t) {
@@ -3197,7 +3255,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DSUB]) {
                 listener.DSUB();
             }
         } catch (Throwable t) {
@@ -3217,7 +3275,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IMUL]) {
                 listener.IMUL();
             }
         } catch (Throwable t) {
@@ -3236,7 +3294,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LMUL]) {
                 listener.LMUL();
             }
         } catch (Throwable t) {
@@ -3255,7 +3313,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FMUL]) {
                 listener.FMUL();
             }
         } catch (Throwable t) {
@@ -3274,7 +3332,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DMUL]) {
                 listener.DMUL();
             }
         } catch (Throwable t) {
@@ -3295,7 +3353,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IDIV]) {
                 listener.IDIV(rhs);
             }
         } catch (Throwable t) {
@@ -3316,7 +3374,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LDIV]) {
                 listener.LDIV(rhs);
             }
         } catch (Throwable t) {
@@ -3337,7 +3395,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FDIV]) {
                 listener.FDIV(rhs);
             }
         } catch (Throwable t) {
@@ -3358,7 +3416,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DDIV]) {
                 listener.DDIV(rhs);
             }
         } catch (Throwable t) {
@@ -3379,7 +3437,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IREM]) {
                 listener.IREM(rhs);
             }
         } catch (Throwable t) {
@@ -3400,7 +3458,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LREM]) {
                 listener.LREM(rhs);
             }
         } catch (Throwable t) {
@@ -3421,7 +3479,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FREM]) {
                 listener.FREM(rhs);
             }
         } catch (Throwable t) {
@@ -3442,7 +3500,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DREM]) {
                 listener.DREM(rhs);
             }
         } catch (Throwable t) {
@@ -3461,7 +3519,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INEG]) {
                 listener.INEG();
             }
         } catch (Throwable t) {
@@ -3480,7 +3538,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LNEG]) {
                 listener.LNEG();
             }
         } catch (Throwable t) {
@@ -3499,7 +3557,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FNEG]) {
                 listener.FNEG();
             }
         } catch (Throwable t) {
@@ -3518,7 +3576,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DNEG]) {
                 listener.DNEG();
             }
         } catch (Throwable t) {
@@ -3537,7 +3595,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISHL]) {
                 listener.ISHL();
             }
         } catch (Throwable t) {
@@ -3556,7 +3614,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSHL]) {
                 listener.LSHL();
             }
         } catch (Throwable t) {
@@ -3575,7 +3633,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ISHR]) {
                 listener.ISHR();
             }
         } catch (Throwable t) {
@@ -3594,7 +3652,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LSHR]) {
                 listener.LSHR();
             }
         } catch (Throwable t) {
@@ -3613,7 +3671,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IUSHR]) {
                 listener.IUSHR();
             }
         } catch (Throwable t) {
@@ -3632,7 +3690,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LUSHR]) {
                 listener.LUSHR();
             }
         } catch (Throwable t) {
@@ -3651,7 +3709,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IAND]) {
                 listener.IAND();
             }
         } catch (Throwable t) {
@@ -3670,7 +3728,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LAND]) {
                 listener.LAND();
             }
         } catch (Throwable t) {
@@ -3689,7 +3747,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IOR]) {
                 listener.IOR();
             }
         } catch (Throwable t) {
@@ -3708,7 +3766,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LOR]) {
                 listener.LOR();
             }
         } catch (Throwable t) {
@@ -3727,7 +3785,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IXOR]) {
                 listener.IXOR();
             }
         } catch (Throwable t) {
@@ -3746,7 +3804,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LXOR]) {
                 listener.LXOR();
             }
         } catch (Throwable t) {
@@ -3768,7 +3826,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IINC]) {
                 listener.IINC(i, value);
             }
         } catch (Throwable t) {
@@ -3787,7 +3845,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2L]) {
                 listener.I2L();
             }
         } catch (Throwable t) {
@@ -3806,7 +3864,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2F]) {
                 listener.I2F();
             }
         } catch (Throwable t) {
@@ -3825,7 +3883,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2D]) {
                 listener.I2D();
             }
         } catch (Throwable t) {
@@ -3844,7 +3902,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.L2I]) {
                 listener.L2I();
             }
         } catch (Throwable t) {
@@ -3863,7 +3921,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.L2F]) {
                 listener.L2F();
             }
         } catch (Throwable t) {
@@ -3882,7 +3940,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.L2D]) {
                 listener.L2D();
             }
         } catch (Throwable t) {
@@ -3901,7 +3959,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.F2I]) {
                 listener.F2I();
             }
         } catch (Throwable t) {
@@ -3920,7 +3978,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.F2L]) {
                 listener.F2L();
             }
         } catch (Throwable t) {
@@ -3939,7 +3997,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.F2D]) {
                 listener.F2D();
             }
         } catch (Throwable t) {
@@ -3958,7 +4016,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.D2I]) {
                 listener.D2I();
             }
         } catch (Throwable t) {
@@ -3977,7 +4035,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.D2L]) {
                 listener.D2L();
             }
         } catch (Throwable t) {
@@ -3996,7 +4054,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.D2F]) {
                 listener.D2F();
             }
         } catch (Throwable t) {
@@ -4015,7 +4073,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2B]) {
                 listener.I2B();
             }
         } catch (Throwable t) {
@@ -4034,7 +4092,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2C]) {
                 listener.I2C();
             }
         } catch (Throwable t) {
@@ -4053,7 +4111,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.I2S]) {
                 listener.I2S();
             }
         } catch (Throwable t) {
@@ -4072,7 +4130,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LCMP]) {
                 listener.LCMP();
             }
         } catch (Throwable t) {
@@ -4091,7 +4149,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FCMPL]) {
                 listener.FCMPL();
             }
         } catch (Throwable t) {
@@ -4110,7 +4168,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FCMPG]) {
                 listener.FCMPG();
             }
         } catch (Throwable t) {
@@ -4129,7 +4187,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DCMPL]) {
                 listener.DCMPL();
             }
         } catch (Throwable t) {
@@ -4148,7 +4206,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DCMPG]) {
                 listener.DCMPG();
             }
         } catch (Throwable t) {
@@ -4173,7 +4231,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFEQ]) {
                 listener.IFEQ(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4198,7 +4256,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFNE]) {
                 listener.IFNE(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4223,7 +4281,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFLT]) {
                 listener.IFLT(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4248,7 +4306,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFGE]) {
                 listener.IFGE(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4273,7 +4331,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFGT]) {
                 listener.IFGT(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4298,7 +4356,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFLE]) {
                 listener.IFLE(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -4324,7 +4382,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPEQ]) {
                 listener.IF_ICMPEQ(className, methName, branchIndex, left,
                         right);
             }
@@ -4351,7 +4409,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPNE]) {
                 listener.IF_ICMPNE(className, methName, branchIndex, left,
                         right);
             }
@@ -4378,7 +4436,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPLT]) {
                 listener.IF_ICMPLT(className, methName, branchIndex, left,
                         right);
             }
@@ -4405,7 +4463,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPGE]) {
                 listener.IF_ICMPGE(className, methName, branchIndex, left,
                         right);
             }
@@ -4432,7 +4490,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPGT]) {
                 listener.IF_ICMPGT(className, methName, branchIndex, left,
                         right);
             }
@@ -4459,7 +4517,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ICMPLE]) {
                 listener.IF_ICMPLE(className, methName, branchIndex, left,
                         right);
             }
@@ -4486,7 +4544,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ACMPEQ]) {
                 listener.IF_ACMPEQ(className, methName, branchIndex, left,
                         right);
             }
@@ -4513,7 +4571,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IF_ACMPNE]) {
                 listener.IF_ACMPNE(className, methName, branchIndex, left,
                         right);
             }
@@ -4533,7 +4591,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.GOTO]) {
                 listener.GOTO();
             }
         } catch (Throwable t) {
@@ -4552,7 +4610,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.JSR]) {
                 listener.JSR();
             }
         } catch (Throwable t) {
@@ -4571,7 +4629,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.RET]) {
                 listener.RET();
             }
         } catch (Throwable t) {
@@ -4598,7 +4656,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.TABLESWITCH]) {
                 listener.TABLESWITCH(className, methName, branchIndex, target,
                         min, max);
             }
@@ -4625,7 +4683,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LOOKUPSWITCH]) {
                 listener.LOOKUPSWITCH(className, methName, branchIndex, target,
                         goals);
             }
@@ -4645,7 +4703,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IRETURN]) {
                 listener.IRETURN();
             }
         } catch (Throwable t) {
@@ -4664,7 +4722,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.LRETURN]) {
                 listener.LRETURN();
             }
         } catch (Throwable t) {
@@ -4683,7 +4741,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.FRETURN]) {
                 listener.FRETURN();
             }
         } catch (Throwable t) {
@@ -4702,7 +4760,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.DRETURN]) {
                 listener.DRETURN();
             }
         } catch (Throwable t) {
@@ -4721,7 +4779,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ARETURN]) {
                 listener.ARETURN();
             }
         } catch (Throwable t) {
@@ -4740,7 +4798,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.RETURN]) {
                 listener.RETURN();
             }
         } catch (Throwable t) {
@@ -4763,7 +4821,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.GETSTATIC]) {
                 listener.GETSTATIC(owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4786,7 +4844,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.PUTSTATIC]) {
                 listener.PUTSTATIC(owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4811,7 +4869,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.GETFIELD]) {
                 listener.GETFIELD(receiver, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4836,7 +4894,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.PUTFIELD]) {
                 listener.PUTFIELD(receiver, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4859,7 +4917,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INVOKESTATIC]) {
                 listener.INVOKESTATIC(owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4882,7 +4940,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INVOKESPECIAL]) {
                 listener.INVOKESPECIAL(owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4907,7 +4965,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INVOKEVIRTUAL]) {
                 listener.INVOKEVIRTUAL(receiver, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4932,7 +4990,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INVOKESPECIAL]) {
                 listener.INVOKESPECIAL(receiver, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -4957,7 +5015,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INVOKEINTERFACE]) {
                 listener.INVOKEINTERFACE(receiver, owner, name, desc);
             }
         } catch (Throwable t) {
@@ -5030,7 +5088,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.NEWARRAY]) {
                 listener.NEWARRAY(length,
                         getArrayComponentType(componentTypeInt),
                         className,
@@ -5057,7 +5115,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ANEWARRAY]) {
                 listener.ANEWARRAY(length, componentTypeName, className, methodName);
             }
         } catch (Throwable t) {
@@ -5078,7 +5136,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ARRAYLENGTH]) {
                 listener.ARRAYLENGTH(reference);
             }
         } catch (Throwable t) {
@@ -5099,7 +5157,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.ATHROW]) {
                 listener.ATHROW((Throwable) throwable);
             }
         } catch (Throwable t) {
@@ -5121,7 +5179,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.CHECKCAST]) {
                 listener.CHECKCAST(reference, typeName);
             }
         } catch (Throwable t) {
@@ -5143,7 +5201,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.INSTANCEOF]) {
                 listener.INSTANCEOF(reference, typeName);
             }
         } catch (Throwable t) {
@@ -5162,7 +5220,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.MONITORENTER]) {
                 listener.MONITORENTER();
             }
         } catch (Throwable t) {
@@ -5181,7 +5239,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.MONITOREXIT]) {
                 listener.MONITOREXIT();
             }
         } catch (Throwable t) {
@@ -5200,7 +5258,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.WIDE]) {
                 listener.WIDE();
             }
         } catch (Throwable t) {
@@ -5224,7 +5282,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.MULTIANEWARRAY]) {
                 listener.MULTIANEWARRAY(arrayTypeDesc, nrDimensions, className, methodName);
             }
         } catch (Throwable t) {
@@ -5249,7 +5307,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFNULL]) {
                 listener.IFNULL(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -5274,7 +5332,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.IFNONNULL]) {
                 listener.IFNONNULL(className, methName, branchIndex, param);
             }
         } catch (Throwable t) {
@@ -5293,7 +5351,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.GOTO_W]) {
                 listener.GOTO_W();
             }
         } catch (Throwable t) {
@@ -5312,7 +5370,7 @@ public final class VM {
         ignoreCallback = true;
         vm.countCallback();
         try {
-            for (IVM listener : vm.listeners) {
+            for (IVM listener : vm.callbackListeners[VMCallbacks.JSR_W]) {
                 listener.JSR_W();
             }
         } catch (Throwable t) {
@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+/**
+ * A novelty function that can describe individuals by fixed-length behaviour vectors. Behaviours
+ * can be kept in a {@link org.evosuite.novelty.NoveltyArchive} and compared without the
+ * individuals.
+ *
+ * @param <T> the type of the individuals
+ */
+public interface BehaviourNoveltyFunction<T extends Chromosome<T>> {
+
+    /**
+     * Returns the behaviour of an individual, such that {@link #getDistance(double[], double[])}
+     * of the behaviours of two individuals equals the distance of the individuals.
+     *
+     * @param individual the individual
+     * @return the behaviour vector
+     */
+    double[] getBehaviour(T individual);
+
+    /**
+     * Computes the distance between two behaviour vectors returned by
+     * {@link #getBehaviour(Chromosome)}.
+     *
+     * @param behaviour1 the first behaviour
+     * @param behaviour2 the second behaviour
+     * @return the distance
+     */
+    double getDistance(double[] behaviour1, double[] behaviour2);
+}
@@ -26,11 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
-
-import static java.util.stream.Collectors.averagingDouble;
 
 /**
  * Abstract base class of chromosomes.
@@ -64,12 +60,12 @@ public abstract class Chromosome<T extends Chromosome<T>>
     /**
      * Last recorded fitness value.
      */
-    private final LinkedHashMap<FitnessFunction<T>, Double> fitnessValues = new LinkedHashMap<>();
+    private final FitnessVector.Doubles<T> fitnessValues = new FitnessVector.Doubles<>();
 
     /**
      * Previous fitness, to see if there was an improvement.
      */
-    private final LinkedHashMap<FitnessFunction<T>, Double> previousFitnessValues = new LinkedHashMap<>();
+    private final FitnessVector.Doubles<T> previousFitnessValues = new FitnessVector.Doubles<>();
 
     /**
      * Checks if this chromosome has changed since its fitness was last evaluated.
@@ -81,17 +77,17 @@ public abstract class Chromosome<T extends Chromosome<T>>
      */
     private boolean localSearchApplied = false;
 
-    private final LinkedHashMap<FitnessFunction<T>, Double> coverageValues = new LinkedHashMap<>();
+    private final FitnessVector.Doubles<T> coverageValues = new FitnessVector.Doubles<>();
 
     /**
      * The number of uncovered goals with regard to the fitness function given as key.
      */
-    private final LinkedHashMap<FitnessFunction<T>, Integer> numsNotCoveredGoals = new LinkedHashMap<>();
+    private final FitnessVector.Ints<T> numsNotCoveredGoals = new FitnessVector.Ints<>();
 
     /**
      * The number of covered goals with regard to the fitness function given as key.
      */
-    private final LinkedHashMap<FitnessFunction<T>, Integer> numsCoveredGoals = new LinkedHashMap<>();
+    private final FitnessVector.Ints<T> numsCoveredGoals = new FitnessVector.Ints<>();
 
     /**
      * Generation in which this chromosome was created.
@@ -136,9 +132,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return a double.
      */
     public double getFitness() {
-        return fitnessValues.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .sum();
+        return fitnessValues.stream().sum();
     }
 
     /**
@@ -148,8 +142,9 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the fitness of this chromosome
      */
     public double getFitness(FitnessFunction<T> ff) {
-        return fitnessValues.containsKey(ff)
-                ? fitnessValues.get(ff)
+        final int slot = fitnessValues.slotOf(ff);
+        return slot >= 0
+                ? fitnessValues.getDouble(slot)
                 : ff.getFitness(self()); // Calculate new value if non is cached
     }
 
@@ -179,8 +174,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      */
     public void setFitnessValues(Map<? extends FitnessFunction<T>, Double> fits) {
         //TODO mainfitness?
-        this.fitnessValues.clear();
-        this.fitnessValues.putAll(fits);
+        this.fitnessValues.assign(fits);
     }
 
     /**
@@ -189,8 +183,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @param lastFits the previous fitness values
      */
     public void setPreviousFitnessValues(Map<FitnessFunction<T>, Double> lastFits) {
-        this.previousFitnessValues.clear();
-        this.previousFitnessValues.putAll(lastFits);
+        this.previousFitnessValues.assign(lastFits);
     }
 
     /**
@@ -237,11 +230,11 @@ public abstract class Chromosome<T extends Chromosome<T>>
      */
     public void addFitness(FitnessFunction<T> ff, double fitnessValue, double coverage,
                            int numCoveredGoals) {
-        this.fitnessValues.put(ff, fitnessValue);
-        this.previousFitnessValues.put(ff, fitnessValue);
-        this.coverageValues.put(ff, coverage);
-        this.numsCoveredGoals.put(ff, numCoveredGoals);
-        this.numsNotCoveredGoals.put(ff, UNCOVERED_GOALS_DEFAULT);
+        this.fitnessValues.setDouble(ff, fitnessValue);
+        this.previousFitnessValues.setDouble(ff, fitnessValue);
+        this.coverageValues.setDouble(ff, coverage);
+        this.numsCoveredGoals.setInt(ff, numCoveredGoals);
+        this.numsNotCoveredGoals.setInt(ff, UNCOVERED_GOALS_DEFAULT);
     }
 
     /**
@@ -256,8 +249,8 @@ public abstract class Chromosome<T extends Chromosome<T>>
                     + ff.getClass().getName());
         }
 
-        previousFitnessValues.put(ff, fitnessValues.getOrDefault(ff, value));
-        fitnessValues.put(ff, value);
+        previousFitnessValues.setDouble(ff, fitnessValues.getDouble(ff, value));
+        fitnessValues.setDouble(ff, value);
     }
 
     /**
@@ -267,12 +260,14 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return true if changed
      */
     public boolean hasFitnessChanged() {
-        return fitnessValues.keySet().stream()
-                .anyMatch(ff -> {
-                    final double currentValue = fitnessValues.get(ff);
-                    final double previousValue = previousFitnessValues.get(ff);
-                    return currentValue != previousValue;
-                });
+        for (Map.Entry<FitnessFunction<T>, Double> e : fitnessValues.entrySet()) {
+            final double currentValue = e.getValue();
+            final double previousValue = previousFitnessValues.getDouble(e.getKey(), currentValue);
+            if (currentValue != previousValue) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -404,7 +399,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return a double.
      */
     public double getCoverage() {
-        final double cov = coverageValues.values().stream().collect(averagingDouble(Double::doubleValue));
+        final double cov = coverageValues.stream().average().orElse(0.0);
         assert (cov >= 0.0 && cov <= 1.0) : "Incorrect coverage value " + cov + ". Expected value between 0 and 1";
         return cov;
     }
@@ -416,9 +411,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return number of covered goals
      */
     public int getNumOfCoveredGoals() {
-        return numsCoveredGoals.values().stream()
-                .mapToInt(Integer::intValue)
-                .sum();
+        return numsCoveredGoals.sum();
     }
 
     /**
@@ -428,30 +421,26 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return number of not covered goals
      */
     public int getNumOfNotCoveredGoals() {
-        return numsNotCoveredGoals.values().stream()
-                .mapToInt(Integer::intValue)
-                .sum();
+        return numsNotCoveredGoals.sum();
     }
 
     public void setNumsOfCoveredGoals(Map<FitnessFunction<T>, Integer> fits) {
-        this.numsCoveredGoals.clear();
-        this.numsCoveredGoals.putAll(fits);
+        this.numsCoveredGoals.assign(fits);
     }
 
     public void setNumsOfNotCoveredGoals(Map<FitnessFunction<T>, Integer> fits) {
-        this.numsNotCoveredGoals.clear();
-        this.numsNotCoveredGoals.putAll(fits);
+        this.numsNotCoveredGoals.assign(fits);
     }
 
     public void setNumOfNotCoveredGoals(FitnessFunction<T> ff, int numCoveredGoals) {
-        this.numsNotCoveredGoals.put(ff, numCoveredGoals);
+        this.numsNotCoveredGoals.setInt(ff, numCoveredGoals);
     }
 
     public Map<FitnessFunction<T>, Integer> getNumsOfCoveredGoals() {
         return this.numsCoveredGoals;
     }
 
-    public LinkedHashMap<FitnessFunction<T>, Integer> getNumsNotCoveredGoals() {
+    public Map<FitnessFunction<T>, Integer> getNumsNotCoveredGoals() {
         return numsNotCoveredGoals;
     }
 
@@ -460,8 +449,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
     }
 
     public void setCoverageValues(Map<? extends FitnessFunction<T>, Double> coverages) {
-        this.coverageValues.clear();
-        this.coverageValues.putAll(coverages);
+        this.coverageValues.assign(coverages);
     }
 
     /**
@@ -471,7 +459,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the number of covered goals for {@code ff}
      */
     public double getCoverage(FitnessFunction<T> ff) {
-        return coverageValues.getOrDefault(ff, 0.0);
+        return coverageValues.getDouble(ff, 0.0);
     }
 
     /**
@@ -481,7 +469,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @param coverage the coverage value
      */
     public void setCoverage(FitnessFunction<T> ff, double coverage) {
-        this.coverageValues.put(ff, coverage);
+        this.coverageValues.setDouble(ff, coverage);
     }
 
     /**
@@ -491,7 +479,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the number of covered goals for {@code ff}
      */
     public int getNumOfCoveredGoals(FitnessFunction<?> ff) {
-        return numsCoveredGoals.getOrDefault(ff, 0);
+        return numsCoveredGoals.getInt(ff, 0);
     }
 
     /**
@@ -501,7 +489,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the number of covered goals for {@code ff}
      */
     public int getNumOfNotCoveredGoals(FitnessFunction<?> ff) {
-        return numsNotCoveredGoals.getOrDefault(ff, 0);
+        return numsNotCoveredGoals.getInt(ff, 0);
     }
 
     /**
@@ -511,7 +499,7 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @param numCoveredGoals the number of covered goals
      */
     public void setNumOfCoveredGoals(FitnessFunction<T> ff, int numCoveredGoals) {
-        this.numsCoveredGoals.put(ff, numCoveredGoals);
+        this.numsCoveredGoals.setInt(ff, numCoveredGoals);
     }
 
     public void updateAge(int generation) {
@@ -547,10 +535,8 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the fitness
      */
     public double getFitnessInstanceOf(Class<?> clazz) {
-        Optional<FitnessFunction<T>> off = fitnessValues.keySet().stream()
-                .filter(clazz::isInstance)
-                .findFirst();
-        return off.map(fitnessValues::get).orElse(0.0);
+        final int slot = fitnessValues.firstSlotOf(clazz);
+        return slot < 0 ? 0.0 : fitnessValues.getDouble(slot);
     }
 
     /**
@@ -562,10 +548,8 @@ public abstract class Chromosome<T extends Chromosome<T>>
      * @return the coverage
      */
     public double getCoverageInstanceOf(Class<?> clazz) {
-        Optional<FitnessFunction<T>> off = coverageValues.keySet().stream()
-                .filter(clazz::isInstance)
-                .findFirst();
-        return off.map(coverageValues::get).orElse(0.0);
+        final int slot = coverageValues.firstSlotOf(clazz);
+        return slot < 0 ? 0.0 : coverageValues.getDouble(slot);
     }
 
     /**
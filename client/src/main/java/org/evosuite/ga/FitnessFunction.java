@@ -23,6 +23,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Abstract base class of fitness functions.
@@ -38,6 +40,78 @@ public abstract class FitnessFunction<T extends Chromosome<T>> implements Serial
      */
     protected static final Logger logger = LoggerFactory.getLogger(FitnessFunction.class);
 
+    /**
+     * Index of the {@code null} fitness function, which chromosomes accept as a key like the
+     * {@link java.util.LinkedHashMap}s they used before.
+     */
+    static final int NULL_INDEX = 1;
+
+    /**
+     * Dense indices handed out to fitness functions, see {@link #indexOf(FitnessFunction)}.
+     * Equal fitness functions share an index. The keys are held strongly: with weak keys, an
+     * equal fitness function registered after the first one was collected would get a new index
+     * while copies of the first one may still carry the old index. Instead, the indices are
+     * dropped with the rest of the state of a search by {@link #resetIndices()}.
+     */
+    private static final Map<FitnessFunction<?>, Integer> indices = new HashMap<>();
+
+    private static int nextIndex = NULL_INDEX + 1;
+
+    /**
+     * Counts the resets of the indices, so that indices handed out before a reset are not used.
+     */
+    private static volatile int epoch = 1;
+
+    /**
+     * The epoch in the upper and the index in the lower 32 bits, or 0 if this fitness function
+     * has not been registered yet. It is not serialized because indices are only meaningful
+     * within one JVM.
+     */
+    transient long registration;
+
+    /**
+     * Returns the dense index of the given fitness function, registering it on first use.
+     * Chromosomes use the index to store their fitness values in arrays rather than maps.
+     *
+     * <p>This is a static method reading a field so that mocked fitness functions get an index too.
+     *
+     * @param ff the fitness function, or null
+     * @return a positive index, the same for all fitness functions equal to {@code ff}
+     */
+    static int indexOf(FitnessFunction<?> ff) {
+        if (ff == null) {
+            return NULL_INDEX;
+        }
+        long registration = ff.registration;
+        if ((int) (registration >>> 32) != epoch) {
+            registration = register(ff);
+            ff.registration = registration;
+        }
+        return (int) registration;
+    }
+
+    private static synchronized long register(FitnessFunction<?> ff) {
+        int index = indices.computeIfAbsent(ff, f -> nextIndex++);
+        return ((long) epoch << 32) | index;
+    }
+
+    /**
+     * @return the number of resets of the indices so far, plus one
+     */
+    static int currentEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Forgets all fitness functions registered so far, so that they can be garbage collected.
+     * Fitness functions that are still in use get new indices on their next use.
+     */
+    public static synchronized void resetIndices() {
+        indices.clear();
+        nextIndex = NULL_INDEX + 1;
+        epoch++;
+    }
+
     /**
      * Make sure that the individual gets to know about its fitness.
      *
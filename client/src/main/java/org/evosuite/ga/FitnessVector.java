@@ -0,0 +1,553 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Values a chromosome records per fitness function, such as fitness, coverage or the number of
+ * covered goals. The values are kept in a primitive array indexed by the dense index of each
+ * fitness function (see {@link FitnessFunction#indexOf(FitnessFunction)}), so reading or writing
+ * a value is an array access rather than a hash lookup, and copying the values of a chromosome is
+ * an array copy.
+ *
+ * <p>The arrays only span the indices between the smallest and the largest one stored, which keeps
+ * them small even after many fitness functions have been registered in the same JVM.
+ *
+ * <p>When the indices are reset, a vector built before moves its values to the new indices the next
+ * time a value is looked up or added.
+ *
+ * <p>The vector also is a {@link Map} view of its values for code that needs all of them at once.
+ * The view iterates in insertion order like the {@link java.util.LinkedHashMap} it replaces, accepts
+ * a {@code null} key like it, and writes through to the vector.
+ *
+ * @param <T> the type of chromosome
+ * @param <V> the boxed value type of the map view
+ */
+abstract class FitnessVector<T extends Chromosome<T>, V> extends AbstractMap<FitnessFunction<T>, V>
+        implements Serializable {
+
+    private static final long serialVersionUID = 3460592018468791373L;
+
+    /**
+     * Stands for the {@code null} key in {@link #keys}, where {@code null} marks an empty slot.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * The generation of indices the slots were computed with, see
+     * {@link FitnessFunction#currentEpoch()}.
+     */
+    private transient int epoch;
+
+    /**
+     * The index of the fitness function stored in slot 0.
+     */
+    private transient int offset;
+
+    /**
+     * The fitness functions that have a value, by slot, and {@code null} in empty slots.
+     */
+    private transient Object[] keys;
+
+    /**
+     * The indices of the stored fitness functions in insertion order.
+     */
+    private transient int[] order;
+
+    private transient int size;
+
+    FitnessVector() {
+        init();
+    }
+
+    private void init() {
+        epoch = FitnessFunction.currentEpoch();
+        offset = 0;
+        keys = new Object[0];
+        order = new int[0];
+        size = 0;
+    }
+
+    /**
+     * Moves the values to an array of the given length, starting at position {@code shift}.
+     */
+    abstract void resizeValues(int length, int shift);
+
+    /**
+     * Replaces the values with a copy of those of {@code source}.
+     */
+    abstract void copyValues(FitnessVector<T, V> source);
+
+    abstract V getValue(int slot);
+
+    abstract void setValue(int slot, V value);
+
+    abstract void writeValue(ObjectOutputStream out, int slot) throws IOException;
+
+    abstract void readValue(ObjectInputStream in, int slot) throws IOException;
+
+    /**
+     * Returns the slot holding the value of the given key, or -1 if there is no value for it.
+     */
+    final int slotOf(Object key) {
+        if (key != null && !(key instanceof FitnessFunction)) {
+            return -1;
+        }
+        if (epoch != FitnessFunction.currentEpoch()) {
+            reindex();
+        }
+        int slot = FitnessFunction.indexOf((FitnessFunction<?>) key) - offset;
+        return slot >= 0 && slot < keys.length && keys[slot] != null ? slot : -1;
+    }
+
+    /**
+     * Returns the slot for the value of the given fitness function, adding the fitness function
+     * to the vector if it has no value yet.
+     */
+    final int insert(FitnessFunction<T> ff) {
+        if (epoch != FitnessFunction.currentEpoch()) {
+            reindex();
+        }
+        int index = FitnessFunction.indexOf(ff);
+        int slot = reserve(index);
+        if (keys[slot] == null) {
+            keys[slot] = ff == null ? NULL_KEY : ff;
+            if (size == order.length) {
+                order = Arrays.copyOf(order, Math.max(4, size * 2));
+            }
+            order[size++] = index;
+        }
+        return slot;
+    }
+
+    private int reserve(int index) {
+        if (size == 0 && (index < offset || index >= offset + keys.length)) {
+            // All slots are empty, so the arrays can simply be moved to the new index
+            offset = index;
+        }
+        int slot = index - offset;
+        if (slot < 0) {
+            resize(keys.length - slot, -slot);
+            offset = index;
+            slot = 0;
+        } else if (slot >= keys.length) {
+            resize(Math.max(slot + 1, keys.length + (keys.length >> 1)), 0);
+        }
+        return slot;
+    }
+
+    /**
+     * Moves the values to the slots given by the current indices, keeping their order.
+     */
+    @SuppressWarnings("unchecked")
+    private void reindex() {
+        int count = size;
+        Object[] oldKeys = new Object[count];
+        Object[] oldValues = new Object[count];
+        for (int i = 0; i < count; i++) {
+            int slot = slotAt(i);
+            oldKeys[i] = keyAt(slot);
+            oldValues[i] = getValue(slot);
+        }
+        clear();
+        epoch = FitnessFunction.currentEpoch();
+        for (int i = 0; i < count; i++) {
+            setValue(insert((FitnessFunction<T>) oldKeys[i]), (V) oldValues[i]);
+        }
+    }
+
+    private void resize(int length, int shift) {
+        Object[] resized = new Object[length];
+        System.arraycopy(keys, 0, resized, shift, keys.length);
+        keys = resized;
+        resizeValues(length, shift);
+    }
+
+    /**
+     * Returns the slot of the {@code position}-th value in insertion order.
+     */
+    final int slotAt(int position) {
+        return order[position] - offset;
+    }
+
+    /**
+     * Returns the fitness function stored in the given occupied slot.
+     */
+    @SuppressWarnings("unchecked")
+    private FitnessFunction<T> keyAt(int slot) {
+        Object key = keys[slot];
+        return key == NULL_KEY ? null : (FitnessFunction<T>) key;
+    }
+
+    private void removeAt(int position) {
+        keys[slotAt(position)] = null;
+        System.arraycopy(order, position + 1, order, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Replaces the contents of this vector with the given values. Copying from another vector of
+     * the same kind copies the arrays instead of inserting one value at a time.
+     *
+     * @param values the values to copy
+     */
+    @SuppressWarnings("unchecked")
+    final void assign(Map<? extends FitnessFunction<T>, ? extends V> values) {
+        if (values == this) {
+            return;
+        }
+        if (values.getClass() == getClass()) {
+            FitnessVector<T, V> source = (FitnessVector<T, V>) values;
+            epoch = source.epoch;
+            offset = source.offset;
+            keys = source.keys.clone();
+            order = Arrays.copyOf(source.order, source.size);
+            size = source.size;
+            copyValues(source);
+        } else {
+            clear();
+            putAll(values);
+        }
+    }
+
+    /**
+     * Returns the slot of the first fitness function that is an instance of {@code clazz}, or -1
+     * if there is none.
+     */
+    final int firstSlotOf(Class<?> clazz) {
+        for (int i = 0; i < size; i++) {
+            if (clazz.isInstance(keys[slotAt(i)])) {
+                return slotAt(i);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : getValue(slot);
+    }
+
+    @Override
+    public V put(FitnessFunction<T> key, V value) {
+        int slot = slotOf(key);
+        V previous = slot < 0 ? null : getValue(slot);
+        setValue(insert(key), value);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = getValue(slot);
+        for (int i = 0; i < size; i++) {
+            if (slotAt(i) == slot) {
+                removeAt(i);
+                break;
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            keys[slotAt(i)] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public Set<Map.Entry<FitnessFunction<T>, V>> entrySet() {
+        return new AbstractSet<Map.Entry<FitnessFunction<T>, V>>() {
+            @Override
+            public Iterator<Map.Entry<FitnessFunction<T>, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<FitnessFunction<T>, V>> {
+
+        private int next = 0;
+
+        private boolean canRemove = false;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Map.Entry<FitnessFunction<T>, V> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            canRemove = true;
+            return new Entry(order[next++]);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+            removeAt(--next);
+        }
+    }
+
+    private class Entry implements Map.Entry<FitnessFunction<T>, V> {
+
+        private final int index;
+
+        private final FitnessFunction<T> key;
+
+        Entry(int index) {
+            this.index = index;
+            this.key = keyAt(index - offset);
+        }
+
+        @Override
+        public FitnessFunction<T> getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return FitnessVector.this.getValue(index - offset);
+        }
+
+        @Override
+        public V setValue(V value) {
+            V previous = getValue();
+            FitnessVector.this.setValue(index - offset, value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * Writes the values as pairs of fitness function and value, since indices differ between JVMs.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            int slot = slotAt(i);
+            out.writeObject(keyAt(slot));
+            writeValue(out, slot);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        init();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            FitnessFunction<T> ff = (FitnessFunction<T>) in.readObject();
+            readValue(in, insert(ff));
+        }
+    }
+
+    /**
+     * A vector of {@code double} values.
+     */
+    static final class Doubles<T extends Chromosome<T>> extends FitnessVector<T, Double> {
+
+        private static final long serialVersionUID = -2431986307366095452L;
+
+        private transient double[] values;
+
+        double getDouble(FitnessFunction<T> ff, double defaultValue) {
+            int slot = slotOf(ff);
+            return slot < 0 ? defaultValue : values[slot];
+        }
+
+        void setDouble(FitnessFunction<T> ff, double value) {
+            int slot = insert(ff);
+            values[slot] = value;
+        }
+
+        double getDouble(int slot) {
+            return values[slot];
+        }
+
+        /**
+         * Returns the values in insertion order.
+         */
+        DoubleStream stream() {
+            return IntStream.range(0, size()).mapToDouble(i -> values[slotAt(i)]);
+        }
+
+        @Override
+        void resizeValues(int length, int shift) {
+            double[] resized = new double[length];
+            if (values != null) {
+                System.arraycopy(values, 0, resized, shift, values.length);
+            }
+            values = resized;
+        }
+
+        @Override
+        void copyValues(FitnessVector<T, Double> source) {
+            double[] sourceValues = ((Doubles<T>) source).values;
+            values = sourceValues == null ? null : sourceValues.clone();
+        }
+
+        @Override
+        Double getValue(int slot) {
+            return values[slot];
+        }
+
+        @Override
+        void setValue(int slot, Double value) {
+            values[slot] = value;
+        }
+
+        @Override
+        void writeValue(ObjectOutputStream out, int slot) throws IOException {
+            out.writeDouble(values[slot]);
+        }
+
+        @Override
+        void readValue(ObjectInputStream in, int slot) throws IOException {
+            values[slot] = in.readDouble();
+        }
+    }
+
+    /**
+     * A vector of {@code int} values.
+     */
+    static final class Ints<T extends Chromosome<T>> extends FitnessVector<T, Integer> {
+
+        private static final long serialVersionUID = 6143322380532263946L;
+
+        private transient int[] values;
+
+        int getInt(FitnessFunction<?> ff, int defaultValue) {
+            int slot = slotOf(ff);
+            return slot < 0 ? defaultValue : values[slot];
+        }
+
+        void setInt(FitnessFunction<T> ff, int value) {
+            int slot = insert(ff);
+            values[slot] = value;
+        }
+
+        /**
+         * Returns the sum of all values.
+         */
+        int sum() {
+            int sum = 0;
+            for (int i = 0; i < size(); i++) {
+                sum += values[slotAt(i)];
+            }
+            return sum;
+        }
+
+        @Override
+        void resizeValues(int length, int shift) {
+            int[] resized = new int[length];
+            if (values != null) {
+                System.arraycopy(values, 0, resized, shift, values.length);
+            }
+            values = resized;
+        }
+
+        @Override
+        void copyValues(FitnessVector<T, Integer> source) {
+            int[] sourceValues = ((Ints<T>) source).values;
+            values = sourceValues == null ? null : sourceValues.clone();
+        }
+
+        @Override
+        Integer getValue(int slot) {
+            return values[slot];
+        }
+
+        @Override
+        void setValue(int slot, Integer value) {
+            values[slot] = value;
+        }
+
+        @Override
+        void writeValue(ObjectOutputStream out, int slot) throws IOException {
+            out.writeInt(values[slot]);
+        }
+
+        @Override
+        void readValue(ObjectInputStream in, int slot) throws IOException {
+            values[slot] = in.readInt();
+        }
+    }
+}
@@ -30,6 +30,8 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Implementation of cellular GA.
@@ -59,6 +61,11 @@ public class CellularGA<T extends Chromosome<T>> extends GeneticAlgorithm<T> {
 
     private static final double DELTA = 0.000000001;
 
+    /**
+     * Pool evolving the cells in parallel if {@link Properties#CGA_THREADS} is above 1.
+     */
+    private transient ForkJoinPool cellPool;
+
 
     /**
      * Constructor.
@@ -83,9 +90,13 @@ public class CellularGA<T extends Chromosome<T>> extends GeneticAlgorithm<T> {
      */
     public void run() {
 
-        evolve();
+        if (Properties.CGA_THREADS > 1) {
+            evolveInParallel();
+        } else {
+            evolve();
 
-        replacePopulations(population, tempCells);
+            replacePopulations(population, tempCells);
+        }
 
         updateFitnessFunctionsAndValues();
 
@@ -146,6 +157,145 @@ public class CellularGA<T extends Chromosome<T>> extends GeneticAlgorithm<T> {
         }
     }
 
+    /**
+     * Evolves all cells of the grid as fork/join tasks on {@link Properties#CGA_THREADS} threads.
+     * Each cell selects parents from its neighbourhood in a snapshot of the current grid, breeds and
+     * evaluates its offspring and keeps it if it is at least as good as the cell's individual. The
+     * new grid replaces the current one once all cells are done. Each cell draws its random numbers
+     * from its own stream, so the new grid does not depend on the order the cells are evolved in,
+     * as long as evaluating and mutating individuals is thread-safe.
+     */
+    private void evolveInParallel() {
+        if (cellPool == null) {
+            cellPool = new ForkJoinPool(Properties.CGA_THREADS);
+        }
+        List<T> grid = Collections.unmodifiableList(new ArrayList<>(population));
+        List<T> next = new ArrayList<>(grid);
+        cellPool.invoke(new CellTask(grid, next, 0, grid.size()));
+        population = next;
+    }
+
+    /**
+     * Evolves the cells in {@code [from, to)}, splitting the range until it is a single cell.
+     */
+    private class CellTask extends RecursiveAction {
+
+        private static final long serialVersionUID = -2374915573893604425L;
+
+        private final List<T> grid;
+
+        private final List<T> next;
+
+        private final int from;
+
+        private final int to;
+
+        CellTask(List<T> grid, List<T> next, int from, int to) {
+            this.grid = grid;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                next.set(from, Randomness.callWithSeed(getCellSeed(from), () -> evolveCell(grid, from)));
+            } else if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CellTask(grid, next, from, middle), new CellTask(grid, next, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Returns the seed of the random numbers drawn while evolving a cell in the current generation,
+     * derived from the global seed, the generation and the cell.
+     *
+     * @param cell the index of the cell
+     * @return the seed
+     */
+    private long getCellSeed(int cell) {
+        long seed = 31 * (31 * Randomness.getSeed() + currentIteration) + cell;
+        // SplitMix64 finaliser, so that neighbouring cells and generations get unrelated streams
+        seed = (seed ^ (seed >>> 30)) * 0xbf58476d1ce4e5b9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94d049bb133111ebL;
+        return seed ^ (seed >>> 31);
+    }
+
+    /**
+     * Breeds a new individual for one cell and returns it if it is at least as good as the cell's
+     * current individual, which is returned otherwise.
+     *
+     * @param grid the grid of the previous generation, which is not modified
+     * @param cell the index of the cell
+     * @return the individual of the cell in the next generation
+     */
+    private T evolveCell(List<T> grid, int cell) {
+        T current = grid.get(cell);
+        List<T> neighbors = neighb.getNeighbors(grid, cell);
+
+        if (getFitnessFunction().isMaximizationFunction()) {
+            neighbors.sort(Collections.reverseOrder());
+        } else {
+            Collections.sort(neighbors);
+        }
+
+        List<T> parents = selectionFunction.select(neighbors, 2);
+
+        T offspring1 = parents.get(0).clone();
+        T offspring2 = parents.get(1).clone();
+
+        try {
+            if (Randomness.nextDouble() <= Properties.CROSSOVER_RATE) {
+                crossoverFunction.crossOver(offspring1, offspring2);
+            }
+        } catch (ConstructionFailedException e) {
+            logger.info("CrossOver failed");
+            return current;
+        }
+
+        T bestOffspring = getBestOffspring(offspring1, offspring2);
+
+        notifyMutation(bestOffspring);
+        bestOffspring.mutate();
+
+        if (bestOffspring.isChanged()) {
+            bestOffspring.updateAge(currentIteration);
+        }
+
+        if (bestOffspring.size() == 0 || isTooLong(bestOffspring)) {
+            return current;
+        }
+
+        for (FitnessFunction<T> fitnessFunction : fitnessFunctions) {
+            fitnessFunction.getFitness(bestOffspring);
+            notifyEvaluation(bestOffspring);
+        }
+
+        return isBetterOrEqual(bestOffspring, current) ? bestOffspring : current;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Synchronized because cells may be evaluated in parallel.
+     */
+    @Override
+    protected synchronized void notifyEvaluation(T chromosome) {
+        super.notifyEvaluation(chromosome);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Synchronized because cells may be mutated in parallel.
+     */
+    @Override
+    protected synchronized void notifyMutation(T chromosome) {
+        super.notifyMutation(chromosome);
+    }
+
     /**
      * Replace the current individuals with better individuals in the temporary grid.
      *
@@ -312,6 +462,11 @@ public class CellularGA<T extends Chromosome<T>> extends GeneticAlgorithm<T> {
             logger.info("Worst individual has fitness: " + population.get(population.size() - 1).getFitness());
 
         }
+        if (cellPool != null) {
+            cellPool.shutdown();
+            cellPool = null;
+        }
+
         // archive
         TimeController.execute(this::updateBestIndividualFromArchive, "update from archive", 5_000);
 
@@ -43,9 +43,12 @@ import org.evosuite.llm.search.AsyncLlmTestProducer;
 import org.evosuite.llm.search.LlmInjectionAdapter;
 import org.evosuite.llm.search.StagnationDetector;
 import org.evosuite.symbolic.dse.DSEStatistics;
+import org.evosuite.testcase.AbstractTestChromosome;
+import org.evosuite.testcase.StructuralTestKey;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.ExecutionTracer;
+import org.evosuite.testsuite.AbstractTestSuiteChromosome;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.utils.ArrayUtil;
 import org.evosuite.utils.LoggingUtils;
@@ -237,6 +240,8 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
     /**
      * Apply local search, starting from the best individual and continue
      * applying it to all individuals until the local search budget is used up.
+     * Individuals equal to one searched before in the same phase are not
+     * searched again, and are left unchanged to keep the population diverse.
      *
      * <p>The population list is re-ordered if needed.
      */
@@ -250,17 +255,24 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
 
         boolean improvement = false;
 
-        for (T individual : population) {
+        int[] firstOccurrence = getFirstOccurrences(population);
+        for (int i = 0; i < population.size(); i++) {
             if (isFinished()) {
                 break;
             }
 
+            if (firstOccurrence[i] != i) {
+                // An identical individual has already been searched in this
+                // phase, so it is not worth spending budget on this one again
+                continue;
+            }
+
             if (LocalSearchBudget.getInstance().isFinished()) {
                 logger.debug("Local search budget used up, exiting local search");
                 break;
             }
 
-            if (individual.localSearch(localObjective)) {
+            if (population.get(i).localSearch(localObjective)) {
                 improvement = true;
             }
         }
@@ -284,6 +296,41 @@ public abstract class GeneticAlgorithm<T extends Chromosome<T>> implements Searc
         }
     }
 
+    /**
+     * For every individual of the population, returns the index of the first
+     * individual that is equal to it. Tests are compared statement by
+     * statement, since clones of a test are not {@code equals} to it.
+     *
+     * @param individuals the population
+     * @return the indices of the first occurrences
+     */
+    static <T> int[] getFirstOccurrences(List<T> individuals) {
+        int[] firstOccurrence = new int[individuals.size()];
+        Map<Object, Integer> indices = new HashMap<>();
+        for (int i = 0; i < individuals.size(); i++) {
+            Integer first = indices.putIfAbsent(structureOf(individuals.get(i)), i);
+            firstOccurrence[i] = first == null ? i : first;
+        }
+        return firstOccurrence;
+    }
+
+    /**
+     * Returns a key that is equal for individuals with the same tests.
+     */
+    private static Object structureOf(Object individual) {
+        if (individual instanceof AbstractTestChromosome) {
+            return new StructuralTestKey(((AbstractTestChromosome<?>) individual).getTestCase());
+        }
+        if (individual instanceof AbstractTestSuiteChromosome) {
+            List<Object> tests = new ArrayList<>();
+            for (Object test : ((AbstractTestSuiteChromosome<?, ?>) individual).getTestChromosomes()) {
+                tests.add(structureOf(test));
+            }
+            return tests;
+        }
+        return individual;
+    }
+
     /**
      * Returns true if the population is sorted according to the fitness
      * values.
@@ -20,19 +20,23 @@
 package org.evosuite.ga.metaheuristics;
 
 import org.evosuite.Properties;
+import org.evosuite.ga.BehaviourNoveltyFunction;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.ConstructionFailedException;
 import org.evosuite.ga.FitnessFunction;
 import org.evosuite.ga.NoveltyFunction;
 import org.evosuite.ga.archive.Archive;
 import org.evosuite.novelty.BranchNoveltyFunction;
+import org.evosuite.novelty.NoveltyArchive;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Novelty Search algorithm implementation.
@@ -45,6 +49,12 @@ public class NoveltySearch extends GeneticAlgorithm<TestChromosome> {
     private NoveltyFunction<TestChromosome> noveltyFunction;
     private final NoveltyFitnessFunction noveltyFitnessFunction = new NoveltyFitnessFunction();
 
+    /**
+     * Behaviours of novel individuals of earlier generations, if the novelty function has
+     * behaviour vectors. Not serialized, as it is only needed during the search.
+     */
+    private transient NoveltyArchive noveltyArchive;
+
     /**
      * Constructor.
      *
@@ -64,6 +74,7 @@ public class NoveltySearch extends GeneticAlgorithm<TestChromosome> {
      */
     public void setNoveltyFunction(NoveltyFunction<TestChromosome> function) {
         this.noveltyFunction = function;
+        this.noveltyArchive = null;
     }
 
     /**
@@ -75,15 +86,71 @@ public class NoveltySearch extends GeneticAlgorithm<TestChromosome> {
         List<TestChromosome> union = new ArrayList<>(population);
         union.addAll(Archive.getArchiveInstance().getSolutions());
 
-        for (TestChromosome c : population) {
-            double novelty = noveltyFunction.getNovelty(c, union);
-            c.setFitness(noveltyFitnessFunction, novelty);
+        if (noveltyFunction instanceof BehaviourNoveltyFunction) {
+            calculateNovelty(union, (BehaviourNoveltyFunction<TestChromosome>) noveltyFunction);
+        } else {
+            for (TestChromosome c : population) {
+                double novelty = noveltyFunction.getNovelty(c, union);
+                c.setFitness(noveltyFitnessFunction, novelty);
+            }
         }
 
         // Sort population
         this.sortPopulation();
     }
 
+    /**
+     * Returns the behaviour vectors of the given individuals. The same individual gets the same
+     * array if it occurs twice.
+     */
+    private static List<double[]> getBehaviours(List<TestChromosome> individuals,
+                                                BehaviourNoveltyFunction<TestChromosome> function) {
+        Map<TestChromosome, double[]> behaviours = new IdentityHashMap<>();
+        List<double[]> result = new ArrayList<>(individuals.size());
+        for (TestChromosome c : individuals) {
+            result.add(behaviours.computeIfAbsent(c, function::getBehaviour));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the novelty of each individual of the population to its mean distance to the nearest
+     * other individuals in {@code union} and in the novelty archive, then adds the behaviour of
+     * the most novel individual to the archive.
+     */
+    private void calculateNovelty(List<TestChromosome> union, BehaviourNoveltyFunction<TestChromosome> function) {
+        if (noveltyArchive == null) {
+            noveltyArchive = new NoveltyArchive(function::getDistance,
+                    Properties.NOVELTY_ARCHIVE_SIZE, Properties.NOVELTY_ARCHIVE_EVICTION);
+        }
+
+        List<double[]> behaviours = getBehaviours(union, function);
+
+        double[] mostNovel = null;
+        double maxNovelty = Double.NEGATIVE_INFINITY;
+        List<double[]> others = new ArrayList<>(behaviours.size());
+        for (int i = 0; i < population.size(); i++) {
+            double[] behaviour = behaviours.get(i);
+            others.clear();
+            for (double[] other : behaviours) {
+                if (other != behaviour) {
+                    others.add(other);
+                }
+            }
+
+            double novelty = noveltyArchive.getNovelty(behaviour, others, Properties.NOVELTY_NEIGHBOURS);
+            population.get(i).setFitness(noveltyFitnessFunction, novelty);
+            if (novelty > maxNovelty) {
+                maxNovelty = novelty;
+                mostNovel = behaviour;
+            }
+        }
+
+        if (mostNovel != null) {
+            noveltyArchive.add(mostNovel, maxNovelty);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
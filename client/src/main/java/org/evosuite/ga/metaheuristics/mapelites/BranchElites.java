@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mapelites;
+
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.utils.Randomness;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The elites of one branch, i.e. one row of the MAP-Elites archive. Elites and their fitness are
+ * stored in arrays indexed by the cells of a {@link FeatureGrid}, so comparing a new chromosome to
+ * the current elite does not recompute the fitness of the elite.
+ */
+final class BranchElites implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private TestChromosome[] elites = new TestChromosome[0];
+
+    private double[] fitness = new double[0];
+
+    /**
+     * The occupied cells in the order they were first filled.
+     */
+    private int[] occupied = new int[0];
+
+    private int size = 0;
+
+    /**
+     * Stores the chromosome as the elite of the given cell if the cell is empty or the chromosome
+     * is at least as fit as the current elite.
+     *
+     * @param cell       the cell number
+     * @param chromosome the chromosome
+     * @param fitness    the fitness of {@code chromosome} for this branch
+     * @return true if the chromosome was stored
+     */
+    boolean offer(int cell, TestChromosome chromosome, double fitness) {
+        if (cell >= elites.length) {
+            int length = Math.max(cell + 1, elites.length * 2);
+            elites = Arrays.copyOf(elites, length);
+            this.fitness = Arrays.copyOf(this.fitness, length);
+        }
+        if (elites[cell] == null) {
+            if (size == occupied.length) {
+                occupied = Arrays.copyOf(occupied, Math.max(4, size * 2));
+            }
+            occupied[size++] = cell;
+        } else if (this.fitness[cell] < fitness) {
+            return false;
+        }
+        elites[cell] = chromosome;
+        this.fitness[cell] = fitness;
+        return true;
+    }
+
+    /**
+     * Returns a random elite, or {@code null} if there is none.
+     *
+     * @return an elite
+     */
+    TestChromosome choose() {
+        if (size == 0) {
+            return null;
+        }
+        return elites[occupied[Randomness.nextInt(size)]];
+    }
+
+    /**
+     * Returns all elites in the order their cells were first filled.
+     *
+     * @return the elites
+     */
+    List<TestChromosome> getElites() {
+        List<TestChromosome> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(elites[occupied[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of occupied cells.
+     *
+     * @return the number of elites
+     */
+    int size() {
+        return size;
+    }
+}
@@ -19,7 +19,12 @@
  */
 package org.evosuite.ga.metaheuristics.mapelites;
 
-public class Counter implements Comparable<Counter> {
+import java.io.Serializable;
+
+public class Counter implements Comparable<Counter>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private int value;
 
     public int getValue() {
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mapelites;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The feature space of MAP-Elites as a grid of integer cells. Each distinct feature vector is given
+ * the next free cell number the first time it is seen, so the elites of a branch can be kept in
+ * arrays indexed by cell (see {@link BranchElites}) and a feature vector is hashed once per test
+ * instead of once per branch.
+ *
+ * <p>Feature vectors only distinguish a few groups of values per inspector, so there are at most as
+ * many cells as {@link FeatureVector#getPossibilityCount} allows. The grid is not capped beyond
+ * that: it grows with the feature vectors that are actually reached, and so do the arrays of
+ * each {@link BranchElites}, up to the highest cell offered to that branch.
+ */
+final class FeatureGrid implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<FeatureVector, Integer> cells = new HashMap<>();
+
+    /**
+     * The cells that have held an elite for at least one branch.
+     */
+    private final BitSet found = new BitSet();
+
+    private int foundCount = 0;
+
+    /**
+     * Returns the distinct cells of the given feature vectors, in the order they first occur.
+     *
+     * @param vectors the feature vectors of a test
+     * @return the cell numbers
+     */
+    int[] getCells(List<FeatureVector> vectors) {
+        int[] result = new int[vectors.size()];
+        int count = 0;
+        for (FeatureVector vector : vectors) {
+            int cell = cells.computeIfAbsent(vector, v -> cells.size());
+            if (!contains(result, count, cell)) {
+                result[count++] = cell;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records that the given cell holds an elite.
+     *
+     * @param cell the cell number
+     */
+    void markFound(int cell) {
+        if (!found.get(cell)) {
+            found.set(cell);
+            foundCount++;
+        }
+    }
+
+    /**
+     * Returns the number of cells that have held an elite, including those of branches that have
+     * been covered and dropped since.
+     *
+     * @return the number of found cells
+     */
+    int getFoundCount() {
+        return foundCount;
+    }
+
+    /**
+     * Returns the number of distinct feature vectors seen so far.
+     *
+     * @return the number of cells
+     */
+    int size() {
+        return cells.size();
+    }
+}
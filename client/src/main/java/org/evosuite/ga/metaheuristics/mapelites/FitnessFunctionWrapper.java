@@ -22,10 +22,15 @@ package org.evosuite.ga.metaheuristics.mapelites;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 
+import java.io.Serializable;
+
 /**
  * Wrapper for fitness functions.
  */
-public class FitnessFunctionWrapper {
+public class FitnessFunctionWrapper implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     /**
      * Counter for Feedback-Directed Sampling.
      *
@@ -39,7 +39,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.Map.Entry;
 
 import static java.util.Collections.reverseOrder;
 import static java.util.Comparator.comparing;
@@ -57,8 +56,8 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
 
     private static final Logger logger = LoggerFactory.getLogger(MAPElites.class);
 
-    private final Map<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>> populationMap;
-    private final Set<FeatureVector> droppedFeatureVectors;
+    private final Map<FitnessFunctionWrapper, BranchElites> populationMap;
+    private final FeatureGrid featureGrid;
 
     private final double featureVectorPossibilityCount;
     private final int featureCount;
@@ -78,7 +77,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     public MAPElites(ChromosomeFactory<TestChromosome> factory) {
         super(factory);
         this.bestIndividuals = new LinkedList<>();
-        this.droppedFeatureVectors = new LinkedHashSet<>();
+        this.featureGrid = new FeatureGrid();
         TestResultObserver observer = new TestResultObserver();
         this.featureVectorPossibilityCount = observer.getPossibilityCount();
         this.featureCount = observer.getFeatureVectorLength();
@@ -94,7 +93,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
      */
     public void addTestFitnessFunctions(List<TestFitnessFunction> functions) {
         for (TestFitnessFunction function : functions) {
-            this.populationMap.put(new FitnessFunctionWrapper(function), new LinkedHashMap<>());
+            this.populationMap.put(new FitnessFunctionWrapper(function), new BranchElites());
             this.addFitnessFunction(function);
         }
     }
@@ -115,7 +114,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
             if (Randomness.nextDouble() <= chance) {
                 branch.getCounter().increment();
 
-                TestChromosome chromosome = Randomness.choice(this.populationMap.get(branch).values());
+                TestChromosome chromosome = this.populationMap.get(branch).choose();
 
                 if (chromosome != null) {
                     toMutate.add(chromosome);
@@ -135,8 +134,8 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     private Set<TestChromosome> getToMutateAll() {
         Set<TestChromosome> toMutate = new LinkedHashSet<>(populationMap.values().size());
 
-        for (Map<FeatureVector, TestChromosome> entry : populationMap.values()) {
-            TestChromosome chromosome = Randomness.choice(entry.values());
+        for (BranchElites elites : populationMap.values()) {
+            TestChromosome chromosome = elites.choose();
 
             if (chromosome != null) {
                 toMutate.add(chromosome);
@@ -168,9 +167,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         }
 
         selectedBranch.getCounter().increment();
-        Map<FeatureVector, TestChromosome> entry = this.populationMap.get(selectedBranch);
-
-        TestChromosome chromosome = Randomness.choice(entry.values());
+        TestChromosome chromosome = this.populationMap.get(selectedBranch).choose();
 
         if (chromosome != null) {
             toMutate.add(chromosome);
@@ -191,7 +188,8 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         }
     }
 
-    private void applyMutation(TestChromosome chromosome, TestChromosome parent) {
+    private void applyMutation(TestChromosome chromosome, TestChromosome parent,
+                               List<TestChromosome> offspring) {
         TestChromosomeUtils.removeUnusedVariables(chromosome);
 
         if (Properties.MAP_ELITES_MOSA_MUTATIONS) {
@@ -202,7 +200,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         }
 
         if (chromosome.isChanged() && !isTooLong(chromosome)) {
-            this.analyzeChromosome(chromosome);
+            offspring.add(chromosome);
         }
     }
 
@@ -210,6 +208,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     protected void evolve() {
         Set<TestChromosome> parents1 = this.getToMutate();
         Set<TestChromosome> parents2 = this.getToMutate();
+        List<TestChromosome> offspring = new ArrayList<>(2 * parents1.size() + 1);
 
         for (TestChromosome parent1 : parents1) {
             TestChromosome offspring1 = parent1.clone();
@@ -225,16 +224,18 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
                     continue;
                 }
 
-                applyMutation(offspring2, parent2);
+                applyMutation(offspring2, parent2, offspring);
             }
-            applyMutation(offspring1, parent1);
+            applyMutation(offspring1, parent1, offspring);
         }
 
         if (Properties.MAP_ELITES_CHOICE != Properties.MapElitesChoice.SINGLE_AVG
                 || Randomness.nextDouble() <= Properties.MAP_ELITES_RANDOM) {
-            this.analyzeChromosome(this.getRandomPopulation(1).get(0));
+            offspring.add(this.getRandomPopulation(1).get(0));
         }
 
+        this.analyzeChromosomes(offspring);
+
         ++currentIteration;
     }
 
@@ -266,13 +267,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     }
 
     private int getFoundVectorCount() {
-        Set<FeatureVector> vectors = new LinkedHashSet<>();
-
-        this.populationMap.values().forEach(entry -> vectors.addAll(entry.keySet()));
-
-        vectors.addAll(this.droppedFeatureVectors);
-
-        return vectors.size();
+        return this.featureGrid.getFoundCount();
     }
 
     private void sendFeatureData() {
@@ -300,16 +295,29 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
         return density;
     }
 
-    private void analyzeChromosome(final TestChromosome chromosome) {
-        final Iterator<Entry<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>>> it =
-                this.populationMap.entrySet().iterator();
+    /**
+     * Inserts a batch of chromosomes into the archive, in order. Each chromosome is evaluated
+     * against every branch first, which executes it if it is new or has changed, so that its
+     * feature vectors come from its current test. The feature vectors are then mapped to grid
+     * cells once, before the chromosome is compared to the elites of every branch.
+     *
+     * @param chromosomes the chromosomes to insert
+     */
+    private void analyzeChromosomes(final List<TestChromosome> chromosomes) {
+        final List<FitnessFunctionWrapper> branches = new ArrayList<>(this.populationMap.keySet());
+        if (branches.isEmpty()) {
+            return;
+        }
 
-        while (it.hasNext()) {
-            final Entry<FitnessFunctionWrapper, Map<FeatureVector, TestChromosome>> entry = it.next();
-            final FitnessFunctionWrapper branchFitness = entry.getKey();
-            final Map<FeatureVector, TestChromosome> featureMap = entry.getValue();
+        final List<double[]> fitness = new ArrayList<>(chromosomes.size());
+        final List<int[]> cells = new ArrayList<>(chromosomes.size());
 
-            final double fitness = branchFitness.getFitness(chromosome);
+        for (TestChromosome chromosome : chromosomes) {
+            final double[] values = new double[branches.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = branches.get(i).getFitness(chromosome);
+            }
+            fitness.add(values);
 
             final List<FeatureVector> features;
 
@@ -319,21 +327,37 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
                 features = chromosome.getLastExecutionResult().getFeatureVectors();
             }
 
-            for (FeatureVector feature : features) {
-                TestChromosome old = featureMap.get(feature);
+            cells.add(this.featureGrid.getCells(features));
+        }
+
+        for (int i = 0; i < chromosomes.size(); i++) {
+            this.analyzeChromosome(chromosomes.get(i), branches, fitness.get(i), cells.get(i));
+        }
+    }
 
-                if (old == null || branchFitness.getFitness(old) >= fitness) {
-                    featureMap.put(feature, chromosome);
+    private void analyzeChromosome(final TestChromosome chromosome, final List<FitnessFunctionWrapper> branches,
+                                   final double[] fitness, final int[] cells) {
+        for (int i = 0; i < branches.size(); i++) {
+            final FitnessFunctionWrapper branchFitness = branches.get(i);
+            final BranchElites elites = this.populationMap.get(branchFitness);
+
+            if (elites == null) {
+                // covered by an earlier chromosome of the batch
+                continue;
+            }
+
+            for (int cell : cells) {
+                if (elites.offer(cell, chromosome, fitness[i])) {
+                    this.featureGrid.markFound(cell);
                     branchFitness.getCounter().reset();
                 }
             }
 
             if (branchFitness.isCovered(chromosome)) {
                 // Remove from map. Covering chromosomes are stored in Archive.getArchiveInstance()
-                // and this.coveringChromosomes.
-                it.remove();
+                // and this.coveringChromosomes. The grid keeps counting the cells found for it.
+                this.populationMap.remove(branchFitness);
 
-                this.droppedFeatureVectors.addAll(featureMap.keySet());
                 this.bestIndividuals.add(chromosome);
             }
         }
@@ -352,9 +376,7 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
             throw new IllegalStateException();
         }
 
-        for (TestChromosome chromosome : population) {
-            this.analyzeChromosome(chromosome);
-        }
+        this.analyzeChromosomes(population);
     }
 
     @Override
@@ -369,13 +391,13 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
     @Override
     public List<TestChromosome> getBestIndividuals() {
         List<TestChromosome> chromosomes = new ArrayList<>();
-        this.populationMap.values().forEach(entry -> chromosomes.addAll(entry.values()));
+        this.populationMap.values().forEach(elites -> chromosomes.addAll(elites.getElites()));
         return chromosomes;
     }
 
     private void updateAndSortBest() {
-        for (Map<FeatureVector, TestChromosome> branch : this.populationMap.values()) {
-            this.bestIndividuals.addAll(branch.values());
+        for (BranchElites branch : this.populationMap.values()) {
+            this.bestIndividuals.addAll(branch.getElites());
         }
 
         if (isMaximizationFunction()) {
@@ -396,7 +418,8 @@ public class MAPElites extends GeneticAlgorithm<TestChromosome> {
 
         this.sendFeatureData();
 
-        while (!isFinished()) {
+        // once every branch is covered there are no elites left to evolve
+        while (!isFinished() && !this.populationMap.isEmpty()) {
             evolve();
 
             this.sendFeatureData();
@@ -162,13 +162,13 @@ public abstract class AbstractMOSA extends GeneticAlgorithm<TestChromosome> {
      * Speciation assigner. Always non-null; uses a no-op implementation when
      * speciation is disabled.
      */
-    protected final SpeciesAssigner speciesAssigner;
+    protected final transient SpeciesAssigner speciesAssigner;
 
     /**
      * Speciation policy. Always non-null; uses a no-op implementation when
      * speciation is disabled.
      */
-    protected final SpeciesPolicy speciesPolicy;
+    protected final transient SpeciesPolicy speciesPolicy;
 
     /**
      * Constructor.
@@ -22,6 +22,10 @@ package org.evosuite.ga.metaheuristics.mosa;
 import org.evosuite.ClientProcess;
 import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
+import org.evosuite.ga.metaheuristics.GeneticAlgorithm;
+import org.evosuite.ga.metaheuristics.SearchListener;
+import org.evosuite.ga.operators.ranking.FastNonDominatedSorting;
+import org.evosuite.ga.operators.ranking.RankBasedPreferenceSorting;
 import org.evosuite.ga.operators.selection.BestKSelection;
 import org.evosuite.ga.operators.selection.RandomKSelection;
 import org.evosuite.ga.operators.selection.RankSelection;
@@ -32,6 +36,7 @@ import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.utils.Listener;
+import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,6 +63,22 @@ public class MOSA extends AbstractMOSA {
 
     private final SelectionFunction<TestChromosome> emigrantsSelection;
 
+    /**
+     * all populations evolved by this client (including this one) when
+     * {@link Properties#NUM_ISLANDS} is greater than one, {@code null} otherwise.
+     */
+    private transient List<MOSA> islands;
+
+    /**
+     * position of this instance in {@link #islands}; only island 0 drives the search.
+     */
+    private int islandIndex;
+
+    /**
+     * number of individuals this island sent to the other islands of this client.
+     */
+    private transient int islandEmigrants;
+
     /**
      * Constructor based on the abstract class. {@link AbstractMOSA}
      *
@@ -114,15 +135,28 @@ public class MOSA extends AbstractMOSA {
         applySpeciationSurvival(rankedCandidates, baseTarget);
 
         // for parallel runs: collect best k individuals for migration
-        if (Properties.NUM_PARALLEL_CLIENTS > 1 && Properties.MIGRANTS_ITERATION_FREQUENCY > 0) {
-            if ((currentIteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY == 0 && !this.population.isEmpty()) {
+        if (Properties.MIGRANTS_ITERATION_FREQUENCY > 0
+                && (currentIteration + 1) % Properties.MIGRANTS_ITERATION_FREQUENCY == 0
+                && !this.population.isEmpty()) {
+            if (this.islands != null) {
+                List<TestChromosome> emigrants = new ArrayList<>();
+                for (TestChromosome emigrant : new HashSet<>(emigrantsSelection.select(this.population,
+                        Properties.MIGRANTS_COMMUNICATION_RATE))) {
+                    emigrants.add(emigrant.clone());
+                }
+                this.selectNeighbourIsland().receiveImmigrants(emigrants);
+                this.islandEmigrants += emigrants.size();
+            }
+            if (Properties.NUM_PARALLEL_CLIENTS > 1 && this.islandIndex == 0) {
                 HashSet<TestChromosome> emigrants = new HashSet<>(emigrantsSelection.select(this.population,
                         Properties.MIGRANTS_COMMUNICATION_RATE));
                 ClientServices.<TestChromosome>getInstance().getClientNode().emigrate(emigrants);
             }
         }
 
-        emitGenerationMetrics(this.getNumberOfUncoveredGoals(), this.getNumberOfCoveredGoals());
+        if (this.islandIndex == 0) {
+            emitGenerationMetrics(this.getNumberOfUncoveredGoals(), this.getNumberOfCoveredGoals());
+        }
 
         this.currentIteration++;
     }
@@ -147,10 +181,10 @@ public class MOSA extends AbstractMOSA {
                     this::getNumberOfCoveredGoals, this::getUncoveredGoals);
 
             // Calculate dominance ranks and crowding distance
-            this.rankingFunction.computeRankingAssignment(this.population, this.getUncoveredGoals());
-            for (int i = 0; i < this.rankingFunction.getNumberOfSubfronts(); i++) {
-                this.distance.fastEpsilonDominanceAssignment(
-                        this.rankingFunction.getSubfront(i), this.getUncoveredGoals());
+            this.computeInitialRanking();
+
+            if (Properties.NUM_ISLANDS > 1) {
+                this.createIslands();
             }
 
             final ClientNodeLocal<TestChromosome> clientNode =
@@ -158,13 +192,20 @@ public class MOSA extends AbstractMOSA {
 
             Listener<Set<TestChromosome>> listener = null;
             if (Properties.NUM_PARALLEL_CLIENTS > 1) {
-                listener = event -> immigrants.add(new LinkedList<>(event));
+                listener = this::receiveImmigrants;
                 clientNode.addListener(listener);
             }
 
             // TODO add here dynamic stopping condition
             while (!this.isFinished() && this.getNumberOfUncoveredGoals() > 0) {
                 this.evolve();
+                if (this.islands != null) {
+                    // islands take turns, as test execution and tracing are process-wide
+                    for (int i = 1; i < this.islands.size() && !this.isFinished()
+                            && this.getNumberOfUncoveredGoals() > 0; i++) {
+                        this.islands.get(i).evolve();
+                    }
+                }
                 this.notifyIteration();
 
                 // Apply local search at configured rate (gating is inside applyLocalSearch)
@@ -205,6 +246,7 @@ public class MOSA extends AbstractMOSA {
                         computePopulationParsedRatio(this.population));
                 emitOperatorStats(clientNode);
                 emitDisruptionStats(clientNode);
+                emitIslandStats(clientNode);
             } catch (Exception e) {
                 logger.debug("Failed to emit final stats", e);
             }
@@ -220,7 +262,7 @@ public class MOSA extends AbstractMOSA {
     @Override
     protected void registerAdditionalCandidateSources() {
         // Island-model immigrants (MOSA-specific)
-        if (Properties.NUM_PARALLEL_CLIENTS > 1) {
+        if (Properties.NUM_PARALLEL_CLIENTS > 1 || Properties.NUM_ISLANDS > 1) {
             externalCandidateSources.add(() -> {
                 List<TestChromosome> batch = immigrants.poll();
                 return batch != null ? batch : Collections.emptyList();
@@ -228,4 +270,123 @@ public class MOSA extends AbstractMOSA {
         }
     }
 
+    /**
+     * Calculates dominance ranks and crowding distance of the initial population.
+     */
+    private void computeInitialRanking() {
+        this.rankingFunction.computeRankingAssignment(this.population, this.getUncoveredGoals());
+        for (int i = 0; i < this.rankingFunction.getNumberOfSubfronts(); i++) {
+            this.distance.fastEpsilonDominanceAssignment(
+                    this.rankingFunction.getSubfront(i), this.getUncoveredGoals());
+        }
+    }
+
+    /**
+     * Creates the additional islands of this client. They share the archive, the
+     * operators and the stopping conditions of this instance, but each one evolves
+     * its own population. Their fitness evaluations are reported through this
+     * instance, so that budgets and statistics account for them.
+     */
+    private void createIslands() {
+        this.islands = new ArrayList<>(Properties.NUM_ISLANDS);
+        this.islands.add(this);
+        for (int i = 1; i < Properties.NUM_ISLANDS && !this.isFinished(); i++) {
+            MOSA island = new MOSA(this.chromosomeFactory);
+            island.islands = this.islands;
+            island.islandIndex = i;
+            island.selectionFunction = this.selectionFunction;
+            island.crossoverFunction = this.crossoverFunction;
+            // ranking functions keep the last computed fronts, so they cannot be shared
+            island.rankingFunction = this.rankingFunction instanceof FastNonDominatedSorting
+                    ? new FastNonDominatedSorting<>()
+                    : new RankBasedPreferenceSorting<>();
+            island.populationLimit = this.populationLimit;
+            island.bloatControl = this.bloatControl;
+            island.localObjective = this.localObjective;
+            island.stoppingConditions = this.stoppingConditions;
+            island.addFitnessFunctions(this.fitnessFunctions);
+            island.addListener(new EvaluationForwarder(this));
+
+            island.initializePopulation();
+            island.registerExternalCandidateSources(
+                    island::getNumberOfCoveredGoals, island::getUncoveredGoals);
+            island.computeInitialRanking();
+            this.islands.add(island);
+        }
+        if (this.islands.size() < 2) {
+            this.islands = null;
+        } else {
+            logger.info("Evolving {} islands", this.islands.size());
+        }
+    }
+
+    /**
+     * Reports how many individuals the islands of this client exchanged.
+     */
+    private void emitIslandStats(ClientNodeLocal<?> clientNode) {
+        if (this.islands == null) {
+            return;
+        }
+        int migrants = 0;
+        for (MOSA island : this.islands) {
+            migrants += island.islandEmigrants;
+        }
+        clientNode.trackOutputVariable(RuntimeVariable.Island_Migrants, migrants);
+    }
+
+    private MOSA selectNeighbourIsland() {
+        if (Properties.MIGRATION_TOPOLOGY == Properties.MigrationTopology.RANDOM) {
+            int target = Randomness.nextInt(this.islands.size() - 1);
+            return this.islands.get(target >= this.islandIndex ? target + 1 : target);
+        }
+        return this.islands.get((this.islandIndex + 1) % this.islands.size());
+    }
+
+    private void receiveImmigrants(Collection<TestChromosome> group) {
+        immigrants.add(new LinkedList<>(group));
+        // merged at the next generation; keep only the most recent groups
+        while (immigrants.size() > Math.max(1, Properties.MIGRANTS_QUEUE_SIZE)) {
+            immigrants.poll();
+        }
+    }
+
+    /**
+     * Reports the fitness evaluations of an island to the listeners (stopping
+     * conditions, statistics) of the island driving the search.
+     */
+    private static final class EvaluationForwarder implements SearchListener<TestChromosome> {
+
+        private static final long serialVersionUID = 2735469824531370187L;
+
+        private final MOSA target;
+
+        EvaluationForwarder(MOSA target) {
+            this.target = target;
+        }
+
+        @Override
+        public void searchStarted(GeneticAlgorithm<TestChromosome> algorithm) {
+            // the search is started by the target
+        }
+
+        @Override
+        public void iteration(GeneticAlgorithm<TestChromosome> algorithm) {
+            // iterations are counted by the target
+        }
+
+        @Override
+        public void searchFinished(GeneticAlgorithm<TestChromosome> algorithm) {
+            // the search is finished by the target
+        }
+
+        @Override
+        public void fitnessEvaluation(TestChromosome individual) {
+            target.notifyEvaluation(individual);
+        }
+
+        @Override
+        public void modification(TestChromosome individual) {
+            // not tracked per island
+        }
+    }
 }
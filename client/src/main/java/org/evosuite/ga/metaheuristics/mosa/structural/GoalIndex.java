@@ -0,0 +1,188 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa.structural;
+
+import org.evosuite.testcase.TestFitnessFunction;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Assigns integer ids to coverage goals and stores, for every goal, the goals that have to be
+ * evaluated once it is covered (its structural children and control-dependent goals) in
+ * compressed sparse row form. This lets {@link MultiCriteriaManager} walk the goal graph for every
+ * evaluated test with plain arrays instead of hash lookups and temporary sets.
+ */
+class GoalIndex {
+
+    private final Function<TestFitnessFunction, Collection<? extends TestFitnessFunction>> childrenOf;
+
+    private final List<TestFitnessFunction> goals = new ArrayList<>();
+
+    private final Map<TestFitnessFunction, Integer> ids = new HashMap<>();
+
+    /**
+     * Children ids of every goal, in registration order, until they are compiled.
+     */
+    private final List<int[]> adjacency = new ArrayList<>();
+
+    /**
+     * The children of goal {@code i} are {@code children[offsets[i]]} to
+     * {@code children[offsets[i + 1] - 1]}.
+     */
+    private int[] offsets = new int[1];
+
+    private int[] children = new int[0];
+
+    /**
+     * Creates an index containing the given goals and, transitively, their children.
+     *
+     * @param initialGoals the goals to index
+     * @param childrenOf   returns the goals to evaluate once a given goal is covered
+     */
+    GoalIndex(Collection<? extends TestFitnessFunction> initialGoals,
+              Function<TestFitnessFunction, Collection<? extends TestFitnessFunction>> childrenOf) {
+        this.childrenOf = childrenOf;
+        for (TestFitnessFunction goal : initialGoals) {
+            register(goal);
+        }
+        compile();
+    }
+
+    /**
+     * Returns the id of the given goal. Goals that are not yet indexed are added, together with
+     * their children.
+     *
+     * @param goal a coverage goal
+     * @return the id of the goal
+     */
+    int idOf(TestFitnessFunction goal) {
+        Integer id = ids.get(goal);
+        if (id != null) {
+            return id;
+        }
+        int newId = register(goal);
+        compile();
+        return newId;
+    }
+
+    /**
+     * Returns the goal with the given id.
+     *
+     * @param id the id of a goal
+     * @return the goal
+     */
+    TestFitnessFunction getGoal(int id) {
+        return goals.get(id);
+    }
+
+    /**
+     * Returns the number of indexed goals. Ids range from 0 to this number (exclusive).
+     *
+     * @return the number of goals
+     */
+    int size() {
+        return goals.size();
+    }
+
+    /**
+     * Returns the position in {@link #getChildren()} of the first child of the given goal.
+     *
+     * @param id the id of a goal
+     * @return the start of the children of the goal
+     */
+    int childrenStart(int id) {
+        return offsets[id];
+    }
+
+    /**
+     * Returns the position in {@link #getChildren()} after the last child of the given goal.
+     *
+     * @param id the id of a goal
+     * @return the end of the children of the goal
+     */
+    int childrenEnd(int id) {
+        return offsets[id + 1];
+    }
+
+    /**
+     * Returns the children ids of all goals, see {@link #childrenStart} and {@link #childrenEnd}.
+     *
+     * @return the children ids
+     */
+    int[] getChildren() {
+        return children;
+    }
+
+    private int register(TestFitnessFunction goal) {
+        Integer existing = ids.get(goal);
+        if (existing != null) {
+            return existing;
+        }
+        int id = add(goal);
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.add(id);
+        while (!pending.isEmpty()) {
+            int parent = pending.poll();
+            Collection<? extends TestFitnessFunction> parentChildren = childrenOf.apply(goals.get(parent));
+            int[] childIds = new int[parentChildren.size()];
+            int i = 0;
+            for (TestFitnessFunction child : parentChildren) {
+                Integer childId = ids.get(child);
+                if (childId == null) {
+                    childId = add(child);
+                    pending.add(childId);
+                }
+                childIds[i++] = childId;
+            }
+            adjacency.set(parent, childIds);
+        }
+        return id;
+    }
+
+    private int add(TestFitnessFunction goal) {
+        int id = goals.size();
+        goals.add(goal);
+        ids.put(goal, id);
+        adjacency.add(null);
+        return id;
+    }
+
+    private void compile() {
+        offsets = new int[goals.size() + 1];
+        int total = 0;
+        for (int i = 0; i < adjacency.size(); i++) {
+            offsets[i] = total;
+            total += adjacency.get(i).length;
+        }
+        offsets[adjacency.size()] = total;
+        children = new int[total];
+        for (int i = 0; i < adjacency.size(); i++) {
+            int[] childIds = adjacency.get(i);
+            System.arraycopy(childIds, 0, children, offsets[i], childIds.length);
+        }
+    }
+}
@@ -91,6 +91,24 @@ public class MultiCriteriaManager extends StructuralGoalManager implements Seria
      */
     private final Map<String, TestFitnessFunction> branchlessMethodCoverageMap = new LinkedHashMap<>();
 
+    /**
+     * Integer ids and children of all goals, built on the first fitness evaluation.
+     */
+    private transient GoalIndex goalIndex;
+
+    /**
+     * Queue of goal ids to evaluate, reused across fitness evaluations.
+     */
+    private transient int[] goalQueue;
+
+    /**
+     * The goals whose {@code goalMarks} entry equals {@code currentMark} have been enqueued during
+     * the current fitness evaluation.
+     */
+    private transient int[] goalMarks;
+
+    private transient int currentMark;
+
     /**
      * Creates a new {@code MultiCriteriaManager} with the given list of targets. The targets are
      * encoded as fitness functions, which are expected to be minimization functions.
@@ -390,26 +408,38 @@ public class MultiCriteriaManager extends StructuralGoalManager implements Seria
             return;
         }
 
-        Set<TestFitnessFunction> visitedTargets = new LinkedHashSet<>(getUncoveredGoals().size() * 2);
+        GoalIndex index = getGoalIndex();
+        int[] seeds = new int[currentGoals.size()];
+        int numSeeds = 0;
+        for (TestFitnessFunction goal : currentGoals) {
+            seeds[numSeeds++] = index.idOf(goal);
+        }
+        int mark = nextGoalMark(index.size());
 
         /*
-         * The processing list of current targets. If it turns out that any such target has been
+         * The processing queue of current targets. If it turns out that any such target has been
          * reached, we also enqueue its structural and control-dependent children. This is to
          * determine which of those children are already reached by control flow. Only the missed
          * children will be part of the currentGoals for the next generation (together with the
-         * missed goals of the currentGoals of the current generation).
+         * missed goals of the currentGoals of the current generation). Every goal is enqueued at
+         * most once, so the queue never holds more than all indexed goals.
          */
-        LinkedList<TestFitnessFunction> targets = new LinkedList<>(this.currentGoals);
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < numSeeds; i++) {
+            if (goalMarks[seeds[i]] != mark) {
+                goalMarks[seeds[i]] = mark;
+                goalQueue[tail++] = seeds[i];
+            }
+        }
+        int[] children = index.getChildren();
 
         // 1) We update the set of current goals.
-        while (!targets.isEmpty() && !ga.isFinished()) {
+        while (head < tail && !ga.isFinished()) {
             // We evaluate the given test case against all current targets.
             // (There might have been serendipitous coverage of other targets, though.)
-            TestFitnessFunction target = targets.poll();
-
-            if (!visitedTargets.add(target)) {
-                continue;
-            }
+            int id = goalQueue[head++];
+            TestFitnessFunction target = index.getGoal(id);
 
             double fitness = target.getFitness(c);
 
@@ -424,14 +454,14 @@ public class MultiCriteriaManager extends StructuralGoalManager implements Seria
                 /*
                  * If the coverage criterion is branch coverage, we also add structural children
                  * and control dependencies of the current target to the processing queue. This is
-                 * to see which ones of those goals are already reached by control flow.
+                 * to see which ones of those goals are already reached by control flow. Only
+                 * branch goals have children in the index.
                  */
-                if (target instanceof BranchCoverageTestFitness) {
-                    for (TestFitnessFunction child : graph.getStructuralChildren(target)) {
-                        targets.addLast(child);
-                    }
-                    for (TestFitnessFunction dependentTarget : dependencies.get(target)) {
-                        targets.addLast(dependentTarget);
+                for (int k = index.childrenStart(id); k < index.childrenEnd(id); k++) {
+                    int child = children[k];
+                    if (goalMarks[child] != mark) {
+                        goalMarks[child] = mark;
+                        goalQueue[tail++] = child;
                     }
                 }
             } else {
@@ -483,6 +513,55 @@ public class MultiCriteriaManager extends StructuralGoalManager implements Seria
         }
     }
 
+    private GoalIndex getGoalIndex() {
+        if (goalIndex == null) {
+            Set<TestFitnessFunction> goals = new LinkedHashSet<>(currentGoals);
+            goals.addAll(getUncoveredGoals());
+            goals.addAll(graph.graph.vertexSet());
+            goalIndex = new GoalIndex(goals, this::getGoalsToEvaluateWhenCovered);
+        }
+        return goalIndex;
+    }
+
+    /**
+     * Returns the goals that have to be evaluated once the given goal is covered: for branch goals,
+     * their structural children and the goals that are control dependent on them.
+     */
+    private Collection<TestFitnessFunction> getGoalsToEvaluateWhenCovered(TestFitnessFunction goal) {
+        if (!(goal instanceof BranchCoverageTestFitness)) {
+            return Collections.emptyList();
+        }
+        List<TestFitnessFunction> children = new ArrayList<>();
+        if (graph.graph.containsVertex(goal)) {
+            children.addAll(graph.getStructuralChildren(goal));
+        }
+        Set<TestFitnessFunction> dependent = dependencies.get(goal);
+        if (dependent != null) {
+            children.addAll(dependent);
+        }
+        return children;
+    }
+
+    /**
+     * Starts a new round of goal marks, making sure the queue and the marks can hold all indexed
+     * goals.
+     *
+     * @param numGoals the number of indexed goals
+     * @return the mark of the new round
+     */
+    private int nextGoalMark(int numGoals) {
+        if (goalMarks == null || goalMarks.length < numGoals) {
+            goalMarks = new int[numGoals];
+            goalQueue = new int[numGoals];
+            currentMark = 0;
+        }
+        if (currentMark == Integer.MAX_VALUE) {
+            Arrays.fill(goalMarks, 0);
+            currentMark = 0;
+        }
+        return ++currentMark;
+    }
+
     /**
      * This method analyzes the execution results of a TestChromosome looking for generated exceptions.
      * Such exceptions are converted in instances of the class {@link ExceptionCoverageTestFitness},
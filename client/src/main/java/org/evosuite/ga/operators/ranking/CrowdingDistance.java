@@ -21,10 +21,10 @@ package org.evosuite.ga.operators.ranking;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.SortByFitness;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -59,22 +59,32 @@ public class CrowdingDistance<T extends Chromosome<T>> implements Serializable {
             return;
         }
 
-        front.forEach(t -> t.setDistance(0.0));
+        // The fitness values are read once; the front is sorted by index
+        // arrays instead of calling getFitness in every comparison
+        FitnessMatrix<T> matrix = new FitnessMatrix<>(front, set);
+        double[] distances = new double[size];
+
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
 
         double objectiveMaxn;
         double objectiveMinn;
         double distance;
 
-        for (final FitnessFunction<T> ff : set) {
-            // Sort the population by Fit n
-            front.sort(new SortByFitness<>(ff, false));
+        for (int k = 0; k < matrix.getNumberOfObjectives(); k++) {
+            // Sort the population by Fit n. The sort is stable and starts from
+            // the order of the previous objective, as sorting the front did
+            final int objective = k;
+            Arrays.sort(order, (i, j) -> Double.compare(matrix.get(i, objective), matrix.get(j, objective)));
 
-            objectiveMinn = front.get(0).getFitness(ff);
-            objectiveMaxn = front.get(front.size() - 1).getFitness(ff);
+            objectiveMinn = matrix.get(order[0], k);
+            objectiveMaxn = matrix.get(order[size - 1], k);
 
             // set crowding distance
-            front.get(0).setDistance(Double.POSITIVE_INFINITY);
-            front.get(size - 1).setDistance(Double.POSITIVE_INFINITY);
+            distances[order[0]] = Double.POSITIVE_INFINITY;
+            distances[order[size - 1]] = Double.POSITIVE_INFINITY;
 
             double diff = objectiveMaxn - objectiveMinn;
             if (diff == 0.0) {
@@ -82,12 +92,22 @@ public class CrowdingDistance<T extends Chromosome<T>> implements Serializable {
             }
 
             for (int j = 1; j < size - 1; j++) {
-                distance = front.get(j + 1).getFitness(ff) - front.get(j - 1).getFitness(ff);
+                distance = matrix.get(order[j + 1], k) - matrix.get(order[j - 1], k);
                 distance = distance / diff;
-                distance += front.get(j).getDistance();
-                front.get(j).setDistance(distance);
+                distances[order[j]] += distance;
             }
         }
+
+        // Leave the front sorted by the last objective, as before
+        List<T> sorted = new ArrayList<>(size);
+        for (int i : order) {
+            T solution = front.get(i);
+            solution.setDistance(distances[i]);
+            sorted.add(solution);
+        }
+        for (int i = 0; i < size; i++) {
+            front.set(i, sorted.get(i));
+        }
     }
 
     /**
@@ -21,7 +21,6 @@ package org.evosuite.ga.operators.ranking;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.DominanceComparator;
 
 import java.util.*;
 
@@ -49,100 +48,82 @@ public class FastNonDominatedSorting<T extends Chromosome<T>> implements Ranking
 
 
     /**
-     * This method ranks the remaining test cases using the traditional "Non-Dominated Sorting Algorithm".
+     * This method ranks the remaining test cases into non-dominated fronts. It
+     * produces the same fronts as the traditional "Fast Non-Dominated Sorting
+     * Algorithm" by Deb et al., but uses the "Efficient Non-dominated Sort with
+     * Binary Search" (ENS-BS) by Zhang et al.: solutions are visited in
+     * lexicographic order of their fitness values, so that a solution can only be
+     * dominated by solutions already assigned to a front, and its front is found
+     * by binary search over the fronts built so far. This saves most of the
+     * O(M N^2) pairwise comparisons when there are few fronts.
      *
-     * @param solutionSet     set of test cases to rank with "Non-Dominated Sorting Algorithm"
+     * @param solutionSet     set of test cases to rank
      * @param uncoveredGoals  set of goals
      * @return the list of fronts according to the uncovered goals
      */
     private List<List<T>> getNextNonDominatedFronts(List<T> solutionSet,
                                                     Set<? extends FitnessFunction<T>> uncoveredGoals) {
-        DominanceComparator<T> criterion = new DominanceComparator<>(uncoveredGoals);
-
-        // dominateMe[i] contains the number of solutions dominating i
-        int[] dominateMe = new int[solutionSet.size()];
-
-        // dominatedList[k] contains the list of solutions dominated by k
-        List<List<Integer>> dominatedList = new ArrayList<>(solutionSet.size());
-
-        // front[i] contains the list of individuals belonging to the front i
-        List<List<Integer>> front = new ArrayList<>(solutionSet.size() + 1);
-
-        // flagDominate is an auxiliary encodings.variable
-        int flagDominate;
-
-        // Initialize the fronts
-        for (int i = 0; i < solutionSet.size() + 1; i++) {
-            front.add(new LinkedList<>());
-        }
+        FitnessMatrix<T> matrix = new FitnessMatrix<>(solutionSet, uncoveredGoals);
 
         // Initialize distance
         for (T solution : solutionSet) {
             solution.setDistance(Double.MAX_VALUE);
         }
 
-        // -> Fast non dominated sorting algorithm
-        for (int p = 0; p < solutionSet.size(); p++) {
-            // Initialize the list of individuals that i dominate and the number
-            // of individuals that dominate me
-            dominatedList.add(new LinkedList<>());
-            dominateMe[p] = 0;
+        Integer[] order = new Integer[solutionSet.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
         }
-
-        for (int p = 0; p < (solutionSet.size() - 1); p++) {
-            // For all q individuals , calculate if p dominates q or vice versa
-            for (int q = p + 1; q < solutionSet.size(); q++) {
-                flagDominate = criterion.compare(solutionSet.get(p), solutionSet.get(q));
-
-                if (flagDominate == -1) {
-                    dominatedList.get(p).add(q);
-                    dominateMe[q]++;
-                } else if (flagDominate == 1) {
-                    dominatedList.get(q).add(p);
-                    dominateMe[p]++;
+        Arrays.sort(order, matrix::compareLexicographically);
+
+        // front.get(i) contains the rows of the individuals belonging to the front i
+        List<List<Integer>> front = new ArrayList<>();
+        for (int p : order) {
+            int low = 0;
+            int high = front.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (isDominated(matrix, p, front.get(mid))) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
                 }
             }
-            // If nobody dominates p, p belongs to the first front
-        }
-        for (int p = 0; p < solutionSet.size(); p++) {
-            if (dominateMe[p] == 0) {
-                front.get(0).add(p);
-                solutionSet.get(p).setRank(1);
+            if (low == front.size()) {
+                front.add(new ArrayList<>());
             }
+            front.get(low).add(p);
         }
 
-        // Obtain the rest of fronts
-        int i = 0;
-        Iterator<Integer> it1;
-        Iterator<Integer> it2; // Iterators
-        while (front.get(i).size() != 0) {
-            i++;
-            it1 = front.get(i - 1).iterator();
-            while (it1.hasNext()) {
-                it2 = dominatedList.get(it1.next()).iterator();
-                while (it2.hasNext()) {
-                    int index = it2.next();
-                    dominateMe[index]--;
-                    if (dominateMe[index] == 0) {
-                        front.get(i).add(index);
-                        solutionSet.get(index).setRank(i + 1);
-                    }
-                }
-            }
-        }
-        List<List<T>> fronts = new ArrayList<>(i);
-        // 0,1,2,....,i-1 are front, then i fronts
-        for (int j = 0; j < i; j++) {
-            List<T> currentFront = new ArrayList<>();
-            it1 = front.get(j).iterator();
-            while (it1.hasNext()) {
-                currentFront.add(solutionSet.get(it1.next()));
+        List<List<T>> fronts = new ArrayList<>(front.size());
+        for (int j = 0; j < front.size(); j++) {
+            List<Integer> rows = front.get(j);
+            Collections.sort(rows);
+            List<T> currentFront = new ArrayList<>(rows.size());
+            for (int row : rows) {
+                T solution = solutionSet.get(row);
+                solution.setRank(j + 1);
+                currentFront.add(solution);
             }
             fronts.add(currentFront);
         }
         return fronts;
     }
 
+    /**
+     * Whether any member of the front dominates the given solution. The most
+     * recently added members are the closest in lexicographic order, and thus
+     * the most likely to dominate it, so they are checked first.
+     */
+    private static boolean isDominated(FitnessMatrix<?> matrix, int solution, List<Integer> front) {
+        for (int i = front.size() - 1; i >= 0; i--) {
+            if (matrix.compare(front.get(i), solution) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public List<T> getSubfront(int rank) {
         return ranking.get(rank);
@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.ga.FitnessFunction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The fitness values of a list of solutions for a set of objectives, kept in
+ * a dense matrix so that the many dominance tests of a ranking do not look up
+ * each value in the fitness map of the chromosome again.
+ * <p>
+ * Row {@code i} belongs to {@code solutions.get(i)}, column {@code k} to the
+ * {@code k}-th objective in iteration order. A column is only read from the
+ * chromosomes when it is first used: with many objectives, most dominance
+ * tests are decided by the first few.
+ */
+final class FitnessMatrix<T extends Chromosome<T>> {
+
+    private final List<T> solutions;
+
+    private final List<FitnessFunction<T>> objectives;
+
+    private final double[][] columns;
+
+    private final boolean[] maximize;
+
+    FitnessMatrix(List<T> solutions, Collection<? extends FitnessFunction<T>> objectives) {
+        this.solutions = solutions;
+        this.objectives = new ArrayList<>(objectives);
+        this.columns = new double[this.objectives.size()][];
+        this.maximize = new boolean[this.objectives.size()];
+        for (int k = 0; k < maximize.length; k++) {
+            maximize[k] = this.objectives.get(k).isMaximizationFunction();
+        }
+    }
+
+    int size() {
+        return solutions.size();
+    }
+
+    int getNumberOfObjectives() {
+        return columns.length;
+    }
+
+    double get(int row, int objective) {
+        return column(objective)[row];
+    }
+
+    private double[] column(int objective) {
+        double[] column = columns[objective];
+        if (column == null) {
+            FitnessFunction<T> ff = objectives.get(objective);
+            column = new double[solutions.size()];
+            for (int i = 0; i < column.length; i++) {
+                column[i] = solutions.get(i).getFitness(ff);
+            }
+            columns[objective] = column;
+        }
+        return column;
+    }
+
+    /**
+     * Dominance test between two rows, with the same result as
+     * {@link org.evosuite.ga.comparators.DominanceComparator#compare}.
+     *
+     * @return -1 if row {@code i} dominates row {@code j}, +1 if {@code j}
+     * dominates {@code i}, 0 if neither dominates the other
+     */
+    int compare(int i, int j) {
+        boolean dominate1 = false;
+        boolean dominate2 = false;
+        for (int k = 0; k < columns.length; k++) {
+            double[] column = column(k);
+            int flag = Double.compare(column[i], column[j]);
+            if (maximize[k]) {
+                flag = -flag;
+            }
+            if (flag < 0) {
+                if (dominate2) {
+                    return 0;
+                }
+                dominate1 = true;
+            } else if (flag > 0) {
+                if (dominate1) {
+                    return 0;
+                }
+                dominate2 = true;
+            }
+        }
+        if (dominate1 == dominate2) {
+            return 0;
+        }
+        return dominate1 ? -1 : 1;
+    }
+
+    /**
+     * Lexicographic order of two rows, better values first. A row can only be
+     * dominated by rows that come before it in this order.
+     */
+    int compareLexicographically(int i, int j) {
+        for (int k = 0; k < columns.length; k++) {
+            double[] column = column(k);
+            int flag = Double.compare(column[i], column[j]);
+            if (flag != 0) {
+                return maximize[k] ? -flag : flag;
+            }
+        }
+        return 0;
+    }
+}
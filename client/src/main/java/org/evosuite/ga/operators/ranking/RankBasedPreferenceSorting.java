@@ -22,7 +22,6 @@ package org.evosuite.ga.operators.ranking;
 import org.evosuite.Properties;
 import org.evosuite.ga.Chromosome;
 import org.evosuite.ga.FitnessFunction;
-import org.evosuite.ga.comparators.DominanceComparator;
 import org.evosuite.ga.comparators.PreferenceSortingComparator;
 import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
@@ -92,15 +91,19 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
 
         if (zeroFront.size() < Properties.POPULATION) {
             int rankedSolutions = zeroFront.size();
-            DominanceComparator<T> comparator = new DominanceComparator<>(uncoveredGoals);
+            FitnessMatrix<T> matrix = new FitnessMatrix<>(solutions, uncoveredGoals);
 
-            List<T> remaining = new ArrayList<>(solutions.size());
-            remaining.addAll(solutions);
-            remaining.removeAll(zeroFront);
+            // rows of the matrix, i.e., indices into solutions
+            List<Integer> remaining = new ArrayList<>(solutions.size());
+            for (int i = 0; i < solutions.size(); i++) {
+                if (!zeroFront.contains(solutions.get(i))) {
+                    remaining.add(i);
+                }
+            }
             while (rankedSolutions < Properties.POPULATION && remaining.size() > 0) {
-                List<T> newFront = this.getNonDominatedSolutions(remaining, comparator, frontIndex);
+                List<T> newFront = this.getNonDominatedSolutions(solutions, remaining, matrix, frontIndex);
                 this.fronts.add(newFront);
-                remaining.removeAll(newFront);
+                remaining.removeIf(i -> newFront.contains(solutions.get(i)));
                 rankedSolutions += newFront.size();
                 frontIndex++;
             }
@@ -186,15 +189,17 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
         return Randomness.nextBoolean();
     }
 
-    private List<T> getNonDominatedSolutions(List<T> solutions, DominanceComparator<T> comparator, int frontIndex) {
-        List<T> front = new ArrayList<>(solutions.size());
-        for (T p : solutions) {
+    private List<T> getNonDominatedSolutions(List<T> solutions, List<Integer> rows, FitnessMatrix<T> matrix,
+                                             int frontIndex) {
+        List<Integer> front = new ArrayList<>(rows.size());
+        List<T> dominatedSolutions = new ArrayList<>();
+        for (int p : rows) {
             boolean isDominated = false;
-            List<T> dominatedSolutions = new ArrayList<>(solutions.size());
-            for (T best : front) {
-                int flag = comparator.compare(p, best);
+            dominatedSolutions.clear();
+            for (int best : front) {
+                int flag = matrix.compare(p, best);
                 if (flag < 0) {
-                    dominatedSolutions.add(best);
+                    dominatedSolutions.add(solutions.get(best));
                 }
                 if (flag > 0) {
                     isDominated = true;
@@ -205,11 +210,17 @@ public class RankBasedPreferenceSorting<T extends Chromosome<T>> implements Rank
                 continue;
             }
 
-            p.setRank(frontIndex);
+            solutions.get(p).setRank(frontIndex);
             front.add(p);
-            front.removeAll(dominatedSolutions);
+            if (!dominatedSolutions.isEmpty()) {
+                front.removeIf(row -> dominatedSolutions.contains(solutions.get(row)));
+            }
+        }
+        List<T> result = new ArrayList<>(front.size());
+        for (int row : front) {
+            result.add(solutions.get(row));
         }
-        return front;
+        return result;
     }
 
     /**
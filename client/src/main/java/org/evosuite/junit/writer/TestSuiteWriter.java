@@ -38,6 +38,7 @@ import org.evosuite.testcase.TestCodeVisitor;
 import org.evosuite.testcase.TestFitnessFunction;
 import org.evosuite.testcase.execution.CodeUnderTestException;
 import org.evosuite.testcase.execution.ExecutionResult;
+import org.evosuite.testcase.execution.ExecutionResultStore;
 import org.evosuite.testcase.execution.TestCaseExecutor;
 import org.evosuite.utils.FileIOUtils;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -218,7 +219,7 @@ public class TestSuiteWriter implements Opcodes {
 
         List<File> generated = new ArrayList<>();
         String dir = TestSuiteWriterUtils.makeDirectory(directory);
-        String content = "";
+        StringBuilder content = new StringBuilder();
 
         // Execute all tests
         executor.newObservers();
@@ -274,8 +275,9 @@ public class TestSuiteWriter implements Opcodes {
         if (Properties.OUTPUT_GRANULARITY == OutputGranularity.MERGED || testCases.size() == 0) {
             File file = new File(dir + "/" + name + ".java");
             //executor.newObservers();
-            content = getUnitTestsAllInSameFile(name, results, requirements);
-            FileIOUtils.writeFile(content, file);
+            String testCode = getUnitTestsAllInSameFile(name, results, requirements);
+            FileIOUtils.writeFile(testCode, file);
+            content.append(testCode);
             generated.add(file);
         } else {
             for (int i = 0; i < testCases.size(); i++) {
@@ -283,7 +285,7 @@ public class TestSuiteWriter implements Opcodes {
                 //executor.newObservers();
                 String testCode = getOneUnitTestInAFile(name, i, results, requirements);
                 FileIOUtils.writeFile(testCode, file);
-                content += testCode;
+                content.append(testCode);
                 generated.add(file);
             }
         }
@@ -294,7 +296,7 @@ public class TestSuiteWriter implements Opcodes {
             String scaffoldingContent = Scaffolding.getScaffoldingFileContent(name, results, requirements);
             FileIOUtils.writeFile(scaffoldingContent, file);
             generated.add(file);
-            content += scaffoldingContent;
+            content.append(scaffoldingContent);
         }
 
         writeCoveredGoalsFile();
@@ -302,7 +304,7 @@ public class TestSuiteWriter implements Opcodes {
         // Publish Phase 4 naming metrics if LLM naming was used
         publishPhase4NamingMetrics();
 
-        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content);
+        TestGenerationResultBuilder.getInstance().setTestSuiteCode(content.toString());
         return generated;
     }
 
@@ -327,6 +329,41 @@ public class TestSuiteWriter implements Opcodes {
         }
     }
 
+    /**
+     * Append each line of the given code with the given indentation. This
+     * produces the same lines as {@code code.split("\\r?\\n")}, without the
+     * regular expression and the intermediate array.
+     */
+    static void appendIndented(StringBuilder builder, String indent, String code) {
+        if (code.isEmpty()) {
+            builder.append(indent).append(NEWLINE);
+            return;
+        }
+        // Like split, drop trailing empty lines
+        int limit = code.length();
+        while (limit > 0 && code.charAt(limit - 1) == '\n') {
+            limit--;
+            if (limit > 0 && code.charAt(limit - 1) == '\r') {
+                limit--;
+            }
+        }
+        int start = 0;
+        while (start < limit) {
+            int end = code.indexOf('\n', start);
+            int lineEnd;
+            if (end < 0 || end > limit) {
+                end = limit;
+                lineEnd = limit;
+            } else {
+                lineEnd = end > start && code.charAt(end - 1) == '\r' ? end - 1 : end;
+            }
+            builder.append(indent);
+            builder.append(code, start, lineEnd);
+            builder.append(NEWLINE);
+            start = end + 1;
+        }
+    }
+
     /**
      * To avoid having completely empty test classes, a no-op test is created.
      *
@@ -429,13 +466,20 @@ public class TestSuiteWriter implements Opcodes {
     }
 
     /**
-     * Run test.
+     * Run test, unless an earlier post-processing phase already executed
+     * the same statements and its result is still stored.
      *
      * @param test a {@link org.evosuite.testcase.TestCase} object.
      * @return a {@link org.evosuite.testcase.execution.ExecutionResult} object.
      */
     protected ExecutionResult runTest(TestCase test) {
 
+        ExecutionResult stored = ExecutionResultStore.getInstance().get(test, executor.getExecutionObservers());
+        if (stored != null) {
+            logger.debug("Reusing stored execution result");
+            return stored;
+        }
+
         ExecutionResult result = new ExecutionResult(test, null);
 
         try {
@@ -832,12 +876,8 @@ public class TestSuiteWriter implements Opcodes {
             codeSpace = INNER_INNER_INNER_BLOCK_SPACE;
         }
 
-        for (String line : adapter.getTestString(id, test,
-                result.getCopyOfExceptionMapping(), visitor).split("\\r?\\n")) {
-            builder.append(codeSpace);
-            builder.append(line);
-            builder.append(NEWLINE);
-        }
+        appendIndented(builder, codeSpace, adapter.getTestString(id, test,
+                result.getCopyOfExceptionMapping(), visitor));
 
         if (wasSecurityException) {
             Set<Class<?>> exceptions = test.getDeclaredExceptions();
@@ -22,6 +22,7 @@ package org.evosuite.novelty;
 import org.evosuite.TestGenerationContext;
 import org.evosuite.coverage.branch.Branch;
 import org.evosuite.coverage.branch.BranchPool;
+import org.evosuite.ga.BehaviourNoveltyFunction;
 import org.evosuite.ga.NoveltyFunction;
 import org.evosuite.testcase.TestCase;
 import org.evosuite.testcase.TestChromosome;
@@ -34,7 +35,8 @@ import org.slf4j.LoggerFactory;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
-public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
+public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome>
+        implements BehaviourNoveltyFunction<TestChromosome> {
 
     private static final Logger logger = LoggerFactory.getLogger(BranchNoveltyFunction.class);
 
@@ -42,6 +44,17 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
 
     private final Set<String> branchlessMethods = new LinkedHashSet<>();
 
+    /**
+     * The branches as an array, in the order of the coordinates of a behaviour vector.
+     */
+    private final int[] branchIds;
+
+    /**
+     * Value of the coordinate of a branch without a true distance in the trace. Real branch
+     * distances are never negative.
+     */
+    private static final double NO_DISTANCE = -1.0;
+
     /**
      * Initializes the novelty function by collecting uninstrumented branches and branchless methods.
      *
@@ -57,6 +70,7 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
             }
         }
         branchlessMethods.addAll(branchPool.getBranchlessMethods());
+        branchIds = branches.stream().mapToInt(Integer::intValue).toArray();
         logger.warn("Number of branches: " + branches.size() + " branches and " + branchlessMethods.size()
                 + " branchless methods");
     }
@@ -78,30 +92,48 @@ public class BranchNoveltyFunction extends NoveltyFunction<TestChromosome> {
 
     @Override
     public double getDistance(TestChromosome individual1, TestChromosome individual2) {
-        ExecutionResult result1 = getExecutionResult(individual1);
-        ExecutionResult result2 = getExecutionResult(individual2);
+        return getDistance(getBehaviour(individual1), getBehaviour(individual2));
+    }
 
-        ExecutionTrace trace1 = result1.getTrace();
-        ExecutionTrace trace2 = result2.getTrace();
+    /**
+     * Returns the true distance of every branch, or {@link #NO_DISTANCE} if the branch has none,
+     * followed by 1 or 0 for every branchless method depending on whether it was covered.
+     */
+    @Override
+    public double[] getBehaviour(TestChromosome individual) {
+        ExecutionTrace trace = getExecutionResult(individual).getTrace();
+        double[] behaviour = new double[branchIds.length + branchlessMethods.size()];
 
-        double difference = 0.0;
+        int i = 0;
+        for (int branch : branchIds) {
+            behaviour[i++] = trace.hasTrueDistance(branch) ? trace.getTrueDistance(branch) : NO_DISTANCE;
+        }
 
-        for (Integer branch : branches) {
-            if (trace1.hasTrueDistance(branch) && trace2.hasTrueDistance(branch)) {
-                double distance1 = trace1.getTrueDistance(branch);
-                double distance2 = trace2.getTrueDistance(branch);
+        Set<String> methods = trace.getCoveredBranchlessMethods();
+        for (String branchlessMethod : branchlessMethods) {
+            behaviour[i++] = methods.contains(branchlessMethod) ? 1.0 : 0.0;
+        }
 
-                difference += Math.abs(distance1 - distance2);
+        return behaviour;
+    }
 
-            } else if (trace1.hasTrueDistance(branch) || trace2.hasTrueDistance(branch)) {
+    @Override
+    public double getDistance(double[] behaviour1, double[] behaviour2) {
+        double difference = 0.0;
+
+        int i = 0;
+        for (; i < branchIds.length; i++) {
+            boolean has1 = behaviour1[i] != NO_DISTANCE;
+            boolean has2 = behaviour2[i] != NO_DISTANCE;
+            if (has1 && has2) {
+                difference += Math.abs(behaviour1[i] - behaviour2[i]);
+            } else if (has1 || has2) {
                 difference += 1.0;
             }
         }
 
-        Set<String> methods1 = trace1.getCoveredBranchlessMethods();
-        Set<String> methods2 = trace2.getCoveredBranchlessMethods();
-        for (String branchlessMethod : branchlessMethods) {
-            if (methods1.contains(branchlessMethod) != methods2.contains(branchlessMethod)) {
+        for (; i < behaviour1.length; i++) {
+            if (behaviour1[i] != behaviour2[i]) {
                 difference += 1.0;
             }
         }
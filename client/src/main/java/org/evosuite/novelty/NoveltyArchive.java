@@ -0,0 +1,272 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.novelty;
+
+import org.evosuite.Properties.NoveltyArchiveEviction;
+import org.evosuite.utils.Randomness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Archive of behaviours for novelty search. The novelty of a behaviour is the mean distance to its
+ * k nearest neighbours among the current population and the archive.
+ *
+ * <p>The archive holds at most a fixed number of behaviours and drops one according to its
+ * {@link NoveltyArchiveEviction eviction policy} when it is full. Nearest neighbours in the archive
+ * are found with a {@link VantagePointTree}. The tree is only rebuilt once enough behaviours have
+ * been added or evicted since it was last built; until then new behaviours are searched linearly
+ * and evicted ones are skipped.
+ */
+public class NoveltyArchive {
+
+    /**
+     * The least number of changes before the index is rebuilt.
+     */
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 16;
+
+    static final class Entry {
+
+        final double[] behaviour;
+
+        final double novelty;
+
+        boolean evicted = false;
+
+        Entry(double[] behaviour, double novelty) {
+            this.behaviour = behaviour;
+            this.novelty = novelty;
+        }
+    }
+
+    private final ToDoubleBiFunction<double[], double[]> distance;
+
+    private final int capacity;
+
+    private final NoveltyArchiveEviction eviction;
+
+    /**
+     * The archived behaviours, oldest first.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Behaviours added since the index was built.
+     */
+    private final List<Entry> pending = new ArrayList<>();
+
+    private int evictedSinceRebuild = 0;
+
+    private VantagePointTree index = null;
+
+    /**
+     * Creates an empty archive.
+     *
+     * @param distance the distance between two behaviours
+     * @param capacity the maximum number of behaviours to keep
+     * @param eviction which behaviour to drop when the archive is full
+     */
+    public NoveltyArchive(ToDoubleBiFunction<double[], double[]> distance, int capacity,
+                          NoveltyArchiveEviction eviction) {
+        this.distance = distance;
+        this.capacity = capacity;
+        this.eviction = eviction;
+    }
+
+    /**
+     * Adds a behaviour to the archive, evicting another one if the archive is full.
+     *
+     * @param behaviour the behaviour
+     * @param novelty   the novelty of the behaviour when it was added
+     */
+    public void add(double[] behaviour, double novelty) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (entries.size() >= capacity) {
+            evict();
+        }
+        Entry entry = new Entry(behaviour, novelty);
+        entries.add(entry);
+        pending.add(entry);
+    }
+
+    private void evict() {
+        int victim = 0;
+        switch (eviction) {
+            case LEAST_NOVEL:
+                for (int i = 1; i < entries.size(); i++) {
+                    if (entries.get(i).novelty < entries.get(victim).novelty) {
+                        victim = i;
+                    }
+                }
+                break;
+            case RANDOM:
+                victim = Randomness.nextInt(entries.size());
+                break;
+            case OLDEST:
+            default:
+                break;
+        }
+        Entry entry = entries.remove(victim);
+        entry.evicted = true;
+        if (!pending.remove(entry)) {
+            evictedSinceRebuild++;
+        }
+    }
+
+    private void updateIndex() {
+        int changes = pending.size() + evictedSinceRebuild;
+        if (changes > Math.max(MIN_CHANGES_BEFORE_REBUILD, entries.size() / 4)) {
+            index = new VantagePointTree(entries, distance);
+            pending.clear();
+            evictedSinceRebuild = 0;
+        }
+    }
+
+    /**
+     * Returns the novelty of a behaviour: its mean distance to the {@code k} nearest behaviours
+     * among {@code others} and this archive. The tree only gives exact neighbours if the distance
+     * is a metric, otherwise they are approximate.
+     *
+     * @param behaviour the behaviour
+     * @param others    the behaviours of the other individuals in the population
+     * @param k         the number of neighbours, or 0 to average over all behaviours
+     * @return the novelty
+     */
+    public double getNovelty(double[] behaviour, List<double[]> others, int k) {
+        Neighbours neighbours = new Neighbours(k);
+        for (double[] other : others) {
+            neighbours.add(distance.applyAsDouble(behaviour, other));
+        }
+
+        if (k <= 0) {
+            for (Entry entry : entries) {
+                neighbours.add(distance.applyAsDouble(behaviour, entry.behaviour));
+            }
+        } else {
+            updateIndex();
+            if (index != null) {
+                index.search(behaviour, neighbours);
+            }
+            for (Entry entry : pending) {
+                neighbours.add(distance.applyAsDouble(behaviour, entry.behaviour));
+            }
+        }
+
+        return neighbours.mean();
+    }
+
+    /**
+     * Returns the number of behaviours in the archive.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The distances to the {@code k} nearest neighbours seen so far, kept in a max-heap so that the
+     * farthest of them can be replaced. If {@code k} is 0, all distances are kept.
+     */
+    static final class Neighbours {
+
+        private final int k;
+
+        private final double[] heap;
+
+        private int size = 0;
+
+        private double sum = 0.0;
+
+        Neighbours(int k) {
+            this.k = k;
+            this.heap = new double[Math.max(k, 0)];
+        }
+
+        void add(double distance) {
+            if (k <= 0) {
+                sum += distance;
+                size++;
+            } else if (size < k) {
+                heap[size] = distance;
+                siftUp(size++);
+            } else if (distance < heap[0]) {
+                heap[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Returns the distance a behaviour must be closer than to be one of the neighbours.
+         */
+        double bound() {
+            return k > 0 && size == k ? heap[0] : Double.POSITIVE_INFINITY;
+        }
+
+        double mean() {
+            if (k > 0) {
+                sum = 0.0;
+                for (int i = 0; i < size; i++) {
+                    sum += heap[i];
+                }
+            }
+            return size == 0 ? 0.0 : sum / size;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (heap[parent] >= heap[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] > heap[largest]) {
+                    largest = left;
+                }
+                if (right < size && heap[right] > heap[largest]) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            double tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.novelty;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Vantage-point tree over the behaviours of a {@link NoveltyArchive}, for k-nearest-neighbour
+ * queries that skip subtrees which cannot contain a closer behaviour than those already found.
+ *
+ * <p>The tree is stored in one array: the node for the range {@code [lo, hi)} has its vantage point
+ * at {@code lo}, the behaviours closer than {@code radius[lo]} in {@code [lo + 1, mid)} and the
+ * others in {@code [mid, hi)}, where {@code mid} is the middle of the remaining range. Entries that
+ * are evicted after the tree was built still guide the search but are not reported.
+ */
+final class VantagePointTree {
+
+    private final NoveltyArchive.Entry[] entries;
+
+    private final double[] radius;
+
+    private final ToDoubleBiFunction<double[], double[]> distance;
+
+    /**
+     * Distances to the vantage point of the node being built, by position.
+     */
+    private final double[] distances;
+
+    VantagePointTree(List<NoveltyArchive.Entry> entries,
+                     ToDoubleBiFunction<double[], double[]> distance) {
+        this.entries = entries.toArray(new NoveltyArchive.Entry[0]);
+        this.radius = new double[this.entries.length];
+        this.distance = distance;
+        this.distances = new double[this.entries.length];
+        build(0, this.entries.length);
+    }
+
+    private static int middle(int lo, int hi) {
+        return (lo + 1 + hi) >>> 1;
+    }
+
+    private void build(int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        double[] vantagePoint = entries[lo].behaviour;
+        for (int i = lo + 1; i < hi; i++) {
+            distances[i] = distance.applyAsDouble(vantagePoint, entries[i].behaviour);
+        }
+        NoveltyArchive.Entry[] sorted = new NoveltyArchive.Entry[hi - lo - 1];
+        Integer[] order = new Integer[hi - lo - 1];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = lo + 1 + i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = entries[order[i]];
+        }
+        int mid = middle(lo, hi);
+        radius[lo] = distances[order[mid - lo - 1]];
+        System.arraycopy(sorted, 0, entries, lo + 1, sorted.length);
+
+        build(lo + 1, mid);
+        build(mid, hi);
+    }
+
+    /**
+     * Offers the distances from {@code behaviour} to its nearest archived behaviours to
+     * {@code neighbours}.
+     *
+     * @param behaviour  the behaviour to find neighbours of
+     * @param neighbours the neighbours found so far
+     */
+    void search(double[] behaviour, NoveltyArchive.Neighbours neighbours) {
+        search(0, entries.length, behaviour, neighbours);
+    }
+
+    private void search(int lo, int hi, double[] behaviour, NoveltyArchive.Neighbours neighbours) {
+        if (lo >= hi) {
+            return;
+        }
+        double d = distance.applyAsDouble(behaviour, entries[lo].behaviour);
+        if (!entries[lo].evicted) {
+            neighbours.add(d);
+        }
+        if (hi - lo == 1) {
+            return;
+        }
+        int mid = middle(lo, hi);
+        double mu = radius[lo];
+        if (d < mu) {
+            if (d - neighbours.bound() <= mu) {
+                search(lo + 1, mid, behaviour, neighbours);
+            }
+            if (d + neighbours.bound() >= mu) {
+                search(mid, hi, behaviour, neighbours);
+            }
+        } else {
+            if (d + neighbours.bound() >= mu) {
+                search(mid, hi, behaviour, neighbours);
+            }
+            if (d - neighbours.bound() <= mu) {
+                search(lo + 1, mid, behaviour, neighbours);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.evosuite.runtime.sandbox.Sandbox;
 import org.evosuite.setup.DependencyAnalysis;
 import org.evosuite.setup.TestCluster;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.TestSuiteSummary;
 import org.evosuite.utils.FileIOUtils;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
@@ -85,12 +86,29 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
     protected final ExecutorService searchExecutor = Executors.newSingleThreadExecutor();
 
-    private final BlockingQueue<OutputVariable> outputVariableQueue = new LinkedBlockingQueue<>();
+    /**
+     * Output variables and test suite summaries not sent to the master yet, in the
+     * order in which they were produced. Guarded by itself.
+     */
+    private final List<Object> pendingStatistics = new ArrayList<>();
+
+    /**
+     * Held while a batch is drained and sent, so that batches arrive in order.
+     */
+    private final Object statisticsSendLock = new Object();
 
     private Collection<Set<T>> bestSolutions;
 
     private Thread statisticsThread;
 
+    /**
+     * Emigrant groups not sent to the master yet, bounded by
+     * {@link Properties#MIGRANTS_QUEUE_SIZE}.
+     */
+    private final BlockingDeque<MigrantSet<T>> pendingEmigrants = new LinkedBlockingDeque<>();
+
+    private Thread migrationThread;
+
     //only for testing
     protected ClientNodeImpl() {
     }
@@ -200,24 +218,64 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         }
     }
 
+    /**
+     * Queues the given individuals to be sent to another client, and returns
+     * without waiting for the master. If the previous groups have not been
+     * sent yet, the oldest ones are dropped.
+     */
     @Override
     public void emigrate(Set<T> immigrants) {
-        try {
-            logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending "
-                    + immigrants.size() + " immigrants");
-            masterNode.evosuite_migrate(clientRmiIdentifier, immigrants);
-        } catch (RemoteException e) {
-            logger.error(ClientProcess.getPrettyPrintIdentifier()
-                    + "Cannot send immigrating individuals to master", e);
+        // copies, as the search may keep changing its individuals while they are sent
+        List<T> copies = new ArrayList<>(immigrants.size());
+        for (T individual : immigrants) {
+            copies.add(individual.clone());
+        }
+        synchronized (pendingEmigrants) {
+            while (pendingEmigrants.size() >= Math.max(1, Properties.MIGRANTS_QUEUE_SIZE)) {
+                pendingEmigrants.pollFirst();
+                logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Dropping unsent emigrants");
+            }
+            pendingEmigrants.addLast(new MigrantSet<>(copies));
+            if (migrationThread == null) {
+                startMigrationThread();
+            }
         }
     }
 
+    private void startMigrationThread() {
+        migrationThread = new Thread() {
+            @Override
+            public void run() {
+                while (!this.isInterrupted()) {
+                    MigrantSet<T> emigrants;
+                    try {
+                        emigrants = pendingEmigrants.takeFirst();
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+                    try {
+                        logger.debug(ClientProcess.getPrettyPrintIdentifier() + "Sending "
+                                + emigrants.size() + " immigrants");
+                        masterNode.evosuite_migrate(clientRmiIdentifier, emigrants);
+                    } catch (RemoteException e) {
+                        logger.error(ClientProcess.getPrettyPrintIdentifier()
+                                + "Cannot send immigrating individuals to master", e);
+                    }
+                }
+            }
+        };
+        migrationThread.setName("Migration sender in client process");
+        migrationThread.setDaemon(true);
+        Sandbox.addPrivilegedThread(migrationThread);
+        migrationThread.start();
+    }
+
     @Override
     public void sendBestSolution(Set<T> solutions) {
         try {
             logger.debug(ClientProcess.getPrettyPrintIdentifier() + "sending best solutions to "
                     + ClientProcess.DEFAULT_CLIENT_NAME);
-            masterNode.evosuite_collectBestSolutions(clientRmiIdentifier, solutions);
+            masterNode.evosuite_collectBestSolutions(clientRmiIdentifier, new MigrantSet<>(solutions));
         } catch (RemoteException e) {
             logger.error(ClientProcess.getPrettyPrintIdentifier()
                     + "Cannot send best solution to master", e);
@@ -240,6 +298,9 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
         TimeController.getInstance().updateState(state);
 
+        // make sure the master has all data of the previous phase before it reacts to the new one
+        flushStatistics();
+
         try {
             if (ensureMasterNode()) {
                 masterNode.evosuite_informChangeOfStateInClient(clientRmiIdentifier, state, information);
@@ -265,10 +326,13 @@ public class ClientNodeImpl<T extends Chromosome<T>>
     public void updateStatistics(T individual) {
         logger.info("Sending current best individual to master process");
 
+        // earlier progress updates must not arrive after this individual
+        flushStatistics();
+
         try {
             if (!ensureMasterNode()) {
                 if (Properties.CLIENT_ON_THREAD) {
-                    fallbackCurrentIndividual(individual);
+                    fallbackCurrentIndividual(individual, Chromosome.class);
                     return;
                 }
                 logger.warn("Master node is not available; skipping updateStatistics");
@@ -281,29 +345,24 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         }
     }
 
+    @Override
+    public void updateStatistics(TestSuiteSummary summary) {
+        if (Properties.CLIENT_ON_THREAD) {
+            sendStatistics(Collections.<Object>singletonList(summary));
+            return;
+        }
+        synchronized (pendingStatistics) {
+            pendingStatistics.add(summary);
+            pendingStatistics.notifyAll();
+        }
+    }
+
     @Override
     public void flushStatisticsForClassChange() {
         logger.info("Flushing output variables to master process");
 
         try {
-            List<OutputVariable> vars = new ArrayList<>();
-            outputVariableQueue.drainTo(vars);
-            for (OutputVariable ov : vars) {
-                if (!ensureMasterNode()) {
-                    if (Properties.CLIENT_ON_THREAD) {
-                        fallbackSetOutputVariable(ov.variable, ov.value);
-                        continue;
-                    }
-                    logger.warn("Master node is not available; skipping statistics flush on class change");
-                    break;
-                }
-                try {
-                    masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
-                } catch (RemoteException e) {
-                    logger.error("Error when exporting statistics: " + ov.variable + "=" + ov.value, e);
-                    break;
-                }
-            }
+            flushStatistics();
 
             if (!ensureMasterNode()) {
                 if (Properties.CLIENT_ON_THREAD) {
@@ -344,7 +403,8 @@ public class ClientNodeImpl<T extends Chromosome<T>>
 
         /*
          * As this code might be called from unsafe blocks, we just put the values
-         * on a queue, and have a privileged thread doing the RMI connection to master
+         * on a queue, and have a privileged thread doing the RMI connection to master.
+         * The thread sends everything that accumulated in one batch.
          */
         if (Properties.CLIENT_ON_THREAD) {
             // Always update local statistics to avoid relying on RMI in same JVM
@@ -358,7 +418,60 @@ public class ClientNodeImpl<T extends Chromosome<T>>
             }
             return;
         }
-        outputVariableQueue.offer(new OutputVariable(variable, value));
+        synchronized (pendingStatistics) {
+            pendingStatistics.add(new OutputVariable(variable, value));
+            pendingStatistics.notifyAll();
+        }
+    }
+
+    /**
+     * Sends all pending statistics to the master in a single batch.
+     */
+    private void flushStatistics() {
+        synchronized (statisticsSendLock) {
+            List<Object> updates;
+            synchronized (pendingStatistics) {
+                if (pendingStatistics.isEmpty()) {
+                    return;
+                }
+                updates = new ArrayList<>(pendingStatistics);
+                pendingStatistics.clear();
+            }
+            sendStatistics(updates);
+        }
+    }
+
+    private void sendStatistics(List<Object> updates) {
+        if (!ensureMasterNode()) {
+            if (Properties.CLIENT_ON_THREAD) {
+                for (Object update : updates) {
+                    if (update instanceof OutputVariable) {
+                        OutputVariable ov = (OutputVariable) update;
+                        fallbackSetOutputVariable(ov.variable, ov.value);
+                    } else {
+                        fallbackCurrentIndividual(update, TestSuiteSummary.class);
+                    }
+                }
+                return;
+            }
+            logger.warn("Master node is not available; dropping " + updates.size() + " statistics updates");
+            return;
+        }
+
+        StatisticsBatch batch = new StatisticsBatch();
+        for (Object update : updates) {
+            if (update instanceof OutputVariable) {
+                OutputVariable ov = (OutputVariable) update;
+                batch.addVariable(ov.variable, ov.value);
+            } else {
+                batch.addSummary((TestSuiteSummary) update);
+            }
+        }
+        try {
+            masterNode.evosuite_collectStatisticsBatch(clientRmiIdentifier, batch);
+        } catch (RemoteException e) {
+            logger.error("Error when exporting " + batch.size() + " statistics updates", e);
+        }
     }
 
     @Override
@@ -411,25 +524,6 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         if (statisticsThread != null) {
             logger.info(ClientProcess.getPrettyPrintIdentifier() + "Stopping statisticsThread");
             statisticsThread.interrupt();
-            List<OutputVariable> vars = new ArrayList<>();
-            outputVariableQueue.drainTo(vars);
-            for (OutputVariable ov : vars) {
-                try {
-                    if (!ensureMasterNode()) {
-                        if (Properties.CLIENT_ON_THREAD) {
-                            fallbackSetOutputVariable(ov.variable, ov.value);
-                            continue;
-                        }
-                        logger.warn("Master node is not available; skipping statistics flush on stop");
-                        break;
-                    }
-                    masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
-                } catch (RemoteException e) {
-                    logger.error("Error when exporting statistics: " + ov.variable + "=" + ov.value, e);
-                    break;
-                }
-            }
-
             try {
                 logger.info(ClientProcess.getPrettyPrintIdentifier() + "Waiting for statisticsThread to join");
                 statisticsThread.join(3000);
@@ -438,6 +532,15 @@ public class ClientNodeImpl<T extends Chromosome<T>>
             }
             statisticsThread = null;
         }
+        flushStatistics();
+
+        synchronized (pendingEmigrants) {
+            if (migrationThread != null) {
+                migrationThread.interrupt();
+                migrationThread = null;
+            }
+            pendingEmigrants.clear();
+        }
 
         logger.info(ClientProcess.getPrettyPrintIdentifier() + "Shutting down search executor");
         searchExecutor.shutdownNow();
@@ -459,24 +562,18 @@ public class ClientNodeImpl<T extends Chromosome<T>>
                 @Override
                 public void run() {
                     while (!this.isInterrupted()) {
-                        OutputVariable ov = null;
                         try {
-                            ov = outputVariableQueue.take(); //this is blocking
-                            if (!ensureMasterNode()) {
-                                if (Properties.CLIENT_ON_THREAD) {
-                                    fallbackSetOutputVariable(ov.variable, ov.value);
-                                    continue;
+                            synchronized (pendingStatistics) {
+                                while (pendingStatistics.isEmpty()) {
+                                    pendingStatistics.wait(); //this is blocking
                                 }
-                                logger.warn("Master node is not available; stopping statistics sender thread");
-                                break;
                             }
-                            masterNode.evosuite_collectStatistics(clientRmiIdentifier, ov.variable, ov.value);
+                            // let further updates accumulate, and send them all at once
+                            Thread.sleep(Properties.STATISTICS_BATCH_INTERVAL);
                         } catch (InterruptedException e) {
                             break;
-                        } catch (RemoteException e) {
-                            logger.error("Error when exporting statistics: " + ov.variable + "=" + ov.value, e);
-                            break;
                         }
+                        flushStatistics();
                     }
                 }
             };
@@ -522,12 +619,12 @@ public class ClientNodeImpl<T extends Chromosome<T>>
         }
     }
 
-    private void fallbackCurrentIndividual(T individual) {
+    private void fallbackCurrentIndividual(Object individual, Class<?> type) {
         try {
             Class<?> statsClass = Class.forName("org.evosuite.statistics.SearchStatistics");
             Object stats = statsClass.getMethod("getInstance", String.class)
                     .invoke(null, clientRmiIdentifier);
-            statsClass.getMethod("currentIndividual", Chromosome.class)
+            statsClass.getMethod("currentIndividual", type)
                     .invoke(stats, individual);
         } catch (Throwable t) {
             logger.warn("Failed to record individual via fallback", t);
@@ -21,6 +21,7 @@ package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.TestSuiteSummary;
 import org.evosuite.utils.Listenable;
 
 import java.util.Set;
@@ -44,6 +45,8 @@ public interface ClientNodeLocal<T extends Chromosome<T>> extends Listenable<Set
 
     void updateStatistics(T individual);
 
+    void updateStatistics(TestSuiteSummary summary);
+
     void flushStatisticsForClassChange();
 
     void updateProperty(String propertyName, Object value);
@@ -21,6 +21,7 @@ package org.evosuite.rmi.service;
 
 import org.evosuite.ga.Chromosome;
 import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.TestSuiteSummary;
 
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
@@ -63,6 +64,12 @@ public class DummyClientNodeImpl<T extends Chromosome<T>> extends ClientNodeImpl
 
     }
 
+    @Override
+    public void updateStatistics(TestSuiteSummary summary) {
+        // TODO Auto-generated method stub
+
+    }
+
     @Override
     public void trackOutputVariable(RuntimeVariable name, Object value) {
         fallbackSetOutputVariable(name, value);
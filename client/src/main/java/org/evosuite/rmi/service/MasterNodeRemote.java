@@ -53,6 +53,8 @@ public interface MasterNodeRemote extends Remote {
     void evosuite_collectStatistics(String clientRmiIdentifier, RuntimeVariable variable,
                                     Object value) throws RemoteException;
 
+    void evosuite_collectStatisticsBatch(String clientRmiIdentifier, StatisticsBatch batch) throws RemoteException;
+
     void evosuite_collectTestGenerationResult(String clientRmiIdentifier,
                                               List<TestGenerationResult> results) throws RemoteException;
 
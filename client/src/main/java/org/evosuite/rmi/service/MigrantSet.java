@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestCaseCodec;
+import org.evosuite.testcase.TestChromosome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable set of individuals exchanged between clients through the master.
+ *
+ * <p>Test chromosomes are sent in the compact {@link TestCaseCodec} format and
+ * only decoded when the set is first accessed on the receiving client, so the
+ * master forwards the encoded bytes without resolving any class of the SUT.
+ * Fitness values are not transferred; receivers re-evaluate immigrants anyway.
+ * Other chromosome types are sent with standard Java serialization.
+ *
+ * @param <T> the chromosome type
+ */
+public final class MigrantSet<T extends Chromosome<T>> extends AbstractSet<T> implements Serializable {
+
+    private static final long serialVersionUID = 5218407963172294315L;
+
+    private static final Logger logger = LoggerFactory.getLogger(MigrantSet.class);
+
+    private transient List<T> elements;
+
+    private transient byte[] encoded;
+
+    public MigrantSet(Collection<? extends T> elements) {
+        this.elements = new ArrayList<>(elements);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.unmodifiableList(getElements()).iterator();
+    }
+
+    @Override
+    public int size() {
+        return getElements().size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized List<T> getElements() {
+        if (elements == null) {
+            List<T> decoded = new ArrayList<>();
+            try {
+                for (TestCase test : TestCaseCodec.decode(encoded)) {
+                    TestChromosome chromosome = new TestChromosome();
+                    chromosome.setTestCase(test);
+                    decoded.add((T) chromosome);
+                }
+            } catch (IOException e) {
+                logger.warn("Cannot decode migrants: {}", e.getMessage());
+            }
+            elements = decoded;
+        }
+        return elements;
+    }
+
+    private boolean isEncodable() {
+        for (T element : elements) {
+            if (!(element instanceof TestChromosome)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (encoded == null && isEncodable()) {
+            List<TestCase> tests = new ArrayList<>(elements.size());
+            for (T element : elements) {
+                tests.add(((TestChromosome) element).getTestCase());
+            }
+            encoded = TestCaseCodec.encode(tests);
+        }
+        out.writeBoolean(encoded != null);
+        if (encoded != null) {
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        } else {
+            out.writeObject(elements);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (in.readBoolean()) {
+            encoded = new byte[in.readInt()];
+            in.readFully(encoded);
+        } else {
+            elements = (List<T>) in.readObject();
+        }
+    }
+}
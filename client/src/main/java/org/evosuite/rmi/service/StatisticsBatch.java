@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.TestSuiteSummary;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A sequence of statistics updates sent from a client to the master in a single
+ * RMI call. Output variables and test suite summaries are replayed in the order
+ * in which they were added, as timeline values depend on which variables were
+ * set before a summary arrived. Between two summaries, only the last value of
+ * each variable is kept.
+ */
+public class StatisticsBatch implements Serializable {
+
+    private static final long serialVersionUID = -3471932086123960402L;
+
+    private static final RuntimeVariable[] VARIABLES = RuntimeVariable.values();
+
+    /**
+     * Either a {@link RuntimeVariable} ordinal (as Integer), followed by its value
+     * in {@link #values}, or a {@link TestSuiteSummary}.
+     */
+    private transient List<Object> entries = new ArrayList<>();
+
+    private transient List<Object> values = new ArrayList<>();
+
+    /**
+     * Position in {@link #entries} of each variable since the last summary.
+     */
+    private transient Map<Integer, Integer> positions = new HashMap<>();
+
+    /**
+     * Adds or replaces the value of a variable.
+     *
+     * @param variable the variable
+     * @param value    its value
+     */
+    public void addVariable(RuntimeVariable variable, Object value) {
+        Integer position = positions.get(variable.ordinal());
+        if (position != null) {
+            values.set(position, value);
+        } else {
+            positions.put(variable.ordinal(), entries.size());
+            entries.add(variable.ordinal());
+            values.add(value);
+        }
+    }
+
+    /**
+     * Adds a summary of the current best individual.
+     *
+     * @param summary the summary
+     */
+    public void addSummary(TestSuiteSummary summary) {
+        entries.add(summary);
+        values.add(null);
+        positions.clear();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Replays the updates in order.
+     *
+     * @param variableConsumer receives each variable update
+     * @param summaryConsumer  receives each summary
+     */
+    public void forEach(BiConsumer<RuntimeVariable, Object> variableConsumer,
+                        Consumer<TestSuiteSummary> summaryConsumer) {
+        for (int i = 0; i < entries.size(); i++) {
+            Object entry = entries.get(i);
+            if (entry instanceof TestSuiteSummary) {
+                summaryConsumer.accept((TestSuiteSummary) entry);
+            } else {
+                variableConsumer.accept(VARIABLES[(Integer) entry], values.get(i));
+            }
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Object entry = entries.get(i);
+            if (entry instanceof TestSuiteSummary) {
+                out.writeShort(-1);
+                out.writeObject(entry);
+            } else {
+                out.writeShort((Integer) entry);
+                out.writeObject(values.get(i));
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        entries = new ArrayList<>();
+        values = new ArrayList<>();
+        positions = new HashMap<>();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            int ordinal = in.readShort();
+            if (ordinal < 0) {
+                addSummary((TestSuiteSummary) in.readObject());
+            } else {
+                addVariable(VARIABLES[ordinal], in.readObject());
+            }
+        }
+    }
+}
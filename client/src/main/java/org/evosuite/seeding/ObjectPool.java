@@ -22,6 +22,7 @@ package org.evosuite.seeding;
 import org.evosuite.Properties;
 import org.evosuite.testcarver.extraction.CarvingRunListener;
 import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestCaseCodec;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testsuite.TestSuiteChromosome;
 import org.evosuite.utils.Randomness;
@@ -169,9 +170,17 @@ public class ObjectPool implements Serializable {
      * @return the object pool
      */
     public static ObjectPool getPoolFromFile(String fileName) {
-        try (InputStream in = new FileInputStream(fileName);
-                ObjectInputStream objectIn = new ObjectInputStream(in)) {
-            ObjectPool pool = (ObjectPool) objectIn.readObject();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(fileName))) {
+            byte[] header = new byte[4];
+            in.mark(header.length);
+            int read = in.read(header);
+            in.reset();
+            ObjectPool pool;
+            if (read == header.length && TestCaseCodec.hasMagic(header)) {
+                pool = readPool(new TestCaseCodec.Decoder(in));
+            } else {
+                pool = (ObjectPool) new ObjectInputStream(in).readObject();
+            }
             // TODO: Do we also need to call that in the other factory methods?
             pool.filterUnaccessibleTests();
             return pool;
@@ -264,11 +273,40 @@ public class ObjectPool implements Serializable {
      * @param fileName the name of the file
      */
     public void writePool(String fileName) {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(fileName))) {
-            out.writeObject(this);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fileName))) {
+            TestCaseCodec.Encoder encoder = new TestCaseCodec.Encoder(out);
+            for (Map.Entry<GenericClass<?>, Set<TestCase>> entry : pool.entrySet()) {
+                encoder.writeClass(entry.getKey());
+                Set<TestCase> sequences = entry.getValue();
+                synchronized (sequences) {
+                    for (TestCase sequence : sequences) {
+                        encoder.writeTest(sequence);
+                    }
+                }
+            }
+            encoder.finish();
         } catch (IOException e) {
             logger.warn("Error while writing pool to file {}: {}", fileName, e.getMessage(), e);
         }
     }
 
+    /**
+     * Reads a pool written by {@link #writePool(String)}: each class is
+     * followed by the sequences that generate it.
+     */
+    private static ObjectPool readPool(TestCaseCodec.Decoder decoder) throws IOException {
+        ObjectPool pool = new ObjectPool();
+        GenericClass<?> clazz = null;
+        Object next;
+        while ((next = decoder.read()) != null) {
+            if (next instanceof GenericClass) {
+                clazz = (GenericClass<?>) next;
+            } else if (clazz != null) {
+                pool.pool.computeIfAbsent(clazz, k -> Collections.synchronizedSet(new HashSet<>()))
+                        .add((TestCase) next);
+            }
+        }
+        return pool;
+    }
+
 }
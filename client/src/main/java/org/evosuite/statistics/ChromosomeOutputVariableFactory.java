@@ -22,7 +22,8 @@ package org.evosuite.statistics;
 import org.evosuite.testsuite.TestSuiteChromosome;
 
 /**
- * Factory to create an output variable when given a test suite chromosome.
+ * Factory to create an output variable when given a test suite chromosome,
+ * or the {@link TestSuiteSummary} of one.
  *
  * @param <T> the type of the variable value
  * @author gordon
@@ -35,10 +36,14 @@ public abstract class ChromosomeOutputVariableFactory<T> {
         this.variable = variable;
     }
 
-    protected abstract T getData(TestSuiteChromosome individual);
+    protected abstract T getData(TestSuiteSummary individual);
 
     public OutputVariable<T> getVariable(TestSuiteChromosome chromosome) {
-        return new OutputVariable<>(variable.name(), getData(chromosome));
+        return getVariable(TestSuiteSummary.of(chromosome));
+    }
+
+    public OutputVariable<T> getVariable(TestSuiteSummary summary) {
+        return new OutputVariable<>(variable.name(), getData(summary));
     }
 
 }
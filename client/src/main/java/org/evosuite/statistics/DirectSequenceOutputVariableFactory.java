@@ -50,6 +50,11 @@ public class DirectSequenceOutputVariableFactory<T extends Number> extends Seque
         return this.value;
     }
 
+    @Override
+    protected T getValue(TestSuiteSummary summary) {
+        return this.value;
+    }
+
     /**
      * Sets value directly.
      *
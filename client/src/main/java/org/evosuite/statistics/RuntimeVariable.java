@@ -769,6 +769,10 @@ public enum RuntimeVariable {
      * Per-generation covered goals count in MOSA/DynaMOSA.
      */
     Covered_Goals_Timeline,
+    /**
+     * Number of individuals the islands of a MOSA client sent to each other (num_islands > 1).
+     */
+    Island_Migrants,
 
     // ---- Phase 8b: Operator Disruption Analysis ----
 
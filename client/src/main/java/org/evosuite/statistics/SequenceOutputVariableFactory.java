@@ -37,9 +37,20 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
 
     protected RuntimeVariable variable;
 
+    /**
+     * Samples received since the last call to {@link #compact()}.
+     */
     protected List<Long> timeStamps = new ArrayList<>();
     protected List<T> values = new ArrayList<>();
 
+    /**
+     * Resolved value of each elapsed timeline interval; entry i is the value at T(i+1).
+     */
+    private final List<T> timeline = new ArrayList<>();
+
+    private long lastTimeStamp = 0L;
+    private T lastValue = null;
+
     private long startTime = 0L;
 
     public SequenceOutputVariableFactory(RuntimeVariable variable) {
@@ -50,7 +61,25 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
         this.startTime = time;
     }
 
-    protected abstract T getValue(TestSuiteChromosome individual);
+    /**
+     * Extracts the current value from a test suite. By default, this is computed
+     * from the summary of the suite.
+     *
+     * @param individual the test suite
+     * @return the value
+     */
+    protected T getValue(TestSuiteChromosome individual) {
+        return getValue(TestSuiteSummary.of(individual));
+    }
+
+    /**
+     * Extracts the current value from a summary of a test suite, as sent by
+     * clients with their progress updates.
+     *
+     * @param summary the test suite summary
+     * @return the value
+     */
+    protected abstract T getValue(TestSuiteSummary summary);
 
     /**
      * Interpolate between two values.
@@ -70,6 +99,72 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
     public void update(TestSuiteChromosome individual) {
         timeStamps.add(System.currentTimeMillis() - startTime);
         values.add(getValue(individual));
+        compact();
+    }
+
+    /**
+     * Adds a sample taken when the summary was created.
+     *
+     * @param summary the summary of the current best individual
+     */
+    public void update(TestSuiteSummary summary) {
+        timeStamps.add(summary.getTimeStamp() - startTime);
+        values.add(getValue(summary));
+        compact();
+    }
+
+    /**
+     * Folds the pending samples into the timeline. Every interval point that lies
+     * before the most recent sample is resolved now, so only the last sample and
+     * one value per elapsed interval are kept instead of the whole history.
+     */
+    protected void compact() {
+        long interval = Properties.TIMELINE_INTERVAL;
+        for (int i = 0; i < timeStamps.size(); i++) {
+            long stamp = timeStamps.get(i);
+            T value = values.get(i);
+            if (interval > 0) {
+                long preferredTime = interval * (timeline.size() + 1);
+                while (preferredTime <= stamp) {
+                    timeline.add(resolve(preferredTime, stamp, value));
+                    preferredTime = interval * (timeline.size() + 1);
+                }
+            }
+            lastTimeStamp = stamp;
+            lastValue = value;
+        }
+        timeStamps.clear();
+        values.clear();
+    }
+
+    /**
+     * Value at the given interval point, given that <code>stamp</code> is the first
+     * sample observed at or after it.
+     */
+    private T resolve(long preferredTime, long stamp, T value) {
+        if (lastValue == null) {
+            /*
+             * it is the first element, so not much to do, we just use it as value
+             */
+            return value;
+        }
+
+        /*
+         * If we do not want to interpolate, return last observed value
+         */
+        if (!Properties.TIMELINE_INTERPOLATION) {
+            return lastValue;
+        }
+
+        /*
+         * Now we interpolate the coverage, as usually we don't have the value for exact time we want
+         */
+        long timeDelta = stamp - lastTimeStamp;
+        if (timeDelta > 0) {
+            double timeRatio = (double) (preferredTime - lastTimeStamp) / timeDelta;
+            return interpolate(lastValue, value, timeRatio);
+        }
+        return value;
     }
 
     /**
@@ -94,6 +189,7 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
      * @return a list of output variables
      */
     public List<OutputVariable<T>> getOutputVariables() {
+        compact();
         List<OutputVariable<T>> variables = new ArrayList<>();
 
         for (String variableName : getVariableNames()) {
@@ -105,8 +201,6 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
     }
 
     private T getTimeLineValue(String name) {
-        long interval = Properties.TIMELINE_INTERVAL;
-
         // Better parsing
         int index;
         try {
@@ -124,58 +218,23 @@ public abstract class SequenceOutputVariableFactory<T extends Number> {
             }
         }
 
-        long preferredTime = interval * index;
-
         /*
          * No data. Is it even possible? Maybe if population is too large,
          * and budget was not enough to get even first generation
          */
-        if (timeStamps.isEmpty()) {
+        if (lastValue == null) {
             return getZeroValue();
         }
 
-        for (int i = 0; i < timeStamps.size(); i++) {
-            /*
-             * find the first stamp that is after the time we would like to
-             * get coverage from
-             */
-            long stamp = timeStamps.get(i);
-            if (stamp < preferredTime) {
-                continue;
-            }
-
-            if (i == 0) {
-                /*
-                 * it is the first element, so not much to do, we just use it as value
-                 */
-                return values.get(i);
-            }
-
-
-            /*
-             * If we do not want to interpolate, return last observed value
-             */
-            if (!Properties.TIMELINE_INTERPOLATION) {
-                return values.get(i - 1);
-            }
-
-            /*
-             * Now we interpolate the coverage, as usually we don't have the value for exact time we want
-             */
-            long timeDelta = timeStamps.get(i) - timeStamps.get(i - 1);
-
-            if (timeDelta > 0) {
-                double timeRatio = (double) (preferredTime - timeStamps.get(i - 1)) / timeDelta;
-                return interpolate(values.get(i - 1), values.get(i), timeRatio);
-            }
+        if (index >= 1 && index <= timeline.size()) {
+            return timeline.get(index - 1);
         }
 
         /*
          * No time stamp was higher. This might happen if coverage is 100% and we stop search.
          * So just return last value seen
          */
-
-        return values.get(values.size() - 1);
+        return lastValue;
     }
 
 
@@ -162,7 +162,7 @@ public class StatisticsListener<T extends Chromosome<T>> implements SearchListen
                     T individual;
                     try {
                         individual = individuals.take();
-                        StatisticsSender.sendIndividualToMaster(individual);
+                        StatisticsSender.sendProgressToMaster(individual);
                     } catch (InterruptedException e) {
                         done = true;
                     }
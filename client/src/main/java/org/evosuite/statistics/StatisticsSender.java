@@ -62,6 +62,25 @@ public class StatisticsSender {
         ClientServices.<T>getInstance().getClientNode().updateStatistics(individual);
     }
 
+    /**
+     * Send a progress update for the given individual to the Master. Test suites are
+     * only sent as a {@link TestSuiteSummary}, batched together with other statistics.
+     *
+     * @param individual the current best individual
+     */
+    public static <T extends Chromosome<T>> void sendProgressToMaster(T individual) throws IllegalArgumentException {
+        if (!(individual instanceof TestSuiteChromosome)) {
+            sendIndividualToMaster(individual);
+            return;
+        }
+        if (!Properties.NEW_STATISTICS) {
+            return;
+        }
+
+        ClientServices.<T>getInstance().getClientNode()
+                .updateStatistics(TestSuiteSummary.of((TestSuiteChromosome) individual));
+    }
+
 
     /**
      * First execute (if needed) the test cases to be sure to have latest correct data,
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics;
+
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.testsuite.TestSuiteChromosome;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The numbers the master needs from a test suite to compute its output variables
+ * and timelines. Progress updates send this summary rather than the chromosome,
+ * which avoids serialising whole test cases on each update.
+ *
+ * <p>The accessors mirror those of {@link TestSuiteChromosome}, so output
+ * variable factories can be written against either.
+ */
+public class TestSuiteSummary implements Serializable {
+
+    private static final long serialVersionUID = 2436873154178834915L;
+
+    private final long timeStamp;
+
+    private final int size;
+
+    private final int length;
+
+    private final double fitness;
+
+    private final double coverage;
+
+    private final int numOfNotCoveredGoals;
+
+    private final LinkedHashMap<Class<?>, Double> fitnessValues = new LinkedHashMap<>();
+
+    private final LinkedHashMap<Class<?>, Double> coverageValues = new LinkedHashMap<>();
+
+    private TestSuiteSummary(TestSuiteChromosome suite) {
+        this.timeStamp = System.currentTimeMillis();
+        this.size = suite.size();
+        this.length = suite.totalLengthOfTestCases();
+        this.fitness = suite.getFitness();
+        this.coverage = suite.getCoverage();
+        this.numOfNotCoveredGoals = suite.getNumOfNotCoveredGoals();
+        for (Map.Entry<FitnessFunction<TestSuiteChromosome>, Double> e : suite.getFitnessValues().entrySet()) {
+            fitnessValues.putIfAbsent(e.getKey().getClass(), e.getValue());
+        }
+        for (Map.Entry<FitnessFunction<TestSuiteChromosome>, Double> e : suite.getCoverageValues().entrySet()) {
+            coverageValues.putIfAbsent(e.getKey().getClass(), e.getValue());
+        }
+    }
+
+    /**
+     * Summarises the given test suite as it is now.
+     *
+     * @param suite the test suite
+     * @return the summary
+     */
+    public static TestSuiteSummary of(TestSuiteChromosome suite) {
+        return new TestSuiteSummary(suite);
+    }
+
+    /**
+     * Time (in the client process) at which the summary was taken.
+     *
+     * @return time in milliseconds
+     */
+    public long getTimeStamp() {
+        return timeStamp;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int totalLengthOfTestCases() {
+        return length;
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public double getCoverage() {
+        return coverage;
+    }
+
+    public int getNumOfNotCoveredGoals() {
+        return numOfNotCoveredGoals;
+    }
+
+    /**
+     * See {@link org.evosuite.ga.Chromosome#getFitnessInstanceOf(Class)}.
+     *
+     * @param clazz the class of fitness function
+     * @return the fitness, or 0.0 if no such fitness function was used
+     */
+    public double getFitnessInstanceOf(Class<?> clazz) {
+        return getInstanceOf(fitnessValues, clazz);
+    }
+
+    /**
+     * See {@link org.evosuite.ga.Chromosome#getCoverageInstanceOf(Class)}.
+     *
+     * @param clazz the class of fitness function
+     * @return the coverage, or 0.0 if no such fitness function was used
+     */
+    public double getCoverageInstanceOf(Class<?> clazz) {
+        return getInstanceOf(coverageValues, clazz);
+    }
+
+    private static double getInstanceOf(Map<Class<?>, Double> values, Class<?> clazz) {
+        for (Map.Entry<Class<?>, Double> e : values.entrySet()) {
+            if (clazz.isAssignableFrom(e.getKey())) {
+                return e.getValue();
+            }
+        }
+        return 0.0;
+    }
+}
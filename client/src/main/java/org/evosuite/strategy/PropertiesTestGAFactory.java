@@ -172,6 +172,10 @@ public class PropertiesTestGAFactory
             case CELLULAR_GA:
                 logger.info("Chosen search algorithm: CellularGA");
             {
+                if (Properties.CGA_THREADS > 1) {
+                    throw new RuntimeException("cga_threads above 1 is not supported for test generation, "
+                            + "as test execution and mutation are not thread-safe");
+                }
                 CellularGA<TestChromosome> ga = new CellularGA<>(Properties.MODEL, factory);
                 if (Properties.REPLACEMENT_FUNCTION == TheReplacementFunction.FITNESSREPLACEMENT) {
                     // user has explicitly asked for this replacement function
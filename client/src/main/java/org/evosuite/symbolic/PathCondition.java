@@ -21,12 +21,16 @@ package org.evosuite.symbolic;
 
 import org.evosuite.symbolic.expr.Constraint;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents a sequence of branch conditions.
  *
+ * <p>Branch conditions are kept in an array, and the path conditions obtained by negating one of
+ * them (see {@link #negate(int)}) are views that share it.
+ *
  * @author galeotti
  */
 public class PathCondition {
@@ -39,7 +43,27 @@ public class PathCondition {
      * @param branchConditions the list of branch conditions
      */
     public PathCondition(List<BranchCondition> branchConditions) {
-        this.pathCondition = new LinkedList<>(branchConditions);
+        this.pathCondition = new ArrayList<>(branchConditions);
+    }
+
+    private PathCondition(NegatedPrefix negatedPrefix) {
+        this.pathCondition = negatedPrefix;
+    }
+
+    /**
+     * Returns the path condition made of the first <code>index</code> branch conditions of this one,
+     * followed by the negated version of the branch condition at position <code>index</code>.
+     * The returned path condition shares the branch conditions of this one and cannot be modified.
+     *
+     * @param index the position of the branch condition to negate
+     * @return the new path condition
+     */
+    public PathCondition negate(int index) {
+        if (index < 0 || index >= pathCondition.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + pathCondition.size());
+        }
+        return new PathCondition(new NegatedPrefix(pathCondition, index,
+                pathCondition.get(index).getNegatedVersion()));
     }
 
     /**
@@ -48,7 +72,7 @@ public class PathCondition {
      * @return a list of constraints
      */
     public List<Constraint<?>> getConstraints() {
-        List<Constraint<?>> constraints = new LinkedList<>();
+        List<Constraint<?>> constraints = new ArrayList<>(pathCondition.size());
         for (BranchCondition b : this.pathCondition) {
             constraints.addAll(b.getSupportingConstraints());
             constraints.add(b.getConstraint());
@@ -100,4 +124,45 @@ public class PathCondition {
     public String toString() {
         return pathCondition.toString();
     }
+
+    /**
+     * Read-only view of a prefix of a list of branch conditions whose last element is replaced.
+     */
+    private static final class NegatedPrefix extends AbstractList<BranchCondition> {
+
+        private final List<BranchCondition> branchConditions;
+        private final int index;
+        private final BranchCondition negatedBranchCondition;
+
+        NegatedPrefix(List<BranchCondition> branchConditions, int index, BranchCondition negatedBranchCondition) {
+            // views of views would get deeper with each generation, so they share the underlying list
+            if (branchConditions instanceof NegatedPrefix) {
+                NegatedPrefix prefix = (NegatedPrefix) branchConditions;
+                if (index < prefix.index) {
+                    branchConditions = prefix.branchConditions;
+                } else {
+                    branchConditions = new ArrayList<>(branchConditions);
+                }
+            }
+            this.branchConditions = branchConditions;
+            this.index = index;
+            this.negatedBranchCondition = negatedBranchCondition;
+        }
+
+        @Override
+        public BranchCondition get(int i) {
+            if (i == index) {
+                return negatedBranchCondition;
+            }
+            if (i < 0 || i > index) {
+                throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+            }
+            return branchConditions.get(i);
+        }
+
+        @Override
+        public int size() {
+            return index + 1;
+        }
+    }
 }
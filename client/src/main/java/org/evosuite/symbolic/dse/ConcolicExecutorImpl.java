@@ -102,6 +102,7 @@ public class ConcolicExecutorImpl implements ConcolicExecutor {
          */
         SymbolicEnvironment symbolicEnvironment = new SymbolicEnvironment(instrumentingClassLoader);
         PathConditionCollector pathConditionCollector = new PathConditionCollector();
+        ExpressionFactory.clearInternedExpressions();
 
         /*
          * Observers for TestCaseExecutor
@@ -143,6 +144,10 @@ public class ConcolicExecutorImpl implements ConcolicExecutor {
 
         List<BranchCondition> branches = pathConditionCollector.getPathCondition();
         logger.info("Concolic execution ended with " + branches.size() + " branches collected");
+        if (pathConditionCollector.getNumberOfDroppedBranchConditions() > 0) {
+            logger.info("{} branch conditions were not recorded",
+                    pathConditionCollector.getNumberOfDroppedBranchConditions());
+        }
         if (!result.noThrownExceptions()) {
             int idx = result.getFirstPositionOfThrownException();
             logger.info("Exception thrown: " + result.getExceptionThrownAtPosition(idx));
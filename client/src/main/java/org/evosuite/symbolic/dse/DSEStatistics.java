@@ -133,6 +133,7 @@ public class DSEStatistics {
     private int pathConditionCount = 0;
     private int pathsExploredCounter = 0;
     private int pathDivergencesCounter = 0;
+    private int reusedConcolicExecutionsCounter = 0;
     private int maxPathConditionLength;
     private int minPathConditionLength;
     private double avgPathConditionLength;
@@ -283,6 +284,7 @@ public class DSEStatistics {
         logger.info("* Paths exploration:");
         logger.info(String.format("  - paths explored: %s", pathsExploredCounter));
         logger.info(String.format("  - diverged paths: %s", pathDivergencesCounter));
+        logger.info(String.format("  - reused concolic executions: %s", reusedConcolicExecutionsCounter));
     }
 
     private void logAdaptationStatistics() {
@@ -576,7 +578,7 @@ public class DSEStatistics {
      *
      * @param solvingTimeMillis the solving time in milliseconds.
      */
-    public void reportNewSolvingTime(long solvingTimeMillis) {
+    public synchronized void reportNewSolvingTime(long solvingTimeMillis) {
         totalSolvingTimeMillis += solvingTimeMillis;
     }
 
@@ -609,6 +611,13 @@ public class DSEStatistics {
         totalConcolicExecutionTimeMillis += concolicExecutionTimeMillis;
     }
 
+    /**
+     * Reports a concolic execution whose path condition was reused from an identical test.
+     */
+    public synchronized void reportReusedConcolicExecution() {
+        reusedConcolicExecutionsCounter++;
+    }
+
     /**
      * Reports a constraint that was too long to be solved.
      *
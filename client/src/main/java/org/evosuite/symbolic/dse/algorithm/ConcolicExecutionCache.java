@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.dse.algorithm;
+
+import org.evosuite.symbolic.PathCondition;
+import org.evosuite.testcase.StructuralTestKey;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.Statement;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Path conditions of the most recent concolic executions, by test. Solutions of different
+ * queries often lead to the same test, which then does not need to be executed again.
+ *
+ * <p>Tests are compared statement by statement with {@link Statement#same(Statement)}, so
+ * that no code has to be generated to look a test up. The least recently used entry is
+ * evicted when the cache is full.
+ */
+class ConcolicExecutionCache {
+
+    private final Map<StructuralTestKey, PathCondition> pathConditions;
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity the maximum number of path conditions that are kept
+     */
+    ConcolicExecutionCache(int capacity) {
+        this.pathConditions = new LinkedHashMap<StructuralTestKey, PathCondition>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StructuralTestKey, PathCondition> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the path condition of a test with the same statements, if it is kept.
+     *
+     * @param test the test to execute
+     * @return the path condition, or {@code null} if none is kept
+     */
+    PathCondition get(TestCase test) {
+        return pathConditions.get(new StructuralTestKey(test));
+    }
+
+    /**
+     * Keeps the path condition of an executed test. The test is copied, so it can still be
+     * changed afterwards.
+     *
+     * @param test          the executed test
+     * @param pathCondition its path condition
+     */
+    void put(TestCase test, PathCondition pathCondition) {
+        pathConditions.put(new StructuralTestKey(test.clone()), pathCondition);
+    }
+
+    int size() {
+        return pathConditions.size();
+    }
+}
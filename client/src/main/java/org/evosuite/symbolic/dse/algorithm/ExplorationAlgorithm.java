@@ -44,6 +44,10 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Structure of a DSE Exploration algorithm.
@@ -76,12 +80,16 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
     public static final String SOLVER_OUTCOME_IS_SAT_DEBUG_MESSAGE = "query is SAT (solution found)";
     public static final String SOLVER_OUTCOME_IS_UNSAT_DEBUG_MESSAGE = "query is UNSAT (no solution found)";
     public static final String SOLVING_CURRENT_SMT_QUERY_DEBUG_MESSAGE = "* Solving current SMT query";
+    public static final String SOLVING_CHILD_QUERIES_IN_PARALLEL_DEBUG_MESSAGE =
+            "Solving {} child queries in parallel";
 
     // Concolic Engine
     public static final String PATH_CONDITION_COLLECTED_SIZE = "Path condition collected with: {} branches";
     public static final String FINISHED_CONCOLIC_EXECUTION_DEBUG_MESSAGE = "Finished concolic execution.";
     public static final String EXECUTING_CONCOLICALLY_THE_CURRENT_TEST_CASE_DEBUG_MESSAGE =
             "Starting concolic execution of test case: {}";
+    public static final String REUSING_CONCOLIC_EXECUTION_DEBUG_MESSAGE =
+            "Reusing the path condition of an identical test case";
 
     // TestCase generation
     public static final String NEW_TEST_CASE_SCORE_DEBUG_MESSAGE = "New test case score: {}";
@@ -118,6 +126,13 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
      **/
     protected final transient Map<Set<Constraint<?>>, SolverResult> queryCache = new HashMap<>();
 
+    /**
+     * Path conditions of the most recent concolic executions. Solutions of different queries
+     * often lead to the same test, which then does not need to be executed again.
+     **/
+    private final transient ConcolicExecutionCache concolicExecutionCache =
+            new ConcolicExecutionCache(Properties.DSE_CONCOLIC_EXECUTION_CACHE_SIZE);
+
     /**
      * Exploration strategies.
      **/
@@ -133,6 +148,11 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
     private final transient ConcolicExecutor engine;
     private final transient Solver solver;
 
+    /**
+     * Solves the child queries of an expansion in parallel, if dse_solver_threads is greater than one.
+     **/
+    private transient ExecutorService solvingExecutor;
+
     /**
      * Default constructor.
      */
@@ -224,6 +244,33 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
 
         notifyGenerationStarted();
 
+        if (Properties.DSE_SOLVER_THREADS > 1) {
+            solvingExecutor = Executors.newFixedThreadPool(Properties.DSE_SOLVER_THREADS, r -> {
+                Thread t = new Thread(r, "dse-query-solver");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        try {
+            exploreTargetMethods();
+        } finally {
+            if (solvingExecutor != null) {
+                solvingExecutor.shutdownNow();
+                solvingExecutor = null;
+            }
+            if (solver instanceof PortfolioSolver) {
+                ((PortfolioSolver) solver).shutdown();
+            }
+        }
+
+        // Run this before finish
+        notifyGenerationFinished();
+        statisticsLogger.reportTotalTestExecutionTime(TestCaseExecutor.getTimeExecuted());
+        statisticsLogger.logStatistics();
+        return testSuite;
+    }
+
+    private void exploreTargetMethods() {
         final Class<?> targetClass = Properties.getTargetClassAndDontInitialise();
         List<Method> targetStaticMethods = ClassUtil.getTargetClassStaticMethods(targetClass);
         Collections.sort(targetStaticMethods, new MethodComparator());
@@ -246,12 +293,6 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
             LoggingUtils.getEvoLogger().info("* " + TESTS_WERE_GENERATED_FOR_ENTRY_METHOD_DEBUG_MESSAGE,
                     numOfGeneratedTestCases, entryMethod.getName());
         }
-
-        // Run this before finish
-        notifyGenerationFinished();
-        statisticsLogger.reportTotalTestExecutionTime(TestCaseExecutor.getTimeExecuted());
-        statisticsLogger.logStatistics();
-        return testSuite;
     }
 
     /**
@@ -335,6 +376,9 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
     private void processChildren(Queue<DSETestCase> testCasesWorkList, HashSet<Set<Constraint<?>>> seenChildren,
                                  DSETestCase currentTestCase, List<GenerationalSearchPathCondition> children,
                                  boolean hasPathConditionDiverged) {
+        // Queries that miss the cache are solved in parallel first, then processed in order
+        Map<Set<Constraint<?>>, SolverResult> parallelResults = solveChildrenInParallel(seenChildren, children);
+
         // We look at all the children
         for (GenerationalSearchPathCondition child : children) {
             List<Constraint<?>> childQuery = SolverUtils.buildQuery(child.getPathCondition());
@@ -371,7 +415,9 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
 
                     // Solves the SMT query
                     logger.debug(SOLVER_QUERY_STARTED_MESSAGE, childQuery.size());
-                    SolverResult smtQueryResult = solveQuery(childQuery);
+                    SolverResult smtQueryResult = parallelResults.containsKey(normalizedChildQuery)
+                            ? parallelResults.get(normalizedChildQuery)
+                            : solveQuery(childQuery);
                     smtSolution = getQuerySolution(
                             normalizedChildQuery,
                             smtQueryResult
@@ -396,6 +442,66 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
         }
     }
 
+    /**
+     * Solves the queries of the children that are not known yet with {@link #solvingExecutor}. Each query
+     * is solved on its own copy (see {@link SolverUtils#copyQuery(java.util.Collection)}), as solvers
+     * read and modify the concrete values of the variables shared by the children, and by its own solver.
+     *
+     * @param seenChildren the already explored path conditions
+     * @param children the children of the current expansion
+     * @return the results by normalized query, empty if queries are not solved in parallel
+     */
+    private Map<Set<Constraint<?>>, SolverResult> solveChildrenInParallel(
+            HashSet<Set<Constraint<?>>> seenChildren, List<GenerationalSearchPathCondition> children) {
+        Map<Set<Constraint<?>>, SolverResult> results = new HashMap<>();
+        if (solvingExecutor == null || children.size() < 2) {
+            return results;
+        }
+
+        Map<Set<Constraint<?>>, Future<SolverResult>> futures = new LinkedHashMap<>();
+        for (GenerationalSearchPathCondition child : children) {
+            List<Constraint<?>> childQuery = SolverUtils.buildQuery(child.getPathCondition());
+            Set<Constraint<?>> normalizedChildQuery = normalize(childQuery);
+            if (queryCache.containsKey(normalizedChildQuery) || seenChildren.contains(normalizedChildQuery)
+                    || futures.containsKey(normalizedChildQuery)) {
+                continue;
+            }
+
+            childQuery.addAll(SolverUtils.createBoundsForQueryVariables(childQuery));
+            List<Constraint<?>> copy = SolverUtils.copyQuery(childQuery);
+            if (copy == null) {
+                // solved sequentially on the original query
+                continue;
+            }
+            futures.put(normalizedChildQuery, solvingExecutor.submit(() -> {
+                Solver childSolver = SolverFactory.getInstance().buildNewSolver();
+                long startSolvingTime = System.currentTimeMillis();
+                try {
+                    return doSolveQuery(childSolver, copy);
+                } finally {
+                    DSEStatistics.getInstance().reportNewSolvingTime(System.currentTimeMillis() - startSolvingTime);
+                    if (childSolver instanceof PortfolioSolver) {
+                        ((PortfolioSolver) childSolver).shutdown();
+                    }
+                }
+            }));
+        }
+        logger.debug(SOLVING_CHILD_QUERIES_IN_PARALLEL_DEBUG_MESSAGE, futures.size());
+
+        for (Map.Entry<Set<Constraint<?>>, Future<SolverResult>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                logger.debug(SOLVER_ERROR_DEBUG_MESSAGE, e.getCause().getMessage());
+                results.put(entry.getKey(), null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return results;
+    }
+
     /**
      * Child PC is not processed if it was already explored, this is:
      * - Their constraints were already solved by a previous SMT query
@@ -527,7 +633,7 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
 
         /* Track solving time and solve the query */
         startSolvingTime = System.currentTimeMillis();
-        smtQueryResult = doSolveQuery(smtQuery);
+        smtQueryResult = doSolveQuery(solver, smtQuery);
         estimatedSolvingTime = System.currentTimeMillis() - startSolvingTime;
         DSEStatistics.getInstance().reportNewSolvingTime(estimatedSolvingTime);
 
@@ -551,11 +657,24 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
      * @return the generational search path condition
      */
     private GenerationalSearchPathCondition executeTestCaseConcolically(DSETestCase currentTestCase) {
-        logger.debug(EXECUTING_CONCOLICALLY_THE_CURRENT_TEST_CASE_DEBUG_MESSAGE,
-                currentTestCase.getTestCase().toCode());
+        if (logger.isDebugEnabled()) {
+            logger.debug(EXECUTING_CONCOLICALLY_THE_CURRENT_TEST_CASE_DEBUG_MESSAGE,
+                    currentTestCase.getTestCase().toCode());
+        }
+
+        boolean cached = Properties.DSE_CONCOLIC_EXECUTION_CACHE_SIZE > 0;
+        PathCondition result = cached ? concolicExecutionCache.get(currentTestCase.getTestCase()) : null;
 
-        TestCase clonedCurrentTestCase = currentTestCase.getTestCase().clone();
-        PathCondition result = engine.execute((DefaultTestCase) clonedCurrentTestCase);
+        if (result != null) {
+            logger.debug(REUSING_CONCOLIC_EXECUTION_DEBUG_MESSAGE);
+            statisticsLogger.reportReusedConcolicExecution();
+        } else {
+            TestCase clonedCurrentTestCase = currentTestCase.getTestCase().clone();
+            result = engine.execute((DefaultTestCase) clonedCurrentTestCase);
+            if (cached) {
+                concolicExecutionCache.put(currentTestCase.getTestCase(), result);
+            }
+        }
 
         // In case of a divergence, we need to keep the lowest value
         int currentGeneratedFromIndex = Math.min(
@@ -568,7 +687,7 @@ public abstract class ExplorationAlgorithm extends ExplorationAlgorithmBase {
         return new GenerationalSearchPathCondition(result, currentGeneratedFromIndex);
     }
 
-    private SolverResult doSolveQuery(List<Constraint<?>> smtQuery) {
+    private SolverResult doSolveQuery(Solver solver, List<Constraint<?>> smtQuery) {
         SolverResult smtQueryResult = null;
 
         try {
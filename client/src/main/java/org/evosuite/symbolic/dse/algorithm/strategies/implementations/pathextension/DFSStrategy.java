@@ -19,7 +19,6 @@
  */
 package org.evosuite.symbolic.dse.algorithm.strategies.implementations.pathextension;
 
-import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.PathCondition;
 import org.evosuite.symbolic.dse.algorithm.GenerationalSearchPathCondition;
 import org.evosuite.symbolic.dse.algorithm.strategies.PathExtensionStrategy;
@@ -48,34 +47,20 @@ public class DFSStrategy implements PathExtensionStrategy {
     public List<GenerationalSearchPathCondition> generateChildren(
             GenerationalSearchPathCondition currentPathConditionChild) {
         List<GenerationalSearchPathCondition> result = new ArrayList();
-        List<BranchCondition> accumulatedBranchConditions = new ArrayList();
-        List<BranchCondition> currentPathConditionBranchConditions =
-                currentPathConditionChild.getPathCondition().getBranchConditions();
+        PathCondition currentPathCondition = currentPathConditionChild.getPathCondition();
 
         // Create the PCs from the longest to the shortest
-        for (int i = 0; i < currentPathConditionBranchConditions.size(); i++) {
+        for (int i = 0; i < currentPathCondition.size(); i++) {
             logger.debug(DEBUG_MSG_NEGATING_INDEX_OF_PATH_CONDITION, i);
 
-            BranchCondition currentBranchCondition = currentPathConditionBranchConditions.get(i);
-
-            // Add negated version of current branch
-            accumulatedBranchConditions.add(currentBranchCondition.getNegatedVersion());
-
+            // Prefix followed by the negated version of current branch, sharing the current path condition
             GenerationalSearchPathCondition newChild = new GenerationalSearchPathCondition(
-                    new PathCondition(
-                            new ArrayList(accumulatedBranchConditions)
-                    ),
+                    currentPathCondition.negate(i),
                     0 // not relevant for DFS
             );
 
             // Append the new PC
             result.add(newChild);
-
-            // Replace the negated branch condition with the original one for continuing generating
-            accumulatedBranchConditions.set(
-                    accumulatedBranchConditions.size() - 1,
-                    currentBranchCondition
-            );
         }
 
         // Revert it from largest to smallest
@@ -19,7 +19,6 @@
  */
 package org.evosuite.symbolic.dse.algorithm.strategies.implementations.pathextension;
 
-import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.PathCondition;
 import org.evosuite.symbolic.dse.algorithm.GenerationalSearchPathCondition;
 import org.evosuite.symbolic.dse.algorithm.strategies.PathExtensionStrategy;
@@ -45,42 +44,23 @@ public class ExpandExecutionStrategy implements PathExtensionStrategy {
     public List<GenerationalSearchPathCondition> generateChildren(
             GenerationalSearchPathCondition currentPathConditionChild) {
         List<GenerationalSearchPathCondition> generatedChildren = new ArrayList<>();
-        List<BranchCondition> accumulatedBranchConditions = new ArrayList<>();
-        List<BranchCondition> currentPathConditionBranchConditions =
-                currentPathConditionChild.getPathCondition().getBranchConditions();
+        PathCondition currentPathCondition = currentPathConditionChild.getPathCondition();
 
         int currentPathConditionIndexGeneratedFrom = currentPathConditionChild.getGeneratedFromIndex();
         logger.debug(DEBUG_MSG_GENERATING_CHILDREN_FOR_GENERATION, currentPathConditionIndexGeneratedFrom);
 
-        // adds the untouched prefix
-        for (int indexBound = 0; indexBound < currentPathConditionIndexGeneratedFrom; ++indexBound) {
-            accumulatedBranchConditions.add(currentPathConditionBranchConditions.get(indexBound));
-        }
-
         // Important!! We start from the index the test was generated from to avoid re-create already checked paths
         for (int indexBound = currentPathConditionIndexGeneratedFrom;
-                indexBound < currentPathConditionBranchConditions.size(); indexBound++) {
+                indexBound < currentPathCondition.size(); indexBound++) {
             logger.debug(DEBUG_MSG_NEGATING_INDEX_OF_PATH_CONDITION, indexBound);
-            BranchCondition currentBranchCondition = currentPathConditionBranchConditions.get(indexBound);
-
-            // Adds the negated BranchCondition version to the current created pathCondition
-            accumulatedBranchConditions.add(currentBranchCondition.getNegatedVersion());
 
+            // The untouched prefix followed by the negated BranchCondition, sharing the current path condition
             GenerationalSearchPathCondition newChild = new GenerationalSearchPathCondition(
-                    new PathCondition(
-                            new ArrayList(accumulatedBranchConditions)
-                    ),
+                    currentPathCondition.negate(indexBound),
                     indexBound + 1
             );
 
-            // adds the negated last condition
             generatedChildren.add(newChild);
-
-            // replaces the negated branch condition with the original one for continuing generating
-            accumulatedBranchConditions.set(
-                    accumulatedBranchConditions.size() - 1,
-                    currentBranchCondition
-            );
         }
 
         return generatedChildren;
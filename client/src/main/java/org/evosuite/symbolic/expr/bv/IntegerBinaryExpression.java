@@ -40,6 +40,8 @@ public final class IntegerBinaryExpression extends AbstractExpression<Long>
     private final Operator op;
     private final Expression<Long> right;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for IntegerBinaryExpression.
@@ -108,6 +110,9 @@ public final class IntegerBinaryExpression extends AbstractExpression<Long>
         }
         if (obj instanceof IntegerBinaryExpression) {
             IntegerBinaryExpression other = (IntegerBinaryExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right);
         }
@@ -117,8 +122,11 @@ public final class IntegerBinaryExpression extends AbstractExpression<Long>
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.op.hashCode()
-                + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.op.hashCode()
+                    + this.right.hashCode();
+        }
+        return hash;
     }
 
     @Override
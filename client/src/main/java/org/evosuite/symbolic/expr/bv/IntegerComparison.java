@@ -59,6 +59,8 @@ public final class IntegerComparison extends AbstractExpression<Long> implements
     }
 
     private final Expression<Long> left;
+
+    private transient int hash = 0;
     private final Expression<Long> right;
 
     protected static final Logger log = LoggerFactory.getLogger(IntegerComparison.class);
@@ -73,6 +75,9 @@ public final class IntegerComparison extends AbstractExpression<Long> implements
         }
         if (obj instanceof IntegerComparison) {
             IntegerComparison other = (IntegerComparison) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.left.equals(other.left) && this.right.equals(other.right);
         }
 
@@ -81,7 +86,10 @@ public final class IntegerComparison extends AbstractExpression<Long> implements
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.right.hashCode();
+        }
+        return hash;
     }
 
     /**
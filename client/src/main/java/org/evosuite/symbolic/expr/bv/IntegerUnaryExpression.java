@@ -37,6 +37,8 @@ public final class IntegerUnaryExpression extends AbstractExpression<Long> imple
     protected static final Logger log = LoggerFactory.getLogger(IntegerUnaryExpression.class);
 
     private final Operator op;
+
+    private transient int hash = 0;
     private final Expression<Long> expr;
 
     /**
@@ -90,6 +92,9 @@ public final class IntegerUnaryExpression extends AbstractExpression<Long> imple
     public boolean equals(Object obj) {
         if (obj instanceof IntegerUnaryExpression) {
             IntegerUnaryExpression v = (IntegerUnaryExpression) obj;
+            if (this.hashCode() != v.hashCode()) {
+                return false;
+            }
             return this.op.equals(v.op) && this.expr.equals(v.expr);
         }
         return false;
@@ -97,7 +102,10 @@ public final class IntegerUnaryExpression extends AbstractExpression<Long> imple
 
     @Override
     public int hashCode() {
-        return this.expr.hashCode() + this.op.hashCode();
+        if (hash == 0) {
+            hash = this.expr.hashCode() + this.op.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -60,6 +60,8 @@ public final class RealComparison extends AbstractExpression<Long> implements
     }
 
     private final Expression<Double> left;
+
+    private transient int hash = 0;
     private final Expression<Double> right;
 
     /**
@@ -72,6 +74,9 @@ public final class RealComparison extends AbstractExpression<Long> implements
         }
         if (obj instanceof RealComparison) {
             RealComparison other = (RealComparison) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.left.equals(other.left) && this.right.equals(other.right);
         }
 
@@ -80,7 +85,10 @@ public final class RealComparison extends AbstractExpression<Long> implements
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.right.hashCode();
+        }
+        return hash;
     }
 
     /**
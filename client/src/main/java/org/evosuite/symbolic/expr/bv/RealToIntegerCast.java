@@ -34,6 +34,8 @@ public final class RealToIntegerCast extends AbstractExpression<Long> implements
 
     private final Expression<Double> expr;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for RealToIntegerCast.
@@ -78,6 +80,9 @@ public final class RealToIntegerCast extends AbstractExpression<Long> implements
         }
         if (obj instanceof RealToIntegerCast) {
             RealToIntegerCast other = (RealToIntegerCast) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.expr.equals(other.expr);
         }
 
@@ -86,7 +91,10 @@ public final class RealToIntegerCast extends AbstractExpression<Long> implements
 
     @Override
     public int hashCode() {
-        return this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.expr.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -71,6 +71,8 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
     private final Operator op;
     private final Expression<?> right;
 
+    private transient int hash = 0;
+
     /**
      * {@inheritDoc}
      */
@@ -81,6 +83,9 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
         }
         if (obj instanceof StringBinaryComparison) {
             StringBinaryComparison other = (StringBinaryComparison) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right);
         }
@@ -90,7 +95,10 @@ public final class StringBinaryComparison extends AbstractExpression<Long> imple
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        }
+        return hash;
     }
 
     /**
@@ -49,6 +49,8 @@ public final class StringBinaryToIntegerExpression extends
     private final Operator op;
     private final Expression<?> right;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for StringBinaryExpression.
@@ -126,6 +128,9 @@ public final class StringBinaryToIntegerExpression extends
         }
         if (obj instanceof StringBinaryToIntegerExpression) {
             StringBinaryToIntegerExpression other = (StringBinaryToIntegerExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right);
         }
@@ -135,8 +140,11 @@ public final class StringBinaryToIntegerExpression extends
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.op.hashCode()
-                + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.op.hashCode()
+                    + this.right.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -52,6 +52,8 @@ public final class StringMultipleComparison extends AbstractExpression<Long> imp
 
     private final ArrayList<Expression<?>> other_v;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for StringMultipleComparison.
@@ -156,6 +158,9 @@ public final class StringMultipleComparison extends AbstractExpression<Long> imp
         }
         if (obj instanceof StringMultipleComparison) {
             StringMultipleComparison other = (StringMultipleComparison) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right)
                     && this.other_v.equals(other.other_v);
@@ -166,8 +171,11 @@ public final class StringMultipleComparison extends AbstractExpression<Long> imp
 
     @Override
     public int hashCode() {
-        return this.op.hashCode() + this.left.hashCode() + this.right.hashCode()
-                + this.other_v.hashCode();
+        if (hash == 0) {
+            hash = this.op.hashCode() + this.left.hashCode() + this.right.hashCode()
+                    + this.other_v.hashCode();
+        }
+        return hash;
     }
 
     @Override
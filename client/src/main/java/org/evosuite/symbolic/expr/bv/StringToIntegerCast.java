@@ -41,6 +41,8 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
 
     private final Expression<String> expr;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for StringToIntCast.
@@ -84,6 +86,9 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
         }
         if (obj instanceof StringToIntegerCast) {
             StringToIntegerCast other = (StringToIntegerCast) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.expr.equals(other.expr);
         }
 
@@ -92,7 +97,10 @@ public final class StringToIntegerCast extends AbstractExpression<Long> implemen
 
     @Override
     public int hashCode() {
-        return this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.expr.hashCode();
+        }
+        return hash;
     }
 
     public Expression<String> getParam() {
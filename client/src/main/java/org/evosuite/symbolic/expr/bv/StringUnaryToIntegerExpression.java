@@ -49,6 +49,8 @@ public final class StringUnaryToIntegerExpression extends AbstractExpression<Lon
 
     private final Expression<String> expr;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for StringUnaryExpression.
@@ -103,6 +105,9 @@ public final class StringUnaryToIntegerExpression extends AbstractExpression<Lon
         }
         if (obj instanceof StringUnaryToIntegerExpression) {
             StringUnaryToIntegerExpression other = (StringUnaryToIntegerExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.expr.equals(other.expr);
         }
 
@@ -111,7 +116,10 @@ public final class StringUnaryToIntegerExpression extends AbstractExpression<Lon
 
     @Override
     public int hashCode() {
-        return this.op.hashCode() + this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.op.hashCode() + this.expr.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -34,6 +34,8 @@ public final class IntegerToRealCast extends AbstractExpression<Double> implemen
 
     private final IntegerValue expr;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for IntegerToRealCast.
@@ -78,6 +80,9 @@ public final class IntegerToRealCast extends AbstractExpression<Double> implemen
         }
         if (obj instanceof IntegerToRealCast) {
             IntegerToRealCast other = (IntegerToRealCast) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.expr.equals(other.expr);
             // && this.getSize() == other.getSize();
         }
@@ -87,7 +92,10 @@ public final class IntegerToRealCast extends AbstractExpression<Double> implemen
 
     @Override
     public int hashCode() {
-        return this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.expr.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -39,6 +39,8 @@ public final class RealBinaryExpression extends AbstractExpression<Double> imple
     private final Expression<Double> left;
     private final Expression<?> right;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for RealBinaryExpression.
@@ -104,6 +106,9 @@ public final class RealBinaryExpression extends AbstractExpression<Double> imple
         }
         if (obj instanceof RealBinaryExpression) {
             RealBinaryExpression other = (RealBinaryExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right);
         }
@@ -113,7 +118,10 @@ public final class RealBinaryExpression extends AbstractExpression<Double> imple
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        }
+        return hash;
     }
 
     @Override
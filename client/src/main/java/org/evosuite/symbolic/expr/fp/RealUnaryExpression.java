@@ -40,6 +40,8 @@ public final class RealUnaryExpression extends AbstractExpression<Double> implem
 
     private final Expression<Double> expr;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for RealUnaryExpression.
@@ -91,6 +93,9 @@ public final class RealUnaryExpression extends AbstractExpression<Double> implem
     public boolean equals(Object obj) {
         if (obj instanceof RealUnaryExpression) {
             RealUnaryExpression v = (RealUnaryExpression) obj;
+            if (this.hashCode() != v.hashCode()) {
+                return false;
+            }
             return this.op.equals(v.op) && this.getSize() == v.getSize()
                     && this.expr.equals(v.expr);
         }
@@ -105,7 +110,10 @@ public final class RealUnaryExpression extends AbstractExpression<Double> implem
 
     @Override
     public int hashCode() {
-        return this.op.hashCode() + this.getSize() + this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.op.hashCode() + this.getSize() + this.expr.hashCode();
+        }
+        return hash;
     }
 
     @Override
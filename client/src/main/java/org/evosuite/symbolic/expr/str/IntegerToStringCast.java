@@ -38,6 +38,8 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
 
     private final Expression<Long> expr;
 
+    private transient int hash = 0;
+
     /**
      * Constructs an {@link IntegerToStringCast} with the given expression and concrete value.
      *
@@ -72,6 +74,9 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
         }
         if (obj instanceof IntegerToStringCast) {
             IntegerToStringCast other = (IntegerToStringCast) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.expr.equals(other.expr);
         }
 
@@ -80,7 +85,10 @@ public final class IntegerToStringCast extends AbstractExpression<String> implem
 
     @Override
     public int hashCode() {
-        return expr.hashCode();
+        if (hash == 0) {
+            hash = expr.hashCode();
+        }
+        return hash;
     }
 
     /**
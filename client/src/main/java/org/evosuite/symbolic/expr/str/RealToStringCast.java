@@ -38,6 +38,8 @@ public final class RealToStringCast extends AbstractExpression<String> implement
 
     private final Expression<Double> expr;
 
+    private transient int hash = 0;
+
     /**
      * Constructs a {@link RealToStringCast} with the given expression and concrete value.
      *
@@ -73,6 +75,9 @@ public final class RealToStringCast extends AbstractExpression<String> implement
         }
         if (obj instanceof RealToStringCast) {
             RealToStringCast other = (RealToStringCast) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.expr.equals(other.expr);
         }
 
@@ -81,7 +86,10 @@ public final class RealToStringCast extends AbstractExpression<String> implement
 
     @Override
     public int hashCode() {
-        return this.expr.hashCode();
+        if (hash == 0) {
+            hash = this.expr.hashCode();
+        }
+        return hash;
     }
 
     /**
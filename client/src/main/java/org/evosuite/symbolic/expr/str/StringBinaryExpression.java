@@ -47,6 +47,8 @@ public final class StringBinaryExpression extends AbstractExpression<String> imp
     private final Operator op;
     private final Expression<?> right;
 
+    private transient int hash = 0;
+
     /**
      * <p>
      * Constructor for StringBinaryExpression.
@@ -116,6 +118,9 @@ public final class StringBinaryExpression extends AbstractExpression<String> imp
         }
         if (obj instanceof StringBinaryExpression) {
             StringBinaryExpression other = (StringBinaryExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right);
         }
@@ -125,7 +130,10 @@ public final class StringBinaryExpression extends AbstractExpression<String> imp
 
     @Override
     public int hashCode() {
-        return this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        if (hash == 0) {
+            hash = this.left.hashCode() + this.op.hashCode() + this.right.hashCode();
+        }
+        return hash;
     }
 
     @Override
@@ -50,6 +50,8 @@ public final class StringMultipleExpression extends AbstractExpression<String> i
 
     private final Expression<?> right;
 
+    private transient int hash = 0;
+
     protected static final Logger log = LoggerFactory.getLogger(StringMultipleExpression.class);
 
     /**
@@ -138,6 +140,9 @@ public final class StringMultipleExpression extends AbstractExpression<String> i
         }
         if (obj instanceof StringMultipleExpression) {
             StringMultipleExpression other = (StringMultipleExpression) obj;
+            if (this.hashCode() != other.hashCode()) {
+                return false;
+            }
 
             return this.op.equals(other.op) && this.left.equals(other.left)
                     && this.right.equals(other.right)
@@ -149,8 +154,11 @@ public final class StringMultipleExpression extends AbstractExpression<String> i
 
     @Override
     public int hashCode() {
-        return this.op.hashCode() + this.left.hashCode() + this.right.hashCode()
-                + this.other_v.hashCode();
+        if (hash == 0) {
+            hash = this.op.hashCode() + this.left.hashCode() + this.right.hashCode()
+                    + this.other_v.hashCode();
+        }
+        return hash;
     }
 
     private static boolean containsSymbolicVariable(ArrayList<Expression<?>> list) {
@@ -0,0 +1,629 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.DistanceCalculator;
+import org.evosuite.symbolic.expr.Expression;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerUnaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.bv.RealToIntegerCast;
+import org.evosuite.symbolic.expr.bv.RealUnaryToIntegerExpression;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.evosuite.symbolic.expr.constraint.RealConstraint;
+import org.evosuite.symbolic.expr.fp.IntegerToRealCast;
+import org.evosuite.symbolic.expr.fp.RealBinaryExpression;
+import org.evosuite.symbolic.expr.fp.RealConstant;
+import org.evosuite.symbolic.expr.fp.RealUnaryExpression;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A constraint system compiled once into a flat program over primitive stacks, which
+ * computes the same distance as {@link DistanceEstimator#getDistance(Collection)}.
+ *
+ * <p>Integer and real constraints over numeric expressions are compiled; the current
+ * values of their variables are loaded into primitive slots at the beginning of each
+ * evaluation, so the variables can still be changed directly by the search. All other
+ * constraints (strings, special integer distances, unsupported operators) are evaluated
+ * with the {@link DistanceCalculator} visitor, in their original position.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class CompiledDistanceEstimator {
+
+    private static final int LOAD_LONG_CONSTANT = 0;
+    private static final int LOAD_LONG_VARIABLE = 1;
+    private static final int LOAD_DOUBLE_CONSTANT = 2;
+    private static final int LOAD_DOUBLE_VARIABLE = 3;
+    private static final int LONG_BINARY = 4;
+    private static final int LONG_UNARY = 5;
+    private static final int DOUBLE_BINARY = 6;
+    private static final int DOUBLE_UNARY = 7;
+    private static final int LONG_TO_DOUBLE = 8;
+    private static final int DOUBLE_TO_LONG = 9;
+    private static final int DOUBLE_UNARY_TO_LONG = 10;
+    private static final int LONG_DISTANCE = 11;
+    private static final int DOUBLE_DISTANCE = 12;
+    private static final int INTERPRETED = 13;
+
+    private static final Operator[] OPERATORS = Operator.values();
+
+    private static final Comparator[] COMPARATORS = Comparator.values();
+
+    private final Collection<Constraint<?>> constraints;
+
+    /**
+     * pairs of opcode and argument.
+     */
+    private final int[] code;
+
+    private final long[] longConstants;
+
+    private final double[] doubleConstants;
+
+    private final IntegerVariable[] longVariables;
+
+    private final RealVariable[] doubleVariables;
+
+    private final Constraint<?>[] interpretedConstraints;
+
+    private final long[] longSlots;
+
+    private final double[] doubleSlots;
+
+    private final long[] longStack;
+
+    private final double[] doubleStack;
+
+    private final DistanceCalculator distanceCalculator = new DistanceCalculator();
+
+    private CompiledDistanceEstimator(Collection<Constraint<?>> constraints, Compiler compiler) {
+        this.constraints = constraints;
+        this.code = compiler.code.stream().mapToInt(Integer::intValue).toArray();
+        this.longConstants = compiler.longConstants.stream().mapToLong(Long::longValue).toArray();
+        this.doubleConstants = compiler.doubleConstants.stream().mapToDouble(Double::doubleValue).toArray();
+        this.longVariables = compiler.longVariables.toArray(new IntegerVariable[0]);
+        this.doubleVariables = compiler.doubleVariables.toArray(new RealVariable[0]);
+        this.interpretedConstraints = compiler.interpretedConstraints.toArray(new Constraint<?>[0]);
+        this.longSlots = new long[longVariables.length];
+        this.doubleSlots = new double[doubleVariables.length];
+        this.longStack = new long[compiler.maxLongDepth];
+        this.doubleStack = new double[compiler.maxDoubleDepth];
+    }
+
+    /**
+     * Compiles a constraint system.
+     *
+     * @param constraints the constraints
+     * @return the compiled constraint system
+     */
+    public static CompiledDistanceEstimator compile(Collection<Constraint<?>> constraints) {
+        Compiler compiler = new Compiler();
+        for (Constraint<?> constraint : constraints) {
+            compiler.compile(constraint);
+        }
+        return new CompiledDistanceEstimator(constraints, compiler);
+    }
+
+    public Collection<Constraint<?>> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Returns the number of constraints that are not compiled and evaluated with the visitor.
+     *
+     * @return the number of interpreted constraints
+     */
+    public int getNumberOfInterpretedConstraints() {
+        return interpretedConstraints.length;
+    }
+
+    /**
+     * Returns the normalized distance for the current values of the variables.
+     *
+     * @return the same value as {@link DistanceEstimator#getDistance(Collection)}
+     */
+    public double getDistance() {
+        for (int i = 0; i < longSlots.length; i++) {
+            longSlots[i] = longVariables[i].getConcreteValue();
+        }
+        for (int i = 0; i < doubleSlots.length; i++) {
+            doubleSlots[i] = doubleVariables[i].getConcreteValue();
+        }
+
+        double result = 0;
+        int longTop = 0;
+        int doubleTop = 0;
+        try {
+            for (int pc = 0; pc < code.length; pc += 2) {
+                final int arg = code[pc + 1];
+                switch (code[pc]) {
+                    case LOAD_LONG_CONSTANT:
+                        longStack[longTop++] = longConstants[arg];
+                        break;
+                    case LOAD_LONG_VARIABLE:
+                        longStack[longTop++] = longSlots[arg];
+                        break;
+                    case LOAD_DOUBLE_CONSTANT:
+                        doubleStack[doubleTop++] = doubleConstants[arg];
+                        break;
+                    case LOAD_DOUBLE_VARIABLE:
+                        doubleStack[doubleTop++] = doubleSlots[arg];
+                        break;
+                    case LONG_BINARY:
+                        longTop--;
+                        longStack[longTop - 1] = applyLong(OPERATORS[arg], longStack[longTop - 1], longStack[longTop]);
+                        break;
+                    case LONG_UNARY:
+                        longStack[longTop - 1] = applyLong(OPERATORS[arg], longStack[longTop - 1]);
+                        break;
+                    case DOUBLE_BINARY:
+                        doubleTop--;
+                        doubleStack[doubleTop - 1] =
+                                applyDouble(OPERATORS[arg], doubleStack[doubleTop - 1], doubleStack[doubleTop]);
+                        break;
+                    case DOUBLE_UNARY:
+                        doubleStack[doubleTop - 1] = applyDouble(OPERATORS[arg], doubleStack[doubleTop - 1]);
+                        break;
+                    case LONG_TO_DOUBLE:
+                        doubleStack[doubleTop++] = (double) longStack[--longTop];
+                        break;
+                    case DOUBLE_TO_LONG:
+                        longStack[longTop++] = (long) doubleStack[--doubleTop];
+                        break;
+                    case DOUBLE_UNARY_TO_LONG:
+                        longStack[longTop++] = applyDoubleToLong(OPERATORS[arg], doubleStack[--doubleTop]);
+                        break;
+                    case LONG_DISTANCE:
+                        longTop -= 2;
+                        result += normalize(getLongDistance(COMPARATORS[arg],
+                                longStack[longTop] - longStack[longTop + 1]));
+                        break;
+                    case DOUBLE_DISTANCE:
+                        doubleTop -= 2;
+                        result += normalize(getDoubleDistance(COMPARATORS[arg],
+                                doubleStack[doubleTop], doubleStack[doubleTop + 1]));
+                        break;
+                    case INTERPRETED:
+                        result += DistanceEstimator.getNormalizedDistance(interpretedConstraints[arg],
+                                distanceCalculator);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown opcode " + code[pc]);
+                }
+            }
+            return Math.abs(result);
+        } catch (Exception e) {
+            return Double.MAX_VALUE;
+        }
+    }
+
+    private static double normalize(double x) {
+        return x / (x + 1.0);
+    }
+
+    private static long applyLong(Operator op, long left, long right) {
+        switch (op) {
+            case SHL:
+                return left << right;
+            case SHR:
+                return left >> right;
+            case USHR:
+                return left >>> right;
+            case AND:
+            case IAND:
+                return left & right;
+            case OR:
+            case IOR:
+                return left | right;
+            case XOR:
+            case IXOR:
+                return left ^ right;
+            case DIV:
+                return left / right;
+            case MUL:
+                return left * right;
+            case MINUS:
+                return left - right;
+            case PLUS:
+                return left + right;
+            case REM:
+                return left % right;
+            case MAX:
+                return Math.max(left, right);
+            case MIN:
+                return Math.min(left, right);
+            default:
+                throw new IllegalStateException("Operator not compiled: " + op);
+        }
+    }
+
+    private static long applyLong(Operator op, long value) {
+        switch (op) {
+            case NEG:
+                return -value;
+            case ABS:
+                return Math.abs(value);
+            case GETNUMERICVALUE:
+                return Character.getNumericValue((char) value);
+            case ISLETTER:
+                return Character.isLetter((char) value) ? 1L : 0L;
+            case ISDIGIT:
+                return Character.isDigit((char) value) ? 1L : 0L;
+            default:
+                throw new IllegalStateException("Operator not compiled: " + op);
+        }
+    }
+
+    private static double applyDouble(Operator op, double left, double right) {
+        switch (op) {
+            case DIV:
+                return left / right;
+            case MUL:
+                return left * right;
+            case MINUS:
+                return left - right;
+            case PLUS:
+                return left + right;
+            case REM:
+                return left % right;
+            case ATAN2:
+                return Math.atan2(left, right);
+            case COPYSIGN:
+                return Math.copySign(left, right);
+            case HYPOT:
+                return Math.hypot(left, right);
+            case IEEEREMAINDER:
+                return Math.IEEEremainder(left, right);
+            case MAX:
+                return Math.max(left, right);
+            case MIN:
+                return Math.min(left, right);
+            case NEXTAFTER:
+                return Math.nextAfter(left, right);
+            case POW:
+                return Math.pow(left, right);
+            case SCALB:
+                return Math.scalb(left, (int) right);
+            default:
+                throw new IllegalStateException("Operator not compiled: " + op);
+        }
+    }
+
+    private static double applyDouble(Operator op, double value) {
+        switch (op) {
+            case ABS:
+                return Math.abs(value);
+            case ACOS:
+                return Math.acos(value);
+            case ASIN:
+                return Math.asin(value);
+            case ATAN:
+                return Math.atan(value);
+            case CBRT:
+                return Math.cbrt(value);
+            case CEIL:
+                return Math.ceil(value);
+            case COS:
+                return Math.cos(value);
+            case COSH:
+                return Math.cosh(value);
+            case EXP:
+                return Math.exp(value);
+            case EXPM1:
+                return Math.expm1(value);
+            case FLOOR:
+                return Math.floor(value);
+            case LOG:
+                return Math.log(value);
+            case LOG10:
+                return Math.log10(value);
+            case LOG1P:
+                return Math.log1p(value);
+            case NEG:
+                return -value;
+            case NEXTUP:
+                return Math.nextUp(value);
+            case RINT:
+                return Math.rint(value);
+            case SIGNUM:
+                return Math.signum(value);
+            case SIN:
+                return Math.sin(value);
+            case SINH:
+                return Math.sinh(value);
+            case SQRT:
+                return Math.sqrt(value);
+            case TAN:
+                return Math.tan(value);
+            case TANH:
+                return Math.tanh(value);
+            case TODEGREES:
+                return Math.toDegrees(value);
+            case TORADIANS:
+                return Math.toRadians(value);
+            case ULP:
+                return Math.ulp(value);
+            default:
+                throw new IllegalStateException("Operator not compiled: " + op);
+        }
+    }
+
+    private static long applyDoubleToLong(Operator op, double value) {
+        switch (op) {
+            case ROUND:
+                return Math.round(value);
+            case GETEXPONENT:
+                return Math.getExponent(value);
+            default:
+                throw new IllegalStateException("Operator not compiled: " + op);
+        }
+    }
+
+    /**
+     * Same as {@link DistanceCalculator#visit(IntegerConstraint, Void)} without the special cases.
+     */
+    private static long getLongDistance(Comparator cmp, long distance) {
+        switch (cmp) {
+            case EQ:
+                return Math.abs(distance);
+            case NE:
+                return distance != 0 ? 0 : 1;
+            case LT:
+                return distance < 0 ? 0 : distance + 1;
+            case LE:
+                return distance <= 0 ? 0 : distance;
+            case GT:
+                return distance > 0 ? 0 : Math.abs(distance) + 1;
+            case GE:
+                return distance >= 0 ? 0 : Math.abs(distance);
+            default:
+                throw new IllegalStateException("Comparator not compiled: " + cmp);
+        }
+    }
+
+    /**
+     * Same as {@link DistanceCalculator#visit(RealConstraint, Void)}.
+     */
+    private static double getDoubleDistance(Comparator cmp, double left, double right) {
+        switch (cmp) {
+            case EQ:
+                return Math.abs(left - right);
+            case NE:
+                return (left - right) != 0 ? 0 : 1;
+            case LT:
+                return left - right < 0 ? 0 : left - right + 1;
+            case LE:
+                return left - right <= 0 ? 0 : left - right;
+            case GT:
+                return left - right > 0 ? 0 : right - left + 1;
+            case GE:
+                return left - right >= 0 ? 0 : right - left;
+            default:
+                throw new IllegalStateException("Comparator not compiled: " + cmp);
+        }
+    }
+
+    private static boolean isCompiledComparator(Comparator cmp) {
+        switch (cmp) {
+            case EQ:
+            case NE:
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static final class Compiler {
+
+        private final List<Integer> code = new ArrayList<>();
+        private final List<Long> longConstants = new ArrayList<>();
+        private final List<Double> doubleConstants = new ArrayList<>();
+        // Variables in slot order, and the slot of each variable
+        private final List<IntegerVariable> longVariables = new ArrayList<>();
+        private final List<RealVariable> doubleVariables = new ArrayList<>();
+        private final Map<IntegerVariable, Integer> longVariableSlots = new IdentityHashMap<>();
+        private final Map<RealVariable, Integer> doubleVariableSlots = new IdentityHashMap<>();
+        private final List<Constraint<?>> interpretedConstraints = new ArrayList<>();
+
+        private int longDepth = 0;
+        private int doubleDepth = 0;
+        private int maxLongDepth = 0;
+        private int maxDoubleDepth = 0;
+
+        private void compile(Constraint<?> constraint) {
+            if (constraint instanceof IntegerConstraint && isCompilable((IntegerConstraint) constraint)) {
+                emitLong(constraint.getLeftOperand());
+                emitLong(constraint.getRightOperand());
+                emit(LONG_DISTANCE, constraint.getComparator().ordinal(), -2, 0);
+            } else if (constraint instanceof RealConstraint && isCompiledComparator(constraint.getComparator())
+                    && isDouble(constraint.getLeftOperand()) && isDouble(constraint.getRightOperand())) {
+                emitDouble(constraint.getLeftOperand());
+                emitDouble(constraint.getRightOperand());
+                emit(DOUBLE_DISTANCE, constraint.getComparator().ordinal(), 0, -2);
+            } else {
+                emit(INTERPRETED, interpretedConstraints.size(), 0, 0);
+                interpretedConstraints.add(constraint);
+            }
+        }
+
+        private static boolean isCompilable(IntegerConstraint constraint) {
+            Expression<?> left = constraint.getLeftOperand();
+            // regex distances of DistanceCalculator
+            if (left instanceof IntegerUnaryExpression) {
+                Operator op = ((IntegerUnaryExpression) left).getOperator();
+                if (op == Operator.ISDIGIT || op == Operator.ISLETTER) {
+                    return false;
+                }
+            }
+            return isCompiledComparator(constraint.getComparator())
+                    && isLong(left) && isLong(constraint.getRightOperand());
+        }
+
+        private static boolean isLong(Expression<?> expr) {
+            if (expr instanceof IntegerConstant || expr instanceof IntegerVariable) {
+                return true;
+            } else if (expr instanceof IntegerBinaryExpression) {
+                IntegerBinaryExpression binary = (IntegerBinaryExpression) expr;
+                return isLongOperator(binary.getOperator())
+                        && isLong(binary.getLeftOperand()) && isLong(binary.getRightOperand());
+            } else if (expr instanceof IntegerUnaryExpression) {
+                IntegerUnaryExpression unary = (IntegerUnaryExpression) expr;
+                return isLongUnaryOperator(unary.getOperator()) && isLong(unary.getOperand());
+            } else if (expr instanceof RealToIntegerCast) {
+                return isDouble(((RealToIntegerCast) expr).getArgument());
+            } else if (expr instanceof RealUnaryToIntegerExpression) {
+                RealUnaryToIntegerExpression unary = (RealUnaryToIntegerExpression) expr;
+                return (unary.getOperator() == Operator.ROUND || unary.getOperator() == Operator.GETEXPONENT)
+                        && isDouble(unary.getOperand());
+            }
+            return false;
+        }
+
+        private static boolean isDouble(Expression<?> expr) {
+            if (expr instanceof RealConstant || expr instanceof RealVariable) {
+                return true;
+            } else if (expr instanceof RealBinaryExpression) {
+                RealBinaryExpression binary = (RealBinaryExpression) expr;
+                return isDoubleOperator(binary.getOperator())
+                        && isDouble(binary.getLeftOperand()) && isDouble(binary.getRightOperand());
+            } else if (expr instanceof RealUnaryExpression) {
+                RealUnaryExpression unary = (RealUnaryExpression) expr;
+                return isDoubleUnaryOperator(unary.getOperator()) && isDouble(unary.getOperand());
+            } else if (expr instanceof IntegerToRealCast) {
+                return isLong(((IntegerToRealCast) expr).getArgument());
+            }
+            return false;
+        }
+
+        private static boolean isLongOperator(Operator op) {
+            try {
+                applyLong(op, 1, 1);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private static boolean isLongUnaryOperator(Operator op) {
+            try {
+                applyLong(op, 1);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private static boolean isDoubleOperator(Operator op) {
+            try {
+                applyDouble(op, 1, 1);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private static boolean isDoubleUnaryOperator(Operator op) {
+            try {
+                applyDouble(op, 1);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        }
+
+        private void emitLong(Expression<?> expr) {
+            if (expr instanceof IntegerConstant) {
+                emit(LOAD_LONG_CONSTANT, longConstants.size(), 1, 0);
+                longConstants.add(((IntegerConstant) expr).getConcreteValue());
+            } else if (expr instanceof IntegerVariable) {
+                Integer slot = longVariableSlots.computeIfAbsent((IntegerVariable) expr, v -> {
+                    longVariables.add(v);
+                    return longVariables.size() - 1;
+                });
+                emit(LOAD_LONG_VARIABLE, slot, 1, 0);
+            } else if (expr instanceof IntegerBinaryExpression) {
+                IntegerBinaryExpression binary = (IntegerBinaryExpression) expr;
+                emitLong(binary.getLeftOperand());
+                emitLong(binary.getRightOperand());
+                emit(LONG_BINARY, binary.getOperator().ordinal(), -1, 0);
+            } else if (expr instanceof IntegerUnaryExpression) {
+                IntegerUnaryExpression unary = (IntegerUnaryExpression) expr;
+                emitLong(unary.getOperand());
+                emit(LONG_UNARY, unary.getOperator().ordinal(), 0, 0);
+            } else if (expr instanceof RealToIntegerCast) {
+                emitDouble(((RealToIntegerCast) expr).getArgument());
+                emit(DOUBLE_TO_LONG, 0, 1, -1);
+            } else {
+                RealUnaryToIntegerExpression unary = (RealUnaryToIntegerExpression) expr;
+                emitDouble(unary.getOperand());
+                emit(DOUBLE_UNARY_TO_LONG, unary.getOperator().ordinal(), 1, -1);
+            }
+        }
+
+        private void emitDouble(Expression<?> expr) {
+            if (expr instanceof RealConstant) {
+                emit(LOAD_DOUBLE_CONSTANT, doubleConstants.size(), 0, 1);
+                doubleConstants.add(((RealConstant) expr).getConcreteValue());
+            } else if (expr instanceof RealVariable) {
+                Integer slot = doubleVariableSlots.computeIfAbsent((RealVariable) expr, v -> {
+                    doubleVariables.add(v);
+                    return doubleVariables.size() - 1;
+                });
+                emit(LOAD_DOUBLE_VARIABLE, slot, 0, 1);
+            } else if (expr instanceof RealBinaryExpression) {
+                RealBinaryExpression binary = (RealBinaryExpression) expr;
+                emitDouble(binary.getLeftOperand());
+                emitDouble(binary.getRightOperand());
+                emit(DOUBLE_BINARY, binary.getOperator().ordinal(), 0, -1);
+            } else if (expr instanceof RealUnaryExpression) {
+                RealUnaryExpression unary = (RealUnaryExpression) expr;
+                emitDouble(unary.getOperand());
+                emit(DOUBLE_UNARY, unary.getOperator().ordinal(), 0, 0);
+            } else {
+                emitLong(((IntegerToRealCast) expr).getArgument());
+                emit(LONG_TO_DOUBLE, 0, -1, 1);
+            }
+        }
+
+        private void emit(int opcode, int arg, int longDelta, int doubleDelta) {
+            code.add(opcode);
+            code.add(arg);
+            longDepth += longDelta;
+            doubleDepth += doubleDelta;
+            maxLongDepth = Math.max(maxLongDepth, longDepth);
+            maxDoubleDepth = Math.max(maxDoubleDepth, doubleDepth);
+        }
+    }
+}
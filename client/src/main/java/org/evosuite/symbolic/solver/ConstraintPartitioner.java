@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Variable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits a constraint system into independent partitions, i.e. groups of constraints
+ * that do not share any (transitively) symbolic variable. Each partition can be solved
+ * on its own, and the union of the solutions is a solution of the whole system.
+ *
+ * <p>Partitions are computed with a union-find over the variables of the constraints.
+ */
+public abstract class ConstraintPartitioner {
+
+    /**
+     * Partitions the given constraints. The order of the constraints is preserved in each
+     * partition, and partitions are ordered by their first constraint. Constraints without
+     * variables are put together in the last partition.
+     *
+     * @param constraints the constraint system
+     * @return the list of independent partitions
+     */
+    public static List<List<Constraint<?>>> partition(Collection<Constraint<?>> constraints) {
+        List<Constraint<?>> constraintList = new ArrayList<>(constraints);
+        int[] components = computeComponents(constraintList);
+
+        Map<Integer, List<Constraint<?>>> partitions = new LinkedHashMap<>();
+        List<Constraint<?>> constantConstraints = new ArrayList<>();
+        for (int i = 0; i < components.length; i++) {
+            if (components[i] < 0) {
+                constantConstraints.add(constraintList.get(i));
+            } else {
+                partitions.computeIfAbsent(components[i], k -> new ArrayList<>()).add(constraintList.get(i));
+            }
+        }
+
+        List<List<Constraint<?>>> result = new ArrayList<>(partitions.values());
+        if (!constantConstraints.isEmpty()) {
+            result.add(constantConstraints);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the constraints that (transitively) share a variable with the constraint
+     * at the given position, including that constraint, in their original order.
+     *
+     * @param constraints the constraint system
+     * @param index       the position of the target constraint
+     * @return the partition of the target, or an empty list if it has no variables
+     */
+    public static List<Constraint<?>> slice(List<Constraint<?>> constraints, int index) {
+        int[] components = computeComponents(constraints);
+
+        List<Constraint<?>> result = new LinkedList<>();
+        if (components[index] < 0) {
+            return result;
+        }
+        int i = 0;
+        for (Constraint<?> constraint : constraints) {
+            if (components[i++] == components[index]) {
+                result.add(constraint);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the component of each constraint: the representative of the variables of
+     * the constraint, or -1 if the constraint has no variables.
+     */
+    private static int[] computeComponents(List<Constraint<?>> constraints) {
+        Map<Variable<?>, Integer> variableIds = new HashMap<>();
+        int[][] constraintVariables = new int[constraints.size()][];
+        int i = 0;
+        for (Constraint<?> constraint : constraints) {
+            Set<Variable<?>> variables = constraint.getVariables();
+            int[] ids = new int[variables.size()];
+            int j = 0;
+            for (Variable<?> variable : variables) {
+                Integer id = variableIds.get(variable);
+                if (id == null) {
+                    id = variableIds.size();
+                    variableIds.put(variable, id);
+                }
+                ids[j++] = id;
+            }
+            constraintVariables[i++] = ids;
+        }
+
+        int[] parent = new int[variableIds.size()];
+        for (int v = 0; v < parent.length; v++) {
+            parent[v] = v;
+        }
+        for (int[] ids : constraintVariables) {
+            for (int j = 1; j < ids.length; j++) {
+                union(parent, ids[0], ids[j]);
+            }
+        }
+
+        int[] components = new int[constraintVariables.length];
+        for (int c = 0; c < components.length; c++) {
+            int[] ids = constraintVariables[c];
+            components[c] = ids.length == 0 ? -1 : find(parent, ids[0]);
+        }
+        return components;
+    }
+
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            // path halving
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // keep the smaller id as root, so that roots follow the order of first use
+            if (rootA < rootB) {
+                parent[rootB] = rootA;
+            } else {
+                parent[rootA] = rootB;
+            }
+        }
+    }
+}
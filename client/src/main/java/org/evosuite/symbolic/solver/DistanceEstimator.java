@@ -57,42 +57,7 @@ public abstract class DistanceEstimator {
         DistanceCalculator distanceCalculator = new DistanceCalculator();
         try {
             for (Constraint<?> c : constraints) {
-
-                if (c instanceof StringConstraint) {
-                    StringConstraint stringConstraint = (StringConstraint) c;
-
-                    try {
-                        double strD = (double) stringConstraint.accept(
-                                distanceCalculator, null);
-                        result += normalize(strD);
-                        log.debug("S: " + stringConstraint + " strDist "
-                                + strD);
-                    } catch (Throwable t) {
-                        log.debug("S: " + stringConstraint + " strDist " + t);
-                        result += 1.0;
-                    }
-
-                } else if (c instanceof IntegerConstraint) {
-
-                    IntegerConstraint integerConstraint = (IntegerConstraint) c;
-                    long intD = (long) integerConstraint.accept(
-                            distanceCalculator, null);
-                    result += normalize(intD);
-                    log.debug("C: " + integerConstraint + " intDist " + intD);
-
-                } else if (c instanceof RealConstraint) {
-                    RealConstraint realConstraint = (RealConstraint) c;
-                    double realD = (double) realConstraint.accept(
-                            distanceCalculator, null);
-
-                    result += normalize(realD);
-                    log.debug("C: " + realConstraint + " realDist " + realD);
-
-                } else {
-                    throw new IllegalArgumentException(
-                            "DistanceCalculator: got an unknown constraint: "
-                                    + c);
-                }
+                result += getNormalizedDistance(c, distanceCalculator);
             }
             log.debug("Resulting distance: " + result);
             return Math.abs(result);
@@ -102,4 +67,50 @@ public abstract class DistanceEstimator {
         }
     }
 
+    /**
+     * Returns the normalized distance of a single constraint. Failures to
+     * compute the distance of a string constraint count as 1.0, any other
+     * failure is thrown to the caller.
+     *
+     * @param c                  the constraint
+     * @param distanceCalculator the visitor used to compute the distance
+     * @return normalized distance in [0,1]
+     */
+    static double getNormalizedDistance(Constraint<?> c, DistanceCalculator distanceCalculator) {
+        if (c instanceof StringConstraint) {
+            StringConstraint stringConstraint = (StringConstraint) c;
+
+            try {
+                double strD = (double) stringConstraint.accept(
+                        distanceCalculator, null);
+                log.debug("S: " + stringConstraint + " strDist "
+                        + strD);
+                return normalize(strD);
+            } catch (Throwable t) {
+                log.debug("S: " + stringConstraint + " strDist " + t);
+                return 1.0;
+            }
+
+        } else if (c instanceof IntegerConstraint) {
+
+            IntegerConstraint integerConstraint = (IntegerConstraint) c;
+            long intD = (long) integerConstraint.accept(
+                    distanceCalculator, null);
+            log.debug("C: " + integerConstraint + " intDist " + intD);
+            return normalize(intD);
+
+        } else if (c instanceof RealConstraint) {
+            RealConstraint realConstraint = (RealConstraint) c;
+            double realD = (double) realConstraint.accept(
+                    distanceCalculator, null);
+            log.debug("C: " + realConstraint + " realDist " + realD);
+            return normalize(realD);
+
+        } else {
+            throw new IllegalArgumentException(
+                    "DistanceCalculator: got an unknown constraint: "
+                            + c);
+        }
+    }
+
 }
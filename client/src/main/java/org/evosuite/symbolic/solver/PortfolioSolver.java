@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Constraint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs several solvers in parallel on the same query. The first SAT or UNSAT answer is returned
+ * and the other solvers are cancelled (see {@link Solver#cancel()}), which destroys their processes.
+ *
+ * <p>Each query is raced by new solvers, so that concurrent queries never share a solver.
+ *
+ * <p>Each solver works on its own copy of the query (see {@link SolverUtils#copyQuery(Collection)}),
+ * as solvers read and modify the concrete values of the variables. If the query cannot be copied,
+ * only the first solver is used.
+ */
+public final class PortfolioSolver extends Solver {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioSolver.class);
+
+    private final List<Supplier<? extends Solver>> solvers;
+
+    /**
+     * Runs the solvers of a race. Created on the first race and released by {@link #shutdown()}.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Constructs a portfolio of solvers.
+     *
+     * @param solvers builders of the solvers to run, in order of preference
+     */
+    public PortfolioSolver(List<Supplier<? extends Solver>> solvers) {
+        if (solvers.isEmpty()) {
+            throw new IllegalArgumentException("A portfolio needs at least one solver");
+        }
+        this.solvers = new ArrayList<>(solvers);
+    }
+
+    @Override
+    public SolverResult executeSolver(Collection<Constraint<?>> constraints)
+            throws SolverTimeoutException, IOException, SolverParseException,
+            SolverEmptyQueryException, SolverErrorException {
+        if (solvers.size() == 1) {
+            return solvers.get(0).get().executeSolver(constraints);
+        }
+
+        List<List<Constraint<?>>> copies = new ArrayList<>();
+        for (int i = 0; i < solvers.size(); i++) {
+            List<Constraint<?>> copy = SolverUtils.copyQuery(constraints);
+            if (copy == null) {
+                logger.debug("Query cannot be copied, using only the first solver of the portfolio");
+                return solvers.get(0).get().executeSolver(constraints);
+            }
+            copies.add(copy);
+        }
+
+        List<Solver> members = new ArrayList<>();
+        for (Supplier<? extends Solver> solver : solvers) {
+            members.add(solver.get());
+        }
+
+        CompletionService<SolverResult> completionService = new ExecutorCompletionService<>(getExecutor());
+        List<Future<SolverResult>> futures = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            Solver solver = members.get(i);
+            List<Constraint<?>> copy = copies.get(i);
+            futures.add(completionService.submit(() -> solver.executeSolver(copy)));
+        }
+
+        boolean unknown = false;
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    SolverResult result = completionService.take().get();
+                    if (result == null) {
+                        continue;
+                    }
+                    if (!result.isUnknown()) {
+                        return result;
+                    }
+                    unknown = true;
+                } catch (ExecutionException e) {
+                    logger.debug("Solver of the portfolio failed: {}", e.getCause().toString());
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverTimeoutException();
+        } finally {
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).isDone()) {
+                    futures.get(i).cancel(true);
+                    members.get(i).cancel();
+                }
+            }
+        }
+
+        if (unknown || failure == null) {
+            return SolverResult.newUnknown();
+        }
+
+        // all solvers failed: report the first failure
+        if (failure instanceof SolverTimeoutException) {
+            throw (SolverTimeoutException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof SolverParseException) {
+            throw (SolverParseException) failure;
+        } else if (failure instanceof SolverEmptyQueryException) {
+            throw (SolverEmptyQueryException) failure;
+        } else if (failure instanceof SolverErrorException) {
+            throw (SolverErrorException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else {
+            throw new SolverErrorException(failure.toString());
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "dse-portfolio-solver");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Stops the threads running the solvers, cancelling the races in progress. A later
+     * query starts new threads.
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
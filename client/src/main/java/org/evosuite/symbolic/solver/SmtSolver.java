@@ -32,6 +32,13 @@ import java.io.OutputStream;
  */
 public abstract class SmtSolver extends Solver {
 
+    /**
+     * The launcher of the solving process in progress, if any.
+     */
+    private volatile ProcessLauncher runningLauncher;
+
+    private volatile boolean cancelled;
+
     public SmtSolver(boolean addMissingVariables) {
         super(addMissingVariables);
     }
@@ -51,13 +58,17 @@ public abstract class SmtSolver extends Solver {
      * @throws SolverTimeoutException if the solver times out
      * @throws SolverErrorException   if the solver reports an error
      */
-    protected static void launchNewSolvingProcess(String solverCmd, String smtQueryStr, int hardTimeout,
-                                                  OutputStream stdout)
+    protected void launchNewSolvingProcess(String solverCmd, String smtQueryStr, int hardTimeout,
+                                           OutputStream stdout)
             throws IOException, SolverTimeoutException, SolverErrorException {
 
         ByteArrayInputStream input = new ByteArrayInputStream(smtQueryStr.getBytes());
 
         ProcessLauncher launcher = new ProcessLauncher(stdout, input);
+        runningLauncher = launcher;
+        if (cancelled) {
+            launcher.destroyProcess();
+        }
 
         long solverStartTimeMillis = System.currentTimeMillis();
         try {
@@ -80,6 +91,7 @@ public abstract class SmtSolver extends Solver {
             throw new SolverTimeoutException();
 
         } finally {
+            runningLauncher = null;
             long solverEndTimeMillis = System.currentTimeMillis();
             long solverDurationSecs = (solverEndTimeMillis - solverStartTimeMillis) / 1000;
             logger.debug("Solver execution time was {}s", solverDurationSecs);
@@ -87,4 +99,16 @@ public abstract class SmtSolver extends Solver {
 
     }
 
+    /**
+     * Destroys the running solver process, if any, as well as the processes of later queries.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+        ProcessLauncher launcher = runningLauncher;
+        if (launcher != null) {
+            launcher.destroyProcess();
+        }
+    }
+
 }
@@ -75,7 +75,8 @@ public abstract class Solver {
     static Logger logger = LoggerFactory.getLogger(Solver.class);
 
     /**
-     * Solves a collection of constraints.
+     * Solves a collection of constraints. Constraints that do not share any variable are
+     * solved separately, so that each query is smaller and more likely to be cached.
      *
      * @param constraints a constraint system to be solved
      * @return a non-null result that is SAT or UNSAT
@@ -88,8 +89,69 @@ public abstract class Solver {
     public SolverResult solve(Collection<Constraint<?>> constraints)
             throws SolverTimeoutException, SolverParseException, SolverEmptyQueryException,
             SolverErrorException, IOException {
-        if (solverCache.hasCachedResult(constraints)) {
-            return solverCache.getCachedResult();
+        List<List<Constraint<?>>> partitions = ConstraintPartitioner.partition(constraints);
+        if (partitions.size() <= 1) {
+            return solvePartition(constraints);
+        }
+
+        // Solvers reject queries without variables, so the constraints without
+        // variables (always the last partition) are decided on their concrete values
+        List<Constraint<?>> last = partitions.get(partitions.size() - 1);
+        if (last.get(0).getVariables().isEmpty()) {
+            Boolean holds = evaluateConcretely(last);
+            if (holds == null) {
+                return solvePartition(constraints);
+            } else if (!holds) {
+                return SolverResult.newUNSAT();
+            }
+            partitions = partitions.subList(0, partitions.size() - 1);
+            if (partitions.size() == 1) {
+                return solvePartition(partitions.get(0));
+            }
+        }
+
+        // Independent partitions are solved (or found in the cache) one by one
+        Map<String, Object> model = new HashMap<>();
+        for (List<Constraint<?>> partition : partitions) {
+            SolverResult partitionResult = solvePartition(partition);
+            if (partitionResult == null || !partitionResult.isSAT()) {
+                logger.debug("Partition with {} constraints out of {} is not SAT",
+                        partition.size(), constraints.size());
+                return partitionResult;
+            }
+            model.putAll(partitionResult.getModel());
+        }
+        return SolverResult.newSAT(model);
+    }
+
+    /**
+     * Evaluates constraints without variables on their concrete values.
+     *
+     * @return whether all constraints hold, or {@code null} if some of them cannot be evaluated
+     */
+    private static Boolean evaluateConcretely(List<Constraint<?>> constraints) {
+        ConstraintEvaluator evaluator = new ConstraintEvaluator();
+        try {
+            for (Constraint<?> constraint : constraints) {
+                if (!(Boolean) constraint.accept(evaluator, null)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("Could not evaluate constraints without variables: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private SolverResult solvePartition(Collection<Constraint<?>> constraints)
+            throws SolverTimeoutException, SolverParseException, SolverEmptyQueryException,
+            SolverErrorException, IOException {
+        // the cache is shared by solvers running in parallel
+        synchronized (solverCache) {
+            if (solverCache.hasCachedResult(constraints)) {
+                return solverCache.getCachedResult();
+            }
         }
 
         SolverResult solverResult;
@@ -97,7 +159,9 @@ public abstract class Solver {
             solverResult = executeSolver(constraints);
 
             if (solverResult != null && !solverResult.isUnknown()) {
-                solverCache.saveSolverResult(constraints, solverResult);
+                synchronized (solverCache) {
+                    solverCache.saveSolverResult(constraints, solverResult);
+                }
             }
         } catch (IllegalArgumentException | IOException e) {
             solverResult = null;
@@ -121,6 +185,15 @@ public abstract class Solver {
             throws SolverTimeoutException, IOException, SolverParseException,
             SolverEmptyQueryException, SolverErrorException;
 
+    /**
+     * Stops the query being solved by this solver, if any, as well as later queries. Called from
+     * another thread; solvers running an external process destroy it, so that the solving thread
+     * fails with a {@link SolverTimeoutException}. Does nothing by default.
+     */
+    public void cancel() {
+        // nothing to stop
+    }
+
     protected boolean addMissingVariables() {
         return addMissingVariables;
     }
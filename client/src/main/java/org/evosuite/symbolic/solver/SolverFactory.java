@@ -24,6 +24,10 @@ import org.evosuite.symbolic.solver.avm.EvoSuiteSolver;
 import org.evosuite.symbolic.solver.cvc4.CVC4Solver;
 import org.evosuite.symbolic.solver.z3.Z3Solver;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 /**
  * Factory for creating solver instances.
  *
@@ -43,12 +47,30 @@ public class SolverFactory {
     }
 
     /**
-     * Builds a new solver instance based on the current properties.
+     * Builds a new solver instance based on the current properties. If a solver portfolio
+     * is configured, the returned solver races all solvers of the portfolio.
      *
      * @return a {@link org.evosuite.symbolic.solver.Solver} object.
      */
     public Solver buildNewSolver() {
-        switch (Properties.DSE_SOLVER) {
+        if (Properties.DSE_SOLVER_PORTFOLIO.length > 0) {
+            List<Supplier<? extends Solver>> solvers = new ArrayList<>();
+            for (Properties.SolverType solverType : Properties.DSE_SOLVER_PORTFOLIO) {
+                solvers.add(() -> buildNewSolver(solverType));
+            }
+            return new PortfolioSolver(solvers);
+        }
+        return buildNewSolver(Properties.DSE_SOLVER);
+    }
+
+    /**
+     * Builds a new solver instance of the given type.
+     *
+     * @param solverType the type of solver
+     * @return a {@link org.evosuite.symbolic.solver.Solver} object.
+     */
+    public Solver buildNewSolver(Properties.SolverType solverType) {
+        switch (solverType) {
             case Z3_SOLVER:
                 return new Z3Solver(true);
             case CVC4_SOLVER: {
@@ -22,7 +22,6 @@ package org.evosuite.symbolic.solver;
 import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.PathCondition;
 import org.evosuite.symbolic.expr.Constraint;
-import org.evosuite.symbolic.expr.Expression;
 import org.evosuite.symbolic.expr.Variable;
 import org.evosuite.symbolic.expr.bv.IntegerConstant;
 import org.evosuite.symbolic.expr.bv.IntegerVariable;
@@ -34,7 +33,11 @@ import org.evosuite.symbolic.expr.str.StringVariable;
 import org.evosuite.symbolic.vm.ConstraintFactory;
 import org.evosuite.symbolic.vm.ExpressionFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.*;
 
 /**
@@ -61,11 +64,38 @@ public abstract class SolverUtils {
             // TODO: see how we are going to handle this later on.
             // TODO: add statistics about this.
             solverResult = null;
+        } finally {
+            if (solver instanceof PortfolioSolver) {
+                ((PortfolioSolver) solver).shutdown();
+            }
         }
 
         return solverResult;
     }
 
+    /**
+     * Returns a deep copy of a query, with its own variables. Solvers modify and read the concrete
+     * values of the variables, so a query can only be solved concurrently with others on a copy.
+     * The variables of the copy have the same names, so its models also apply to the original query.
+     *
+     * @param query the list of constraints to copy
+     * @return the copy, or null if the query contains expressions that cannot be copied
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Constraint<?>> copyQuery(Collection<Constraint<?>> query) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(new ArrayList<>(query));
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (List<Constraint<?>>) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            return null;
+        }
+    }
+
     /**
      * Creates boundaries for the SMT query variables.
      *
@@ -158,57 +188,13 @@ public abstract class SolverUtils {
 
     /**
      * Apply cone of influence reduction to constraints with respect to the last
-     * constraint in the list.
+     * constraint in the list: only the constraints that are not independent of it
+     * are kept.
      *
      * @param constraints the list of constraints
      * @return the reduced list of constraints
      */
     private static List<Constraint<?>> reduce(List<Constraint<?>> constraints) {
-
-        Constraint<?> target = constraints.get(constraints.size() - 1);
-        Set<Variable<?>> dependencies = getVariables(target);
-
-        LinkedList<Constraint<?>> coi = new LinkedList<>();
-        if (dependencies.size() <= 0) {
-            return coi;
-        }
-
-        coi.add(target);
-
-        for (int i = constraints.size() - 2; i >= 0; i--) {
-            Constraint<?> constraint = constraints.get(i);
-            Set<Variable<?>> variables = getVariables(constraint);
-            for (Variable<?> var : dependencies) {
-                if (variables.contains(var)) {
-                    dependencies.addAll(variables);
-                    coi.addFirst(constraint);
-                    break;
-                }
-            }
-        }
-        return coi;
-    }
-
-    /**
-     * Determine the set of variable referenced by this constraint.
-     *
-     * @param constraint the constraint
-     * @return a set of variables
-     */
-    private static Set<Variable<?>> getVariables(Constraint<?> constraint) {
-        Set<Variable<?>> variables = new HashSet<>();
-        getVariables(constraint.getLeftOperand(), variables);
-        getVariables(constraint.getRightOperand(), variables);
-        return variables;
-    }
-
-    /**
-     * Recursively determine constraints in expression.
-     *
-     * @param expr      a {@link org.evosuite.symbolic.expr.Expression} object.
-     * @param variables a {@link java.util.Set} object.
-     */
-    private static void getVariables(Expression<?> expr, Set<Variable<?>> variables) {
-        variables.addAll(expr.getVariables());
+        return ConstraintPartitioner.slice(constraints, constraints.size() - 1);
     }
 }
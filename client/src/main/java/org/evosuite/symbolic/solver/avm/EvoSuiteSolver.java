@@ -55,7 +55,8 @@ public final class EvoSuiteSolver extends Solver {
         Set<Variable<?>> variables = getVariables(constraints);
         Map<String, Object> initialValues = getConcreteValues(variables);
 
-        double distance = DistanceEstimator.getDistance(constraints);
+        CompiledDistanceEstimator distanceEstimator = CompiledDistanceEstimator.compile(constraints);
+        double distance = distanceEstimator.getDistance();
         if (distance == 0.0) {
             log.info("Initial distance already is 0.0, skipping search");
             SolverResult satResult = SolverResult.newSAT(initialValues);
@@ -67,7 +68,7 @@ public final class EvoSuiteSolver extends Solver {
                 long currentTimeMillis = System.currentTimeMillis();
 
                 long elapsedSolvingTime = currentTimeMillis - startTimeMillis;
-                if (elapsedSolvingTime > timeout) {
+                if (elapsedSolvingTime > timeout || Thread.currentThread().isInterrupted()) {
                     throw new SolverTimeoutException();
                 }
 
@@ -75,21 +76,21 @@ public final class EvoSuiteSolver extends Solver {
 
                 if (v instanceof IntegerVariable) {
                     IntegerVariable integerVariable = (IntegerVariable) v;
-                    IntegerAVM avm = new IntegerAVM(integerVariable, constraints, startTimeMillis, timeout);
+                    IntegerAVM avm = new IntegerAVM(integerVariable, distanceEstimator, startTimeMillis, timeout);
                     avm.applyAVM();
                 } else if (v instanceof RealVariable) {
                     RealVariable realVariable = (RealVariable) v;
-                    RealAVM avm = new RealAVM(realVariable, constraints, startTimeMillis, timeout);
+                    RealAVM avm = new RealAVM(realVariable, distanceEstimator, startTimeMillis, timeout);
                     avm.applyAVM();
                 } else if (v instanceof StringVariable) {
                     StringVariable strVariable = (StringVariable) v;
-                    StringAVM avm = new StringAVM(strVariable, constraints, startTimeMillis, timeout);
+                    StringAVM avm = new StringAVM(strVariable, distanceEstimator, startTimeMillis, timeout);
                     avm.applyAVM();
                 } else {
                     log.warn("Unknown variable type " + v.getClass().getName());
                     continue;
                 }
-                distance = DistanceEstimator.getDistance(constraints);
+                distance = distanceEstimator.getDistance();
                 if (distance <= 0.0) {
                     log.info("Distance is 0, ending search");
                     break;
@@ -21,7 +21,7 @@ package org.evosuite.symbolic.solver.avm;
 
 import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.fp.RealVariable;
-import org.evosuite.symbolic.solver.DistanceEstimator;
+import org.evosuite.symbolic.solver.CompiledDistanceEstimator;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +37,11 @@ final class RealAVM extends VariableAVM {
         this.realVar = realVar;
     }
 
+    public RealAVM(RealVariable realVar, CompiledDistanceEstimator cnstr, long startTime, long timeout) {
+        super(cnstr, startTime, timeout);
+        this.realVar = realVar;
+    }
+
     static Logger log = LoggerFactory.getLogger(RealAVM.class);
 
     private double checkpointedConcreteValue;
@@ -74,7 +79,7 @@ final class RealAVM extends VariableAVM {
 
         boolean improvement = false;
 
-        final double initial_distance = DistanceEstimator.getDistance(cnstr);
+        final double initial_distance = getDistance();
         checkpointVar(initial_distance);
         if (initial_distance == 0.0) {
             // already solved, no improvement found
@@ -89,7 +94,7 @@ final class RealAVM extends VariableAVM {
             // Try increment
             log.debug("Trying to increment " + realVar + " with: " + delta);
             incrementVar(delta);
-            double newDist = DistanceEstimator.getDistance(cnstr);
+            double newDist = getDistance();
             log.debug("Old distance: " + this.checkpointedDistance + ", new distance: " + newDist);
             if (distImpr(newDist)) {
                 improvement = true;
@@ -105,7 +110,7 @@ final class RealAVM extends VariableAVM {
                 // Try decrement
                 log.debug("Trying to decrement " + realVar + " with: " + delta);
                 incrementVar(-delta);
-                newDist = DistanceEstimator.getDistance(cnstr);
+                newDist = getDistance();
                 if (distImpr(newDist)) {
                     improvement = true;
                     checkpointVar(newDist);
@@ -223,7 +228,7 @@ final class RealAVM extends VariableAVM {
         realVar.setConcreteValue(newValue);
 
         log.debug("Trying to chop precision " + precision + ": " + value + " -> " + newValue);
-        double dist = DistanceEstimator.getDistance(cnstr);
+        double dist = getDistance();
         if (!distWrsn(dist)) {
             checkpointVar(dist);
             return;// true;
@@ -249,7 +254,7 @@ final class RealAVM extends VariableAVM {
         log.debug("[Loop] Trying increment " + delta + " of " + realVar.toString());
 
         incrementVar(delta);
-        double newDist = DistanceEstimator.getDistance(cnstr);
+        double newDist = getDistance();
         log.debug("[Loop] Old distance: " + this.checkpointedDistance + ", new distance: " + newDist);
         while (distImpr(newDist)) {
             if (isFinished()) {
@@ -264,7 +269,7 @@ final class RealAVM extends VariableAVM {
             delta = factor * delta;
             log.debug("[Loop] Trying increment " + delta + " of " + realVar);
             incrementVar(delta);
-            newDist = DistanceEstimator.getDistance(cnstr);
+            newDist = getDistance();
         }
         log.debug("No improvement on " + realVar);
         restoreVar();
@@ -20,6 +20,7 @@
 package org.evosuite.symbolic.solver.avm;
 
 import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.solver.CompiledDistanceEstimator;
 import org.evosuite.symbolic.solver.SolverTimeoutException;
 
 import java.util.Collection;
@@ -27,16 +28,35 @@ import java.util.Collection;
 abstract class VariableAVM {
 
     protected final Collection<Constraint<?>> cnstr;
+    private final CompiledDistanceEstimator distanceEstimator;
     private final long startTime;
     private final long timeout;
 
     public VariableAVM(Collection<Constraint<?>> cnstr, long startTimeMillis, long timeout) {
-        this.cnstr = cnstr;
+        this(CompiledDistanceEstimator.compile(cnstr), startTimeMillis, timeout);
+    }
+
+    public VariableAVM(CompiledDistanceEstimator distanceEstimator, long startTimeMillis, long timeout) {
+        this.cnstr = distanceEstimator.getConstraints();
+        this.distanceEstimator = distanceEstimator;
         this.startTime = startTimeMillis;
         this.timeout = timeout;
     }
 
+    /**
+     * Returns the distance of the constraints for the current values of the variables.
+     *
+     * @return normalized distance
+     */
+    protected double getDistance() {
+        return distanceEstimator.getDistance();
+    }
+
     protected boolean isFinished() {
+        // the search is interrupted when it is cancelled by a solver portfolio
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
         long currentTime = System.currentTimeMillis();
         return (currentTime - startTime) > timeout;
     }
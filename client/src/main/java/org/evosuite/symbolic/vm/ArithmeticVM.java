@@ -436,8 +436,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int con = leftConcVal - rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left,
-                Operator.MINUS, right, (long) con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left,
+                Operator.MINUS, right, (long) con));
 
         env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -468,8 +468,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long con = leftConcVal - rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left,
-                Operator.MINUS, right, con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left,
+                Operator.MINUS, right, con));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -497,8 +497,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         float con = leftConcVal - rightConcVal;
 
-        RealValue realExpr = new RealBinaryExpression(left, Operator.MINUS,
-                right, (double) con);
+        RealValue realExpr = ExpressionFactory.intern(new RealBinaryExpression(left, Operator.MINUS,
+                right, (double) con));
 
         env.topFrame().operandStack.pushFp32(realExpr);
     }
@@ -521,8 +521,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         double con = leftConcVal - rightConcVal;
 
-        RealValue realExpr = new RealBinaryExpression(left, Operator.MINUS,
-                right, con);
+        RealValue realExpr = ExpressionFactory.intern(new RealBinaryExpression(left, Operator.MINUS,
+                right, con));
 
         env.topFrame().operandStack.pushFp64(realExpr);
     }
@@ -857,8 +857,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int con = -paramConcVal;
 
-        IntegerValue intExpr = new IntegerUnaryExpression(param, Operator.NEG,
-                (long) con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerUnaryExpression(param, Operator.NEG,
+                (long) con));
 
         env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -881,8 +881,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long con = -paramConcVal;
 
-        IntegerValue intExpr = new IntegerUnaryExpression(param, Operator.NEG,
-                con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerUnaryExpression(param, Operator.NEG,
+                con));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -900,8 +900,8 @@ public final class ArithmeticVM extends AbstractVM {
         }
         float con = -paramConcVal;
 
-        RealValue realExpr = new RealUnaryExpression(param, Operator.NEG,
-                (double) con);
+        RealValue realExpr = ExpressionFactory.intern(new RealUnaryExpression(param, Operator.NEG,
+                (double) con));
 
         env.topFrame().operandStack.pushFp32(realExpr);
     }
@@ -918,7 +918,7 @@ public final class ArithmeticVM extends AbstractVM {
         }
         double con = -paramConcVal;
 
-        RealValue realExpr = new RealUnaryExpression(param, Operator.NEG, con);
+        RealValue realExpr = ExpressionFactory.intern(new RealUnaryExpression(param, Operator.NEG, con));
 
         env.topFrame().operandStack.pushFp64(realExpr);
     }
@@ -944,8 +944,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int concreteValue = leftConcVal << (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.SHL, rightExpr, (long) concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.SHL, rightExpr, (long) concreteValue));
 
         env.topFrame().operandStack.pushBv32(intExpr);
     }
@@ -971,8 +971,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int concreteValue = leftConcVal >> (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.SHR, rightExpr, (long) concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.SHR, rightExpr, (long) concreteValue));
 
         env.topFrame().operandStack.pushBv32(intExpr);
     }
@@ -999,8 +999,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int concreteValue = leftConcVal >>> (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.USHR, rightExpr, (long) concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.USHR, rightExpr, (long) concreteValue));
 
         env.topFrame().operandStack.pushBv32(intExpr);
     }
@@ -1027,8 +1027,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long concreteValue = leftConcVal >>> (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.USHR, rightExpr, concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.USHR, rightExpr, concreteValue));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1054,8 +1054,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long concreteValue = leftConcVal >> (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.SHL, rightExpr, concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.SHL, rightExpr, concreteValue));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1080,8 +1080,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long concreteValue = leftConcVal << (rightConcVal & 0x001F);
 
-        IntegerBinaryExpression intExpr = new IntegerBinaryExpression(
-                leftExpr, Operator.SHL, rightExpr, concreteValue);
+        IntegerBinaryExpression intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(
+                leftExpr, Operator.SHL, rightExpr, concreteValue));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1111,8 +1111,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int con = leftConcVal & rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IAND,
-                right, (long) con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IAND,
+                right, (long) con));
 
         env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1143,8 +1143,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int con = leftConcVal | rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IOR,
-                right, (long) con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IOR,
+                right, (long) con));
 
         env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1175,8 +1175,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         int con = leftConcVal ^ rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IXOR,
-                right, (long) con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IXOR,
+                right, (long) con));
 
         env.topFrame().operandStack.pushBv32(intExpr);
 
@@ -1207,8 +1207,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long con = leftConcVal & rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IAND,
-                right, con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IAND,
+                right, con));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1238,8 +1238,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long con = leftConcVal | rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IOR,
-                right, con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IOR,
+                right, con));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1269,8 +1269,8 @@ public final class ArithmeticVM extends AbstractVM {
 
         long con = leftConcVal ^ rightConcVal;
 
-        IntegerValue intExpr = new IntegerBinaryExpression(left, Operator.IXOR,
-                right, con);
+        IntegerValue intExpr = ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.IXOR,
+                right, con));
 
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1341,8 +1341,8 @@ public final class ArithmeticVM extends AbstractVM {
             concVal = -1;
         }
 
-        IntegerComparison intComp = new IntegerComparison(left, right,
-                (long) concVal);
+        IntegerComparison intComp = ExpressionFactory.intern(new IntegerComparison(left, right,
+                (long) concVal));
 
         env.topFrame().operandStack.pushBv32(intComp);
     }
@@ -1382,8 +1382,8 @@ public final class ArithmeticVM extends AbstractVM {
             concVal = -1;
         }
 
-        RealComparison ret = new RealComparison(left, right,
-                (long) concVal);
+        RealComparison ret = ExpressionFactory.intern(new RealComparison(left, right,
+                (long) concVal));
 
         env.topFrame().operandStack.pushBv32(ret);
     }
@@ -1430,8 +1430,8 @@ public final class ArithmeticVM extends AbstractVM {
             concVal = -1;
         }
 
-        RealComparison ret = new RealComparison(left, right,
-                (long) concVal);
+        RealComparison ret = ExpressionFactory.intern(new RealComparison(left, right,
+                (long) concVal));
 
         env.topFrame().operandStack.pushBv32(ret);
     }
@@ -1472,8 +1472,8 @@ public final class ArithmeticVM extends AbstractVM {
         if (!intExpr.containsSymbolicVariable()) {
             realExpr = ExpressionFactory.buildNewRealConstant(concVal);
         } else {
-            realExpr = new IntegerToRealCast(intExpr,
-                    (double) concVal);
+            realExpr = ExpressionFactory.intern(new IntegerToRealCast(intExpr,
+                    (double) concVal));
         }
         env.topFrame().operandStack.pushFp32(realExpr);
     }
@@ -1491,8 +1491,8 @@ public final class ArithmeticVM extends AbstractVM {
         if (!intExpr.containsSymbolicVariable()) {
             realExpr = ExpressionFactory.buildNewRealConstant(concVal);
         } else {
-            realExpr = new IntegerToRealCast(intExpr,
-                    concVal);
+            realExpr = ExpressionFactory.intern(new IntegerToRealCast(intExpr,
+                    concVal));
         }
         env.topFrame().operandStack.pushFp64(realExpr);
     }
@@ -1512,8 +1512,8 @@ public final class ArithmeticVM extends AbstractVM {
         if (!intExpr.containsSymbolicVariable()) {
             realExpr = ExpressionFactory.buildNewRealConstant(concVal);
         } else {
-            realExpr = new IntegerToRealCast(intExpr,
-                    (double) concVal);
+            realExpr = ExpressionFactory.intern(new IntegerToRealCast(intExpr,
+                    (double) concVal));
         }
         env.topFrame().operandStack.pushFp32(realExpr);
     }
@@ -1527,8 +1527,8 @@ public final class ArithmeticVM extends AbstractVM {
         if (!intExpr.containsSymbolicVariable()) {
             realExpr = ExpressionFactory.buildNewRealConstant(concVal);
         } else {
-            realExpr = new IntegerToRealCast(intExpr,
-                    concVal);
+            realExpr = ExpressionFactory.intern(new IntegerToRealCast(intExpr,
+                    concVal));
         }
         env.topFrame().operandStack.pushFp64(realExpr);
     }
@@ -1542,7 +1542,7 @@ public final class ArithmeticVM extends AbstractVM {
         if (!realExpr.containsSymbolicVariable()) {
             intExpr = ExpressionFactory.buildNewIntegerConstant(concVal);
         } else {
-            intExpr = new RealToIntegerCast(realExpr, (long) concVal);
+            intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, (long) concVal));
         }
         env.topFrame().operandStack.pushBv32(intExpr);
     }
@@ -1556,7 +1556,7 @@ public final class ArithmeticVM extends AbstractVM {
         if (!realExpr.containsSymbolicVariable()) {
             intExpr = ExpressionFactory.buildNewIntegerConstant(concVal);
         } else {
-            intExpr = new RealToIntegerCast(realExpr, concVal);
+            intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, concVal));
         }
         env.topFrame().operandStack.pushBv64(intExpr);
     }
@@ -1576,7 +1576,7 @@ public final class ArithmeticVM extends AbstractVM {
         if (!realExpr.containsSymbolicVariable()) {
             intExpr = ExpressionFactory.buildNewIntegerConstant(concVal);
         } else {
-            intExpr = new RealToIntegerCast(realExpr, (long) concVal);
+            intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, (long) concVal));
         }
         env.topFrame().operandStack.pushBv32(intExpr);
     }
@@ -1590,7 +1590,7 @@ public final class ArithmeticVM extends AbstractVM {
         if (!realExpr.containsSymbolicVariable()) {
             intExpr = ExpressionFactory.buildNewIntegerConstant(concVal);
         } else {
-            intExpr = new RealToIntegerCast(realExpr, concVal);
+            intExpr = ExpressionFactory.intern(new RealToIntegerCast(realExpr, concVal));
         }
         env.topFrame().operandStack.pushBv64(intExpr);
     }
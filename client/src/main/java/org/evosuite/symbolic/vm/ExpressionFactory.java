@@ -19,6 +19,7 @@
  */
 package org.evosuite.symbolic.vm;
 
+import org.evosuite.symbolic.expr.Expression;
 import org.evosuite.symbolic.expr.Operator;
 import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
 import org.evosuite.symbolic.expr.bv.IntegerConstant;
@@ -42,6 +43,11 @@ import org.evosuite.symbolic.vm.heap.SymbolicHeap;
 import org.evosuite.utils.TypeUtil;
 import org.objectweb.asm.Type;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
 
 /**
  * Expression factory for creating symbolic expressions.
@@ -69,6 +75,61 @@ public abstract class ExpressionFactory {
     public static final NullTypeConstant NULL_TYPE_REFERENCE = NullTypeConstant.getInstance();
     public static final ClassTypeConstant OBJECT_TYPE_REFERENCE = buildObjectTypeConstant();
 
+    /**
+     * Canonical instances of the expressions built during the current concolic execution.
+     */
+    private static final Map<InternKey, Expression<?>> internedExpressions =
+            Collections.synchronizedMap(new HashMap<>());
+
+    /**
+     * Returns the canonical instance of the given expression, so that structurally equal
+     * subexpressions of a path condition are represented by a single shared node. Expressions
+     * are only shared if they also have the same concrete value. As their hash codes are cached,
+     * comparing two expressions built from shared nodes does not traverse the whole tree.
+     *
+     * @param expression a newly built expression
+     * @param <E>        the type of the expression
+     * @return an equal expression, which is {@code expression} if it was not built before
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Expression<?>> E intern(E expression) {
+        Expression<?> canonical = internedExpressions.putIfAbsent(new InternKey(expression), expression);
+        return canonical == null ? expression : (E) canonical;
+    }
+
+    /**
+     * Forgets all canonical expressions. Called before each concolic execution, so that the table
+     * only holds the expressions of one path.
+     */
+    public static void clearInternedExpressions() {
+        internedExpressions.clear();
+    }
+
+    private static final class InternKey {
+
+        private final Expression<?> expression;
+
+        private InternKey(Expression<?> expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof InternKey)) {
+                return false;
+            }
+            Expression<?> other = ((InternKey) obj).expression;
+            return expression.getClass() == other.getClass()
+                    && Objects.equals(expression.getConcreteValue(), other.getConcreteValue())
+                    && expression.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * expression.hashCode() + Objects.hashCode(expression.getConcreteValue());
+        }
+    }
+
     /**
      * Builds a new integer constant.
      *
@@ -167,7 +228,7 @@ public abstract class ExpressionFactory {
 
         // can only optimize if left is a literal
         if (!(left instanceof IntegerConstant)) {
-            return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+            return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
         }
 
         /*
@@ -198,12 +259,12 @@ public abstract class ExpressionFactory {
 
                 IntegerConstant sum = buildNewIntegerConstant(a + b);
 
-                return new IntegerBinaryExpression(sum, Operator.PLUS,
-                        add.getRightOperand(), con);
+                return intern(new IntegerBinaryExpression(sum, Operator.PLUS,
+                        add.getRightOperand(), con));
             }
         }
 
-        return new IntegerBinaryExpression(left, Operator.PLUS, right, con);
+        return intern(new IntegerBinaryExpression(left, Operator.PLUS, right, con));
     }
 
     /**
@@ -227,7 +288,7 @@ public abstract class ExpressionFactory {
                                                 RealValue left, double con) {
         // can only optimize if left is a literal
         if (!(left instanceof RealConstant)) {
-            return new RealBinaryExpression(left, Operator.PLUS, right, con);
+            return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
         }
 
         /*
@@ -258,12 +319,12 @@ public abstract class ExpressionFactory {
 
                 RealConstant sum = buildNewRealConstant(a + b);
 
-                return new RealBinaryExpression(sum, Operator.PLUS,
-                        add.getRightOperand(), con);
+                return intern(new RealBinaryExpression(sum, Operator.PLUS,
+                        add.getRightOperand(), con));
             }
         }
 
-        return new RealBinaryExpression(left, Operator.PLUS, right, con);
+        return intern(new RealBinaryExpression(left, Operator.PLUS, right, con));
 
     }
 
@@ -315,8 +376,8 @@ public abstract class ExpressionFactory {
 
         }
 
-        return new IntegerBinaryExpression(left, Operator.MUL, right,
-                con);
+        return intern(new IntegerBinaryExpression(left, Operator.MUL, right,
+                con));
     }
 
     /**
@@ -365,7 +426,7 @@ public abstract class ExpressionFactory {
 
         }
 
-        return new RealBinaryExpression(left, Operator.MUL, right, con);
+        return intern(new RealBinaryExpression(left, Operator.MUL, right, con));
     }
 
     /**
@@ -385,7 +446,7 @@ public abstract class ExpressionFactory {
             return buildNewRealConstant(0);
         }
 
-        return new RealBinaryExpression(left, Operator.DIV, right, con);
+        return intern(new RealBinaryExpression(left, Operator.DIV, right, con));
     }
 
     /**
@@ -406,7 +467,7 @@ public abstract class ExpressionFactory {
             return buildNewIntegerConstant(0);
         }
 
-        return new IntegerBinaryExpression(left, Operator.DIV, right, con);
+        return intern(new IntegerBinaryExpression(left, Operator.DIV, right, con));
     }
 
     /**
@@ -426,7 +487,7 @@ public abstract class ExpressionFactory {
             return buildNewRealConstant(0);
         }
 
-        return new RealBinaryExpression(left, Operator.REM, right, con);
+        return intern(new RealBinaryExpression(left, Operator.REM, right, con));
     }
 
     /**
@@ -447,7 +508,7 @@ public abstract class ExpressionFactory {
             return buildNewIntegerConstant(0);
         }
 
-        return new IntegerBinaryExpression(left, Operator.REM, right, con);
+        return intern(new IntegerBinaryExpression(left, Operator.REM, right, con));
     }
 
     /* *************************** Arrays. *************************** */
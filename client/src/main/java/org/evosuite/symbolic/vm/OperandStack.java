@@ -24,29 +24,118 @@ import org.evosuite.symbolic.expr.fp.RealValue;
 import org.evosuite.symbolic.expr.ref.NullReferenceConstant;
 import org.evosuite.symbolic.expr.ref.ReferenceExpression;
 
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
 
 /**
  * Represents the operand stack in the symbolic virtual machine.
  *
+ * <p>Operands are kept in two parallel arrays, one with the expression and
+ * one with its kind, so that the typed push, pop and peek operations used by
+ * the listeners on every instruction do not allocate {@link Operand}
+ * wrappers. Wrappers are only created by {@link #popOperand()},
+ * {@link #peekOperand()} and the iterator.
+ *
  * @author galeotti
  */
 public final class OperandStack implements Iterable<Operand> {
 
-    private final Deque<Operand> stack = new LinkedList<>();
+    private static final byte BV32 = 0;
+    private static final byte BV64 = 1;
+    private static final byte FP32 = 2;
+    private static final byte FP64 = 3;
+    private static final byte REF = 4;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] expressions = new Object[INITIAL_CAPACITY];
+
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+
+    private int size = 0;
 
     public OperandStack() {
     }
 
+    private void push(byte kind, Object expression) {
+        if (size == expressions.length) {
+            expressions = Arrays.copyOf(expressions, size * 2);
+            kinds = Arrays.copyOf(kinds, size * 2);
+        }
+        expressions[size] = expression;
+        kinds[size] = kind;
+        size++;
+    }
+
+    /**
+     * Removes the top of the stack, checking that it is of the given kind.
+     *
+     * @return the expression on top of the stack
+     */
+    private Object pop(byte kind) {
+        Object expression = peek(kind);
+        expressions[--size] = null;
+        return expression;
+    }
+
+    /**
+     * Returns the top of the stack, checking that it is of the given kind.
+     *
+     * @return the expression on top of the stack
+     */
+    private Object peek(byte kind) {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (kinds[size - 1] != kind) {
+            throw new ClassCastException("top of stack is not a " + kindName(kind)
+                    + " but a " + kindName(kinds[size - 1]) + " operand");
+        }
+        return expressions[size - 1];
+    }
+
+    private static String kindName(byte kind) {
+        switch (kind) {
+            case BV32:
+                return "bv32";
+            case BV64:
+                return "bv64";
+            case FP32:
+                return "fp32";
+            case FP64:
+                return "fp64";
+            default:
+                return "reference";
+        }
+    }
+
+    /**
+     * Wraps the operand at the given position of the arrays.
+     */
+    private Operand toOperand(int index) {
+        Object expression = expressions[index];
+        switch (kinds[index]) {
+            case BV32:
+                return new Bv32Operand((IntegerValue) expression);
+            case BV64:
+                return new Bv64Operand((IntegerValue) expression);
+            case FP32:
+                return new Fp32Operand((RealValue) expression);
+            case FP64:
+                return new Fp64Operand((RealValue) expression);
+            default:
+                return new ReferenceOperand((ReferenceExpression) expression);
+        }
+    }
+
     /**
      * Pushes a 32-bit bitvector operand onto the stack.
      *
      * @param e the integer value to push
      */
     public void pushBv32(IntegerValue e) {
-        stack.push(new Bv32Operand(e));
+        push(BV32, e);
     }
 
     /**
@@ -55,7 +144,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @param e the integer value to push
      */
     public void pushBv64(IntegerValue e) {
-        stack.push(new Bv64Operand(e));
+        push(BV64, e);
     }
 
     /**
@@ -64,7 +153,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @param e the real value to push
      */
     public void pushFp32(RealValue e) {
-        stack.push(new Fp32Operand(e));
+        push(FP32, e);
     }
 
     /**
@@ -73,7 +162,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @param e the real value to push
      */
     public void pushFp64(RealValue e) {
-        stack.push(new Fp64Operand(e));
+        push(FP64, e);
     }
 
     /**
@@ -82,7 +171,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @param r the reference expression to push
      */
     public void pushRef(ReferenceExpression r) {
-        stack.push(new ReferenceOperand(r));
+        push(REF, r);
     }
 
     /**
@@ -90,7 +179,7 @@ public final class OperandStack implements Iterable<Operand> {
      */
     public void pushNullRef() {
         NullReferenceConstant nullExpression = ExpressionFactory.NULL_REFERENCE;
-        this.stack.push(new ReferenceOperand(nullExpression));
+        push(REF, nullExpression);
     }
 
     /**
@@ -99,9 +188,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the reference expression
      */
     public ReferenceExpression popRef() {
-        Operand retVal = this.popOperand();
-        ReferenceOperand ref = (ReferenceOperand) retVal;
-        return ref.getReference();
+        return (ReferenceExpression) pop(REF);
     }
 
     /**
@@ -110,9 +197,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the integer value
      */
     public IntegerValue popBv32() {
-        Operand x = this.popOperand();
-        Bv32Operand e = (Bv32Operand) x;
-        return e.getIntegerExpression();
+        return (IntegerValue) pop(BV32);
     }
 
     /**
@@ -121,9 +206,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the integer value
      */
     public IntegerValue popBv64() {
-        Operand x = this.popOperand();
-        Bv64Operand e = (Bv64Operand) x;
-        return e.getIntegerExpression();
+        return (IntegerValue) pop(BV64);
     }
 
     /**
@@ -132,9 +215,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the real value
      */
     public RealValue popFp32() {
-        Operand x = this.popOperand();
-        Fp32Operand e = (Fp32Operand) x;
-        return e.getRealExpression();
+        return (RealValue) pop(FP32);
     }
 
     /**
@@ -143,9 +224,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the real value
      */
     public RealValue popFp64() {
-        Operand x = this.popOperand();
-        Fp64Operand e = (Fp64Operand) x;
-        return e.getRealExpression();
+        return (RealValue) pop(FP64);
     }
 
     /**
@@ -154,7 +233,11 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the operand
      */
     public Operand popOperand() {
-        Operand retVal = this.stack.pop();
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        Operand retVal = toOperand(size - 1);
+        expressions[--size] = null;
         return retVal;
     }
 
@@ -167,7 +250,19 @@ public final class OperandStack implements Iterable<Operand> {
         if (operand == null) {
             throw new IllegalArgumentException("Cannot push a null operand into OperandStack");
         }
-        stack.push(operand);
+        if (operand instanceof Bv32Operand) {
+            pushBv32(((Bv32Operand) operand).getIntegerExpression());
+        } else if (operand instanceof Bv64Operand) {
+            pushBv64(((Bv64Operand) operand).getIntegerExpression());
+        } else if (operand instanceof Fp32Operand) {
+            pushFp32(((Fp32Operand) operand).getRealExpression());
+        } else if (operand instanceof Fp64Operand) {
+            pushFp64(((Fp64Operand) operand).getRealExpression());
+        } else if (operand instanceof ReferenceOperand) {
+            pushRef(((ReferenceOperand) operand).getReference());
+        } else {
+            throw new IllegalArgumentException("Unknown operand type " + operand.getClass().getCanonicalName());
+        }
     }
 
     /**
@@ -176,9 +271,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the real value
      */
     public RealValue peekFp64() {
-        Operand operand = stack.peek();
-        Fp64Operand fp64 = (Fp64Operand) operand;
-        return fp64.getRealExpression();
+        return (RealValue) peek(FP64);
     }
 
     /**
@@ -187,9 +280,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the real value
      */
     public RealValue peekFp32() {
-        Operand operand = stack.peek();
-        Fp32Operand fp32 = (Fp32Operand) operand;
-        return fp32.getRealExpression();
+        return (RealValue) peek(FP32);
     }
 
     /**
@@ -198,9 +289,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the integer value
      */
     public IntegerValue peekBv64() {
-        Operand operand = stack.peek();
-        Bv64Operand bv64 = (Bv64Operand) operand;
-        return bv64.getIntegerExpression();
+        return (IntegerValue) peek(BV64);
     }
 
     /**
@@ -209,27 +298,44 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the integer value
      */
     public IntegerValue peekBv32() {
-        Operand operand = stack.peek();
-        Bv32Operand bv32 = (Bv32Operand) operand;
-        return bv32.getIntegerExpression();
+        return (IntegerValue) peek(BV32);
     }
 
     /**
      * Peeks an operand from the stack.
      *
-     * @return the operand
+     * @return the operand, or null if the stack is empty
      */
     public Operand peekOperand() {
-        return stack.peek();
+        if (size == 0) {
+            return null;
+        }
+        return toOperand(size - 1);
     }
 
     /**
-     * Returns an iterator over the operands on the stack.
+     * Returns an iterator over the operands on the stack, from the top of the
+     * stack to its bottom.
      *
      * @return an iterator
      */
     public Iterator<Operand> iterator() {
-        return stack.iterator();
+        return new Iterator<Operand>() {
+            private int next = size - 1;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Operand next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                return toOperand(next--);
+            }
+        };
     }
 
     /**
@@ -238,19 +344,12 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the reference expression
      */
     public ReferenceExpression peekRef() {
-        Operand operand = this.peekOperand();
-        if (!(operand instanceof ReferenceOperand)) {
-            throw new ClassCastException(
-                    "top of stack is not a reference but an operand of type " + operand.getClass().getCanonicalName());
-        }
-        ReferenceOperand refOp = (ReferenceOperand) operand;
-        ReferenceExpression ref = refOp.getReference();
-        return ref;
+        return (ReferenceExpression) peek(REF);
     }
 
     @Override
     public String toString() {
-        if (this.stack.isEmpty()) {
+        if (this.size == 0) {
             return "<<EMPTY_OPERAND_STACK>>";
         }
 
@@ -267,7 +366,7 @@ public final class OperandStack implements Iterable<Operand> {
      * @return the stack size
      */
     public int size() {
-        return stack.size();
+        return size;
     }
 
     /**
@@ -276,13 +375,14 @@ public final class OperandStack implements Iterable<Operand> {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return stack.isEmpty();
+        return size == 0;
     }
 
     /**
      * Clears all operands from the stack.
      */
     public void clearOperands() {
-        stack.clear();
+        Arrays.fill(expressions, 0, size, null);
+        size = 0;
     }
 }
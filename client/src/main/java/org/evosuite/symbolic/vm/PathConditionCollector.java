@@ -19,6 +19,7 @@
  */
 package org.evosuite.symbolic.vm;
 
+import org.evosuite.Properties;
 import org.evosuite.symbolic.ArrayAccessBranchCondition;
 import org.evosuite.symbolic.BranchCondition;
 import org.evosuite.symbolic.IfBranchCondition;
@@ -27,19 +28,40 @@ import org.evosuite.symbolic.expr.Constraint;
 import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
 import org.evosuite.symbolic.expr.constraint.ReferenceConstraint;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Collects a path condition during concolic execution.
  *
+ * <p>The number of recorded branch conditions can be bounded with
+ * {@link Properties#DSE_MAX_PATH_CONDITION_LENGTH} and {@link Properties#DSE_MAX_CONDITIONS_PER_BRANCH},
+ * and repeated conditions can be dropped with {@link Properties#DSE_DEDUPLICATE_BRANCH_CONDITIONS}.
+ *
  * @author galeotti
  */
 public final class PathConditionCollector {
 
-    private final List<BranchCondition> branchConditions = new LinkedList<>();
+    private final List<BranchCondition> branchConditions = new ArrayList<>();
+
+    private final List<Constraint<?>> currentSupportingConstraints = new ArrayList<>();
+
+    /**
+     * Branch conditions already recorded, if they are deduplicated.
+     */
+    private final Set<BranchCondition> recordedBranchConditions = new HashSet<>();
+
+    /**
+     * Number of conditions recorded for each branch instruction, if they are bounded.
+     */
+    private final Map<String, Integer> conditionsPerBranch = new HashMap<>();
 
-    private final LinkedList<Constraint<?>> currentSupportingConstraints = new LinkedList<>();
+    private int droppedBranchConditions = 0;
 
     private static Constraint<?> normalizeConstraint(IntegerConstraint c) {
         return ConstraintNormalizer.normalize(c);
@@ -85,7 +107,7 @@ public final class PathConditionCollector {
                 normalizedConstraint,
                 isErrorBranch);
 
-        branchConditions.add(branchCondition);
+        appendBranchCondition(branchCondition);
     }
 
     /**
@@ -102,15 +124,12 @@ public final class PathConditionCollector {
 
         Constraint<?> normalizedConstraint = normalizeConstraint(c);
 
-        LinkedList<Constraint<?>> branchSupportingConstraints = new LinkedList<>(
-                currentSupportingConstraints);
+        List<Constraint<?>> branchSupportingConstraints = takeSupportingConstraints();
 
         IfBranchCondition newBranch = new IfBranchCondition(className, methName, branchIndex, normalizedConstraint,
                 branchSupportingConstraints, isTrueBranch);
 
-        branchConditions.add(newBranch);
-
-        currentSupportingConstraints.clear();
+        appendBranchCondition(newBranch);
     }
 
     /**
@@ -125,15 +144,12 @@ public final class PathConditionCollector {
     public void appendIfBranchCondition(String className, String methName, int branchIndex, boolean isTrueBranch,
                                         ReferenceConstraint c) {
 
-        LinkedList<Constraint<?>> branchSupportingConstraints = new LinkedList<>(
-                currentSupportingConstraints);
+        List<Constraint<?>> branchSupportingConstraints = takeSupportingConstraints();
 
         IfBranchCondition newBranch = new IfBranchCondition(className, methName, branchIndex, c,
                 branchSupportingConstraints, isTrueBranch);
 
-        branchConditions.add(newBranch);
-
-        currentSupportingConstraints.clear();
+        appendBranchCondition(newBranch);
     }
 
     /**
@@ -151,15 +167,12 @@ public final class PathConditionCollector {
 
         Constraint<?> normalizedConstraint = normalizeConstraint(c);
 
-        LinkedList<Constraint<?>> branchSupportingConstraints = new LinkedList<>(
-                currentSupportingConstraints);
+        List<Constraint<?>> branchSupportingConstraints = takeSupportingConstraints();
 
         SwitchBranchCondition newBranch = new SwitchBranchCondition(className, methodName, instructionIndex,
                 normalizedConstraint, branchSupportingConstraints, goal);
 
-        branchConditions.add(newBranch);
-
-        currentSupportingConstraints.clear();
+        appendBranchCondition(newBranch);
 
     }
 
@@ -169,7 +182,56 @@ public final class PathConditionCollector {
      * @return the list of branch conditions
      */
     public List<BranchCondition> getPathCondition() {
-        return new LinkedList<>(branchConditions);
+        return new ArrayList<>(branchConditions);
+    }
+
+    /**
+     * Returns the number of branch conditions that were not recorded because of the
+     * recording budgets or because they were repeated.
+     *
+     * @return the number of dropped branch conditions
+     */
+    public int getNumberOfDroppedBranchConditions() {
+        return droppedBranchConditions;
+    }
+
+    /**
+     * Returns the supporting constraints collected for the next branch condition and starts
+     * collecting new ones. Most branch conditions have none, so they share the empty list.
+     *
+     * @return the supporting constraints
+     */
+    private List<Constraint<?>> takeSupportingConstraints() {
+        if (currentSupportingConstraints.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Constraint<?>> supportingConstraints = new ArrayList<>(currentSupportingConstraints);
+        currentSupportingConstraints.clear();
+        return supportingConstraints;
+    }
+
+    private void appendBranchCondition(BranchCondition branchCondition) {
+        if (Properties.DSE_MAX_PATH_CONDITION_LENGTH > 0
+                && branchConditions.size() >= Properties.DSE_MAX_PATH_CONDITION_LENGTH) {
+            droppedBranchConditions++;
+            return;
+        }
+
+        if (Properties.DSE_MAX_CONDITIONS_PER_BRANCH > 0) {
+            String branch = branchCondition.getFullName() + ":" + branchCondition.getInstructionIndex();
+            int conditions = conditionsPerBranch.merge(branch, 1, Integer::sum);
+            if (conditions > Properties.DSE_MAX_CONDITIONS_PER_BRANCH) {
+                droppedBranchConditions++;
+                return;
+            }
+        }
+
+        if (Properties.DSE_DEDUPLICATE_BRANCH_CONDITIONS && !recordedBranchConditions.add(branchCondition)) {
+            droppedBranchConditions++;
+            return;
+        }
+
+        branchConditions.add(branchCondition);
     }
 
     /**
@@ -186,15 +248,12 @@ public final class PathConditionCollector {
 
         Constraint<?> normalizedConstraint = normalizeConstraint(c);
 
-        LinkedList<Constraint<?>> branchSupportingConstraints = new LinkedList<>(
-                currentSupportingConstraints);
+        List<Constraint<?>> branchSupportingConstraints = takeSupportingConstraints();
 
         SwitchBranchCondition newBranch = new SwitchBranchCondition(className, methodName, instructionIndex,
                 normalizedConstraint, branchSupportingConstraints);
 
-        branchConditions.add(newBranch);
-
-        currentSupportingConstraints.clear();
+        appendBranchCondition(newBranch);
 
     }
 
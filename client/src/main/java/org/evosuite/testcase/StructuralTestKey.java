@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase;
+
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+
+import java.util.Objects;
+
+/**
+ * Map key for a test that compares tests statement by statement with
+ * {@link Statement#same(Statement)}, rather than by identity of their variables like
+ * {@link DefaultTestCase#equals(Object)}. No code has to be generated to compare two keys.
+ *
+ * <p>The key does not copy the test, and its hash code is computed once. A test that may
+ * still change must be cloned before it is wrapped.
+ */
+public final class StructuralTestKey {
+
+    private final TestCase test;
+
+    private final int hashCode;
+
+    /**
+     * @param test the test, which must not change while the key is in use
+     */
+    public StructuralTestKey(TestCase test) {
+        this.test = test;
+        // consistent with Statement.same: the kinds of the statements and the primitive values
+        int hash = test.size();
+        for (Statement statement : test) {
+            hash = 31 * hash + statement.getClass().hashCode();
+            if (statement instanceof PrimitiveStatement) {
+                hash = 31 * hash + Objects.hashCode(((PrimitiveStatement<?>) statement).getValue());
+            }
+        }
+        this.hashCode = hash;
+    }
+
+    public TestCase getTest() {
+        return test;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof StructuralTestKey)) {
+            return false;
+        }
+        StructuralTestKey other = (StructuralTestKey) obj;
+        if (hashCode != other.hashCode || test.size() != other.test.size()) {
+            return false;
+        }
+        for (int i = 0; i < test.size(); i++) {
+            if (!test.getStatement(i).same(other.test.getStatement(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,1103 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase;
+
+import org.evosuite.TestGenerationContext;
+import org.evosuite.testcase.statements.ArrayStatement;
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.statements.ClassPrimitiveStatement;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.EnumPrimitiveStatement;
+import org.evosuite.testcase.statements.FieldStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.NullStatement;
+import org.evosuite.testcase.statements.PrimitiveStatement;
+import org.evosuite.testcase.statements.Statement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.BooleanPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.BytePrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.CharPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.DoublePrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.FloatPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.LongPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.ShortPrimitiveStatement;
+import org.evosuite.testcase.variable.ArrayIndex;
+import org.evosuite.testcase.variable.ArrayReference;
+import org.evosuite.testcase.variable.ConstantValue;
+import org.evosuite.testcase.variable.FieldReference;
+import org.evosuite.testcase.variable.NullReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.ParameterizedTypeImpl;
+import org.evosuite.utils.generic.GenericArrayTypeImpl;
+import org.evosuite.utils.generic.GenericClass;
+import org.evosuite.utils.generic.GenericClassFactory;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericField;
+import org.evosuite.utils.generic.GenericMethod;
+import org.evosuite.utils.generic.WildcardTypeImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of test cases.
+ *
+ * <p>Tests are written as a sequence of statements whose types and members
+ * are referenced by name through a string table that is shared by all
+ * records of a stream, so a class or method name is only written once.
+ * Only the structure of the test is kept: assertions, execution results and
+ * fitness values are dropped and have to be recomputed after decoding.
+ *
+ * <p>Statements that have no compact form (mocks, environment data,
+ * reflection, uninterpreted code, ...) make the whole test fall back to
+ * standard Java serialization within the same stream. Every record is
+ * length-prefixed, so a test that cannot be decoded (e.g., because a class
+ * is no longer on the classpath) is skipped without affecting the others.
+ */
+public final class TestCaseCodec {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestCaseCodec.class);
+
+    /**
+     * First four bytes of every encoded stream ("EVOT").
+     */
+    public static final int MAGIC = 0x45564f54;
+
+    private static final int VERSION = 1;
+
+    // Record kinds
+    private static final int END = 0;
+    private static final int TEST = 1;
+    private static final int SERIALIZED_TEST = 2;
+    private static final int CLASS = 3;
+    private static final int SERIALIZED_CLASS = 4;
+
+    // Statements
+    private static final int S_BOOLEAN = 1;
+    private static final int S_BYTE = 2;
+    private static final int S_CHAR = 3;
+    private static final int S_SHORT = 4;
+    private static final int S_INT = 5;
+    private static final int S_LONG = 6;
+    private static final int S_FLOAT = 7;
+    private static final int S_DOUBLE = 8;
+    private static final int S_STRING = 9;
+    private static final int S_ENUM = 10;
+    private static final int S_CLASS = 11;
+    private static final int S_NULL = 12;
+    private static final int S_CONSTRUCTOR = 13;
+    private static final int S_METHOD = 14;
+    private static final int S_FIELD = 15;
+    private static final int S_ARRAY = 16;
+    private static final int S_ASSIGNMENT = 17;
+
+    // Variable references
+    private static final int R_NONE = 0;
+    private static final int R_VAR = 1;
+    private static final int R_CONSTANT = 2;
+    private static final int R_NULL = 3;
+    private static final int R_ARRAY_INDEX = 4;
+    private static final int R_FIELD = 5;
+
+    // Types
+    private static final int T_NONE = 0;
+    private static final int T_CLASS = 1;
+    private static final int T_RAW = 2;
+    private static final int T_PARAMETERIZED = 3;
+    private static final int T_ARRAY = 4;
+    private static final int T_WILDCARD = 5;
+    private static final int T_VARIABLE = 6;
+
+    // Values
+    private static final int V_NULL = 0;
+    private static final int V_BOOLEAN = 1;
+    private static final int V_BYTE = 2;
+    private static final int V_CHAR = 3;
+    private static final int V_SHORT = 4;
+    private static final int V_INT = 5;
+    private static final int V_LONG = 6;
+    private static final int V_FLOAT = 7;
+    private static final int V_DOUBLE = 8;
+    private static final int V_STRING = 9;
+    private static final int V_CLASS = 10;
+    private static final int V_ENUM = 11;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> c : Arrays.asList(boolean.class, byte.class, char.class, short.class, int.class,
+                long.class, float.class, double.class, void.class)) {
+            PRIMITIVES.put(c.getName(), c);
+        }
+    }
+
+    private TestCaseCodec() {
+    }
+
+    /**
+     * Encodes the given tests into a self-contained byte array.
+     *
+     * @param tests the tests to encode
+     * @return the encoded stream
+     */
+    public static byte[] encode(Collection<? extends TestCase> tests) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            Encoder encoder = new Encoder(bytes);
+            for (TestCase test : tests) {
+                encoder.writeTest(test);
+            }
+            encoder.finish();
+        } catch (IOException e) {
+            // cannot happen on an in-memory stream
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a byte array produced by {@link #encode(Collection)}.
+     *
+     * @param data the encoded stream
+     * @return the tests that could be decoded
+     * @throws IOException if the data is not a valid stream
+     */
+    public static List<TestCase> decode(byte[] data) throws IOException {
+        Decoder decoder = new Decoder(new ByteArrayInputStream(data));
+        List<TestCase> tests = new ArrayList<>();
+        TestCase test;
+        while ((test = decoder.readTest()) != null) {
+            tests.add(test);
+        }
+        return tests;
+    }
+
+    /**
+     * Checks whether the given header bytes start an encoded stream.
+     *
+     * @param header at least the first four bytes of a file or stream
+     * @return true if the header matches {@link #MAGIC}
+     */
+    public static boolean hasMagic(byte[] header) {
+        return header.length >= 4
+                && ((header[0] & 0xff) << 24 | (header[1] & 0xff) << 16
+                | (header[2] & 0xff) << 8 | (header[3] & 0xff)) == MAGIC;
+    }
+
+    /**
+     * Thrown while encoding a test that contains an element without a
+     * compact form; the test is then written with Java serialization.
+     */
+    private static final class UnsupportedElementException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedElementException(Object element) {
+            super("No compact encoding for " + (element == null ? "null" : element.getClass().getName()));
+        }
+    }
+
+    /**
+     * Writes tests and classes to a stream. {@link #finish()} must be called
+     * once all records have been written.
+     */
+    public static final class Encoder {
+
+        private final DataOutputStream out;
+
+        private final Map<String, Integer> stringIds = new HashMap<>();
+
+        private final List<String> strings = new ArrayList<>();
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+
+        private final DataOutputStream body = new DataOutputStream(buffer);
+
+        private TestCase current;
+
+        /**
+         * Creates an encoder and writes the stream header.
+         *
+         * @param out the target stream
+         * @throws IOException if writing the header fails
+         */
+        public Encoder(OutputStream out) throws IOException {
+            this.out = new DataOutputStream(out);
+            this.out.writeInt(MAGIC);
+            this.out.writeByte(VERSION);
+        }
+
+        /**
+         * Writes one test case.
+         *
+         * @param test the test to write
+         * @throws IOException if writing fails
+         */
+        public void writeTest(TestCase test) throws IOException {
+            int mark = strings.size();
+            buffer.reset();
+            try {
+                current = test;
+                writeVarInt(body, test.size());
+                for (Statement statement : test) {
+                    writeStatement(statement);
+                }
+                writeRecord(TEST, mark);
+            } catch (UnsupportedElementException e) {
+                logger.debug("Falling back to Java serialization: {}", e.getMessage());
+                rollback(mark);
+                writeSerialized(SERIALIZED_TEST, test);
+            } finally {
+                current = null;
+            }
+        }
+
+        /**
+         * Writes one generic class, e.g. the key of an object pool.
+         *
+         * @param clazz the class to write
+         * @throws IOException if writing fails
+         */
+        public void writeClass(GenericClass<?> clazz) throws IOException {
+            int mark = strings.size();
+            buffer.reset();
+            try {
+                writeType(clazz.getType());
+                writeRecord(CLASS, mark);
+            } catch (UnsupportedElementException e) {
+                rollback(mark);
+                writeSerialized(SERIALIZED_CLASS, clazz);
+            }
+        }
+
+        /**
+         * Terminates the stream and flushes it.
+         *
+         * @throws IOException if writing fails
+         */
+        public void finish() throws IOException {
+            out.writeByte(END);
+            out.flush();
+        }
+
+        private void writeRecord(int kind, int mark) throws IOException {
+            out.writeByte(kind);
+            writeVarInt(out, strings.size() - mark);
+            for (int i = mark; i < strings.size(); i++) {
+                writeText(out, strings.get(i));
+            }
+            writeVarInt(out, buffer.size());
+            buffer.writeTo(out);
+        }
+
+        private void writeSerialized(int kind, Object object) throws IOException {
+            buffer.reset();
+            ObjectOutputStream objectOut = new ObjectOutputStream(buffer);
+            objectOut.writeObject(object);
+            objectOut.flush();
+            writeRecord(kind, strings.size());
+        }
+
+        private void rollback(int mark) {
+            while (strings.size() > mark) {
+                stringIds.remove(strings.remove(strings.size() - 1));
+            }
+        }
+
+        private void writeName(String name) throws IOException {
+            Integer id = stringIds.get(name);
+            if (id == null) {
+                id = strings.size();
+                strings.add(name);
+                stringIds.put(name, id);
+            }
+            writeVarInt(body, id);
+        }
+
+        private void writeStatement(Statement statement) throws IOException, UnsupportedElementException {
+            Class<?> kind = statement.getClass();
+            if (kind == AssignmentStatement.class) {
+                body.writeByte(S_ASSIGNMENT);
+                writeRef(statement.getReturnValue());
+                writeRef(((AssignmentStatement) statement).getValue());
+                return;
+            }
+
+            int tag = statementTag(kind);
+            body.writeByte(tag);
+            writeType(statement.getReturnValue().getType());
+            switch (tag) {
+                case S_ENUM: {
+                    EnumPrimitiveStatement<?> enumStatement = (EnumPrimitiveStatement<?>) statement;
+                    writeType(enumStatement.getEnumClass());
+                    Enum<?> value = enumStatement.getValue();
+                    body.writeBoolean(value != null);
+                    if (value != null) {
+                        writeName(value.name());
+                    }
+                    break;
+                }
+                case S_CLASS:
+                    writeType(((ClassPrimitiveStatement) statement).getValue());
+                    break;
+                case S_NULL:
+                    break;
+                case S_CONSTRUCTOR: {
+                    ConstructorStatement constructorStatement = (ConstructorStatement) statement;
+                    GenericConstructor constructor = constructorStatement.getConstructor();
+                    Constructor<?> c = constructor.getConstructor();
+                    writeName(c.getDeclaringClass().getName());
+                    writeName(org.objectweb.asm.Type.getConstructorDescriptor(c));
+                    writeType(constructor.getOwnerType());
+                    writeRefs(constructorStatement.getParameterReferences());
+                    break;
+                }
+                case S_METHOD: {
+                    MethodStatement methodStatement = (MethodStatement) statement;
+                    GenericMethod method = methodStatement.getMethod();
+                    Method m = method.getMethod();
+                    writeName(m.getDeclaringClass().getName());
+                    writeName(m.getName());
+                    writeName(org.objectweb.asm.Type.getMethodDescriptor(m));
+                    writeType(method.getOwnerType());
+                    writeRef(methodStatement.getCallee());
+                    writeRefs(methodStatement.getParameterReferences());
+                    break;
+                }
+                case S_FIELD: {
+                    FieldStatement fieldStatement = (FieldStatement) statement;
+                    writeField(fieldStatement.getField());
+                    writeRef(fieldStatement.getSource());
+                    break;
+                }
+                case S_ARRAY: {
+                    List<Integer> lengths = ((ArrayStatement) statement).getLengths();
+                    writeVarInt(body, lengths.size());
+                    for (int length : lengths) {
+                        writeVarInt(body, length);
+                    }
+                    break;
+                }
+                default:
+                    writeValue(((PrimitiveStatement<?>) statement).getValue());
+            }
+        }
+
+        private int statementTag(Class<?> kind) throws UnsupportedElementException {
+            if (kind == MethodStatement.class) {
+                return S_METHOD;
+            } else if (kind == ConstructorStatement.class) {
+                return S_CONSTRUCTOR;
+            } else if (kind == IntPrimitiveStatement.class) {
+                return S_INT;
+            } else if (kind == StringPrimitiveStatement.class) {
+                return S_STRING;
+            } else if (kind == NullStatement.class) {
+                return S_NULL;
+            } else if (kind == FieldStatement.class) {
+                return S_FIELD;
+            } else if (kind == ArrayStatement.class) {
+                return S_ARRAY;
+            } else if (kind == BooleanPrimitiveStatement.class) {
+                return S_BOOLEAN;
+            } else if (kind == LongPrimitiveStatement.class) {
+                return S_LONG;
+            } else if (kind == DoublePrimitiveStatement.class) {
+                return S_DOUBLE;
+            } else if (kind == CharPrimitiveStatement.class) {
+                return S_CHAR;
+            } else if (kind == FloatPrimitiveStatement.class) {
+                return S_FLOAT;
+            } else if (kind == ShortPrimitiveStatement.class) {
+                return S_SHORT;
+            } else if (kind == BytePrimitiveStatement.class) {
+                return S_BYTE;
+            } else if (kind == EnumPrimitiveStatement.class) {
+                return S_ENUM;
+            } else if (kind == ClassPrimitiveStatement.class) {
+                return S_CLASS;
+            }
+            throw new UnsupportedElementException(kind);
+        }
+
+        private void writeField(GenericField field) throws IOException, UnsupportedElementException {
+            Field f = field.getField();
+            writeName(f.getDeclaringClass().getName());
+            writeName(f.getName());
+            writeType(field.getOwnerType());
+        }
+
+        private void writeRefs(List<VariableReference> refs) throws IOException, UnsupportedElementException {
+            writeVarInt(body, refs.size());
+            for (VariableReference ref : refs) {
+                writeRef(ref);
+            }
+        }
+
+        private void writeRef(VariableReference ref) throws IOException, UnsupportedElementException {
+            if (ref == null) {
+                body.writeByte(R_NONE);
+            } else if (ref instanceof ConstantValue) {
+                body.writeByte(R_CONSTANT);
+                writeType(ref.getType());
+                writeValue(((ConstantValue) ref).getValue());
+            } else if (ref instanceof ArrayIndex) {
+                ArrayIndex index = (ArrayIndex) ref;
+                body.writeByte(R_ARRAY_INDEX);
+                writeRef(index.getArray());
+                List<Integer> indices = index.getArrayIndices();
+                writeVarInt(body, indices.size());
+                for (int i : indices) {
+                    writeVarInt(body, i);
+                }
+            } else if (ref instanceof FieldReference) {
+                FieldReference fieldRef = (FieldReference) ref;
+                body.writeByte(R_FIELD);
+                writeField(fieldRef.getField());
+                writeType(ref.getType());
+                writeRef(fieldRef.getSource());
+            } else {
+                int position = positionOf(ref);
+                if (position >= 0) {
+                    body.writeByte(R_VAR);
+                    writeVarInt(body, position);
+                } else if (ref instanceof NullReference) {
+                    // A null argument that is not defined by any statement
+                    body.writeByte(R_NULL);
+                    writeType(ref.getType());
+                } else {
+                    throw new UnsupportedElementException(ref);
+                }
+            }
+        }
+
+        /**
+         * Position of the statement defining the reference in the current test,
+         * or -1 if it is not defined by any. Local search replaces arguments with
+         * null references that no statement defines, and
+         * {@link VariableReference#getStPosition()} fails on those.
+         */
+        private int positionOf(VariableReference ref) {
+            if (!(ref instanceof NullReference)) {
+                int position = ref.getStPosition();
+                return current.getStatement(position).getReturnValue() == ref ? position : -1;
+            }
+            for (int i = 0; i < current.size(); i++) {
+                if (current.getStatement(i).getReturnValue() == ref) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void writeType(Type type) throws IOException, UnsupportedElementException {
+            if (type == null) {
+                body.writeByte(T_NONE);
+            } else if (type instanceof Class) {
+                body.writeByte(T_CLASS);
+                writeName(((Class<?>) type).getName());
+            } else if (type instanceof ParameterizedType) {
+                ParameterizedType parameterized = (ParameterizedType) type;
+                Class<?> raw = (Class<?>) parameterized.getRawType();
+                Type[] arguments = parameterized.getActualTypeArguments();
+                // A raw class gets its own type variables as arguments, which
+                // cannot be written by name but are trivially restored
+                boolean isRaw = Arrays.equals(arguments, raw.getTypeParameters());
+                body.writeByte(isRaw ? T_RAW : T_PARAMETERIZED);
+                writeName(raw.getName());
+                writeType(parameterized.getOwnerType());
+                if (!isRaw) {
+                    writeVarInt(body, arguments.length);
+                    for (Type argument : arguments) {
+                        writeType(argument);
+                    }
+                }
+            } else if (type instanceof GenericArrayType) {
+                body.writeByte(T_ARRAY);
+                writeType(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                WildcardType wildcard = (WildcardType) type;
+                body.writeByte(T_WILDCARD);
+                writeVarInt(body, wildcard.getUpperBounds().length);
+                for (Type bound : wildcard.getUpperBounds()) {
+                    writeType(bound);
+                }
+                writeVarInt(body, wildcard.getLowerBounds().length);
+                for (Type bound : wildcard.getLowerBounds()) {
+                    writeType(bound);
+                }
+            } else if (type instanceof TypeVariable
+                    && ((TypeVariable<?>) type).getGenericDeclaration() instanceof Class) {
+                // Variables of generic methods cannot be looked up by name
+                TypeVariable<?> variable = (TypeVariable<?>) type;
+                body.writeByte(T_VARIABLE);
+                writeName(((Class<?>) variable.getGenericDeclaration()).getName());
+                writeName(variable.getName());
+            } else {
+                throw new UnsupportedElementException(type);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException, UnsupportedElementException {
+            if (value == null) {
+                body.writeByte(V_NULL);
+            } else if (value instanceof String) {
+                body.writeByte(V_STRING);
+                writeText(body, (String) value);
+            } else if (value instanceof Integer) {
+                body.writeByte(V_INT);
+                body.writeInt((Integer) value);
+            } else if (value instanceof Boolean) {
+                body.writeByte(V_BOOLEAN);
+                body.writeBoolean((Boolean) value);
+            } else if (value instanceof Long) {
+                body.writeByte(V_LONG);
+                body.writeLong((Long) value);
+            } else if (value instanceof Double) {
+                body.writeByte(V_DOUBLE);
+                body.writeDouble((Double) value);
+            } else if (value instanceof Character) {
+                body.writeByte(V_CHAR);
+                body.writeChar((Character) value);
+            } else if (value instanceof Float) {
+                body.writeByte(V_FLOAT);
+                body.writeFloat((Float) value);
+            } else if (value instanceof Short) {
+                body.writeByte(V_SHORT);
+                body.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                body.writeByte(V_BYTE);
+                body.writeByte((Byte) value);
+            } else if (value instanceof Class) {
+                body.writeByte(V_CLASS);
+                writeType((Class<?>) value);
+            } else if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                body.writeByte(V_ENUM);
+                writeName(constant.getDeclaringClass().getName());
+                writeName(constant.name());
+            } else {
+                throw new UnsupportedElementException(value);
+            }
+        }
+    }
+
+    /**
+     * Reads tests and classes from a stream written by an {@link Encoder}.
+     * Classes are resolved with the class loader for the SUT.
+     */
+    public static final class Decoder {
+
+        private final DataInputStream in;
+
+        private final List<String> strings = new ArrayList<>();
+
+        private final Map<String, Class<?>> classes = new HashMap<>();
+
+        private final Map<String, Object> members = new HashMap<>();
+
+        private final ClassLoader loader = TestGenerationContext.getInstance().getClassLoaderForSUT();
+
+        private DataInputStream body;
+
+        private byte[] record;
+
+        /**
+         * Creates a decoder and checks the stream header.
+         *
+         * @param in the source stream
+         * @throws IOException if the stream does not start with a valid header
+         */
+        public Decoder(InputStream in) throws IOException {
+            this.in = new DataInputStream(in);
+            if (this.in.readInt() != MAGIC) {
+                throw new IOException("Not an encoded test stream");
+            }
+            int version = this.in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported test stream version " + version);
+            }
+        }
+
+        /**
+         * Reads the next test case, skipping tests that cannot be resolved.
+         *
+         * @return the next test, or null at the end of the stream
+         * @throws IOException if the stream is corrupt or the next record is not a test
+         */
+        public TestCase readTest() throws IOException {
+            Object next = read();
+            if (next != null && !(next instanceof TestCase)) {
+                throw new IOException("Expected a test but found " + next);
+            }
+            return (TestCase) next;
+        }
+
+        /**
+         * Reads the next record, which is either a {@link TestCase} or a
+         * {@link GenericClass}. Tests that cannot be resolved are skipped.
+         *
+         * @return the next test or class, or null at the end of the stream
+         * @throws IOException if the stream is corrupt or a class cannot be resolved
+         */
+        public Object read() throws IOException {
+            while (true) {
+                int kind = nextRecord();
+                try {
+                    switch (kind) {
+                        case END:
+                            return null;
+                        case TEST:
+                            return decodeTest();
+                        case SERIALIZED_TEST: {
+                            TestCase test = (TestCase) deserialize();
+                            for (Statement statement : test) {
+                                statement.changeClassLoader(loader);
+                            }
+                            return test;
+                        }
+                        case CLASS:
+                            return GenericClassFactory.get(readType());
+                        case SERIALIZED_CLASS:
+                            return deserialize();
+                        default:
+                            throw new IOException("Unknown record kind " + kind);
+                    }
+                } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                    if (kind == CLASS || kind == SERIALIZED_CLASS) {
+                        throw new IOException("Cannot resolve class: " + e, e);
+                    }
+                    logger.warn("Skipping test that cannot be decoded: {}", e.toString());
+                }
+            }
+        }
+
+        private int nextRecord() throws IOException {
+            int kind;
+            try {
+                kind = in.readUnsignedByte();
+            } catch (EOFException e) {
+                return END;
+            }
+            if (kind == END) {
+                return END;
+            }
+            int newStrings = readVarInt(in);
+            for (int i = 0; i < newStrings; i++) {
+                strings.add(readText(in));
+            }
+            int length = readVarInt(in);
+            if (record == null || record.length < length) {
+                record = new byte[Math.max(length, 256)];
+            }
+            in.readFully(record, 0, length);
+            body = new DataInputStream(new ByteArrayInputStream(record, 0, length));
+            return kind;
+        }
+
+        private Object deserialize() throws IOException, ClassNotFoundException {
+            try (ObjectInputStream objectIn = new ObjectInputStream(body)) {
+                return objectIn.readObject();
+            }
+        }
+
+        private String readName() throws IOException {
+            return strings.get(readVarInt(body));
+        }
+
+        private TestCase decodeTest() throws IOException, ReflectiveOperationException {
+            DefaultTestCase test = new DefaultTestCase();
+            int size = readVarInt(body);
+            for (int i = 0; i < size; i++) {
+                test.addStatement(readStatement(test));
+            }
+            return test;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Statement readStatement(TestCase test) throws IOException, ReflectiveOperationException {
+            int tag = body.readUnsignedByte();
+            if (tag == S_ASSIGNMENT) {
+                VariableReference target = readRef(test);
+                return new AssignmentStatement(test, target, readRef(test));
+            }
+
+            Type type = readType();
+            Statement statement;
+            switch (tag) {
+                case S_BOOLEAN:
+                    statement = new BooleanPrimitiveStatement(test, (Boolean) readValue());
+                    break;
+                case S_BYTE:
+                    statement = new BytePrimitiveStatement(test, (Byte) readValue());
+                    break;
+                case S_CHAR:
+                    statement = new CharPrimitiveStatement(test, (Character) readValue());
+                    break;
+                case S_SHORT:
+                    statement = new ShortPrimitiveStatement(test, (Short) readValue());
+                    break;
+                case S_INT:
+                    statement = new IntPrimitiveStatement(test, (Integer) readValue());
+                    break;
+                case S_LONG:
+                    statement = new LongPrimitiveStatement(test, (Long) readValue());
+                    break;
+                case S_FLOAT:
+                    statement = new FloatPrimitiveStatement(test, (Float) readValue());
+                    break;
+                case S_DOUBLE:
+                    statement = new DoublePrimitiveStatement(test, (Double) readValue());
+                    break;
+                case S_STRING:
+                    statement = new StringPrimitiveStatement(test, (String) readValue());
+                    break;
+                case S_ENUM: {
+                    Class enumClass = (Class) readType();
+                    EnumPrimitiveStatement enumStatement = new EnumPrimitiveStatement(test, enumClass);
+                    enumStatement.setValue(body.readBoolean() ? Enum.valueOf(enumClass, readName()) : null);
+                    statement = enumStatement;
+                    break;
+                }
+                case S_CLASS:
+                    statement = new ClassPrimitiveStatement(test, (Class<?>) readType());
+                    break;
+                case S_NULL:
+                    statement = new NullStatement(test, type);
+                    break;
+                case S_CONSTRUCTOR: {
+                    Constructor<?> constructor = readConstructor();
+                    GenericClass<?> owner = GenericClassFactory.get(readType());
+                    statement = new ConstructorStatement(test, new GenericConstructor(constructor, owner),
+                            readRefs(test));
+                    break;
+                }
+                case S_METHOD: {
+                    Method method = readMethod();
+                    GenericClass<?> owner = GenericClassFactory.get(readType());
+                    VariableReference callee = readRef(test);
+                    statement = new MethodStatement(test, new GenericMethod(method, owner), callee,
+                            readRefs(test));
+                    break;
+                }
+                case S_FIELD: {
+                    GenericField field = readField();
+                    statement = new FieldStatement(test, field, readRef(test));
+                    break;
+                }
+                case S_ARRAY: {
+                    int[] lengths = new int[readVarInt(body)];
+                    for (int i = 0; i < lengths.length; i++) {
+                        lengths[i] = readVarInt(body);
+                    }
+                    statement = new ArrayStatement(test, type, lengths);
+                    break;
+                }
+                default:
+                    throw new IOException("Unknown statement tag " + tag);
+            }
+
+            // Generic instantiations may have narrowed the type of the result
+            VariableReference retval = statement.getReturnValue();
+            if (!retval.getType().equals(type)) {
+                retval.setType(type);
+            }
+            return statement;
+        }
+
+        private List<VariableReference> readRefs(TestCase test) throws IOException, ReflectiveOperationException {
+            int size = readVarInt(body);
+            List<VariableReference> refs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                refs.add(readRef(test));
+            }
+            return refs;
+        }
+
+        private VariableReference readRef(TestCase test) throws IOException, ReflectiveOperationException {
+            int tag = body.readUnsignedByte();
+            switch (tag) {
+                case R_NONE:
+                    return null;
+                case R_VAR:
+                    return test.getStatement(readVarInt(body)).getReturnValue();
+                case R_CONSTANT: {
+                    GenericClass<?> type = GenericClassFactory.get(readType());
+                    return new ConstantValue(test, type, readValue());
+                }
+                case R_NULL:
+                    return new NullReference(test, readType());
+                case R_ARRAY_INDEX: {
+                    ArrayReference array = (ArrayReference) readRef(test);
+                    int size = readVarInt(body);
+                    List<Integer> indices = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        indices.add(readVarInt(body));
+                    }
+                    return new ArrayIndex(test, array, indices);
+                }
+                case R_FIELD: {
+                    GenericField field = readField();
+                    Type type = readType();
+                    VariableReference source = readRef(test);
+                    return source == null ? new FieldReference(test, field, type)
+                            : new FieldReference(test, field, type, source);
+                }
+                default:
+                    throw new IOException("Unknown reference tag " + tag);
+            }
+        }
+
+        private Class<?> loadClass(String name) throws ClassNotFoundException {
+            Class<?> clazz = classes.get(name);
+            if (clazz == null) {
+                clazz = PRIMITIVES.get(name);
+                if (clazz == null) {
+                    clazz = Class.forName(name, false, loader);
+                }
+                classes.put(name, clazz);
+            }
+            return clazz;
+        }
+
+        private Constructor<?> readConstructor() throws IOException, ReflectiveOperationException {
+            String className = readName();
+            String descriptor = readName();
+            String key = className + descriptor;
+            Constructor<?> constructor = (Constructor<?>) members.get(key);
+            if (constructor == null) {
+                for (Constructor<?> c : loadClass(className).getDeclaredConstructors()) {
+                    if (org.objectweb.asm.Type.getConstructorDescriptor(c).equals(descriptor)) {
+                        constructor = c;
+                        break;
+                    }
+                }
+                if (constructor == null) {
+                    throw new NoSuchMethodException(className + ".<init>" + descriptor);
+                }
+                constructor.setAccessible(true);
+                members.put(key, constructor);
+            }
+            return constructor;
+        }
+
+        private Method readMethod() throws IOException, ReflectiveOperationException {
+            String className = readName();
+            String name = readName();
+            String descriptor = readName();
+            String key = className + '.' + name + descriptor;
+            Method method = (Method) members.get(key);
+            if (method == null) {
+                method = findMethod(loadClass(className), name, descriptor);
+                if (method == null) {
+                    throw new NoSuchMethodException(key);
+                }
+                method.setAccessible(true);
+                members.put(key, method);
+            }
+            return method;
+        }
+
+        private Method findMethod(Class<?> clazz, String name, String descriptor) {
+            for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+                for (Method m : current.getDeclaredMethods()) {
+                    if (m.getName().equals(name)
+                            && org.objectweb.asm.Type.getMethodDescriptor(m).equals(descriptor)) {
+                        return m;
+                    }
+                }
+            }
+            for (Class<?> iface : clazz.getInterfaces()) {
+                Method m = findMethod(iface, name, descriptor);
+                if (m != null) {
+                    return m;
+                }
+            }
+            return null;
+        }
+
+        private GenericField readField() throws IOException, ReflectiveOperationException {
+            String className = readName();
+            String name = readName();
+            String key = className + '#' + name;
+            Field field = (Field) members.get(key);
+            if (field == null) {
+                field = loadClass(className).getDeclaredField(name);
+                members.put(key, field);
+            }
+            return new GenericField(field, GenericClassFactory.get(readType()));
+        }
+
+        private Type readType() throws IOException, ReflectiveOperationException {
+            int tag = body.readUnsignedByte();
+            switch (tag) {
+                case T_NONE:
+                    return null;
+                case T_CLASS:
+                    return loadClass(readName());
+                case T_RAW: {
+                    Class<?> raw = loadClass(readName());
+                    return new ParameterizedTypeImpl(raw, raw.getTypeParameters(), readType());
+                }
+                case T_PARAMETERIZED: {
+                    Class<?> raw = loadClass(readName());
+                    Type owner = readType();
+                    return new ParameterizedTypeImpl(raw, readTypes(), owner);
+                }
+                case T_ARRAY:
+                    return GenericArrayTypeImpl.createArrayType(readType());
+                case T_WILDCARD: {
+                    Type[] upper = readTypes();
+                    return new WildcardTypeImpl(upper, readTypes());
+                }
+                case T_VARIABLE: {
+                    Class<?> declaration = loadClass(readName());
+                    String name = readName();
+                    for (TypeVariable<?> variable : declaration.getTypeParameters()) {
+                        if (variable.getName().equals(name)) {
+                            return variable;
+                        }
+                    }
+                    throw new IOException("Unknown type variable " + name + " of " + declaration.getName());
+                }
+                default:
+                    throw new IOException("Unknown type tag " + tag);
+            }
+        }
+
+        private Type[] readTypes() throws IOException, ReflectiveOperationException {
+            Type[] types = new Type[readVarInt(body)];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = readType();
+            }
+            return types;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Object readValue() throws IOException, ReflectiveOperationException {
+            int tag = body.readUnsignedByte();
+            switch (tag) {
+                case V_NULL:
+                    return null;
+                case V_BOOLEAN:
+                    return body.readBoolean();
+                case V_BYTE:
+                    return body.readByte();
+                case V_CHAR:
+                    return body.readChar();
+                case V_SHORT:
+                    return body.readShort();
+                case V_INT:
+                    return body.readInt();
+                case V_LONG:
+                    return body.readLong();
+                case V_FLOAT:
+                    return body.readFloat();
+                case V_DOUBLE:
+                    return body.readDouble();
+                case V_STRING:
+                    return readText(body);
+                case V_CLASS:
+                    return readType();
+                case V_ENUM: {
+                    Class enumClass = loadClass(readName());
+                    return Enum.valueOf(enumClass, readName());
+                }
+                default:
+                    throw new IOException("Unknown value tag " + tag);
+            }
+        }
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Strings are written as single bytes when they are pure ASCII, and as
+     * UTF-16 code units otherwise, which keeps unpaired surrogates intact.
+     */
+    private static void writeText(DataOutput out, String text) throws IOException {
+        boolean ascii = true;
+        for (int i = 0; i < text.length() && ascii; i++) {
+            ascii = text.charAt(i) < 0x80;
+        }
+        out.writeBoolean(ascii);
+        writeVarInt(out, text.length());
+        if (ascii) {
+            out.writeBytes(text);
+        } else {
+            out.writeChars(text);
+        }
+    }
+
+    private static String readText(DataInput in) throws IOException {
+        boolean ascii = in.readBoolean();
+        int length = readVarInt(in);
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ascii ? (char) in.readUnsignedByte() : in.readChar();
+        }
+        return new String(chars);
+    }
+}
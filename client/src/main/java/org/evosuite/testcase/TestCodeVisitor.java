@@ -71,6 +71,19 @@ public class TestCodeVisitor extends TestVisitor {
 
     protected final Map<Class<?>, String> classNames = new HashMap<>();
 
+    /**
+     * The values of {@link #classNames}, to check for clashes without a scan.
+     */
+    private final Set<String> usedClassNames = new HashSet<>();
+
+    /**
+     * Rendered names of generic types; these only depend on the class names,
+     * which never change once assigned.
+     */
+    private final Map<Type, String> typeNames = new HashMap<>();
+
+    private final Map<Type, String> typeParameterNames = new HashMap<>();
+
     protected VariableNameStrategy variableNameStrategy = VariableNameStrategyFactory.get();
     private boolean customVariableNameStrategy = false;
 
@@ -170,7 +183,11 @@ public class TestCodeVisitor extends TestVisitor {
     }
 
     private String getTypeName(ParameterizedType type) {
-        String name = getClassName((Class<?>) type.getRawType());
+        String cached = typeNames.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        String rawName = getClassName((Class<?>) type.getRawType());
         Type[] types = type.getActualTypeArguments();
         boolean isDefined = false;
         for (Type parameterType : types) {
@@ -182,19 +199,23 @@ public class TestCodeVisitor extends TestVisitor {
                 break;
             }
         }
+        String name = rawName;
         if (isDefined) {
             if (types.length > 0) {
-                name += "<";
+                StringBuilder builder = new StringBuilder(rawName);
+                builder.append('<');
                 for (int i = 0; i < types.length; i++) {
                     if (i != 0) {
-                        name += ", ";
+                        builder.append(", ");
                     }
 
-                    name += getTypeParameterName(types[i]);
+                    builder.append(getTypeParameterName(types[i]));
                 }
-                name += ">";
+                builder.append('>');
+                name = builder.toString();
             }
         }
+        typeNames.put(type, name);
         return name;
     }
 
@@ -242,7 +263,11 @@ public class TestCodeVisitor extends TestVisitor {
         } else if (type instanceof ParameterizedType) {
             return getTypeName((ParameterizedType) type);
         } else if (type instanceof WildcardType) {
-            String ret = "?";
+            String cached = typeParameterNames.get(type);
+            if (cached != null) {
+                return cached;
+            }
+            StringBuilder ret = new StringBuilder("?");
             boolean first = true;
             for (Type bound : ((WildcardType) type).getLowerBounds()) {
                 // If there are lower bounds we need to state them, even if Object
@@ -251,9 +276,9 @@ public class TestCodeVisitor extends TestVisitor {
                 }
 
                 if (!first) {
-                    ret += ", ";
+                    ret.append(", ");
                 }
-                ret += " super " + getTypeParameterName(bound);
+                ret.append(" super ").append(getTypeParameterName(bound));
                 first = false;
             }
             for (Type bound : ((WildcardType) type).getUpperBounds()) {
@@ -264,12 +289,14 @@ public class TestCodeVisitor extends TestVisitor {
                 }
 
                 if (!first) {
-                    ret += ", ";
+                    ret.append(", ");
                 }
-                ret += " extends " + getTypeParameterName(bound);
+                ret.append(" extends ").append(getTypeParameterName(bound));
                 first = false;
             }
-            return ret;
+            String name = ret.toString();
+            typeParameterNames.put(type, name);
+            return name;
         } else if (type instanceof TypeVariable) {
             return "?";
         } else if (type instanceof CaptureType) {
@@ -317,7 +344,7 @@ public class TestCodeVisitor extends TestVisitor {
 
         GenericClass<?> c = GenericClassFactory.get(clazz);
         String name = c.getSimpleName();
-        if (classNames.containsValue(name)) {
+        if (usedClassNames.contains(name)) {
             name = clazz.getCanonicalName();
         } else {
             /*
@@ -361,6 +388,7 @@ public class TestCodeVisitor extends TestVisitor {
             name = clazz.getCanonicalName();
         }
         classNames.put(clazz, name);
+        usedClassNames.add(name);
 
         return name;
     }
@@ -416,11 +444,11 @@ public class TestCodeVisitor extends TestVisitor {
         } else if (var instanceof ArrayIndex) {
             VariableReference array = ((ArrayIndex) var).getArray();
             List<Integer> indices = ((ArrayIndex) var).getArrayIndices();
-            String result = getVariableName(array);
+            StringBuilder result = new StringBuilder(getVariableName(array));
             for (Integer index : indices) {
-                result += "[" + index + "]";
+                result.append('[').append(index).append(']');
             }
-            return result;
+            return result.toString();
         } else {
             VariableReference normalized = normalizeVariableReference(var);
             if (VariableNameStrategyFactory.gatherInformation()) {
@@ -544,54 +572,50 @@ public class TestCodeVisitor extends TestVisitor {
         VariableReference source = assertion.getSource();
         Object value = assertion.getValue();
 
-        String stmt = "";
-
         if (value == null) {
-            stmt += "assertNull(" + getVariableName(source) + ");";
+            testCode.append("assertNull(").append(getVariableName(source)).append(");");
         } else if (source.getVariableClass().equals(float.class)) {
-            stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this) + ", "
-                    + getVariableName(source) + ", "
-                    + NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this) + ");";
+            testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this)).append(", ")
+                    .append(getVariableName(source)).append(", ")
+                    .append(NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this)).append(");");
         } else if (source.getVariableClass().equals(double.class)) {
-            stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this) + ", "
-                    + getVariableName(source) + ", "
-                    + NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this) + ");";
+            testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this)).append(", ")
+                    .append(getVariableName(source)).append(", ")
+                    .append(NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this)).append(");");
         } else if (value.getClass().isEnum()) {
-            stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this) + ", "
-                    + getVariableName(source) + ");";
+            testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this)).append(", ")
+                    .append(getVariableName(source)).append(");");
             // Make sure the enum is imported in the JUnit test
             getClassName(value.getClass());
         } else if (source.getVariableClass().equals(boolean.class) || source.getVariableClass().equals(Boolean.class)) {
             Boolean flag = (Boolean) value;
             if (flag) {
-                stmt += "assertTrue(";
+                testCode.append("assertTrue(");
             } else {
-                stmt += "assertFalse(";
+                testCode.append("assertFalse(");
             }
-            stmt += "" + getVariableName(source) + ");";
+            testCode.append(getVariableName(source)).append(");");
         } else if (source.isWrapperType()) {
             if (source.getVariableClass().equals(Float.class)) {
-                stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this)
-                        + ", (float)" + getVariableName(source) + ", "
-                        + NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this) + ");";
+                testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this))
+                        .append(", (float)").append(getVariableName(source)).append(", ")
+                        .append(NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this)).append(");");
             } else if (source.getVariableClass().equals(Double.class)) {
-                stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this)
-                        + ", (double)" + getVariableName(source) + ", "
-                        + NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this) + ");";
+                testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this))
+                        .append(", (double)").append(getVariableName(source)).append(", ")
+                        .append(NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this)).append(");");
             } else if (value.getClass().isEnum()) {
-                stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this)
-                        + ", " + getVariableName(source) + ");";
+                testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this))
+                        .append(", ").append(getVariableName(source)).append(");");
             } else {
-                stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this)
-                        + ", (" + NumberFormatter.getBoxedClassName(value) + ")"
-                        + getVariableName(source) + ");";
+                testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this))
+                        .append(", (").append(NumberFormatter.getBoxedClassName(value)).append(')')
+                        .append(getVariableName(source)).append(");");
             }
         } else {
-            stmt += "assertEquals(" + NumberFormatter.getNumberString(value, this) + ", "
-                    + getVariableName(source) + ");";
+            testCode.append("assertEquals(").append(NumberFormatter.getNumberString(value, this)).append(", ")
+                    .append(getVariableName(source)).append(");");
         }
-
-        testCode.append(stmt);
     }
 
 
@@ -599,54 +623,50 @@ public class TestCodeVisitor extends TestVisitor {
         VariableReference source = assertion.getSource();
         Object[] value = (Object[]) assertion.getValue();
 
-        String stmt = "";
-
         if (source.getComponentClass().equals(Boolean.class) || source.getComponentClass().equals(boolean.class)) {
-            stmt += "assertTrue(Arrays.equals(";
+            testCode.append("assertTrue(Arrays.equals(");
             // Make sure that the Arrays class is imported
             getClassName(Arrays.class);
         } else {
-            stmt += "assertArrayEquals(";
+            testCode.append("assertArrayEquals(");
         }
-        stmt += "new " + getTypeName(source.getComponentType()) + "[] {";
+        testCode.append("new ").append(getTypeName(source.getComponentType())).append("[] {");
         boolean first = true;
         for (Object o : value) {
             if (!first) {
-                stmt += ", ";
+                testCode.append(", ");
             } else {
                 first = false;
             }
 
-            stmt += NumberFormatter.getNumberString(o, this);
+            testCode.append(NumberFormatter.getNumberString(o, this));
 
         }
-        stmt += "}" + ", " + getVariableName(source);
+        testCode.append("}, ").append(getVariableName(source));
         if (source.getComponentClass().equals(Float.class) || source.getComponentClass().equals(float.class)) {
-            stmt += ", " + NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this) + ");";
+            testCode.append(", ").append(NumberFormatter.getNumberString(Properties.FLOAT_PRECISION, this))
+                    .append(");");
         } else {
             if (source.getComponentClass().equals(Double.class) || source.getComponentClass().equals(double.class)) {
-                stmt += ", " + NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this) + ");";
+                testCode.append(", ").append(NumberFormatter.getNumberString(Properties.DOUBLE_PRECISION, this))
+                        .append(");");
             } else {
                 if (source.getComponentClass().equals(Boolean.class)
                         || source.getComponentClass().equals(boolean.class)) {
-                    stmt += "));";
+                    testCode.append("));");
                 } else {
-                    stmt += ");";
+                    testCode.append(");");
                 }
             }
         }
-
-        testCode.append(stmt);
     }
 
     protected void visitArrayLengthAssertion(ArrayLengthAssertion assertion) {
         VariableReference source = assertion.getSource();
         int length = assertion.length;
 
-        String stmt = "assertEquals(";
-        stmt += length + ", " + getVariableName(source) + ".length);";
-
-        testCode.append(stmt);
+        testCode.append("assertEquals(").append(length).append(", ").append(getVariableName(source))
+                .append(".length);");
     }
 
     protected void visitContainsAssertion(ContainsAssertion assertion) {
@@ -655,15 +675,13 @@ public class TestCodeVisitor extends TestVisitor {
 
         Boolean contains = (Boolean) assertion.getValue();
 
-        String stmt = "";
         if (contains) {
-            stmt += "assertTrue(";
+            testCode.append("assertTrue(");
         } else {
-            stmt += "assertFalse(";
+            testCode.append("assertFalse(");
         }
-        stmt += getVariableName(containerObject) + ".contains(" + getVariableName(containedObject) + "));";
-
-        testCode.append(stmt);
+        testCode.append(getVariableName(containerObject)).append(".contains(")
+                .append(getVariableName(containedObject)).append("));");
     }
 
     /**
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.evosuite.Properties;
+import org.evosuite.testcase.StructuralTestKey;
+import org.evosuite.testcase.TestCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the results of the tests executed during post-processing, so that a
+ * later phase (e.g., writing and checking the JUnit files after minimization
+ * and assertion generation) can reuse them instead of executing the same test
+ * again.
+ * <p>
+ * Results are keyed by the structure of the test, i.e., its statements compared
+ * with {@link org.evosuite.testcase.statements.Statement#same}, which ignores
+ * assertions. A stored result is only handed out if the observers
+ * that were active when it was produced include all the observers the caller
+ * needs, since observers add their own traces to the result.
+ * <p>
+ * The store is only active between {@link #enable()} and {@link #disable()};
+ * during the search, tests change too often for this to pay off.
+ */
+public class ExecutionResultStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionResultStore.class);
+
+    private static ExecutionResultStore instance = null;
+
+    private static class StoredResult {
+
+        private final ExecutionResult result;
+
+        private final Set<Class<?>> observerTypes;
+
+        private StoredResult(ExecutionResult result, Set<Class<?>> observerTypes) {
+            this.result = result;
+            this.observerTypes = observerTypes;
+        }
+    }
+
+    private final Map<StructuralTestKey, StoredResult> entries = new LinkedHashMap<StructuralTestKey, StoredResult>(16, 0.75f, true) {
+        private static final long serialVersionUID = -3167480711282457245L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StructuralTestKey, StoredResult> eldest) {
+            return size() > Properties.EXECUTION_RESULT_STORE_SIZE;
+        }
+    };
+
+    private boolean enabled = false;
+
+    private int hits = 0;
+
+    private ExecutionResultStore() {
+    }
+
+    public static synchronized ExecutionResultStore getInstance() {
+        if (instance == null) {
+            instance = new ExecutionResultStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Start keeping results.
+     */
+    public void enable() {
+        enabled = Properties.EXECUTION_RESULT_STORE_SIZE > 0;
+    }
+
+    /**
+     * Stop keeping results and forget the stored ones.
+     */
+    public void disable() {
+        if (hits > 0) {
+            logger.info("Reused {} stored execution results", hits);
+        }
+        enabled = false;
+        entries.clear();
+        hits = 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Store the result of an execution of {@code result.test}.
+     * Results of mutants and of tests that timed out are not stored, as they
+     * depend on more than the test itself.
+     *
+     * @param result    result of executing {@code result.test}
+     * @param observers the observers that were active during the execution
+     */
+    public void put(ExecutionResult result, Collection<ExecutionObserver> observers) {
+        if (!enabled || result.test == null || result.mutation != null || result.hasTimeout()) {
+            return;
+        }
+        Set<Class<?>> observerTypes = new HashSet<>();
+        for (ExecutionObserver observer : observers) {
+            observerTypes.add(observer.getClass());
+        }
+        // The test may still change, so it must not be used as key itself
+        entries.put(new StructuralTestKey(result.test.clone()), new StoredResult(result, observerTypes));
+    }
+
+    /**
+     * Get a copy of the stored result of a test that has the same statements
+     * as the given one.
+     *
+     * @param test      the test that would be executed
+     * @param observers the observers whose traces the caller needs
+     * @return a result for {@code test}, or null if it has to be executed
+     */
+    public ExecutionResult get(TestCase test, Collection<ExecutionObserver> observers) {
+        if (!enabled) {
+            return null;
+        }
+        StoredResult entry = entries.get(new StructuralTestKey(test));
+        if (entry == null) {
+            return null;
+        }
+        for (ExecutionObserver observer : observers) {
+            if (!entry.observerTypes.contains(observer.getClass())) {
+                return null;
+            }
+        }
+        hits++;
+        ExecutionResult copy = entry.result.clone();
+        copy.setTest(test);
+        copy.setExecutedStatements(entry.result.getExecutedStatements());
+        copy.setSecurityException(entry.result.hasSecurityException());
+        return copy;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+}
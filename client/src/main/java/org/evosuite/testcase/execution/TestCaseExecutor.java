@@ -21,6 +21,7 @@ package org.evosuite.testcase.execution;
 
 import org.evosuite.Properties;
 import org.evosuite.TestGenerationContext;
+import org.evosuite.coverage.mutation.MutationObserver;
 import org.evosuite.ga.stoppingconditions.MaxStatementsStoppingCondition;
 import org.evosuite.ga.stoppingconditions.MaxTestsStoppingCondition;
 import org.evosuite.runtime.LoopCounter;
@@ -152,10 +153,20 @@ public class TestCaseExecutor implements ThreadFactory {
     }
 
     private TestCaseExecutor() {
-        executor = Executors.newSingleThreadExecutor(this);
+        executor = newTestExecutor(this);
         newObservers();
     }
 
+    /**
+     * The test thread is kept alive between executions, and waits for the
+     * next test on a queue that spins briefly before parking, so that short
+     * tests executed back to back do not pay for a thread wake-up each time.
+     */
+    private static ExecutorService newTestExecutor(ThreadFactory factory) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new TestHandoffQueue(Properties.TEST_HANDOFF_SPIN), factory);
+    }
+
     public static class TimeoutExceeded extends RuntimeException {
         private static final long serialVersionUID = -5314228165430676893L;
     }
@@ -192,9 +203,9 @@ public class TestCaseExecutor implements ThreadFactory {
         if (instance != null) {
             if (instance.executor == null) {
                 logger.info("TestCaseExecutor instance is non-null, but its actual executor is null");
-                instance.executor = Executors.newSingleThreadExecutor(instance);
+                instance.executor = newTestExecutor(instance);
             } else {
-                instance.executor = Executors.newSingleThreadExecutor(instance);
+                instance.executor = newTestExecutor(instance);
             }
         }
     }
@@ -278,6 +289,9 @@ public class TestCaseExecutor implements ThreadFactory {
             logger.debug("Resetting classes after execution");
             ClassReInitializer.getInstance().reInitializeClassesAfterTestExecution(tc, result);
         }
+        if (MutationObserver.activeMutation == -1) {
+            ExecutionResultStore.getInstance().put(result, observers);
+        }
         return result;
     }
 
@@ -464,7 +478,7 @@ public class TestCaseExecutor implements ThreadFactory {
                         logger.info("Throwable: " + t);
                     }
                     ExecutionTracer.disable();
-                    executor = Executors.newSingleThreadExecutor(this);
+                    executor = newTestExecutor(this);
                 }
             } else {
                 logger.info("Run is finished - " + currentThread.isAlive() + ": " + getNumStalledThreads());
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work queue of the test execution thread. Tests are usually submitted one
+ * right after the other, so the test thread busy-waits for a few
+ * microseconds before it parks, and is then still running when the next
+ * test arrives.
+ */
+class TestHandoffQueue extends LinkedBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 4405871212539262683L;
+
+    private final long spinNanos;
+
+    /**
+     * @param spinMicros how long to busy-wait for a test before parking;
+     *                   ignored on a single processor, where spinning only
+     *                   delays the thread that is being waited for
+     */
+    TestHandoffQueue(long spinMicros) {
+        this.spinNanos = TimeoutHandler.SPIN_ALLOWED
+                ? TimeUnit.MICROSECONDS.toNanos(Math.max(0L, spinMicros)) : 0L;
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        Runnable task = spin();
+        return task != null ? task : super.take();
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        Runnable task = spin();
+        return task != null ? task : super.poll(timeout, unit);
+    }
+
+    private Runnable spin() throws InterruptedException {
+        if (spinNanos == 0) {
+            return null;
+        }
+        long deadline = System.nanoTime() + spinNanos;
+        do {
+            // isEmpty only reads the element count, poll takes the lock
+            if (!isEmpty()) {
+                Runnable task = poll();
+                if (task != null) {
+                    return task;
+                }
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            TimeoutHandler.onSpinWait();
+        } while (System.nanoTime() - deadline < 0);
+        return null;
+    }
+}
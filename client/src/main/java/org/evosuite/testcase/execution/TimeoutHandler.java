@@ -19,9 +19,13 @@
  */
 package org.evosuite.testcase.execution;
 
+import org.evosuite.Properties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadMXBean;
 import java.util.concurrent.*;
@@ -38,6 +42,16 @@ public class TimeoutHandler<T> {
         this.bean = ManagementFactory.getThreadMXBean();
     }
 
+    /**
+     * Busy-waiting for another thread only pays off if both can run at the same time.
+     */
+    static final boolean SPIN_ALLOWED = Runtime.getRuntime().availableProcessors() > 1;
+
+    /**
+     * Thread.onSpinWait, which only exists from Java 9 on; null before.
+     */
+    private static final MethodHandle ON_SPIN_WAIT = findOnSpinWait();
+
     protected FutureTask<T> task = null;
     private final ThreadMXBean bean;
 
@@ -91,6 +105,7 @@ public class TimeoutHandler<T> {
             TimeoutException {
         task = new FutureTask<>(testcase);
         executor.execute(task);
+        spinUntilDone(task);
         T result = task.get(timeout, TimeUnit.MILLISECONDS);
         return result;
     }
@@ -103,6 +118,7 @@ public class TimeoutHandler<T> {
 
         task = new FutureTask<>(testcase);
         executor.execute(task);
+        spinUntilDone(task);
         T result = null;
 
         long waitingTime = timeout;
@@ -147,4 +163,43 @@ public class TimeoutHandler<T> {
         }
         return result;
     }
+
+    /**
+     * Most tests finish within microseconds, in which case busy-waiting for
+     * the result is cheaper than parking in {@link FutureTask#get} and being
+     * woken up again by the test thread.
+     */
+    private static void spinUntilDone(FutureTask<?> task) {
+        if (!SPIN_ALLOWED || Properties.TEST_HANDOFF_SPIN <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(Properties.TEST_HANDOFF_SPIN);
+        while (!task.isDone() && System.nanoTime() - deadline < 0) {
+            onSpinWait();
+        }
+    }
+
+    private static MethodHandle findOnSpinWait() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Thread.class, "onSpinWait",
+                    MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Tells the processor that the calling thread is busy-waiting, where the
+     * running Java version supports it.
+     */
+    static void onSpinWait() {
+        if (ON_SPIN_WAIT == null) {
+            return;
+        }
+        try {
+            ON_SPIN_WAIT.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
 }
@@ -37,6 +37,8 @@ public abstract class AbstractStringLocalSearch extends StatementLocalSearch {
     protected ExecutionResult oldResult;
     protected boolean oldChanged;
 
+    protected final LocalSearchEvaluationCache<String> evaluations = new LocalSearchEvaluationCache<>();
+
     protected void backup(TestChromosome test, StringPrimitiveStatement p) {
         oldValue = p.getValue();
         oldResult = test.getLastExecutionResult();
@@ -63,7 +65,7 @@ public abstract class AbstractStringLocalSearch extends StatementLocalSearch {
             p.setValue(newString);
             logger.info(" " + i + " " + oldValue + "/" + oldValue.length() + " -> "
                     + newString + "/" + newString.length());
-            if (objective.hasImproved(test)) {
+            if (evaluations.hasImproved(objective, test, p.getValue())) {
                 logger.info("Has improved");
                 backup(test, p);
                 improvement = true;
@@ -96,7 +98,7 @@ public abstract class AbstractStringLocalSearch extends StatementLocalSearch {
                 String newString = new String(characters);
                 p.setValue(newString);
 
-                if (objective.hasImproved(test)) {
+                if (evaluations.hasImproved(objective, test, p.getValue())) {
                     backup(test, p);
                     improvement = true;
                     add = true;
@@ -120,7 +122,7 @@ public abstract class AbstractStringLocalSearch extends StatementLocalSearch {
                 String newString = new String(characters);
                 p.setValue(newString);
 
-                if (objective.hasImproved(test)) {
+                if (evaluations.hasImproved(objective, test, p.getValue())) {
                     backup(test, p);
                     improvement = true;
                     add = true;
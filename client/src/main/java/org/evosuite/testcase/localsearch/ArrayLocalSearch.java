@@ -46,6 +46,8 @@ public class ArrayLocalSearch extends StatementLocalSearch {
 
     private int positionDelta = 0;
 
+    private final LocalSearchEvaluationCache<Integer> lengths = new LocalSearchEvaluationCache<>();
+
     @Override
     public int getPositionDelta() {
         return positionDelta;
@@ -156,6 +158,7 @@ public class ArrayLocalSearch extends StatementLocalSearch {
                 p.size());
         ExecutionResult oldResult = test.getLastExecutionResult();
         oldLength = p.size();
+        lengths.reset(oldLength);
         boolean done = false;
         while (!done) {
             if (LocalSearchBudget.getInstance().isFinished()) {
@@ -165,7 +168,7 @@ public class ArrayLocalSearch extends StatementLocalSearch {
             // Try +1
             p.setSize(oldLength + 1);
             logger.debug("Trying increment of {}", p.getCode());
-            if (objective.hasImproved(test)) {
+            if (lengths.hasImproved(objective, test, p.size())) {
                 done = false;
                 hasImproved = true;
 
@@ -178,7 +181,7 @@ public class ArrayLocalSearch extends StatementLocalSearch {
                     oldResult = test.getLastExecutionResult();
                     p.setSize(oldLength + 1);
                     logger.debug("Trying increment of {}", p.getCode());
-                    improved = objective.hasImproved(test);
+                    improved = lengths.hasImproved(objective, test, p.size());
                 }
                 p.setSize(oldLength);
                 test.setLastExecutionResult(oldResult);
@@ -196,7 +199,7 @@ public class ArrayLocalSearch extends StatementLocalSearch {
                     p.setSize(Properties.MAX_ARRAY);
                 }
                 logger.debug("Trying decrement of {}", p.getCode());
-                if (objective.hasImproved(test)) {
+                if (lengths.hasImproved(objective, test, p.size())) {
                     done = false;
                     hasImproved = true;
 
@@ -209,7 +212,7 @@ public class ArrayLocalSearch extends StatementLocalSearch {
                         oldResult = test.getLastExecutionResult();
                         p.setSize(oldLength - 1);
                         logger.debug("Trying decrement of {}", p.getCode());
-                        improved = objective.hasImproved(test);
+                        improved = lengths.hasImproved(objective, test, p.size());
                     }
                     p.setSize(oldLength);
                     test.setLastExecutionResult(oldResult);
@@ -222,7 +225,8 @@ public class ArrayLocalSearch extends StatementLocalSearch {
             }
         }
 
-        logger.debug("Finished local array length search with result {}", p.getCode());
+        logger.debug("Finished local array length search with result {}, skipped {} repeated evaluations",
+                p.getCode(), lengths.getHits());
         return hasImproved;
     }
 
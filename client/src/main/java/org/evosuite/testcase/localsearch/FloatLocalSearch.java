@@ -100,6 +100,7 @@ public class FloatLocalSearch<T extends Number> extends NumericalLocalSearch<T>
         logger.info("Trying to chop precision " + precision + ": " + value + " -> "
                 + newValue);
 
+        evaluations.add(p.getValue());
         if (objective.hasNotWorsened(test)) {
             return true;
         } else {
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.localsearch;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.localsearch.LocalSearchObjective;
+import org.evosuite.testcase.TestChromosome;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Remembers the values that the local search on one statement has already
+ * evaluated, while the rest of the test case stays unchanged.
+ *
+ * <p>The objective only accepts strict improvements over the best fitness
+ * seen so far, and that fitness never gets worse during the search. A value
+ * that has already been evaluated therefore can never improve the fitness
+ * again, and probing it (which happens when the pattern moves of the AVM
+ * oscillate) does not need to execute the test.
+ *
+ * @param <V> the type of the values of the statement
+ */
+class LocalSearchEvaluationCache<V> {
+
+    private final Set<V> evaluated = new HashSet<>();
+
+    private int hits = 0;
+
+    /**
+     * Forgets all values, and records the current value of the statement,
+     * whose fitness is the starting point of the search.
+     *
+     * @param current the value the statement has before the search
+     */
+    public void reset(V current) {
+        evaluated.clear();
+        evaluated.add(current);
+        hits = 0;
+    }
+
+    /**
+     * Records that the given value has been evaluated through some other
+     * means than {@link #hasImproved}.
+     *
+     * @param value the evaluated value
+     */
+    public void add(V value) {
+        evaluated.add(value);
+    }
+
+    /**
+     * Checks whether setting the statement to {@code value} improves the
+     * objective. The test is only executed if the value has not been
+     * evaluated before.
+     *
+     * @param objective the local search objective
+     * @param test      the test containing the statement, set to {@code value}
+     * @param value     the current value of the statement
+     * @return true if the fitness has improved
+     */
+    public boolean hasImproved(LocalSearchObjective<TestChromosome> objective, TestChromosome test, V value) {
+        if (Properties.LOCAL_SEARCH_CACHE_EVALUATIONS && !evaluated.add(value)) {
+            hits++;
+            return false;
+        }
+        return objective.hasImproved(test);
+    }
+
+    /**
+     * Returns the number of evaluations that were skipped since the last
+     * {@link #reset}.
+     *
+     * @return the number of cache hits
+     */
+    public int getHits() {
+        return hits;
+    }
+}
@@ -38,6 +38,8 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
 
     protected T oldValue;
 
+    protected final LocalSearchEvaluationCache<T> evaluations = new LocalSearchEvaluationCache<>();
+
     @SuppressWarnings("unchecked")
     @Override
     public boolean doSearch(TestChromosome test, int statement,
@@ -55,6 +57,7 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
         NumericalPrimitiveStatement<T> p = (NumericalPrimitiveStatement<T>) test.getTestCase().getStatement(statement);
 
         logger.info("Applying search to: " + p.getCode());
+        evaluations.reset(p.getValue());
 
         boolean improved = executeSearch(test, statement, objective, p);
 
@@ -65,7 +68,8 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
         test.setChanged(true);
         test.setTestCase(oldTest);
 
-        logger.info("Finished local search with result " + p.getCode());
+        logger.info("Finished local search with result " + p.getCode() + ", skipped "
+                + evaluations.getHits() + " repeated evaluations");
         return improved;
     }
 
@@ -92,7 +96,7 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
             p.increment(initialDelta);
             logger.info("Trying increment of " + p.getCode());
 
-            if (objective.hasImproved(test)) {
+            if (evaluations.hasImproved(objective, test, p.getValue())) {
                 done = false;
                 improved = true;
                 iterate(factor * initialDelta, factor, objective, test, p, statement);
@@ -107,7 +111,7 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
                 p.increment(-initialDelta);
                 logger.info("Trying decrement of " + p.getCode());
 
-                if (objective.hasImproved(test)) {
+                if (evaluations.hasImproved(objective, test, p.getValue())) {
                     done = false;
                     improved = true;
                     iterate(-factor * initialDelta, factor, objective, test, p, statement);
@@ -132,7 +136,7 @@ public abstract class NumericalLocalSearch<T> extends StatementLocalSearch {
 
         p.increment(delta);
         logger.info("Trying increment " + delta + " of " + p.getCode());
-        while (objective.hasImproved(test)) {
+        while (evaluations.hasImproved(objective, test, p.getValue())) {
             if (LocalSearchBudget.getInstance().isFinished()) {
                 break;
             }
@@ -41,6 +41,7 @@ public class StringAVMLocalSearch extends AbstractStringLocalSearch {
                             LocalSearchObjective<TestChromosome> objective) {
         StringPrimitiveStatement p = (StringPrimitiveStatement) test.getTestCase().getStatement(statement);
         backup(test, p);
+        evaluations.reset(p.getValue());
 
         // TODO: First apply 10 random mutations to determine if string influences _uncovered_ branch
 
@@ -55,6 +56,7 @@ public class StringAVMLocalSearch extends AbstractStringLocalSearch {
                 p.randomize();
             }
 
+            evaluations.add(p.getValue());
             int result = objective.hasChanged(test);
             if (result < 0) {
                 backup(test, p);
@@ -123,7 +125,7 @@ public class StringAVMLocalSearch extends AbstractStringLocalSearch {
                 logger.info(" " + i + " " + oldValue + "/" + oldValue.length() + " -> "
                         + newString + "/" + newString.length());
 
-                if (objective.hasImproved(test)) {
+                if (evaluations.hasImproved(objective, test, p.getValue())) {
                     done = false;
 
                     iterate(2, objective, test, p, i, statement);
@@ -141,7 +143,7 @@ public class StringAVMLocalSearch extends AbstractStringLocalSearch {
                     newString = new String(characters);
                     p.setValue(newString);
 
-                    if (objective.hasImproved(test)) {
+                    if (evaluations.hasImproved(objective, test, p.getValue())) {
                         done = false;
                         iterate(-2, objective, test, p, i, statement);
                         oldValue = p.getValue();
@@ -176,7 +178,7 @@ public class StringAVMLocalSearch extends AbstractStringLocalSearch {
         String newString = new String(characters);
         p.setValue(newString);
 
-        while (objective.hasImproved(test)) {
+        while (evaluations.hasImproved(objective, test, p.getValue())) {
             if (LocalSearchBudget.getInstance().isFinished()) {
                 break;
             }
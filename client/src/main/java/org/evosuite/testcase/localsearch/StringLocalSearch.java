@@ -43,6 +43,7 @@ public class StringLocalSearch extends AbstractStringLocalSearch {
                             LocalSearchObjective<TestChromosome> objective) {
         StringPrimitiveStatement p = (StringPrimitiveStatement) test.getTestCase().getStatement(statement);
         backup(test, p);
+        evaluations.reset(p.getValue());
 
         // TODO: First apply 10 random mutations to determine if string influences _uncovered_ branch
 
@@ -56,6 +57,7 @@ public class StringLocalSearch extends AbstractStringLocalSearch {
             }
 
             logger.info("Probing string " + originalValue + " ->" + p.getCode());
+            evaluations.add(p.getValue());
             int result = objective.hasChanged(test);
             if (result < 0) {
                 backup(test, p);
@@ -132,7 +134,7 @@ public class StringLocalSearch extends AbstractStringLocalSearch {
                     //logger.debug(" " + i + " " + oldValue + "/" + oldValue.length()
                     //        + " -> " + newString + "/" + newString.length());
 
-                    if (objective.hasImproved(test)) {
+                    if (evaluations.hasImproved(objective, test, p.getValue())) {
                         backup(test, p);
                         //oldChar = replacement;
                         improvement = true;
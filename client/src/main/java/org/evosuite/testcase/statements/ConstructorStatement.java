@@ -207,7 +207,7 @@ public class ConstructorStatement extends EntityWithParametersStatement {
                         }
                     }
 
-                    Object ret = constructor.getConstructor().newInstance(inputs);
+                    Object ret = constructor.newInstance(inputs);
 
                     try {
                         retval.setObject(scope, ret);
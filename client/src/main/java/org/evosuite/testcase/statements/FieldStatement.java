@@ -227,7 +227,7 @@ public class FieldStatement extends AbstractStatement {
 
                     Object ret;
                     try {
-                        ret = field.getField().get(sourceObject);
+                        ret = field.get(sourceObject);
                     } catch (IllegalAccessException e) {
                         throw new CodeUnderTestException(e);
                     }
@@ -337,7 +337,7 @@ public class MethodStatement extends EntityWithParametersStatement {
                         throw new EvosuiteError(e);
                     }
 
-                    Object ret = method.getMethod().invoke(calleeObject, inputs);
+                    Object ret = method.invoke(calleeObject, inputs);
                     // Try exact return type
                     /*
                      * TODO: Sometimes we do want to cast an Object to String etc...
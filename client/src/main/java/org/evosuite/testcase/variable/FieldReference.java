@@ -152,7 +152,7 @@ public class FieldReference extends VariableReferenceImpl {
         }
 
         try {
-            return field.getField().get(s);
+            return field.get(s);
         } catch (IllegalArgumentException e) {
             logger.debug("Error accessing field " + field + " of object " + source + ": "
                     + e, e);
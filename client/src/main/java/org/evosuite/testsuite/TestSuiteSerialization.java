@@ -21,9 +21,10 @@ package org.evosuite.testsuite;
 
 import org.evosuite.TestGenerationContext;
 import org.evosuite.runtime.util.Inputs;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.TestCaseCodec;
 import org.evosuite.testcase.TestChromosome;
 import org.evosuite.testcase.statements.Statement;
-import org.evosuite.utils.DebuggingObjectOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,15 +56,14 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
-        try (ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target))) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+            TestCaseCodec.Encoder encoder = new TestCaseCodec.Encoder(out);
             for (TestSuiteChromosome ts : list) {
                 for (TestChromosome tc : ts.getTestChromosomes()) {
-                    out.writeObject(tc);
+                    encoder.writeTest(tc.getTestCase());
                 }
             }
-
-            out.flush();
-            out.close();
+            encoder.finish();
         } catch (IOException e) {
             logger.error("Failed to open/handle " + target.getAbsolutePath() + " for writing: " + e.getMessage());
             return false;
@@ -86,13 +86,12 @@ public class TestSuiteSerialization {
             parent.mkdirs();
         }
 
-        try (ObjectOutputStream out = new DebuggingObjectOutputStream(new FileOutputStream(target))) {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+            TestCaseCodec.Encoder encoder = new TestCaseCodec.Encoder(out);
             for (TestChromosome tc : ts.getTestChromosomes()) {
-                out.writeObject(tc);
+                encoder.writeTest(tc.getTestCase());
             }
-
-            out.flush();
-            out.close();
+            encoder.finish();
         } catch (IOException e) {
             logger.error("Failed to open/handle " + target.getAbsolutePath() + " for writing: " + e.getMessage());
             return false;
@@ -160,30 +159,22 @@ public class TestSuiteSerialization {
 
         List<TestChromosome> list = new ArrayList<>();
 
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(target))) {
-
-            try {
-                Object obj = in.readObject();
-                while (obj != null) {
-                    if (obj instanceof TestChromosome) {
-                        //this check might fail if old version is used, and EvoSuite got updated
-                        TestChromosome tc = (TestChromosome) obj;
-                        for (Statement st : tc.getTestCase()) {
-                            st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
-                        }
-
-                        list.add(tc);
-                    }
-                    obj = in.readObject();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(target))) {
+            byte[] header = new byte[4];
+            in.mark(header.length);
+            int read = in.read(header);
+            in.reset();
+            if (read == header.length && TestCaseCodec.hasMagic(header)) {
+                TestCaseCodec.Decoder decoder = new TestCaseCodec.Decoder(in);
+                TestCase test;
+                while ((test = decoder.readTest()) != null) {
+                    TestChromosome tc = new TestChromosome();
+                    tc.setTestCase(test);
+                    list.add(tc);
                 }
-            } catch (EOFException e) {
-                //fine
-            } catch (Exception e) {
-                logger.warn("Problems when reading a serialized test from " + target.getAbsolutePath() + " : "
-                        + e.getMessage());
+            } else {
+                loadSerializedTests(new ObjectInputStream(in), target, list);
             }
-
-            in.close();
         } catch (FileNotFoundException e) {
             logger.warn("Cannot load tests because file does not exist: " + target.getAbsolutePath());
         } catch (IOException e) {
@@ -192,4 +183,31 @@ public class TestSuiteSerialization {
 
         return list;
     }
+
+    /**
+     * Reads tests written with plain Java serialization, the format used
+     * before {@link TestCaseCodec} was introduced.
+     */
+    private static void loadSerializedTests(ObjectInputStream in, File target, List<TestChromosome> list) {
+        try {
+            Object obj = in.readObject();
+            while (obj != null) {
+                if (obj instanceof TestChromosome) {
+                    //this check might fail if old version is used, and EvoSuite got updated
+                    TestChromosome tc = (TestChromosome) obj;
+                    for (Statement st : tc.getTestCase()) {
+                        st.changeClassLoader(TestGenerationContext.getInstance().getClassLoaderForSUT());
+                    }
+
+                    list.add(tc);
+                }
+                obj = in.readObject();
+            }
+        } catch (EOFException e) {
+            //fine
+        } catch (Exception e) {
+            logger.warn("Problems when reading a serialized test from " + target.getAbsolutePath() + " : "
+                    + e.getMessage());
+        }
+    }
 }
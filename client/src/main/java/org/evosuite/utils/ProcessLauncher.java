@@ -34,6 +34,13 @@ public class ProcessLauncher {
 
     private final InputStream input;
 
+    /**
+     * The running process, or {@code null} if it has not started yet or has finished.
+     */
+    private Process process;
+
+    private boolean destroyed;
+
     public ProcessLauncher(OutputStream outAndErr, InputStream input) {
         this.outAndErr = outAndErr;
         this.input = input;
@@ -50,7 +57,13 @@ public class ProcessLauncher {
             throws IOException, ProcessTimeoutException {
 
         DefaultExecutor executor = new DefaultExecutor();
-        ExecuteWatchdog timeoutWatchdog = new ExecuteWatchdog(timeout);
+        ExecuteWatchdog timeoutWatchdog = new ExecuteWatchdog(timeout) {
+            @Override
+            public synchronized void start(Process process) {
+                super.start(process);
+                started(process);
+            }
+        };
         executor.setWatchdog(timeoutWatchdog);
 
         PumpStreamHandler streamHandler = new PumpStreamHandler(this.outAndErr, this.outAndErr, this.input);
@@ -62,8 +75,16 @@ public class ProcessLauncher {
         try {
             logger.debug("About to execute command " + cmdString);
             CommandLine cmdLine = CommandLine.parse(cmdString);
+            if (isDestroyed()) {
+                throw new ProcessTimeoutException("The process was destroyed before executing command " + cmdString);
+            }
             int exitValue = executor.execute(cmdLine);
 
+            if (executor.isFailure(exitValue) && isDestroyed()) {
+                logger.debug("The process was destroyed while executing command " + cmdString);
+                throw new ProcessTimeoutException("The process was destroyed while executing command " + cmdString);
+            }
+
             if (executor.isFailure(exitValue) && timeoutWatchdog.killedProcess()) {
                 // it was killed on purpose by the watchdog
                 logger.debug("A timeout occured while executing a process");
@@ -73,7 +94,10 @@ public class ProcessLauncher {
 
             return exitValue;
         } catch (ExecuteException ex) {
-            if (timeoutWatchdog.killedProcess()) {
+            if (isDestroyed()) {
+                logger.debug("The process was destroyed while executing command " + cmdString);
+                throw new ProcessTimeoutException("The process was destroyed while executing command " + cmdString);
+            } else if (timeoutWatchdog.killedProcess()) {
                 logger.debug("A timeout occured while executing a process");
                 logger.debug("The command is " + cmdString);
                 throw new ProcessTimeoutException("A timeout occurred while executing command " + cmdString);
@@ -81,8 +105,35 @@ public class ProcessLauncher {
                 throw ex;
             }
 
+        } finally {
+            synchronized (this) {
+                process = null;
+            }
         }
 
     }
 
+    private synchronized void started(Process process) {
+        this.process = process;
+        if (destroyed) {
+            process.destroy();
+        }
+    }
+
+    private synchronized boolean isDestroyed() {
+        return destroyed;
+    }
+
+    /**
+     * Destroys the process launched by this launcher, which then fails with a
+     * {@link ProcessTimeoutException}. If the process has not started yet, it is destroyed as soon
+     * as it starts.
+     */
+    public synchronized void destroyProcess() {
+        destroyed = true;
+        if (process != null) {
+            process.destroy();
+        }
+    }
+
 }
@@ -28,6 +28,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Unique random number accessor.
@@ -44,6 +46,18 @@ public class Randomness implements Serializable {
 
     private static Random random = null;
 
+    /**
+     * Generator of the current thread while it runs {@link #callWithSeed}, or {@code null} if it
+     * draws from the shared generator.
+     */
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<>();
+
+    /**
+     * Number of {@link #callWithSeed} calls in progress. While there are none, no thread has its own
+     * generator and {@link #threadRandom} is not looked up.
+     */
+    private static final AtomicInteger seededCalls = new AtomicInteger();
+
     private static Randomness instance = new Randomness();
 
     private Randomness() {
@@ -58,6 +72,40 @@ public class Randomness implements Serializable {
         random = new MersenneTwister(seed);
     }
 
+    private static Random random() {
+        if (seededCalls.get() == 0) {
+            return random;
+        }
+        Random threadLocal = threadRandom.get();
+        return threadLocal != null ? threadLocal : random;
+    }
+
+    /**
+     * Computes {@code action} with the random numbers of the current thread drawn from a new
+     * generator seeded with {@code seed} instead of the shared one. Tasks running in parallel
+     * thus draw the same numbers regardless of how they are scheduled.
+     *
+     * @param seed   the seed of the generator
+     * @param action the computation
+     * @param <T>    the type of the result
+     * @return the result of {@code action}
+     */
+    public static <T> T callWithSeed(long seed, Supplier<T> action) {
+        Random previous = threadRandom.get();
+        threadRandom.set(new MersenneTwister(seed));
+        seededCalls.incrementAndGet();
+        try {
+            return action.get();
+        } finally {
+            seededCalls.decrementAndGet();
+            if (previous == null) {
+                threadRandom.remove();
+            } else {
+                threadRandom.set(previous);
+            }
+        }
+    }
+
     /**
      * <p>
      * Getter for the field <code>instance</code>.
@@ -77,7 +125,7 @@ public class Randomness implements Serializable {
      * @return a boolean.
      */
     public static boolean nextBoolean() {
-        return random.nextBoolean();
+        return random().nextBoolean();
     }
 
     /**
@@ -89,11 +137,11 @@ public class Randomness implements Serializable {
      * @see Random#nextInt(int)
      */
     public static int nextInt(int max) {
-        return random.nextInt(max);
+        return random().nextInt(max);
     }
 
     public static double nextGaussian() {
-        return random.nextGaussian();
+        return random().nextGaussian();
     }
 
     /**
@@ -105,7 +153,7 @@ public class Randomness implements Serializable {
      * @return a random number between {@code min} and {@code max}
      */
     public static int nextInt(int min, int max) {
-        return random.nextInt(max - min) + min;
+        return random().nextInt(max - min) + min;
     }
 
     /**
@@ -116,7 +164,7 @@ public class Randomness implements Serializable {
      * @return a int.
      */
     public static int nextInt() {
-        return random.nextInt();
+        return random().nextInt();
     }
 
     /**
@@ -138,7 +186,7 @@ public class Randomness implements Serializable {
      * @return a short.
      */
     public static short nextShort() {
-        return (short) (random.nextInt(2 * 32767) - 32767);
+        return (short) (random().nextInt(2 * 32767) - 32767);
     }
 
     /**
@@ -149,7 +197,7 @@ public class Randomness implements Serializable {
      * @return a long.
      */
     public static long nextLong() {
-        return random.nextLong();
+        return random().nextLong();
     }
 
     /**
@@ -160,7 +208,7 @@ public class Randomness implements Serializable {
      * @return a byte.
      */
     public static byte nextByte() {
-        return (byte) (random.nextInt(256) - 128);
+        return (byte) (random().nextInt(256) - 128);
     }
 
     /**
@@ -171,7 +219,7 @@ public class Randomness implements Serializable {
      * @return a double between 0.0 and 1.0
      */
     public static double nextDouble() {
-        return random.nextDouble();
+        return random().nextDouble();
     }
 
     /**
@@ -184,7 +232,7 @@ public class Randomness implements Serializable {
      * @return a double.
      */
     public static double nextDouble(double min, double max) {
-        return min + (random.nextDouble() * (max - min));
+        return min + (random().nextDouble() * (max - min));
     }
 
     /**
@@ -195,7 +243,7 @@ public class Randomness implements Serializable {
      * @return a float.
      */
     public static float nextFloat() {
-        return random.nextFloat();
+        return random().nextFloat();
     }
 
     /**
@@ -235,7 +283,7 @@ public class Randomness implements Serializable {
             return null;
         }
 
-        int position = random.nextInt(list.size());
+        int position = random().nextInt(list.size());
         return list.get(position);
     }
 
@@ -255,13 +303,13 @@ public class Randomness implements Serializable {
         }
 
         if (set instanceof List) {
-            return ((List<T>) set).get(random.nextInt(set.size()));
+            return ((List<T>) set).get(random().nextInt(set.size()));
         }
 
         List<T> list = new java.util.ArrayList<>(set);
         // Stabilize iteration order for non-List collections when possible.
         list.sort(Randomness::deterministicCompare);
-        return list.get(random.nextInt(list.size()));
+        return list.get(random().nextInt(list.size()));
     }
 
     /**
@@ -341,7 +389,7 @@ public class Randomness implements Serializable {
             return null;
         }
 
-        int position = random.nextInt(elements.length);
+        int position = random().nextInt(elements.length);
         return elements[position];
     }
 
@@ -353,7 +401,7 @@ public class Randomness implements Serializable {
      * @param list a {@link java.util.List} object.
      */
     public static void shuffle(List<?> list) {
-        Collections.shuffle(list, random);
+        Collections.shuffle(list, random());
     }
 
     /**
@@ -29,6 +29,7 @@ import org.evosuite.utils.LoggingUtils;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 import java.util.List;
 
@@ -43,6 +44,11 @@ public class GenericConstructor extends GenericExecutable<GenericConstructor, Co
 
     private transient Constructor<?> constructor;
 
+    /**
+     * Handle calling the constructor, created after its first reflective call.
+     */
+    private transient volatile MemberInvokers.CachedHandle<Constructor<?>> invoker;
+
     public GenericConstructor(Constructor<?> constructor, Class<?> clazz) {
         super(GenericClassFactory.get(clazz));
         this.constructor = constructor;
@@ -118,6 +124,49 @@ public class GenericConstructor extends GenericExecutable<GenericConstructor, Co
         return constructor;
     }
 
+    /**
+     * Calls the constructor like {@link Constructor#newInstance}. After the first call, the
+     * constructor is called through a cached method handle, unless that is not possible.
+     *
+     * @param inputs the arguments
+     * @return the new instance
+     * @throws InstantiationException    if the class is abstract
+     * @throws IllegalAccessException    if the constructor is not accessible
+     * @throws InvocationTargetException if the constructor throws an exception
+     */
+    public Object newInstance(Object[] inputs) throws InstantiationException, IllegalAccessException,
+            InvocationTargetException {
+        MethodHandle handle = MemberInvokers.CachedHandle.handleFor(invoker, constructor);
+        if (handle != null) {
+            try {
+                return (Object) handle.invokeExact(inputs);
+            } catch (InvocationTargetException | RuntimeException | Error e) {
+                if (!MemberInvokers.isConversionFailure(e)) {
+                    throw e;
+                }
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        Object result;
+        try {
+            result = constructor.newInstance(inputs);
+        } catch (InvocationTargetException e) {
+            createInvoker();
+            throw e;
+        }
+        createInvoker();
+        return result;
+    }
+
+    private void createInvoker() {
+        Constructor<?> target = constructor;
+        if (!MemberInvokers.CachedHandle.isFor(invoker, target)) {
+            invoker = new MemberInvokers.CachedHandle<>(target, MemberInvokers.forConstructor(target));
+        }
+    }
+
     /* (non-Javadoc)
      * @see org.evosuite.utils.GenericAccessibleMember#getAccessibleObject()
      */
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 
 /**
@@ -47,6 +48,11 @@ public class GenericField extends GenericAccessibleObject<GenericField> {
     private transient Field field;
     private transient boolean reflectionAccessible = true;
 
+    /**
+     * Handle reading the field, created after its first reflective read.
+     */
+    private transient volatile MemberInvokers.CachedHandle<Field> getter;
+
     /**
      * Constructor.
      *
@@ -115,6 +121,36 @@ public class GenericField extends GenericAccessibleObject<GenericField> {
         return field;
     }
 
+    /**
+     * Reads the field like {@link Field#get}. After the first read, the field is read through a
+     * cached method handle, unless that is not possible.
+     *
+     * @param obj the object to read the field from, ignored for static fields
+     * @return the value of the field
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    public Object get(Object obj) throws IllegalAccessException {
+        MethodHandle handle = MemberInvokers.CachedHandle.handleFor(getter, field);
+        if (handle != null) {
+            try {
+                return (Object) handle.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                if (!MemberInvokers.isConversionFailure(e)) {
+                    throw e;
+                }
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Field target = field;
+        Object result = target.get(obj);
+        if (!MemberInvokers.CachedHandle.isFor(getter, target)) {
+            getter = new MemberInvokers.CachedHandle<>(target, MemberInvokers.forGetter(target));
+        }
+        return result;
+    }
+
     /* (non-Javadoc)
      * @see org.evosuite.utils.GenericAccessibleObject#getAccessibleObject()
      */
@@ -32,7 +32,9 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -55,6 +57,11 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
 
     private transient Method method;
 
+    /**
+     * Handle calling the method, created after its first reflective call.
+     */
+    private transient volatile MemberInvokers.CachedHandle<Method> invoker;
+
     /**
      * <p>Constructor for GenericMethod.</p>
      *
@@ -96,6 +103,49 @@ public class GenericMethod extends GenericExecutable<GenericMethod, Method> {
         return method;
     }
 
+    /**
+     * Calls the method like {@link Method#invoke}. After the first call, the method is called
+     * through a cached method handle, unless that is not possible.
+     *
+     * @param callee the object the method is called on, ignored for static methods
+     * @param inputs the arguments
+     * @return the value returned by the method
+     * @throws IllegalAccessException    if the method is not accessible
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    public Object invoke(Object callee, Object[] inputs) throws IllegalAccessException,
+            InvocationTargetException {
+        MethodHandle handle = MemberInvokers.CachedHandle.handleFor(invoker, method);
+        if (handle != null && (callee != null || isStatic())) {
+            try {
+                return (Object) handle.invokeExact(callee, inputs);
+            } catch (InvocationTargetException | RuntimeException | Error e) {
+                if (!MemberInvokers.isConversionFailure(e)) {
+                    throw e;
+                }
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        Object result;
+        try {
+            result = method.invoke(callee, inputs);
+        } catch (InvocationTargetException e) {
+            createInvoker();
+            throw e;
+        }
+        createInvoker();
+        return result;
+    }
+
+    private void createInvoker() {
+        Method target = method;
+        if (!MemberInvokers.CachedHandle.isFor(invoker, target)) {
+            invoker = new MemberInvokers.CachedHandle<>(target, MemberInvokers.forMethod(target));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates method handles that call methods and constructors, and read fields, with the same
+ * calling convention as core reflection: arguments are passed as an {@code Object[]} and
+ * everything thrown by the member itself is wrapped in an {@link InvocationTargetException}.
+ * Unlike {@link Method#invoke}, the handles do not repeat access checks and argument
+ * validation on every call.
+ *
+ * <p>Handles are only created once the member has been accessed successfully through
+ * reflection, so that its declaring class has been initialized: errors of the class
+ * initialization would otherwise be wrapped like exceptions of the member.
+ */
+final class MemberInvokers {
+
+    private static final MethodType METHOD_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandle WRAP_EXCEPTION;
+
+    static {
+        try {
+            WRAP_EXCEPTION = MethodHandles.lookup().findConstructor(InvocationTargetException.class,
+                    MethodType.methodType(void.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MemberInvokers() {
+    }
+
+    /**
+     * A handle together with the member it was created for. Instances are immutable, so a
+     * single volatile field holding one publishes both at once.
+     *
+     * @param <M> the type of the member
+     */
+    static final class CachedHandle<M> {
+
+        private final M member;
+
+        private final MethodHandle handle;
+
+        CachedHandle(M member, MethodHandle handle) {
+            this.member = member;
+            this.handle = handle;
+        }
+
+        /**
+         * @param cached a cached handle, or null
+         * @param member the member to call
+         * @return the cached handle if it was created for the given member, null otherwise
+         */
+        static MethodHandle handleFor(CachedHandle<?> cached, Object member) {
+            return cached != null && cached.member == member ? cached.handle : null;
+        }
+
+        /**
+         * @param cached a cached handle, or null
+         * @param member the member to call
+         * @return whether the cached handle was created for the given member
+         */
+        static boolean isFor(CachedHandle<?> cached, Object member) {
+            return cached != null && cached.member == member;
+        }
+    }
+
+    /**
+     * Returns a handle of type {@code (Object, Object[])Object} calling the given method, or
+     * null if the method cannot be called through a handle.
+     *
+     * @param method an accessible method
+     * @return the handle, or null
+     */
+    static MethodHandle forMethod(Method method) {
+        try {
+            MethodHandle handle = wrapExceptions(MethodHandles.lookup().unreflect(method).asFixedArity());
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount()).asType(METHOD_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a handle of type {@code (Object[])Object} calling the given constructor, or null if
+     * the constructor cannot be called through a handle.
+     *
+     * @param constructor an accessible constructor
+     * @return the handle, or null
+     */
+    static MethodHandle forConstructor(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandle handle = wrapExceptions(
+                    MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity());
+            return handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a handle of type {@code (Object)Object} reading the given field from the given
+     * object (ignored for static fields), or null if the field cannot be read through a handle.
+     *
+     * @param field an accessible field
+     * @return the handle, or null
+     */
+    static MethodHandle forGetter(Field field) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether an exception thrown by one of the handles comes from converting the
+     * arguments, which happens before the member is accessed. Reflection has to be used
+     * instead then, to report the error like it always has.
+     *
+     * @param t an exception thrown by a handle, other than {@link InvocationTargetException}
+     * @return true if the member has not been accessed
+     */
+    static boolean isConversionFailure(Throwable t) {
+        return t instanceof ClassCastException || t instanceof NullPointerException
+                || t instanceof IllegalArgumentException || t instanceof WrongMethodTypeException;
+    }
+
+    private static MethodHandle wrapExceptions(MethodHandle target) {
+        MethodHandle thrower = MethodHandles.throwException(target.type().returnType(),
+                InvocationTargetException.class);
+        MethodHandle handler = MethodHandles.filterArguments(thrower, 0,
+                WRAP_EXCEPTION.asType(MethodType.methodType(InvocationTargetException.class, Throwable.class)));
+        return MethodHandles.catchException(target, Throwable.class, handler);
+    }
+}
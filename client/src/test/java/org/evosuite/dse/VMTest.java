@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.dse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VMTest {
+
+    private static class IincListener extends AbstractVM {
+        @Override
+        public void IINC(int i, int value) {
+        }
+    }
+
+    private static class GotoListener extends IincListener {
+        @Override
+        public void GOTO() {
+        }
+    }
+
+    @Test
+    public void testListenersAreOnlyCalledForOverriddenCallbacks() {
+        IVM iinc = new IincListener();
+        IVM gotoAndIinc = new GotoListener();
+
+        IVM[][] table = VM.dispatchTable(new IVM[]{iinc, gotoAndIinc});
+
+        assertEquals(VMCallbacks.NAMES.length, table.length);
+        assertArrayEquals(new IVM[]{iinc, gotoAndIinc}, table[VMCallbacks.IINC]);
+        assertArrayEquals(new IVM[]{gotoAndIinc}, table[VMCallbacks.GOTO]);
+        assertArrayEquals(new IVM[0], table[VMCallbacks.NEW]);
+    }
+}
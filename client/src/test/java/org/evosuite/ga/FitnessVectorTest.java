@@ -0,0 +1,248 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FitnessVectorTest {
+
+    private static class Goal extends FitnessFunction<DummyChromosome> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+
+        Goal(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public double getFitness(DummyChromosome individual) {
+            return id;
+        }
+
+        @Override
+        public boolean isMaximizationFunction() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Goal && ((Goal) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return "Goal" + id;
+        }
+    }
+
+    @Test
+    public void testEqualFitnessFunctionsShareValues() {
+        FitnessVector.Doubles<DummyChromosome> vector = new FitnessVector.Doubles<>();
+        vector.setDouble(new Goal(1), 0.5);
+
+        assertEquals(FitnessFunction.indexOf(new Goal(1)), FitnessFunction.indexOf(new Goal(1)));
+        assertEquals(0.5, vector.getDouble(new Goal(1), -1.0), 0.0);
+        assertEquals(-1.0, vector.getDouble(new Goal(2), -1.0), 0.0);
+        assertEquals(1, vector.size());
+    }
+
+    @Test
+    public void testIndexSurvivesCollectionOfTheFirstInstance() {
+        int index = FitnessFunction.indexOf(new Goal(1000));
+        // the first instance is no longer referenced and may be collected
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        assertEquals(index, FitnessFunction.indexOf(new Goal(1000)));
+    }
+
+    @Test
+    public void testMapViewKeepsInsertionOrder() {
+        Goal a = new Goal(10);
+        Goal b = new Goal(11);
+        Goal c = new Goal(12);
+        FitnessFunction.indexOf(a);
+        FitnessFunction.indexOf(b);
+        FitnessFunction.indexOf(c);
+
+        FitnessVector.Ints<DummyChromosome> vector = new FitnessVector.Ints<>();
+        vector.setInt(c, 3);
+        vector.setInt(a, 1);
+        vector.put(b, 2);
+
+        assertEquals(Arrays.asList(c, a, b), new ArrayList<>(vector.keySet()));
+        assertEquals(Arrays.asList(3, 1, 2), new ArrayList<>(vector.values()));
+        assertEquals(6, vector.sum());
+
+        vector.keySet().removeIf(ff -> ff.equals(a));
+
+        assertEquals(Arrays.asList(c, b), new ArrayList<>(vector.keySet()));
+        assertNull(vector.get(a));
+        assertEquals(5, vector.sum());
+
+        vector.entrySet().iterator().next().setValue(7);
+        assertEquals(7, vector.getInt(c, 0));
+    }
+
+    @Test
+    public void testSmallerIndexShiftsValues() {
+        Goal first = new Goal(20);
+        Goal second = new Goal(21);
+        Goal third = new Goal(22);
+        FitnessFunction.indexOf(first);
+        FitnessFunction.indexOf(second);
+        FitnessFunction.indexOf(third);
+
+        FitnessVector.Doubles<DummyChromosome> vector = new FitnessVector.Doubles<>();
+        vector.setDouble(third, 3.0);
+        vector.setDouble(first, 1.0);
+        vector.setDouble(second, 2.0);
+
+        assertEquals(1.0, vector.getDouble(first, 0.0), 0.0);
+        assertEquals(2.0, vector.getDouble(second, 0.0), 0.0);
+        assertEquals(3.0, vector.getDouble(third, 0.0), 0.0);
+        assertEquals(Arrays.asList(third, first, second), new ArrayList<>(vector.keySet()));
+    }
+
+    @Test
+    public void testAssignCopiesValues() {
+        FitnessVector.Doubles<DummyChromosome> source = new FitnessVector.Doubles<>();
+        source.setDouble(new Goal(30), 1.0);
+        source.setDouble(new Goal(31), 2.0);
+
+        FitnessVector.Doubles<DummyChromosome> copy = new FitnessVector.Doubles<>();
+        copy.setDouble(new Goal(32), 3.0);
+        copy.assign(source);
+        source.setDouble(new Goal(30), 5.0);
+
+        assertEquals(source.keySet(), copy.keySet());
+        assertEquals(1.0, copy.getDouble(new Goal(30), 0.0), 0.0);
+        assertFalse(copy.containsKey(new Goal(32)));
+
+        Map<FitnessFunction<DummyChromosome>, Double> map = new LinkedHashMap<>(copy);
+        copy.assign(map);
+        assertEquals(map, copy);
+    }
+
+    @Test
+    public void testChromosomeFitnessValues() {
+        Goal a = new Goal(40);
+        Goal b = new Goal(41);
+        DummyChromosome chromosome = new DummyChromosome(1, 2);
+        chromosome.addFitness(a, 1.0, 0.5, 1);
+        chromosome.addFitness(b, 2.0, 1.0, 2);
+
+        assertEquals(3.0, chromosome.getFitness(), 0.0);
+        assertEquals(0.75, chromosome.getCoverage(), 0.0);
+        assertEquals(3, chromosome.getNumOfCoveredGoals());
+        assertEquals(-2, chromosome.getNumOfNotCoveredGoals());
+        assertEquals(1.0, chromosome.getFitnessInstanceOf(Goal.class), 0.0);
+        assertFalse(chromosome.hasFitnessChanged());
+
+        chromosome.setFitness(b, 0.0);
+
+        assertTrue(chromosome.hasFitnessChanged());
+        assertEquals(2.0, chromosome.getPreviousFitnessValues().get(b), 0.0);
+
+        DummyChromosome copy = new DummyChromosome(1, 2);
+        copy.setFitnessValues(chromosome.getFitnessValues());
+        chromosome.setFitness(a, 0.0);
+
+        assertEquals(1.0, copy.getFitness(), 0.0);
+        assertEquals(42.0, copy.getFitness(new Goal(42)), 0.0);
+    }
+
+    @Test
+    public void testSerializationRegistersFunctionsAgain() throws Exception {
+        DummyChromosome chromosome = new DummyChromosome(1);
+        chromosome.addFitness(new Goal(50), 1.5, 1.0, 1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(chromosome);
+        }
+        DummyChromosome read;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (DummyChromosome) in.readObject();
+        }
+
+        assertEquals(1.5, read.getFitness(new Goal(50)), 0.0);
+        assertEquals(1.0, read.getCoverage(), 0.0);
+        assertEquals(1, read.getNumOfCoveredGoals(new Goal(50)));
+    }
+
+    @Test
+    public void testNullKeyIsAccepted() {
+        FitnessVector.Doubles<DummyChromosome> vector = new FitnessVector.Doubles<>();
+        vector.setDouble(new Goal(40), 1.0);
+        vector.put(null, 2.0);
+
+        assertTrue(vector.containsKey(null));
+        assertEquals(2.0, vector.getDouble(null, 0.0), 0.0);
+        assertEquals(Arrays.asList(new Goal(40), null), new ArrayList<>(vector.keySet()));
+
+        vector.remove(null);
+
+        assertFalse(vector.containsKey(null));
+        assertEquals(1, vector.size());
+    }
+
+    @Test
+    public void testValuesSurviveResetOfIndices() {
+        FitnessFunction.resetIndices();
+        Goal a = new Goal(50);
+        Goal b = new Goal(51);
+        FitnessVector.Ints<DummyChromosome> vector = new FitnessVector.Ints<>();
+        vector.setInt(b, 2);
+        vector.setInt(a, 1);
+
+        FitnessFunction.resetIndices();
+        // The first goal registered after a reset takes the index b had before it
+        Goal c = new Goal(52);
+        FitnessFunction.indexOf(c);
+
+        assertEquals(1, vector.getInt(new Goal(50), 0));
+        assertEquals(2, vector.getInt(b, 0));
+        assertFalse(vector.containsKey(c));
+        assertEquals(Arrays.asList(b, a), new ArrayList<>(vector.keySet()));
+    }
+}
@@ -23,6 +23,7 @@ import org.evosuite.Properties;
 import org.evosuite.ga.ChromosomeFactory;
 import org.evosuite.ga.DummyChromosome;
 import org.evosuite.ga.FitnessFunction;
+import org.evosuite.utils.Randomness;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -123,4 +124,96 @@ public class CellularGATest {
         // Index 1 should NOT be replaced (15.0 > 10.0)
         Assertions.assertEquals(10.0, main.get(1).getFitness(), 0.001);
     }
+
+    @Test
+    public void testParallelEvolveOnlyReplacesCellsWithBetterIndividuals() {
+        Properties.POPULATION = 16;
+        Properties.MODEL = Properties.CgaModels.COMPACT_NINE;
+        Properties.CROSSOVER_RATE = 0.8;
+        int threads = Properties.CGA_THREADS;
+        Properties.CGA_THREADS = 4;
+        try {
+            ChromosomeFactory<DummyChromosome> factory =
+                    () -> new DummyChromosome(Randomness.nextInt(100), Randomness.nextInt(100));
+            CellularGA<DummyChromosome> ga = new CellularGA<>(Properties.MODEL, factory);
+
+            // Minimize the sum of the genes
+            FitnessFunction<DummyChromosome> ff = new FitnessFunction<DummyChromosome>() {
+                @Override
+                public double getFitness(DummyChromosome individual) {
+                    double fitness = Math.abs((double) individual.getGenes().stream()
+                            .mapToLong(Integer::longValue).sum());
+                    updateIndividual(individual, fitness);
+                    return fitness;
+                }
+
+                @Override
+                public boolean isMaximizationFunction() {
+                    return false;
+                }
+            };
+            ga.addFitnessFunction(ff);
+            ga.initializePopulation();
+
+            for (int generation = 0; generation < 5; generation++) {
+                List<DummyChromosome> before = new ArrayList<>(ga.getPopulation());
+
+                ga.run();
+
+                List<DummyChromosome> after = ga.getPopulation();
+                Assertions.assertEquals(16, after.size());
+                for (int i = 0; i < after.size(); i++) {
+                    Assertions.assertTrue(after.get(i) == before.get(i)
+                            || after.get(i).getFitness(ff) <= before.get(i).getFitness(ff));
+                }
+            }
+        } finally {
+            Properties.CGA_THREADS = threads;
+        }
+    }
+
+    @Test
+    public void testParallelEvolveIsReproducible() {
+        Properties.POPULATION = 16;
+        Properties.MODEL = Properties.CgaModels.COMPACT_NINE;
+        Properties.CROSSOVER_RATE = 0.8;
+        int threads = Properties.CGA_THREADS;
+        Properties.CGA_THREADS = 4;
+        try {
+            Assertions.assertEquals(evolveInParallel(), evolveInParallel());
+        } finally {
+            Properties.CGA_THREADS = threads;
+        }
+    }
+
+    private static List<List<Integer>> evolveInParallel() {
+        Randomness.setSeed(42);
+        ChromosomeFactory<DummyChromosome> factory =
+                () -> new DummyChromosome(Randomness.nextInt(100), Randomness.nextInt(100));
+        CellularGA<DummyChromosome> ga = new CellularGA<>(Properties.MODEL, factory);
+        ga.addFitnessFunction(new FitnessFunction<DummyChromosome>() {
+            @Override
+            public double getFitness(DummyChromosome individual) {
+                double fitness = Math.abs((double) individual.getGenes().stream()
+                        .mapToLong(Integer::longValue).sum());
+                updateIndividual(individual, fitness);
+                return fitness;
+            }
+
+            @Override
+            public boolean isMaximizationFunction() {
+                return false;
+            }
+        });
+        ga.initializePopulation();
+        for (int generation = 0; generation < 5; generation++) {
+            ga.run();
+        }
+
+        List<List<Integer>> genes = new ArrayList<>();
+        for (DummyChromosome individual : ga.getPopulation()) {
+            genes.add(individual.getGenes());
+        }
+        return genes;
+    }
 }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestChromosome;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class TestLocalSearchDuplicates {
+
+    @Test
+    public void testDuplicatesPointToFirstOccurrence() {
+        int[] first = GeneticAlgorithm.getFirstOccurrences(Arrays.asList("a", "b", "a", "c", "b", "a"));
+
+        assertArrayEquals(new int[]{0, 1, 0, 3, 1, 0}, first);
+    }
+
+    @Test
+    public void testDistinctIndividuals() {
+        assertArrayEquals(new int[]{0, 1, 2}, GeneticAlgorithm.getFirstOccurrences(Arrays.asList(1, 2, 3)));
+        assertArrayEquals(new int[0], GeneticAlgorithm.getFirstOccurrences(Collections.emptyList()));
+    }
+
+    private static TestChromosome createTest(String value) throws Exception {
+        DefaultTestCase test = new DefaultTestCase();
+        VariableReference string = test.addStatement(new StringPrimitiveStatement(test, value));
+        GenericMethod length = new GenericMethod(String.class.getMethod("length"), String.class);
+        test.addStatement(new MethodStatement(test, length, string, Collections.emptyList()));
+        TestChromosome chromosome = new TestChromosome();
+        chromosome.setTestCase(test);
+        return chromosome;
+    }
+
+    @Test
+    public void testClonedTestsAreDuplicates() throws Exception {
+        TestChromosome a = createTest("a");
+        TestChromosome b = createTest("b");
+
+        int[] first = GeneticAlgorithm.getFirstOccurrences(Arrays.asList(a, b, a.clone(), b.clone(), createTest("a")));
+
+        assertArrayEquals(new int[]{0, 1, 0, 1, 0}, first);
+    }
+
+    @Test
+    public void testClonedSuitesAreDuplicates() throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        suite.addTest(createTest("a"));
+        suite.addTest(createTest("b"));
+        TestSuiteChromosome other = new TestSuiteChromosome();
+        other.addTest(createTest("b"));
+        other.addTest(createTest("a"));
+
+        int[] first = GeneticAlgorithm.getFirstOccurrences(Arrays.asList(suite, other, suite.clone(), other.clone()));
+
+        assertArrayEquals(new int[]{0, 1, 0, 1}, first);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mapelites;
+
+import org.evosuite.assertion.Inspector;
+import org.evosuite.testcase.TestChromosome;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FeatureGridTest {
+
+    public static class TestClass {
+        private final int value;
+
+        public TestClass(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+    }
+
+    private static FeatureVector vector(int value) throws NoSuchMethodException {
+        Inspector inspector = new Inspector(TestClass.class, TestClass.class.getMethod("getValue"));
+        return new FeatureVector(new Inspector[]{inspector}, new TestClass(value));
+    }
+
+    @Test
+    public void testEqualVectorsShareCell() throws NoSuchMethodException {
+        FeatureGrid grid = new FeatureGrid();
+
+        int[] cells = grid.getCells(Arrays.asList(vector(5), vector(-3), vector(7), vector(0)));
+
+        // 5 and 7 are in the same group, so there are three cells numbered in order of appearance
+        assertArrayEquals(new int[]{0, 1, 2}, cells);
+        assertArrayEquals(new int[]{1, 0}, grid.getCells(Arrays.asList(vector(-1), vector(1))));
+        assertEquals(3, grid.size());
+        assertEquals(0, grid.getCells(Collections.emptyList()).length);
+    }
+
+    @Test
+    public void testFoundCellsAreCountedOnce() {
+        FeatureGrid grid = new FeatureGrid();
+
+        grid.markFound(3);
+        grid.markFound(0);
+        grid.markFound(3);
+
+        assertEquals(2, grid.getFoundCount());
+    }
+
+    @Test
+    public void testElitesKeepFittestChromosome() {
+        BranchElites elites = new BranchElites();
+        TestChromosome first = new TestChromosome();
+        TestChromosome better = new TestChromosome();
+        TestChromosome worse = new TestChromosome();
+
+        assertNull(elites.choose());
+        assertTrue(elites.offer(4, first, 2.0));
+        assertTrue(elites.offer(4, better, 1.0));
+        assertFalse(elites.offer(4, worse, 1.5));
+        assertTrue(elites.offer(1, worse, 1.5));
+
+        assertEquals(2, elites.size());
+        assertEquals(Arrays.asList(better, worse), elites.getElites());
+
+        BranchElites single = new BranchElites();
+        single.offer(0, better, 0.0);
+        assertSame(better, single.choose());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics.mosa.structural;
+
+import org.evosuite.testcase.TestFitnessFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class GoalIndexTest {
+
+    private final Map<TestFitnessFunction, List<TestFitnessFunction>> graph = new HashMap<>();
+
+    private Collection<TestFitnessFunction> childrenOf(TestFitnessFunction goal) {
+        return graph.getOrDefault(goal, Collections.emptyList());
+    }
+
+    private static List<TestFitnessFunction> children(GoalIndex index, TestFitnessFunction goal) {
+        int id = index.idOf(goal);
+        List<TestFitnessFunction> result = new ArrayList<>();
+        for (int k = index.childrenStart(id); k < index.childrenEnd(id); k++) {
+            result.add(index.getGoal(index.getChildren()[k]));
+        }
+        return result;
+    }
+
+    @Test
+    public void testChildrenAreIndexedTransitively() {
+        TestFitnessFunction root = mock(TestFitnessFunction.class);
+        TestFitnessFunction left = mock(TestFitnessFunction.class);
+        TestFitnessFunction right = mock(TestFitnessFunction.class);
+        TestFitnessFunction leaf = mock(TestFitnessFunction.class);
+        graph.put(root, Arrays.asList(left, right));
+        graph.put(left, Collections.singletonList(leaf));
+        graph.put(right, Collections.singletonList(leaf));
+
+        GoalIndex index = new GoalIndex(Collections.singletonList(root), this::childrenOf);
+
+        assertEquals(4, index.size());
+        assertSame(root, index.getGoal(index.idOf(root)));
+        assertEquals(Arrays.asList(left, right), children(index, root));
+        assertEquals(Collections.singletonList(leaf), children(index, left));
+        assertEquals(Collections.singletonList(leaf), children(index, right));
+        assertEquals(Collections.emptyList(), children(index, leaf));
+    }
+
+    @Test
+    public void testUnknownGoalIsAdded() {
+        TestFitnessFunction root = mock(TestFitnessFunction.class);
+        TestFitnessFunction other = mock(TestFitnessFunction.class);
+        TestFitnessFunction child = mock(TestFitnessFunction.class);
+        graph.put(other, Collections.singletonList(child));
+        GoalIndex index = new GoalIndex(Collections.singletonList(root), this::childrenOf);
+
+        int id = index.idOf(other);
+
+        assertEquals(3, index.size());
+        assertSame(other, index.getGoal(id));
+        assertEquals(Collections.singletonList(child), children(index, other));
+        assertEquals(Collections.emptyList(), children(index, root));
+    }
+}
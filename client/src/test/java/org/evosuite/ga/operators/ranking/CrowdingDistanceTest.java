@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.operators.ranking;
+
+import org.evosuite.ga.DummyChromosome;
+import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.comparators.SortByFitness;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CrowdingDistanceTest {
+
+    private static class IndexFitnessFunction extends FitnessFunction<DummyChromosome> {
+        private static final long serialVersionUID = 1L;
+        private final int index;
+
+        IndexFitnessFunction(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public double getFitness(DummyChromosome individual) {
+            return individual.get(index);
+        }
+
+        @Override
+        public boolean isMaximizationFunction() {
+            return false;
+        }
+    }
+
+    /**
+     * The crowding distance computed by sorting the front for each objective.
+     */
+    private static double[] sortingCrowdingDistance(List<DummyChromosome> front,
+                                                    List<IndexFitnessFunction> goals) {
+        List<DummyChromosome> copy = new ArrayList<>(front);
+        double[] distances = new double[front.size()];
+        for (IndexFitnessFunction ff : goals) {
+            copy.sort(new SortByFitness<>(ff, false));
+            double min = copy.get(0).getFitness(ff);
+            double max = copy.get(copy.size() - 1).getFitness(ff);
+            distances[indexOf(front, copy.get(0))] = Double.POSITIVE_INFINITY;
+            distances[indexOf(front, copy.get(copy.size() - 1))] = Double.POSITIVE_INFINITY;
+            if (max == min) {
+                continue;
+            }
+            for (int j = 1; j < copy.size() - 1; j++) {
+                double distance = (copy.get(j + 1).getFitness(ff) - copy.get(j - 1).getFitness(ff)) / (max - min);
+                distances[indexOf(front, copy.get(j))] += distance;
+            }
+        }
+        return distances;
+    }
+
+    private static int indexOf(List<DummyChromosome> front, DummyChromosome solution) {
+        for (int i = 0; i < front.size(); i++) {
+            if (front.get(i) == solution) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    @Test
+    public void testCrowdingDistanceAssignment() {
+        Random random = new Random(7);
+        List<IndexFitnessFunction> goals = Arrays.asList(new IndexFitnessFunction(0),
+                new IndexFitnessFunction(1), new IndexFitnessFunction(2));
+        for (int round = 0; round < 20; round++) {
+            List<DummyChromosome> front = new ArrayList<>();
+            for (int i = 0; i < 15; i++) {
+                front.add(new DummyChromosome(random.nextInt(6), random.nextInt(6), random.nextInt(6)));
+            }
+            List<DummyChromosome> original = new ArrayList<>(front);
+            double[] expected = sortingCrowdingDistance(original, goals);
+
+            List<DummyChromosome> lastOrder = new ArrayList<>(front);
+            for (IndexFitnessFunction ff : goals) {
+                lastOrder.sort(new SortByFitness<>(ff, false));
+            }
+
+            new CrowdingDistance<DummyChromosome>().crowdingDistanceAssignment(front, goals);
+
+            for (int i = 0; i < original.size(); i++) {
+                assertEquals(expected[i], original.get(i).getDistance(), 1e-9);
+                // The front is left sorted as if by each objective in turn
+                assertSame(lastOrder.get(i), front.get(i));
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.evosuite.ga.operators.ranking;
 
 import org.evosuite.ga.DummyChromosome;
 import org.evosuite.ga.FitnessFunction;
+import org.evosuite.ga.comparators.DominanceComparator;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
@@ -95,4 +96,80 @@ public class FastNonDominatedSortingTest {
         assertTrue(front1.contains(D));
         assertEquals(3, front1.size());
     }
+
+    private static class MaximizedFitnessFunction extends DummyFitnessFunction {
+        private static final long serialVersionUID = 1L;
+
+        public MaximizedFitnessFunction(int index) {
+            super(index);
+        }
+
+        @Override
+        public boolean isMaximizationFunction() {
+            return true;
+        }
+    }
+
+    /**
+     * Ranks by comparing all pairs of solutions, as the textbook algorithm does.
+     */
+    private static Map<DummyChromosome, Integer> pairwiseRanks(List<DummyChromosome> population,
+                                                              Set<FitnessFunction<DummyChromosome>> goals) {
+        DominanceComparator<DummyChromosome> comparator = new DominanceComparator<>(goals);
+        Map<DummyChromosome, Integer> ranks = new IdentityHashMap<>();
+        List<DummyChromosome> remaining = new ArrayList<>(population);
+        int rank = 1;
+        while (!remaining.isEmpty()) {
+            List<DummyChromosome> front = new ArrayList<>();
+            for (DummyChromosome p : remaining) {
+                boolean dominated = false;
+                for (DummyChromosome q : remaining) {
+                    if (comparator.compare(q, p) < 0) {
+                        dominated = true;
+                        break;
+                    }
+                }
+                if (!dominated) {
+                    front.add(p);
+                }
+            }
+            for (DummyChromosome p : front) {
+                ranks.put(p, rank);
+            }
+            remaining.removeAll(front);
+            rank++;
+        }
+        return ranks;
+    }
+
+    @Test
+    public void testSameFrontsAsPairwiseSorting() {
+        Random random = new Random(42);
+        Set<FitnessFunction<DummyChromosome>> goals = new LinkedHashSet<>();
+        goals.add(new DummyFitnessFunction(0));
+        goals.add(new MaximizedFitnessFunction(1));
+        goals.add(new DummyFitnessFunction(2));
+
+        for (int round = 0; round < 50; round++) {
+            List<DummyChromosome> population = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                // Few distinct values, so that there are duplicates and ties
+                population.add(new DummyChromosome(random.nextInt(5), random.nextInt(5), random.nextInt(5)));
+            }
+            Map<DummyChromosome, Integer> expected = pairwiseRanks(population, goals);
+
+            FastNonDominatedSorting<DummyChromosome> sorting = new FastNonDominatedSorting<>();
+            sorting.computeRankingAssignment(population, goals);
+
+            int ranked = 0;
+            for (int front = 0; front < sorting.getNumberOfSubfronts(); front++) {
+                for (DummyChromosome solution : sorting.getSubfront(front)) {
+                    assertEquals(expected.get(solution).intValue(), front + 1);
+                    assertEquals(front + 1, solution.getRank());
+                    ranked++;
+                }
+            }
+            assertEquals(population.size(), ranked);
+        }
+    }
 }
@@ -270,6 +270,20 @@ public class TestSuiteWriterRegressionTest {
         return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
     }
 
+    @Test
+    public void testAppendIndentedMatchesLineSplit() {
+        String newline = System.getProperty("line.separator");
+        for (String code : Arrays.asList("", "a", "a\nb", "a\r\nb\n", "a\n\nb", "a\n\n", "\n", "a\r")) {
+            StringBuilder expected = new StringBuilder();
+            for (String line : code.split("\\r?\\n")) {
+                expected.append("  ").append(line).append(newline);
+            }
+            StringBuilder actual = new StringBuilder();
+            TestSuiteWriter.appendIndented(actual, "  ", code);
+            Assertions.assertEquals(expected.toString(), actual.toString(), code);
+        }
+    }
+
     private static void deleteTempDir(Path tempDir) throws IOException {
         try (Stream<Path> stream = Files.walk(tempDir)) {
             stream.sorted((a, b) -> b.compareTo(a))
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.novelty;
+
+import org.evosuite.Properties.NoveltyArchiveEviction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NoveltyArchiveTest {
+
+    private static double euclidean(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (a[i] - b[i]) * (a[i] - b[i]);
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double[] point(Random random, int dimensions) {
+        double[] point = new double[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            point[i] = random.nextInt(5) * random.nextDouble();
+        }
+        return point;
+    }
+
+    private static double bruteForceNovelty(double[] behaviour, List<double[]> candidates, int k) {
+        double[] distances = candidates.stream().mapToDouble(c -> euclidean(behaviour, c)).sorted().toArray();
+        int n = k <= 0 ? distances.length : Math.min(k, distances.length);
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += distances[i];
+        }
+        return sum / n;
+    }
+
+    @Test
+    public void testNoveltyWithoutNeighboursIsZero() {
+        NoveltyArchive archive = new NoveltyArchive(NoveltyArchiveTest::euclidean, 10,
+                NoveltyArchiveEviction.OLDEST);
+
+        for (int k : new int[]{0, 5}) {
+            assertEquals(0.0, archive.getNovelty(new double[]{1.0}, Collections.emptyList(), k), 0.0);
+        }
+    }
+
+    @Test
+    public void testNearestNeighboursMatchBruteForce() {
+        Random random = new Random(42);
+        NoveltyArchive archive = new NoveltyArchive(NoveltyArchiveTest::euclidean, 300,
+                NoveltyArchiveEviction.OLDEST);
+        List<double[]> archived = new ArrayList<>();
+
+        for (int generation = 0; generation < 400; generation++) {
+            double[] behaviour = point(random, 8);
+            archive.add(behaviour, 0.0);
+            archived.add(behaviour);
+            if (archived.size() > 300) {
+                archived.remove(0);
+            }
+
+            if (generation % 25 == 0) {
+                List<double[]> others = Arrays.asList(point(random, 8), point(random, 8));
+                for (int k : new int[]{1, 5, 15, 0}) {
+                    double[] query = point(random, 8);
+                    List<double[]> candidates = new ArrayList<>(others);
+                    candidates.addAll(archived);
+
+                    assertEquals(bruteForceNovelty(query, candidates, k),
+                            archive.getNovelty(query, others, k), 1e-9);
+                }
+            }
+        }
+        assertEquals(300, archive.size());
+    }
+
+    @Test
+    public void testLeastNovelBehaviourIsEvicted() {
+        NoveltyArchive archive = new NoveltyArchive(NoveltyArchiveTest::euclidean, 2,
+                NoveltyArchiveEviction.LEAST_NOVEL);
+        archive.add(new double[]{0.0}, 3.0);
+        archive.add(new double[]{10.0}, 1.0);
+        archive.add(new double[]{20.0}, 2.0);
+
+        assertEquals(2, archive.size());
+        // {10} was dropped, so the nearest archived behaviour to 11 is {20}
+        assertEquals(9.0, archive.getNovelty(new double[]{11.0}, Collections.emptyList(), 1), 0.0);
+    }
+
+    @Test
+    public void testOldestBehaviourIsEvicted() {
+        NoveltyArchive archive = new NoveltyArchive(NoveltyArchiveTest::euclidean, 2,
+                NoveltyArchiveEviction.OLDEST);
+        archive.add(new double[]{0.0}, 3.0);
+        archive.add(new double[]{10.0}, 1.0);
+        archive.add(new double[]{20.0}, 2.0);
+
+        assertEquals(2, archive.size());
+        assertEquals(14.0, archive.getNovelty(new double[]{1.0}, Collections.emptyList(), 0), 0.0);
+    }
+
+    @Test
+    public void testEmptyArchiveUsesPopulationOnly() {
+        NoveltyArchive archive = new NoveltyArchive(NoveltyArchiveTest::euclidean, 0,
+                NoveltyArchiveEviction.OLDEST);
+        archive.add(new double[]{5.0}, 1.0);
+
+        List<double[]> others = Arrays.asList(new double[]{1.0}, new double[]{2.0}, new double[]{4.0});
+
+        assertEquals(0, archive.size());
+        assertEquals(1.5, archive.getNovelty(new double[]{0.0}, others, 2), 0.0);
+        assertEquals(7.0 / 3.0, archive.getNovelty(new double[]{0.0}, others, 0), 1e-12);
+    }
+}
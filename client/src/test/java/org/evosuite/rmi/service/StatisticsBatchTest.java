@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.TestSuiteSummary;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticsBatchTest {
+
+    private static List<String> replay(StatisticsBatch batch) {
+        List<String> events = new ArrayList<>();
+        batch.forEach((variable, value) -> events.add(variable + "=" + value),
+                summary -> events.add("summary:" + summary.size()));
+        return events;
+    }
+
+    @Test
+    public void testVariablesAreCoalescedBetweenSummaries() {
+        StatisticsBatch batch = new StatisticsBatch();
+        batch.addVariable(RuntimeVariable.Covered_Goals_Timeline, 1);
+        batch.addVariable(RuntimeVariable.Fronts_Count_Timeline, 3);
+        batch.addVariable(RuntimeVariable.Covered_Goals_Timeline, 2);
+        batch.addSummary(TestSuiteSummary.of(new TestSuiteChromosome()));
+        batch.addVariable(RuntimeVariable.Covered_Goals_Timeline, 5);
+
+        assertEquals(4, batch.size());
+        List<String> events = replay(batch);
+        assertEquals(4, events.size());
+        assertEquals("Covered_Goals_Timeline=2", events.get(0));
+        assertEquals("Fronts_Count_Timeline=3", events.get(1));
+        assertEquals("summary:0", events.get(2));
+        assertEquals("Covered_Goals_Timeline=5", events.get(3));
+    }
+
+    @Test
+    public void testSerializationRoundTrip() throws Exception {
+        StatisticsBatch batch = new StatisticsBatch();
+        batch.addVariable(RuntimeVariable.Total_Goals, 10);
+        batch.addSummary(TestSuiteSummary.of(new TestSuiteChromosome()));
+        batch.addVariable(RuntimeVariable.Coverage, 0.5);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(batch);
+        }
+        StatisticsBatch copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (StatisticsBatch) in.readObject();
+        }
+
+        assertEquals(replay(batch), replay(copy));
+
+        // variables received after deserialisation are still coalesced
+        copy.addVariable(RuntimeVariable.Coverage, 0.75);
+        assertEquals(3, copy.size());
+        assertTrue(replay(copy).contains("Coverage=0.75"));
+    }
+}
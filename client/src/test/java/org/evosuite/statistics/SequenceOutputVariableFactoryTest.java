@@ -39,6 +39,11 @@ public class SequenceOutputVariableFactoryTest {
                 return 0;
             }
 
+            @Override
+            protected Integer getValue(TestSuiteSummary summary) {
+                return 0;
+            }
+
             @Override
             protected Integer interpolate(Integer v1, Integer v2, double ratio) {
                  return (int) Math.round(v1 + (v2 - v1) * ratio);
@@ -78,4 +83,37 @@ public class SequenceOutputVariableFactoryTest {
         Integer val = t1.getValue();
         assertEquals(Integer.valueOf(5), val);
     }
+
+    @Test
+    public void testSamplesAreFoldedIntoTimeline() {
+        Properties.TIMELINE_INTERPOLATION = false;
+        Properties.TIMELINE_INTERVAL = 1000;
+
+        DirectSequenceOutputVariableFactory<Integer> factory =
+                DirectSequenceOutputVariableFactory.getInteger(RuntimeVariable.Coverage);
+
+        long[] stamps = {0L, 500L, 900L, 1500L, 2500L, 3200L};
+        for (int i = 0; i < stamps.length; i++) {
+            factory.timeStamps.add(stamps[i]);
+            factory.values.add(i);
+            factory.compact();
+        }
+
+        // Only the samples received since the last compaction are retained
+        assertTrue(factory.timeStamps.isEmpty());
+        assertTrue(factory.values.isEmpty());
+
+        List<OutputVariable<Integer>> vars = factory.getOutputVariables();
+        for (OutputVariable<Integer> v : vars) {
+            if (v.getName().endsWith("_T1")) {
+                assertEquals(Integer.valueOf(2), v.getValue());
+            } else if (v.getName().endsWith("_T2")) {
+                assertEquals(Integer.valueOf(3), v.getValue());
+            } else if (v.getName().endsWith("_T3")) {
+                assertEquals(Integer.valueOf(4), v.getValue());
+            } else {
+                assertEquals(Integer.valueOf(5), v.getValue());
+            }
+        }
+    }
 }
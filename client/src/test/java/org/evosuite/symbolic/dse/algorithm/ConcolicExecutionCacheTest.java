@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.dse.algorithm;
+
+import org.evosuite.symbolic.PathCondition;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConcolicExecutionCacheTest {
+
+    private static TestCase createTest(int value) throws Exception {
+        DefaultTestCase test = new DefaultTestCase();
+        VariableReference argument = test.addStatement(new IntPrimitiveStatement(test, value));
+        GenericMethod abs = new GenericMethod(Math.class.getMethod("abs", int.class), Math.class);
+        test.addStatement(new MethodStatement(test, abs, null, Collections.singletonList(argument)));
+        return test;
+    }
+
+    private static PathCondition pathCondition() {
+        return new PathCondition(Collections.emptyList());
+    }
+
+    @Test
+    public void testIdenticalTestReusesPathCondition() throws Exception {
+        ConcolicExecutionCache cache = new ConcolicExecutionCache(10);
+        PathCondition pathCondition = pathCondition();
+
+        assertNull(cache.get(createTest(1)));
+        cache.put(createTest(1), pathCondition);
+
+        // a separately built test with the same statements
+        assertSame(pathCondition, cache.get(createTest(1)));
+        assertNull(cache.get(createTest(2)));
+    }
+
+    @Test
+    public void testLaterChangesOfTheTestDoNotAffectTheCache() throws Exception {
+        ConcolicExecutionCache cache = new ConcolicExecutionCache(10);
+        PathCondition pathCondition = pathCondition();
+        TestCase test = createTest(1);
+
+        cache.put(test, pathCondition);
+        ((IntPrimitiveStatement) test.getStatement(0)).setValue(2);
+
+        assertNull(cache.get(test));
+        assertSame(pathCondition, cache.get(createTest(1)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        ConcolicExecutionCache cache = new ConcolicExecutionCache(2);
+        PathCondition first = pathCondition();
+        PathCondition second = pathCondition();
+        PathCondition third = pathCondition();
+
+        cache.put(createTest(1), first);
+        cache.put(createTest(2), second);
+        cache.get(createTest(1));
+        cache.put(createTest(3), third);
+
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(createTest(1)));
+        assertNull(cache.get(createTest(2)));
+        assertSame(third, cache.get(createTest(3)));
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerUnaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.bv.StringBinaryComparison;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.evosuite.symbolic.expr.constraint.RealConstraint;
+import org.evosuite.symbolic.expr.constraint.StringConstraint;
+import org.evosuite.symbolic.expr.fp.IntegerToRealCast;
+import org.evosuite.symbolic.expr.fp.RealBinaryExpression;
+import org.evosuite.symbolic.expr.fp.RealConstant;
+import org.evosuite.symbolic.expr.fp.RealUnaryExpression;
+import org.evosuite.symbolic.expr.fp.RealVariable;
+import org.evosuite.symbolic.expr.str.StringConstant;
+import org.evosuite.symbolic.expr.str.StringVariable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CompiledDistanceEstimatorTest {
+
+    private final IntegerVariable x = new IntegerVariable("x", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private final IntegerVariable y = new IntegerVariable("y", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private final RealVariable r = new RealVariable("r", 0.0, -Double.MAX_VALUE, Double.MAX_VALUE);
+
+    private final StringVariable s = new StringVariable("s", "");
+
+    private List<Constraint<?>> numericConstraints() {
+        List<Constraint<?>> constraints = new ArrayList<>();
+        IntegerBinaryExpression sum = new IntegerBinaryExpression(x, Operator.PLUS, y, 0L);
+        IntegerBinaryExpression scaled = new IntegerBinaryExpression(sum, Operator.MUL, new IntegerConstant(3), 0L);
+        IntegerUnaryExpression abs = new IntegerUnaryExpression(y, Operator.ABS, 0L);
+        RealBinaryExpression product = new RealBinaryExpression(r, Operator.MUL, new IntegerToRealCast(x, 0.0), 0.0);
+        RealUnaryExpression sqrt = new RealUnaryExpression(r, Operator.SQRT, 0.0);
+        for (Comparator cmp : Arrays.asList(Comparator.EQ, Comparator.NE, Comparator.LT,
+                Comparator.LE, Comparator.GT, Comparator.GE)) {
+            constraints.add(new IntegerConstraint(scaled, cmp, new IntegerConstant(42)));
+            constraints.add(new IntegerConstraint(abs, cmp, x));
+            constraints.add(new RealConstraint(product, cmp, new RealConstant(2.5)));
+            constraints.add(new RealConstraint(sqrt, cmp, r));
+        }
+        return constraints;
+    }
+
+    private void assertSameDistances(List<Constraint<?>> constraints) {
+        CompiledDistanceEstimator compiled = CompiledDistanceEstimator.compile(constraints);
+        long[] ints = {-100, -7, -1, 0, 1, 7, 14, 100};
+        double[] reals = {-3.5, -0.0, 0.0, 0.25, 1.0, 2.5, 17.75};
+        for (long i : ints) {
+            for (long j : ints) {
+                for (double k : reals) {
+                    x.setConcreteValue(i);
+                    y.setConcreteValue(j);
+                    r.setConcreteValue(k);
+                    s.setConcreteValue("v" + i);
+                    assertEquals(DistanceEstimator.getDistance(constraints), compiled.getDistance(),
+                            "x=" + i + ", y=" + j + ", r=" + k);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNumericConstraintsAreCompiled() {
+        List<Constraint<?>> constraints = numericConstraints();
+
+        CompiledDistanceEstimator compiled = CompiledDistanceEstimator.compile(constraints);
+
+        assertEquals(0, compiled.getNumberOfInterpretedConstraints());
+        assertSameDistances(constraints);
+    }
+
+    @Test
+    public void testMixedConstraintsKeepVisitorDistances() {
+        List<Constraint<?>> constraints = numericConstraints();
+        StringBinaryComparison equals = new StringBinaryComparison(s, Operator.EQUALS,
+                new StringConstant("v7"), 0L);
+        constraints.add(3, new StringConstraint(equals, Comparator.NE, new IntegerConstant(0)));
+        IntegerUnaryExpression isDigit = new IntegerUnaryExpression(x, Operator.ISDIGIT, 0L);
+        constraints.add(new IntegerConstraint(isDigit, Comparator.NE, new IntegerConstant(0)));
+
+        CompiledDistanceEstimator compiled = CompiledDistanceEstimator.compile(constraints);
+
+        assertEquals(2, compiled.getNumberOfInterpretedConstraints());
+        assertSameDistances(constraints);
+    }
+
+    @Test
+    public void testArithmeticExceptionGivesMaximumDistance() {
+        IntegerBinaryExpression division = new IntegerBinaryExpression(x, Operator.DIV, y, 0L);
+        List<Constraint<?>> constraints = Collections.singletonList(
+                new IntegerConstraint(division, Comparator.EQ, new IntegerConstant(1)));
+        x.setConcreteValue(1L);
+        y.setConcreteValue(0L);
+
+        CompiledDistanceEstimator compiled = CompiledDistanceEstimator.compile(constraints);
+
+        assertEquals(Double.MAX_VALUE, DistanceEstimator.getDistance(constraints));
+        assertEquals(Double.MAX_VALUE, compiled.getDistance());
+    }
+
+    @Test
+    public void testEachVariableReadsItsOwnValue() {
+        // With this many variables, any slot order other than the first use
+        // order gives at least one variable the value of another
+        List<Constraint<?>> constraints = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            IntegerVariable integer = new IntegerVariable("i" + i, i, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            RealVariable real = new RealVariable("r" + i, i + 0.5, -Double.MAX_VALUE, Double.MAX_VALUE);
+            constraints.add(new IntegerConstraint(integer, Comparator.EQ, new IntegerConstant(i)));
+            constraints.add(new RealConstraint(real, Comparator.EQ, new RealConstant(i + 0.5)));
+        }
+
+        CompiledDistanceEstimator compiled = CompiledDistanceEstimator.compile(constraints);
+
+        assertEquals(0.0, DistanceEstimator.getDistance(constraints));
+        assertEquals(0.0, compiled.getDistance());
+    }
+}
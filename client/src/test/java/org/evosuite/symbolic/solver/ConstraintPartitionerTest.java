@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.Variable;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConstraintPartitionerTest {
+
+    private static IntegerVariable variable(String name) {
+        return new IntegerVariable(name, 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    private static Constraint<?> lessThan(IntegerVariable left, IntegerVariable right) {
+        return new IntegerConstraint(left, Comparator.LT, right);
+    }
+
+    private static Constraint<?> positive(IntegerVariable variable) {
+        return new IntegerConstraint(variable, Comparator.GT, new IntegerConstant(0));
+    }
+
+    @Test
+    public void testIndependentConstraintsAreSeparated() {
+        IntegerVariable a = variable("a");
+        IntegerVariable b = variable("b");
+        IntegerVariable c = variable("c");
+        IntegerVariable d = variable("d");
+        Constraint<?> c0 = positive(a);
+        Constraint<?> c1 = positive(c);
+        Constraint<?> c2 = lessThan(a, b);
+        Constraint<?> c3 = lessThan(c, d);
+        Constraint<?> constant = new IntegerConstraint(new IntegerConstant(1), Comparator.LT, new IntegerConstant(2));
+
+        List<List<Constraint<?>>> partitions =
+                ConstraintPartitioner.partition(Arrays.asList(c0, c1, c2, constant, c3));
+
+        assertEquals(3, partitions.size());
+        assertEquals(Arrays.asList(c0, c2), partitions.get(0));
+        assertEquals(Arrays.asList(c1, c3), partitions.get(1));
+        assertEquals(Collections.singletonList(constant), partitions.get(2));
+    }
+
+    @Test
+    public void testSliceFollowsTransitiveDependencies() {
+        IntegerVariable a = variable("a");
+        IntegerVariable b = variable("b");
+        IntegerVariable c = variable("c");
+        IntegerVariable d = variable("d");
+        // c0 only becomes related to the target through c2, which comes after it
+        Constraint<?> c0 = positive(c);
+        Constraint<?> c1 = positive(d);
+        Constraint<?> c2 = new IntegerConstraint(
+                new IntegerBinaryExpression(b, Operator.PLUS, c, 0L), Comparator.EQ, new IntegerConstant(0));
+        Constraint<?> target = lessThan(a, b);
+
+        List<Constraint<?>> slice = ConstraintPartitioner.slice(Arrays.asList(c0, c1, c2, target), 3);
+
+        assertEquals(Arrays.asList(c0, c2, target), slice);
+    }
+
+    @Test
+    public void testSliceOfConstantConstraintIsEmpty() {
+        Constraint<?> constant = new IntegerConstraint(new IntegerConstant(1), Comparator.LT, new IntegerConstant(2));
+
+        assertTrue(ConstraintPartitioner.slice(Arrays.asList(positive(variable("a")), constant), 1).isEmpty());
+    }
+
+    /**
+     * Like the SMT solvers, rejects queries without variables. Every variable is set to 1.
+     */
+    private static class RecordingSolver extends Solver {
+
+        private final List<Collection<Constraint<?>>> queries = new ArrayList<>();
+
+        @Override
+        public SolverResult executeSolver(Collection<Constraint<?>> constraints) throws SolverEmptyQueryException {
+            queries.add(constraints);
+            Set<Variable<?>> variables = getVariables(constraints);
+            if (variables.isEmpty()) {
+                throw new SolverEmptyQueryException("query without variables");
+            }
+            Map<String, Object> model = new HashMap<>();
+            for (Variable<?> variable : variables) {
+                model.put(variable.getName(), 1L);
+            }
+            return SolverResult.newSAT(model);
+        }
+    }
+
+    @Test
+    public void testConstantConstraintsAreEvaluatedConcretely() throws Exception {
+        IntegerVariable a = variable("mixed_a");
+        IntegerVariable b = variable("mixed_b");
+        Constraint<?> holds = new IntegerConstraint(new IntegerConstant(1), Comparator.LT, new IntegerConstant(2));
+        RecordingSolver solver = new RecordingSolver();
+
+        SolverResult result = solver.solve(Arrays.asList(positive(a), holds, positive(b)));
+
+        assertTrue(result.isSAT());
+        assertEquals(2, result.getModel().size());
+        assertEquals(2, solver.queries.size());
+        for (Collection<Constraint<?>> query : solver.queries) {
+            assertFalse(query.contains(holds));
+        }
+    }
+
+    @Test
+    public void testViolatedConstantConstraintIsUnsat() throws Exception {
+        IntegerVariable a = variable("violated_a");
+        Constraint<?> violated = new IntegerConstraint(new IntegerConstant(2), Comparator.LT, new IntegerConstant(1));
+        RecordingSolver solver = new RecordingSolver();
+
+        SolverResult result = solver.solve(Arrays.asList(positive(a), violated));
+
+        assertTrue(result.isUNSAT());
+        assertTrue(solver.queries.isEmpty());
+    }
+}
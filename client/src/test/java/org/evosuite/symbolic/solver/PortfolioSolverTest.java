@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.solver;
+
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.Constraint;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PortfolioSolverTest {
+
+    /**
+     * Returns a fixed result after a delay, or blocks until it is cancelled.
+     */
+    private static class FixedSolver extends Solver {
+
+        private final SolverResult result;
+        private final long delayMillis;
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+
+        FixedSolver(SolverResult result, long delayMillis) {
+            this.result = result;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public SolverResult executeSolver(Collection<Constraint<?>> constraints) throws SolverTimeoutException {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new SolverTimeoutException();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Ignores interrupts, like a solver waiting for its process, until it is cancelled.
+     */
+    private static class ProcessSolver extends Solver {
+
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+
+        @Override
+        public SolverResult executeSolver(Collection<Constraint<?>> constraints) throws SolverTimeoutException {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    cancelled.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SolverTimeoutException();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.countDown();
+        }
+    }
+
+    private static List<Supplier<? extends Solver>> members(Solver... solvers) {
+        List<Supplier<? extends Solver>> members = new ArrayList<>();
+        for (Solver solver : solvers) {
+            members.add(() -> solver);
+        }
+        return members;
+    }
+
+    private static final IntegerVariable x = new IntegerVariable("x", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private static List<Constraint<?>> query() {
+        return Collections.singletonList(new IntegerConstraint(x, Comparator.GT, new IntegerConstant(10)));
+    }
+
+    @Test
+    public void testFirstDefinitiveAnswerWins() throws Exception {
+        FixedSolver slow = new FixedSolver(SolverResult.newUNSAT(), 60_000);
+        FixedSolver unknown = new FixedSolver(SolverResult.newUnknown(), 0);
+        FixedSolver fast = new FixedSolver(SolverResult.newSAT(Collections.singletonMap("x", 11L)), 50);
+        PortfolioSolver portfolio = new PortfolioSolver(members(slow, unknown, fast));
+
+        SolverResult result = portfolio.executeSolver(query());
+
+        assertTrue(result.isSAT());
+        assertEquals(11L, result.getModel().get("x"));
+        assertTrue(slow.cancelled.await(5, TimeUnit.SECONDS), "slow solver was not cancelled");
+    }
+
+    @Test
+    public void testLosingSolverIsCancelled() throws Exception {
+        ProcessSolver process = new ProcessSolver();
+        PortfolioSolver portfolio = new PortfolioSolver(members(
+                process, new FixedSolver(SolverResult.newUNSAT(), 50)));
+
+        assertTrue(portfolio.executeSolver(query()).isUNSAT());
+        assertTrue(process.cancelled.await(5, TimeUnit.SECONDS), "losing solver was not cancelled");
+        portfolio.shutdown();
+    }
+
+    @Test
+    public void testEachQueryIsSolvedByNewSolvers() throws Exception {
+        AtomicInteger built = new AtomicInteger();
+        Supplier<Solver> member = () -> {
+            built.incrementAndGet();
+            return new FixedSolver(SolverResult.newUNSAT(), 0);
+        };
+        PortfolioSolver portfolio = new PortfolioSolver(Arrays.asList(member, member));
+
+        portfolio.executeSolver(query());
+        portfolio.executeSolver(query());
+
+        assertEquals(4, built.get());
+        portfolio.shutdown();
+    }
+
+    @Test
+    public void testUnknownWhenNoSolverAnswers() throws Exception {
+        PortfolioSolver portfolio = new PortfolioSolver(members(
+                new FixedSolver(SolverResult.newUnknown(), 0),
+                new FixedSolver(null, 0)));
+
+        assertTrue(portfolio.executeSolver(query()).isUnknown());
+    }
+
+    @Test
+    public void testFailureIsRethrownWhenAllSolversFail() {
+        Solver failing = new Solver() {
+            @Override
+            public SolverResult executeSolver(Collection<Constraint<?>> constraints) throws SolverErrorException {
+                throw new SolverErrorException("failed");
+            }
+        };
+        PortfolioSolver portfolio = new PortfolioSolver(members(failing, failing));
+
+        assertThrows(SolverErrorException.class, () -> portfolio.executeSolver(query()));
+    }
+
+    @Test
+    public void testPortfolioCanBeUsedAfterShutdown() throws Exception {
+        PortfolioSolver portfolio = new PortfolioSolver(members(
+                new FixedSolver(SolverResult.newUNSAT(), 0),
+                new FixedSolver(SolverResult.newUNSAT(), 0)));
+
+        assertTrue(portfolio.executeSolver(query()).isUNSAT());
+        portfolio.shutdown();
+        assertTrue(portfolio.executeSolver(query()).isUNSAT());
+        portfolio.shutdown();
+    }
+
+    @Test
+    public void testCopiedQueryHasOwnVariables() {
+        List<Constraint<?>> query = query();
+
+        List<Constraint<?>> copy = SolverUtils.copyQuery(query);
+
+        assertEquals(query, copy);
+        IntegerVariable copiedVariable = (IntegerVariable) copy.get(0).getLeftOperand();
+        assertNotSame(x, copiedVariable);
+        assertEquals(x.getName(), copiedVariable.getName());
+        copiedVariable.setConcreteValue(42L);
+        assertEquals(0L, (long) x.getConcreteValue());
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.vm;
+
+import org.evosuite.symbolic.expr.Operator;
+import org.evosuite.symbolic.expr.bv.IntegerBinaryExpression;
+import org.evosuite.symbolic.expr.bv.IntegerValue;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ExpressionFactoryTest {
+
+    private final IntegerVariable x = new IntegerVariable("x", 3, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private final IntegerVariable y = new IntegerVariable("y", 4, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    @AfterEach
+    public void tearDown() {
+        ExpressionFactory.clearInternedExpressions();
+    }
+
+    private IntegerValue minus(IntegerValue left, IntegerValue right, long con) {
+        return ExpressionFactory.intern(new IntegerBinaryExpression(left, Operator.MINUS, right, con));
+    }
+
+    @Test
+    public void testStructurallyEqualExpressionsAreShared() {
+        IntegerValue first = ExpressionFactory.mul(minus(x, y, -1), minus(y, x, 1), -1);
+        IntegerValue second = ExpressionFactory.mul(minus(x, y, -1), minus(y, x, 1), -1);
+
+        assertSame(first, second);
+        assertSame(((IntegerBinaryExpression) first).getLeftOperand(),
+                ((IntegerBinaryExpression) second).getLeftOperand());
+    }
+
+    @Test
+    public void testDifferentConcreteValuesAreNotShared() {
+        IntegerValue first = minus(x, y, -1);
+        IntegerValue second = minus(x, y, 5);
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(-1L, first.getConcreteValue());
+        assertEquals(5L, second.getConcreteValue());
+    }
+
+    @Test
+    public void testOperandOrderMatters() {
+        assertNotEquals(minus(x, y, -1), minus(y, x, -1));
+    }
+
+    @Test
+    public void testClearForgetsExpressions() {
+        IntegerValue first = minus(x, y, -1);
+        ExpressionFactory.clearInternedExpressions();
+
+        assertNotSame(first, minus(x, y, -1));
+    }
+
+    @Test
+    public void testHashCodeIsStableOnDeepExpressions() {
+        IntegerValue expr = x;
+        for (int i = 0; i < 1000; i++) {
+            expr = ExpressionFactory.add(expr, y, i);
+        }
+        IntegerValue other = x;
+        for (int i = 0; i < 1000; i++) {
+            other = new IntegerBinaryExpression(other, Operator.PLUS, y, (long) i);
+        }
+
+        assertEquals(expr.hashCode(), other.hashCode());
+        assertEquals(expr, other);
+    }
+}
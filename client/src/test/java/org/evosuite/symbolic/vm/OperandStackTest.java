@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.vm;
+
+import org.evosuite.symbolic.expr.bv.IntegerValue;
+import org.evosuite.symbolic.expr.fp.RealValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OperandStackTest {
+
+    @Test
+    public void testTypedOperationsAreLastInFirstOut() {
+        OperandStack stack = new OperandStack();
+        IntegerValue i = ExpressionFactory.buildNewIntegerConstant(1);
+        IntegerValue l = ExpressionFactory.buildNewIntegerConstant(2L);
+        RealValue d = ExpressionFactory.buildNewRealConstant(3.0);
+
+        stack.pushBv32(i);
+        stack.pushBv64(l);
+        stack.pushNullRef();
+        stack.pushFp64(d);
+
+        assertEquals(4, stack.size());
+        assertSame(d, stack.peekFp64());
+        assertSame(d, stack.popFp64());
+        assertSame(ExpressionFactory.NULL_REFERENCE, stack.popRef());
+        assertSame(l, stack.popBv64());
+        assertSame(i, stack.popBv32());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void testStackGrows() {
+        OperandStack stack = new OperandStack();
+        for (int i = 0; i < 100; i++) {
+            stack.pushBv32(ExpressionFactory.buildNewIntegerConstant(i));
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, (long) stack.popBv32().getConcreteValue());
+        }
+    }
+
+    @Test
+    public void testKindMismatchIsRejected() {
+        OperandStack stack = new OperandStack();
+        stack.pushFp32(ExpressionFactory.buildNewRealConstant(1.0f));
+
+        assertThrows(ClassCastException.class, stack::popBv32);
+        assertThrows(ClassCastException.class, stack::peekRef);
+        assertEquals(1, stack.size());
+    }
+
+    @Test
+    public void testOperandsAreIteratedFromTopToBottom() {
+        OperandStack stack = new OperandStack();
+        IntegerValue bottom = ExpressionFactory.buildNewIntegerConstant(1);
+        RealValue top = ExpressionFactory.buildNewRealConstant(2.0f);
+        stack.pushBv32(bottom);
+        stack.pushFp32(top);
+
+        Iterator<Operand> operands = stack.iterator();
+        assertSame(top, ((Fp32Operand) operands.next()).getRealExpression());
+        assertSame(bottom, ((Bv32Operand) operands.next()).getIntegerExpression());
+        assertFalse(operands.hasNext());
+    }
+
+    @Test
+    public void testPushedOperandIsPoppedWithSameKind() {
+        OperandStack stack = new OperandStack();
+        IntegerValue value = ExpressionFactory.buildNewIntegerConstant(5L);
+        stack.pushOperand(new Bv64Operand(value));
+
+        Operand operand = stack.popOperand();
+
+        assertTrue(operand instanceof Bv64Operand);
+        assertSame(value, ((Bv64Operand) operand).getIntegerExpression());
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.symbolic.vm;
+
+import org.evosuite.Properties;
+import org.evosuite.symbolic.BranchCondition;
+import org.evosuite.symbolic.PathCondition;
+import org.evosuite.symbolic.expr.Comparator;
+import org.evosuite.symbolic.expr.bv.IntegerConstant;
+import org.evosuite.symbolic.expr.bv.IntegerVariable;
+import org.evosuite.symbolic.expr.constraint.IntegerConstraint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PathConditionCollectorTest {
+
+    private int maxLength;
+    private int maxPerBranch;
+    private boolean deduplicate;
+
+    private final IntegerVariable x = new IntegerVariable("x", 0, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    @BeforeEach
+    public void setUp() {
+        maxLength = Properties.DSE_MAX_PATH_CONDITION_LENGTH;
+        maxPerBranch = Properties.DSE_MAX_CONDITIONS_PER_BRANCH;
+        deduplicate = Properties.DSE_DEDUPLICATE_BRANCH_CONDITIONS;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Properties.DSE_MAX_PATH_CONDITION_LENGTH = maxLength;
+        Properties.DSE_MAX_CONDITIONS_PER_BRANCH = maxPerBranch;
+        Properties.DSE_DEDUPLICATE_BRANCH_CONDITIONS = deduplicate;
+    }
+
+    private IntegerConstraint lessThan(long value) {
+        return new IntegerConstraint(x, Comparator.LT, new IntegerConstant(value));
+    }
+
+    /**
+     * Simulates the branch of a loop over <code>i</code> followed by a branch after the loop.
+     */
+    private PathConditionCollector collectLoop(int iterations) {
+        PathConditionCollector collector = new PathConditionCollector();
+        for (int i = 0; i < iterations; i++) {
+            collector.appendIfBranchCondition("Foo", "bar", 1, true, lessThan(i));
+        }
+        collector.appendIfBranchCondition("Foo", "bar", 2, false, lessThan(100));
+        return collector;
+    }
+
+    @Test
+    public void testEverythingIsRecordedByDefault() {
+        PathConditionCollector collector = collectLoop(10);
+
+        assertEquals(11, collector.getPathCondition().size());
+        assertEquals(0, collector.getNumberOfDroppedBranchConditions());
+    }
+
+    @Test
+    public void testMaxPathConditionLength() {
+        Properties.DSE_MAX_PATH_CONDITION_LENGTH = 4;
+
+        PathConditionCollector collector = collectLoop(10);
+
+        assertEquals(4, collector.getPathCondition().size());
+        assertEquals(7, collector.getNumberOfDroppedBranchConditions());
+    }
+
+    @Test
+    public void testMaxConditionsPerBranch() {
+        Properties.DSE_MAX_CONDITIONS_PER_BRANCH = 3;
+
+        List<BranchCondition> branches = collectLoop(10).getPathCondition();
+
+        assertEquals(4, branches.size());
+        assertEquals(2, branches.get(3).getInstructionIndex());
+    }
+
+    @Test
+    public void testDeduplication() {
+        Properties.DSE_DEDUPLICATE_BRANCH_CONDITIONS = true;
+        PathConditionCollector collector = new PathConditionCollector();
+
+        for (int i = 0; i < 5; i++) {
+            collector.appendIfBranchCondition("Foo", "bar", 1, true, lessThan(7));
+        }
+        collector.appendSupportingConstraint(lessThan(3));
+        collector.appendIfBranchCondition("Foo", "bar", 1, true, lessThan(7));
+
+        // the last one has a supporting constraint, so it is not a repetition
+        assertEquals(2, collector.getPathCondition().size());
+        assertEquals(4, collector.getNumberOfDroppedBranchConditions());
+    }
+
+    @Test
+    public void testNegatedPathConditionSharesPrefix() {
+        PathCondition pathCondition = new PathCondition(collectLoop(5).getPathCondition());
+
+        PathCondition child = pathCondition.negate(2);
+        PathCondition grandChild = child.negate(1);
+
+        assertEquals(3, child.size());
+        assertSame(pathCondition.get(0), child.get(0));
+        assertSame(pathCondition.get(1), child.get(1));
+        assertEquals(pathCondition.get(2).getConstraint().negate(), child.get(2).getConstraint());
+        assertEquals(2, grandChild.size());
+        assertEquals(pathCondition.get(1).getConstraint().negate(), grandChild.get(1).getConstraint());
+        assertTrue(child.getConstraints().contains(pathCondition.get(0).getConstraint()));
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase;
+
+import org.evosuite.rmi.service.MigrantSet;
+import org.evosuite.testcase.statements.ArrayStatement;
+import org.evosuite.testcase.statements.AssignmentStatement;
+import org.evosuite.testcase.statements.ConstructorStatement;
+import org.evosuite.testcase.statements.EnumPrimitiveStatement;
+import org.evosuite.testcase.statements.FieldStatement;
+import org.evosuite.testcase.statements.MethodStatement;
+import org.evosuite.testcase.statements.NullStatement;
+import org.evosuite.testcase.statements.StringPrimitiveStatement;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.evosuite.testcase.variable.ArrayIndex;
+import org.evosuite.testcase.variable.ArrayReference;
+import org.evosuite.testcase.variable.VariableReference;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.evosuite.testsuite.TestSuiteSerialization;
+import org.evosuite.utils.generic.GenericConstructor;
+import org.evosuite.utils.generic.GenericField;
+import org.evosuite.utils.generic.GenericMethod;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCaseCodecTest {
+
+    /**
+     * Not known to the codec, so tests containing it are Java-serialized.
+     */
+    public static class CustomIntStatement extends IntPrimitiveStatement {
+
+        private static final long serialVersionUID = 1L;
+
+        public CustomIntStatement(TestCase tc, Integer value) {
+            super(tc, value);
+        }
+    }
+
+    private static TestCase createTest() throws Exception {
+        DefaultTestCase tc = new DefaultTestCase();
+        VariableReference capacity = tc.addStatement(new IntPrimitiveStatement(tc, 10));
+        GenericConstructor constructor = new GenericConstructor(
+                ArrayList.class.getConstructor(int.class), ArrayList.class);
+        VariableReference list = tc.addStatement(
+                new ConstructorStatement(tc, constructor, Collections.singletonList(capacity)));
+        VariableReference text = tc.addStatement(new StringPrimitiveStatement(tc, "caf\u00e9 \ud800"));
+        GenericMethod add = new GenericMethod(ArrayList.class.getMethod("add", Object.class), ArrayList.class);
+        tc.addStatement(new MethodStatement(tc, add, list, Collections.singletonList(text)));
+        tc.addStatement(new EnumPrimitiveStatement<>(tc, TimeUnit.SECONDS));
+        GenericField max = new GenericField(Integer.class.getField("MAX_VALUE"), Integer.class);
+        VariableReference maxValue = tc.addStatement(new FieldStatement(tc, max, null));
+        ArrayStatement array = new ArrayStatement(tc, int[].class, 2);
+        tc.addStatement(array);
+        ArrayIndex index = new ArrayIndex(tc, (ArrayReference) array.getReturnValue(), 0);
+        tc.addStatement(new AssignmentStatement(tc, index, maxValue));
+        tc.addStatement(new NullStatement(tc, String.class));
+        return tc;
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        TestCase test = createTest();
+
+        List<TestCase> decoded = TestCaseCodec.decode(TestCaseCodec.encode(Collections.singletonList(test)));
+
+        assertEquals(1, decoded.size());
+        assertEquals(test.size(), decoded.get(0).size());
+        assertEquals(test.toCode(), decoded.get(0).toCode());
+    }
+
+    @Test
+    public void testRoundTripWithNullArgument() throws Exception {
+        DefaultTestCase test = new DefaultTestCase();
+        GenericConstructor constructor = new GenericConstructor(ArrayList.class.getConstructor(), ArrayList.class);
+        VariableReference list = test.addStatement(
+                new ConstructorStatement(test, constructor, Collections.emptyList()));
+        VariableReference nullValue = test.addStatement(new NullStatement(test, Object.class));
+        GenericMethod add = new GenericMethod(ArrayList.class.getMethod("add", Object.class), ArrayList.class);
+        test.addStatement(new MethodStatement(test, add, list, Collections.singletonList(nullValue)));
+
+        List<TestCase> decoded = TestCaseCodec.decode(TestCaseCodec.encode(Collections.singletonList(test)));
+
+        assertEquals(1, decoded.size());
+        assertEquals(test.size(), decoded.get(0).size());
+        assertEquals(test.toCode(), decoded.get(0).toCode());
+        VariableReference argument = ((MethodStatement) decoded.get(0).getStatement(2)).getParameterReferences().get(0);
+        assertSame(decoded.get(0).getStatement(1).getReturnValue(), argument);
+    }
+
+    @Test
+    public void testNamesAreWrittenOnce() throws Exception {
+        byte[] one = TestCaseCodec.encode(Collections.singletonList(createTest()));
+        byte[] two = TestCaseCodec.encode(Arrays.asList(createTest(), createTest()));
+
+        // The second copy only references the string table of the first one
+        assertTrue(two.length - one.length < one.length / 2,
+                "one test: " + one.length + " bytes, two tests: " + two.length + " bytes");
+    }
+
+    @Test
+    public void testUnsupportedStatementFallsBackToSerialization() throws Exception {
+        DefaultTestCase custom = new DefaultTestCase();
+        custom.addStatement(new CustomIntStatement(custom, 7));
+        TestCase plain = createTest();
+
+        List<TestCase> decoded = TestCaseCodec.decode(TestCaseCodec.encode(Arrays.asList(custom, plain)));
+
+        assertEquals(2, decoded.size());
+        assertSame(CustomIntStatement.class, decoded.get(0).getStatement(0).getClass());
+        assertEquals(custom.toCode(), decoded.get(0).toCode());
+        assertEquals(plain.toCode(), decoded.get(1).toCode());
+    }
+
+    @Test
+    public void testSuiteSerialization(@TempDir File folder) throws Exception {
+        TestSuiteChromosome suite = new TestSuiteChromosome();
+        TestChromosome chromosome = new TestChromosome();
+        chromosome.setTestCase(createTest());
+        suite.addTestChromosome(chromosome);
+        File target = new File(folder, "suite.seed");
+
+        assertTrue(TestSuiteSerialization.saveTests(suite, target));
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(target);
+
+        assertEquals(1, loaded.size());
+        assertEquals(chromosome.getTestCase().toCode(), loaded.get(0).getTestCase().toCode());
+    }
+
+    @Test
+    public void testSuiteSerializationReadsJavaSerializedFiles(@TempDir File folder) throws Exception {
+        TestChromosome chromosome = new TestChromosome();
+        chromosome.setTestCase(createTest());
+        File target = new File(folder, "old.seed");
+        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(target))) {
+            out.writeObject(chromosome);
+        }
+
+        List<TestChromosome> loaded = TestSuiteSerialization.loadTests(target);
+
+        // Java deserialization resolves raw generic types, so only the statements are compared
+        assertEquals(1, loaded.size());
+        TestCase test = loaded.get(0).getTestCase();
+        assertEquals(chromosome.getTestCase().size(), test.size());
+        for (int i = 0; i < test.size(); i++) {
+            assertSame(chromosome.getTestCase().getStatement(i).getClass(), test.getStatement(i).getClass());
+        }
+        assertTrue(test.toCode().contains("arrayList0.add((Object) string0);"), test.toCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMigrantSetIsTransferredEncoded() throws Exception {
+        TestChromosome chromosome = new TestChromosome();
+        chromosome.setTestCase(createTest());
+        MigrantSet<TestChromosome> migrants = new MigrantSet<>(Collections.singleton(chromosome));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(migrants);
+        }
+        Set<TestChromosome> received;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            received = (Set<TestChromosome>) in.readObject();
+        }
+
+        assertEquals(1, received.size());
+        assertEquals(chromosome.getTestCase().toCode(), received.iterator().next().getTestCase().toCode());
+    }
+}
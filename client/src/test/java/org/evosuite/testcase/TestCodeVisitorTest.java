@@ -90,6 +90,20 @@ public class TestCodeVisitorTest {
         }
     }
 
+    private static java.util.Map<String, java.util.List<? extends Number>> genericField;
+
+    @Test
+    public void testGenericTypeNameIsRenderedOnce() throws NoSuchFieldException {
+        TestCodeVisitor visitor = new TestCodeVisitor();
+        Type type = getClass().getDeclaredField("genericField").getGenericType();
+
+        String name = visitor.getTypeName(type);
+        assertEquals("Map<String, List<? extends Number>>", name);
+        assertSame(name, visitor.getTypeName(type));
+        assertTrue(visitor.getImports().containsAll(
+                Arrays.asList(java.util.Map.class, java.util.List.class, Number.class)));
+    }
+
     @Test
     public void testInnerClassWithNameSubset() {
         TestCodeVisitor visitor = new TestCodeVisitor();
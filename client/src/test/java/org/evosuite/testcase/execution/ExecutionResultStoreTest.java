@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.evosuite.Properties;
+import org.evosuite.assertion.NullTraceObserver;
+import org.evosuite.assertion.PrimitiveTraceObserver;
+import org.evosuite.testcase.DefaultTestCase;
+import org.evosuite.testcase.TestCase;
+import org.evosuite.testcase.statements.numeric.IntPrimitiveStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutionResultStoreTest {
+
+    private int storeSize;
+
+    private final ExecutionResultStore store = ExecutionResultStore.getInstance();
+
+    @BeforeEach
+    public void setUp() {
+        storeSize = Properties.EXECUTION_RESULT_STORE_SIZE;
+        store.enable();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        store.disable();
+        Properties.EXECUTION_RESULT_STORE_SIZE = storeSize;
+    }
+
+    private static TestCase createTest(int... values) {
+        DefaultTestCase test = new DefaultTestCase();
+        for (int value : values) {
+            test.addStatement(new IntPrimitiveStatement(test, value));
+        }
+        return test;
+    }
+
+    private static ExecutionResult createResult(TestCase test) {
+        ExecutionResult result = new ExecutionResult(test, null);
+        result.setTrace(new ExecutionTraceImpl());
+        result.setExecutedStatements(test.size());
+        result.setSecurityException(true);
+        return result;
+    }
+
+    @Test
+    public void testEqualTestReusesResult() {
+        TestCase test = createTest(1, 2);
+        store.put(createResult(test), Collections.emptyList());
+
+        TestCase copy = createTest(1, 2);
+        ExecutionResult result = store.get(copy, Collections.emptyList());
+
+        assertNotNull(result);
+        assertSame(copy, result.test);
+        assertEquals(2, result.getExecutedStatements());
+        assertTrue(result.hasSecurityException());
+        assertEquals(1, store.getHits());
+    }
+
+    @Test
+    public void testChangedTestIsExecutedAgain() {
+        TestCase test = createTest(1, 2);
+        store.put(createResult(test), Collections.emptyList());
+
+        // The stored key must not follow changes of the executed test
+        test.addStatement(new IntPrimitiveStatement(test, 3));
+
+        assertNull(store.get(test, Collections.emptyList()));
+        assertNotNull(store.get(createTest(1, 2), Collections.emptyList()));
+    }
+
+    @Test
+    public void testMissingObserversAreNotReused() {
+        TestCase test = createTest(1);
+        List<ExecutionObserver> observers = Collections.singletonList(new NullTraceObserver());
+        store.put(createResult(test), observers);
+
+        assertNotNull(store.get(test, Collections.emptyList()));
+        assertNotNull(store.get(test, observers));
+        assertNull(store.get(test, Arrays.asList(new NullTraceObserver(), new PrimitiveTraceObserver())));
+    }
+
+    @Test
+    public void testTimeoutsAreNotStored() {
+        TestCase test = createTest(1);
+        ExecutionResult result = createResult(test);
+        result.reportNewThrownException(test.size(), new TestCaseExecutor.TimeoutExceeded());
+        store.put(result, Collections.emptyList());
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testOldestResultIsEvicted() {
+        Properties.EXECUTION_RESULT_STORE_SIZE = 2;
+        for (int i = 0; i < 3; i++) {
+            store.put(createResult(createTest(i)), Collections.emptyList());
+        }
+
+        assertEquals(2, store.size());
+        assertNull(store.get(createTest(0), Collections.emptyList()));
+        assertNotNull(store.get(createTest(2), Collections.emptyList()));
+    }
+
+    @Test
+    public void testDisabledStoreKeepsNothing() {
+        store.disable();
+        TestCase test = createTest(1);
+        store.put(createResult(test), Collections.emptyList());
+
+        assertEquals(0, store.size());
+        assertNull(store.get(test, Collections.emptyList()));
+    }
+}
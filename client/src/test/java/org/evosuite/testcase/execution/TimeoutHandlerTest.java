@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.execution;
+
+import org.evosuite.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimeoutHandlerTest {
+
+    private long spin;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        spin = Properties.TEST_HANDOFF_SPIN;
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new TestHandoffQueue(Properties.TEST_HANDOFF_SPIN));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Properties.TEST_HANDOFF_SPIN = spin;
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultIsReturned() throws Exception {
+        TimeoutHandler<Integer> handler = new TimeoutHandler<>();
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            assertEquals(value, (int) handler.execute(() -> value, executor, 1000, false));
+        }
+    }
+
+    @Test
+    public void testWithoutSpinning() throws Exception {
+        Properties.TEST_HANDOFF_SPIN = 0;
+        TimeoutHandler<String> handler = new TimeoutHandler<>();
+        assertEquals("foo", handler.execute(() -> "foo", executor, 1000, false));
+    }
+
+    @Test
+    public void testSlowTestTimesOut() {
+        TimeoutHandler<String> handler = new TimeoutHandler<>();
+        assertThrows(TimeoutException.class, () -> handler.execute(() -> {
+            Thread.sleep(5000);
+            return "late";
+        }, executor, 50, false));
+        handler.getLastTask().cancel(true);
+    }
+
+    @Test
+    public void testQueueParksWhenEmpty() throws Exception {
+        TestHandoffQueue queue = new TestHandoffQueue(100);
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+
+        Runnable task = () -> {
+        };
+        queue.add(task);
+        assertEquals(task, queue.take());
+    }
+
+    @Test
+    public void testQueueSpinIsInterruptible() {
+        TestHandoffQueue queue = new TestHandoffQueue(TimeUnit.SECONDS.toMicros(10));
+        Thread.currentThread().interrupt();
+        long start = System.nanoTime();
+        assertThrows(InterruptedException.class, queue::take);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+}
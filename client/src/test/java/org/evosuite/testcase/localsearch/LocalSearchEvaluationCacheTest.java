@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.testcase.localsearch;
+
+import org.evosuite.Properties;
+import org.evosuite.ga.localsearch.LocalSearchObjective;
+import org.evosuite.testcase.TestChromosome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocalSearchEvaluationCacheTest {
+
+    private final boolean cacheEvaluations = Properties.LOCAL_SEARCH_CACHE_EVALUATIONS;
+
+    @AfterEach
+    public void tearDown() {
+        Properties.LOCAL_SEARCH_CACHE_EVALUATIONS = cacheEvaluations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LocalSearchObjective<TestChromosome> improvingObjective() {
+        LocalSearchObjective<TestChromosome> objective = mock(LocalSearchObjective.class);
+        when(objective.hasImproved(null)).thenReturn(true);
+        return objective;
+    }
+
+    @Test
+    public void testRepeatedValueIsNotEvaluated() {
+        LocalSearchObjective<TestChromosome> objective = improvingObjective();
+        LocalSearchEvaluationCache<Integer> cache = new LocalSearchEvaluationCache<>();
+        cache.reset(0);
+
+        assertTrue(cache.hasImproved(objective, null, 1));
+        assertFalse(cache.hasImproved(objective, null, 1));
+        assertFalse(cache.hasImproved(objective, null, 0));
+
+        verify(objective, times(1)).hasImproved(null);
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testResetForgetsValues() {
+        LocalSearchObjective<TestChromosome> objective = improvingObjective();
+        LocalSearchEvaluationCache<String> cache = new LocalSearchEvaluationCache<>();
+        cache.reset("a");
+        cache.add("b");
+        assertFalse(cache.hasImproved(objective, null, "b"));
+
+        cache.reset("c");
+
+        assertTrue(cache.hasImproved(objective, null, "b"));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testCacheCanBeDisabled() {
+        Properties.LOCAL_SEARCH_CACHE_EVALUATIONS = false;
+        LocalSearchObjective<TestChromosome> objective = improvingObjective();
+        LocalSearchEvaluationCache<Double> cache = new LocalSearchEvaluationCache<>();
+        cache.reset(1.0);
+
+        assertTrue(cache.hasImproved(objective, null, 1.0));
+        assertTrue(cache.hasImproved(objective, null, 1.0));
+
+        verify(objective, times(2)).hasImproved(null);
+    }
+}
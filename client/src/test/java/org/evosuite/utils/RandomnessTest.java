@@ -59,4 +59,19 @@ public class RandomnessTest {
                     "random double (" + r + ") value has to be in the range [" + min + ", " + max + "]");
         }
     }
+
+    @Test
+    public void testCallWithSeedLeavesSharedGeneratorAlone() {
+        long seed = Randomness.getSeed();
+        Randomness.setSeed(42);
+        long expected = Randomness.nextLong();
+
+        Randomness.setSeed(42);
+        long first = Randomness.callWithSeed(7, Randomness::nextLong);
+        long second = Randomness.callWithSeed(7, Randomness::nextLong);
+
+        assertEquals(first, second);
+        assertEquals(expected, Randomness.nextLong());
+        Randomness.setSeed(seed);
+    }
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.utils.generic;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemberInvokersTest {
+
+    public abstract static class Shape {
+
+        public Shape() {
+        }
+    }
+
+    public static class Counter {
+
+        public static int created = 0;
+
+        private int value;
+
+        public Counter(int value) {
+            this.value = value;
+            created++;
+        }
+
+        public long add(long delta) {
+            value += delta;
+            return value;
+        }
+
+        public static void fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public static int count(int... values) {
+            return values.length;
+        }
+    }
+
+    @Test
+    public void testMethodIsInvokedRepeatedly() throws Exception {
+        GenericMethod add = new GenericMethod(Counter.class.getMethod("add", long.class), Counter.class);
+        Counter counter = new Counter(0);
+
+        for (int i = 1; i <= 3; i++) {
+            assertEquals((long) i, add.invoke(counter, new Object[]{1L}));
+        }
+        // Integer arguments are widened like with reflection
+        assertEquals(5L, add.invoke(counter, new Object[]{2}));
+    }
+
+    @Test
+    public void testExceptionsAreWrapped() throws Exception {
+        GenericMethod fail = new GenericMethod(Counter.class.getMethod("fail", String.class), Counter.class);
+
+        for (int i = 0; i < 2; i++) {
+            InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                    () -> fail.invoke(null, new Object[]{"message"}));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("message", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidArgumentsAreReportedByReflection() throws Exception {
+        GenericMethod add = new GenericMethod(Counter.class.getMethod("add", long.class), Counter.class);
+        add.invoke(new Counter(0), new Object[]{1L});
+
+        assertThrows(IllegalArgumentException.class, () -> add.invoke("not a counter", new Object[]{1L}));
+        assertThrows(IllegalArgumentException.class, () -> add.invoke(new Counter(0), new Object[]{"1"}));
+        assertThrows(IllegalArgumentException.class, () -> add.invoke(new Counter(0), new Object[0]));
+    }
+
+    @Test
+    public void testVarargsArrayIsPassedAsIs() throws Exception {
+        GenericMethod count = new GenericMethod(Counter.class.getMethod("count", int[].class), Counter.class);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(3, count.invoke(null, new Object[]{new int[3]}));
+        }
+    }
+
+    @Test
+    public void testConstructorAndField() throws Exception {
+        GenericConstructor constructor = new GenericConstructor(Counter.class.getConstructor(int.class),
+                Counter.class);
+        GenericField value = new GenericField(Counter.class.getDeclaredField("value"), Counter.class);
+        int created = Counter.created;
+
+        for (int i = 0; i < 3; i++) {
+            Object counter = constructor.newInstance(new Object[]{i});
+            assertEquals(i, value.get(counter));
+        }
+        assertEquals(created + 3, Counter.created);
+        assertThrows(NullPointerException.class, () -> value.get(null));
+    }
+
+    @Test
+    public void testAbstractClassIsNotInstantiated() throws Exception {
+        GenericConstructor constructor = new GenericConstructor(Shape.class.getConstructor(), Shape.class);
+
+        assertThrows(InstantiationException.class, () -> constructor.newInstance(new Object[0]));
+        assertNull(MemberInvokers.forConstructor(constructor.getConstructor()));
+    }
+}
@@ -187,6 +187,7 @@ public class MasterServices {
      */
     public void stopServices() {
         if (masterNode != null) {
+            masterNode.stopMigrationSenders();
             try {
                 UnicastRemoteObject.unexportObject(masterNode, true);
             } catch (NoSuchObjectException e) {
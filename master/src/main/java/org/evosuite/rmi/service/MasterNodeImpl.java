@@ -28,13 +28,19 @@ import org.evosuite.statistics.RuntimeVariable;
 import org.evosuite.statistics.SearchStatistics;
 import org.evosuite.utils.Listener;
 import org.evosuite.utils.LoggingUtils;
+import org.evosuite.utils.Randomness;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 
@@ -58,6 +64,12 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
 
     private final Map<String, ClientStateInformation> clientStateInformation;
 
+    /**
+     * One sender per receiving client, so that migrants are delivered
+     * asynchronously and in order.
+     */
+    private final Map<String, ExecutorService> migrationSenders = new ConcurrentHashMap<>();
+
     /**
      * Constructs a {@link MasterNodeImpl} with the given RMI registry.
      *
@@ -100,6 +112,10 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         // To be on the safe side
         information.setState(state);
         clientStateInformation.put(clientRmiIdentifier, information);
+        if (state != ClientState.SEARCH) {
+            // Only searching clients receive migrants
+            stopMigrationSender(clientRmiIdentifier);
+        }
         fireEvent(information);
     }
 
@@ -176,6 +192,13 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         SearchStatistics.getInstance(clientRmiIdentifier).setOutputVariable(variable, value);
     }
 
+    @Override
+    public void evosuite_collectStatisticsBatch(String clientRmiIdentifier, StatisticsBatch batch)
+            throws RemoteException {
+        SearchStatistics statistics = SearchStatistics.getInstance(clientRmiIdentifier);
+        batch.forEach(statistics::setOutputVariable, statistics::currentIndividual);
+    }
+
     @Override
     public void evosuite_collectTestGenerationResult(
             String clientRmiIdentifier, List<TestGenerationResult> results)
@@ -195,20 +218,91 @@ public class MasterNodeImpl implements MasterNodeRemote, MasterNodeLocal {
         Properties.getInstance().setValue(propertyName, value);
     }
 
+    /**
+     * Hands the migrants over to the sender of the receiving client and
+     * returns immediately, so that a slow client does not stall the others.
+     */
     @Override
     public void evosuite_migrate(String clientRmiIdentifier, Set<? extends Chromosome<?>> migrants)
             throws RemoteException {
-        //implements ring topology
+        String receiver = selectMigrationTarget(clientRmiIdentifier);
+        if (receiver == null) {
+            return;
+        }
+        ClientNodeRemote node = clients.get(receiver);
+        if (node == null) {
+            return;
+        }
+        try {
+            migrationSenders.computeIfAbsent(receiver, this::createMigrationSender).execute(() -> {
+                try {
+                    node.immigrate(migrants);
+                } catch (RemoteException e) {
+                    logger.warn("Cannot send migrants to " + receiver + ": " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The receiver stopped searching in the meantime
+            logger.debug("Dropping migrants for " + receiver + ", which is no longer searching");
+        }
+    }
+
+    /**
+     * Returns the client that receives the migrants of the given client
+     * according to {@link Properties#MIGRATION_TOPOLOGY}, or null if no other
+     * client is searching.
+     */
+    private String selectMigrationTarget(String clientRmiIdentifier) {
         int idSender = Integer.parseInt(clientRmiIdentifier.replaceAll("[^0-9]", ""));
-        int idNeighbour = (idSender + 1) % Properties.NUM_PARALLEL_CLIENTS;
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 1; i < Properties.NUM_PARALLEL_CLIENTS; i++) {
+            int id = (idSender + i) % Properties.NUM_PARALLEL_CLIENTS;
+            if (ClientState.SEARCH.equals(clientStates.get("ClientNode" + id))) {
+                candidates.add(id);
+                if (Properties.MIGRATION_TOPOLOGY == Properties.MigrationTopology.RING) {
+                    break;
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return "ClientNode" + Randomness.choice(candidates);
+    }
 
-        while (!ClientState.SEARCH.equals(clientStates.get("ClientNode" + idNeighbour)) && idNeighbour != idSender) {
-            idNeighbour = (idNeighbour + 1) % Properties.NUM_PARALLEL_CLIENTS;
+    /**
+     * Creates a single-threaded sender for one receiving client, which keeps
+     * at most {@link Properties#MIGRANTS_QUEUE_SIZE} groups and drops the
+     * oldest one when the receiver cannot keep up.
+     */
+    private ExecutorService createMigrationSender(String receiver) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, Properties.MIGRANTS_QUEUE_SIZE)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Migration sender to " + receiver);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    /**
+     * Stops the migration sender of the given client, dropping the migrants
+     * it has not delivered yet.
+     */
+    private void stopMigrationSender(String receiver) {
+        ExecutorService sender = migrationSenders.remove(receiver);
+        if (sender != null) {
+            sender.shutdownNow();
         }
+    }
 
-        if (idNeighbour != idSender) {
-            ClientNodeRemote node = clients.get("ClientNode" + idNeighbour);
-            node.immigrate(migrants);
+    /**
+     * Stops the migration senders of all clients.
+     */
+    public void stopMigrationSenders() {
+        for (String receiver : new ArrayList<>(migrationSenders.keySet())) {
+            stopMigrationSender(receiver);
         }
     }
 
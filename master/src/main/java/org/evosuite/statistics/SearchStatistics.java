@@ -275,11 +275,25 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
 
         logger.debug("Received individual");
         bestIndividual = (TestSuiteChromosome) individual;
+        currentIndividual(TestSuiteSummary.of(bestIndividual));
+    }
+
+    /**
+     * This method is called when a client sends a progress update, which only
+     * contains the summary of its current best individual.
+     *
+     * @param summary summary of the best individual of current generation
+     */
+    public void currentIndividual(TestSuiteSummary summary) {
+        if (backend == null) {
+            return;
+        }
+
         for (ChromosomeOutputVariableFactory<?> v : variableFactories.values()) {
-            setOutputVariable(v.getVariable((TestSuiteChromosome) individual));
+            setOutputVariable(v.getVariable(summary));
         }
         for (SequenceOutputVariableFactory<?> v : sequenceOutputVariableFactories.values()) {
-            v.update((TestSuiteChromosome) individual);
+            v.update(summary);
         }
     }
 
@@ -774,7 +788,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Integer getData(TestSuiteChromosome individual) {
+        protected Integer getData(TestSuiteSummary individual) {
             return individual.totalLengthOfTestCases();
         }
     }
@@ -788,7 +802,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Integer getData(TestSuiteChromosome individual) {
+        protected Integer getData(TestSuiteSummary individual) {
             return individual.size();
         }
     }
@@ -802,7 +816,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getData(TestSuiteChromosome individual) {
+        protected Double getData(TestSuiteSummary individual) {
             return individual.getFitness();
         }
     }
@@ -816,7 +830,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getData(TestSuiteChromosome individual) {
+        protected Double getData(TestSuiteSummary individual) {
             return individual.getCoverage();
         }
     }
@@ -831,7 +845,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        protected Double getValue(TestSuiteChromosome individual) {
+        protected Double getValue(TestSuiteSummary individual) {
             return individual.getFitness();
         }
     }
@@ -846,7 +860,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverage();
         }
     }
@@ -861,7 +875,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(TestSuiteSummary individual) {
             return individual.size();
         }
     }
@@ -876,7 +890,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(TestSuiteSummary individual) {
             return individual.totalLengthOfTestCases();
         }
     }
@@ -891,7 +905,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Integer getValue(TestSuiteChromosome individual) {
+        public Integer getValue(TestSuiteSummary individual) {
             return individual.getNumOfNotCoveredGoals();
         }
     }
@@ -903,7 +917,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(BranchCoverageSuiteFitness.class);
         }
     }
@@ -915,7 +929,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -927,7 +941,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(OnlyBranchCoverageSuiteFitness.class);
         }
     }
@@ -939,7 +953,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -951,7 +965,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(CBranchSuiteFitness.class);
         }
     }
@@ -963,7 +977,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -975,7 +989,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(MethodTraceCoverageSuiteFitness.class);
         }
     }
@@ -987,7 +1001,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -999,7 +1013,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(MethodCoverageSuiteFitness.class);
         }
     }
@@ -1012,7 +1026,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -1025,7 +1039,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(MethodNoExceptionCoverageSuiteFitness.class);
         }
     }
@@ -1037,7 +1051,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             Double d = individual.getFitnessInstanceOf(RhoCoverageSuiteFitness.class);
             return d > 1.0 ? 0.0 : d;
         }
@@ -1050,7 +1064,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(AmbiguityCoverageSuiteFitness.class);
         }
     }
@@ -1062,7 +1076,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -1074,7 +1088,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(LineCoverageSuiteFitness.class);
         }
     }
@@ -1086,7 +1100,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -1098,7 +1112,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(OutputCoverageSuiteFitness.class);
         }
     }
@@ -1110,7 +1124,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -1122,7 +1136,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(InputCoverageSuiteFitness.class);
         }
     }
@@ -1134,7 +1148,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -1146,7 +1160,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(ExceptionCoverageSuiteFitness.class);
         }
     }
@@ -1158,7 +1172,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(WeakMutationSuiteFitness.class);
         }
     }
@@ -1170,7 +1184,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getFitnessInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
@@ -1182,7 +1196,7 @@ public class SearchStatistics implements Listener<ClientStateInformation> {
         }
 
         @Override
-        public Double getValue(TestSuiteChromosome individual) {
+        public Double getValue(TestSuiteSummary individual) {
             return individual.getCoverageInstanceOf(OnlyMutationSuiteFitness.class);
         }
     }
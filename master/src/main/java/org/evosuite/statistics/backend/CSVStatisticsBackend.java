@@ -25,16 +25,18 @@ import org.evosuite.statistics.OutputVariable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedWriter;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * This statistics backend writes all (selected) output variables to a CSV file.
+ * The file is kept open across rows and flushed every
+ * {@link Properties#STATISTICS_FLUSH_INTERVAL} rows.
  *
  * @author gordon
  */
@@ -109,12 +111,15 @@ public class CSVStatisticsBackend implements StatisticsBackend {
         try {
             File outputDir = getReportDir();
             File f = new File(outputDir.getAbsolutePath() + File.separator + "statistics.csv");
-            BufferedWriter out = new BufferedWriter(new FileWriter(f, true));
-            if (f.length() == 0L) {
-                out.write(getCSVHeader(data) + "\n");
+            ReportFile reportFile = ReportFile.get(f);
+            synchronized (reportFile) {
+                DataOutputStream out = reportFile.getStream();
+                if (reportFile.isEmpty()) {
+                    out.write((getCSVHeader(data) + "\n").getBytes(Charset.defaultCharset()));
+                }
+                out.write((getCSVData(data) + "\n").getBytes(Charset.defaultCharset()));
+                reportFile.endRow();
             }
-            out.write(getCSVData(data) + "\n");
-            out.close();
 
         } catch (IOException e) {
             logger.warn("Error while writing statistics: " + e.getMessage());
@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import org.evosuite.ga.Chromosome;
+import org.evosuite.statistics.OutputVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This statistics backend appends every output variable to its own binary column
+ * file in <code>REPORT_DIR/statistics-columns</code>. Columns can be appended
+ * incrementally across runs, and a column only needs to be read if it is analysed.
+ *
+ * <p>The file <code>_row.col</code> contains one timestamp (long) per row, so the
+ * number of rows is its length divided by 8. Every other column file contains
+ * records of the form <code>[int row][byte tag][value]</code>, so columns that
+ * only appear in some rows do not need padding.
+ */
+public class ColumnarStatisticsBackend implements StatisticsBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarStatisticsBackend.class);
+
+    public static final String DIRECTORY_NAME = "statistics-columns";
+
+    public static final String ROW_COLUMN = "_row";
+
+    public static final String COLUMN_SUFFIX = ".col";
+
+    private static final byte TAG_NULL = 'N';
+    private static final byte TAG_LONG = 'L';
+    private static final byte TAG_DOUBLE = 'D';
+    private static final byte TAG_BOOLEAN = 'B';
+    private static final byte TAG_STRING = 'S';
+
+    /**
+     * Return the folder in which the column files are stored.
+     *
+     * @return column directory
+     */
+    public static File getColumnDir() {
+        File dir = new File(CSVStatisticsBackend.getReportDir(), DIRECTORY_NAME);
+        if (!dir.exists() && !dir.mkdirs()) {
+            String msg = "Cannot create column dir: " + dir.getAbsolutePath();
+            logger.error(msg);
+            throw new RuntimeException(msg);
+        }
+        return dir;
+    }
+
+    private static File getColumnFile(File dir, String name) {
+        return new File(dir, name.replaceAll("[^A-Za-z0-9_.\\-]", "_") + COLUMN_SUFFIX);
+    }
+
+    @Override
+    public void writeData(Chromosome<?> result, Map<String, OutputVariable<?>> data) {
+        try {
+            File dir = getColumnDir();
+            ReportFile rows = ReportFile.get(getColumnFile(dir, ROW_COLUMN));
+            synchronized (ReportFile.class) {
+                int row = (int) (rows.length() / Long.BYTES);
+                for (Map.Entry<String, OutputVariable<?>> e : data.entrySet()) {
+                    ReportFile column = ReportFile.get(getColumnFile(dir, e.getKey()));
+                    DataOutputStream out = column.getStream();
+                    out.writeInt(row);
+                    writeValue(out, e.getValue().getValue());
+                    column.endRow();
+                }
+                rows.getStream().writeLong(System.currentTimeMillis());
+                rows.endRow();
+            }
+        } catch (IOException e) {
+            logger.warn("Error while writing statistics: " + e.getMessage());
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            out.writeByte(TAG_STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_STRING:
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            default:
+                throw new IOException("Unknown value tag: " + tag);
+        }
+    }
+
+    /**
+     * Reads a single column back. Rows in which the column was not written are <code>null</code>.
+     *
+     * @param dir  the column directory
+     * @param name the name of the output variable
+     * @return one value per row
+     * @throws IOException if the files cannot be read
+     */
+    public static Object[] readColumn(File dir, String name) throws IOException {
+        ReportFile.flushAll();
+        Object[] values = new Object[(int) (getColumnFile(dir, ROW_COLUMN).length() / Long.BYTES)];
+        File file = getColumnFile(dir, name);
+        if (!file.exists()) {
+            return values;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                int row;
+                try {
+                    row = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                Object value = readValue(in);
+                if (row < values.length) {
+                    values[row] = value;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads all columns in the given directory.
+     *
+     * @param dir the column directory
+     * @return map from column file name (without suffix) to the values of each row
+     * @throws IOException if the files cannot be read
+     */
+    public static Map<String, Object[]> readColumns(File dir) throws IOException {
+        Map<String, Object[]> columns = new LinkedHashMap<>();
+        File[] files = dir.listFiles((d, n) -> n.endsWith(COLUMN_SUFFIX) && !n.equals(ROW_COLUMN + COLUMN_SUFFIX));
+        if (files == null) {
+            return columns;
+        }
+        for (File file : files) {
+            String name = file.getName().substring(0, file.getName().length() - COLUMN_SUFFIX.length());
+            columns.put(name, readColumn(dir, name));
+        }
+        return columns;
+    }
+}
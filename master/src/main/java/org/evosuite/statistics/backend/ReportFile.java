@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import org.evosuite.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An append-only report file that is kept open for the whole lifetime of the JVM.
+ * Rows are buffered and flushed every {@link Properties#STATISTICS_FLUSH_INTERVAL}
+ * rows, and all open files are flushed and closed on shutdown. If the file is
+ * deleted or moved while open (e.g., between system tests), it is transparently
+ * reopened on the next write.
+ */
+class ReportFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportFile.class);
+
+    private static final Map<String, ReportFile> openFiles = new LinkedHashMap<>();
+
+    private static boolean shutdownHookRegistered = false;
+
+    private final File file;
+
+    private DataOutputStream out = null;
+
+    /**
+     * Counts the bytes written to {@link #out}, as {@link DataOutputStream#size()} stops
+     * at {@link Integer#MAX_VALUE}.
+     */
+    private CountingOutputStream counter = null;
+
+    private int pendingRows = 0;
+
+    private long flushedBytes = 0L;
+
+    private ReportFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the shared report file for the given path, creating it if needed.
+     *
+     * @param file the file to append to
+     * @return the report file
+     */
+    static synchronized ReportFile get(File file) {
+        String key = file.getAbsolutePath();
+        ReportFile reportFile = openFiles.get(key);
+        if (reportFile == null) {
+            reportFile = new ReportFile(file);
+            openFiles.put(key, reportFile);
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread(ReportFile::closeAll));
+                shutdownHookRegistered = true;
+            }
+        }
+        return reportFile;
+    }
+
+    /**
+     * Writes the buffered rows of all open report files to disk.
+     */
+    static synchronized void flushAll() {
+        for (ReportFile reportFile : openFiles.values()) {
+            try {
+                reportFile.flush();
+            } catch (IOException e) {
+                logger.warn("Error while flushing " + reportFile.file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes all open report files.
+     */
+    static synchronized void closeAll() {
+        for (ReportFile reportFile : openFiles.values()) {
+            reportFile.close();
+        }
+        openFiles.clear();
+    }
+
+    /**
+     * Returns the stream to append to, (re)opening the underlying file if necessary.
+     *
+     * @return the output stream
+     * @throws IOException if the file cannot be opened
+     */
+    synchronized DataOutputStream getStream() throws IOException {
+        if (out != null && !file.exists()) {
+            // Someone removed the file while we were holding it open
+            logger.debug("Report file {} was removed, reopening it", file);
+            close();
+        }
+        if (out == null) {
+            counter = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+            out = new DataOutputStream(counter);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the number of bytes in the file, including those still buffered.
+     *
+     * @return the logical length of the file
+     */
+    synchronized long length() {
+        long buffered = out == null ? 0L : counter.count - flushedBytes;
+        return file.length() + buffered;
+    }
+
+    /**
+     * Returns true if neither the file on disk nor the buffer contain any data.
+     *
+     * @return true if nothing has been written yet
+     */
+    synchronized boolean isEmpty() {
+        return length() == 0L;
+    }
+
+    /**
+     * Marks the end of a row, flushing if enough rows have been buffered.
+     *
+     * @throws IOException if flushing fails
+     */
+    synchronized void endRow() throws IOException {
+        pendingRows++;
+        if (pendingRows >= Properties.STATISTICS_FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all buffered rows to disk.
+     *
+     * @throws IOException if flushing fails
+     */
+    synchronized void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+            flushedBytes = counter.count;
+        }
+        pendingRows = 0;
+    }
+
+    private synchronized void close() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.warn("Error while closing " + file + ": " + e.getMessage());
+        }
+        out = null;
+        counter = null;
+        pendingRows = 0;
+        flushedBytes = 0L;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0L;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -44,6 +44,8 @@ public class StatisticsBackendFactory {
                 return new HTMLStatisticsBackend();
             case DEBUG:
                 return new DebugStatisticsBackend();
+            case COLUMNAR:
+                return new ColumnarStatisticsBackend();
             case NONE:
             default:
                 // If no backend is specified, there is no output
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import com.examples.with.different.packagename.BMICalculator;
+import org.evosuite.EvoSuite;
+import org.evosuite.Properties;
+import org.evosuite.SystemTestBase;
+import org.evosuite.ga.metaheuristics.mapelites.MAPElites;
+import org.evosuite.statistics.OutputVariable;
+import org.evosuite.statistics.RuntimeVariable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * System tests for the MAP-Elites strategy.
+ */
+public class MAPElitesSystemTest extends SystemTestBase {
+
+    private void test(Properties.MapElitesChoice choice) {
+        Properties.MAP_ELITES_CHOICE = choice;
+        Properties.CRITERION = new Properties.Criterion[]{Properties.Criterion.BRANCH};
+        Properties.OUTPUT_VARIABLES = RuntimeVariable.BranchCoverage.toString();
+
+        String targetClass = BMICalculator.class.getCanonicalName();
+        Properties.TARGET_CLASS = targetClass;
+
+        String[] command = new String[]{"-generateTests", "-Dalgorithm=MAP_ELITES", "-Dstrategy=MAP_ELITES",
+                "-class", targetClass};
+
+        EvoSuite evoSuite = new EvoSuite();
+        GeneticAlgorithm<?> ga = getGAFromResult(evoSuite.parseCommandLine(command));
+        Assertions.assertEquals(MAPElites.class, ga.getClass());
+
+        OutputVariable<?> coverage = getOutputVariable(RuntimeVariable.BranchCoverage);
+        Assertions.assertEquals(1d, (Double) coverage.getValue(), 0.001);
+    }
+
+    @Test
+    public void testSingleAverageChoice() {
+        test(Properties.MapElitesChoice.SINGLE_AVG);
+    }
+
+    @Test
+    public void testAllChoice() {
+        test(Properties.MapElitesChoice.ALL);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.ga.metaheuristics;
+
+import com.examples.with.different.packagename.InfeasibleFinalInt;
+import org.evosuite.EvoSuite;
+import org.evosuite.Properties;
+import org.evosuite.SystemTestBase;
+import org.evosuite.ga.metaheuristics.mosa.MOSA;
+import org.evosuite.ga.metaheuristics.mosa.MOSATestSuiteAdapter;
+import org.evosuite.statistics.OutputVariable;
+import org.evosuite.statistics.RuntimeVariable;
+import org.evosuite.statistics.backend.DebugStatisticsBackend;
+import org.evosuite.testsuite.TestSuiteChromosome;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/**
+ * System tests for MOSA evolving several islands inside one client process.
+ */
+public class MOSAIslandsSystemTest extends SystemTestBase {
+
+    private void test(Properties.MigrationTopology topology) {
+        Properties.ALGORITHM = Properties.Algorithm.MOSA;
+        Properties.NUM_ISLANDS = 3;
+        Properties.MIGRANTS_ITERATION_FREQUENCY = 1;
+        Properties.MIGRATION_TOPOLOGY = topology;
+        // one branch is infeasible, so the search runs for the whole budget
+        Properties.STOPPING_CONDITION = Properties.StoppingCondition.MAXGENERATIONS;
+        Properties.SEARCH_BUDGET = 10;
+
+        String targetClass = InfeasibleFinalInt.class.getCanonicalName();
+        Properties.TARGET_CLASS = targetClass;
+        Properties.OUTPUT_VARIABLES = "" + RuntimeVariable.Island_Migrants;
+
+        String[] command = new String[]{"-generateMOSuite", "-Dalgorithm=MOSA", "-Dstrategy=MOSuite",
+                "-class", targetClass};
+
+        EvoSuite evoSuite = new EvoSuite();
+
+        GeneticAlgorithm<TestSuiteChromosome> ga = getGAFromResult(evoSuite.parseCommandLine(command));
+        Assertions.assertEquals(MOSATestSuiteAdapter.class, ga.getClass());
+        Assertions.assertEquals(MOSA.class, ((MOSATestSuiteAdapter) ga).getAlgorithm().getClass());
+
+        Map<String, OutputVariable<?>> map = DebugStatisticsBackend.getLatestWritten();
+        Assertions.assertNotNull(map);
+        OutputVariable<?> migrants = map.get(RuntimeVariable.Island_Migrants.toString());
+        Assertions.assertNotNull(migrants);
+        Assertions.assertTrue(((Number) migrants.getValue()).intValue() > 0);
+    }
+
+    @Test
+    public void testRingTopology() {
+        test(Properties.MigrationTopology.RING);
+    }
+
+    @Test
+    public void testRandomTopology() {
+        test(Properties.MigrationTopology.RANDOM);
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.rmi.service;
+
+import org.evosuite.Properties;
+import org.evosuite.testcase.TestChromosome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.rmi.registry.Registry;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class MasterNodeMigrationTest {
+
+    private int parallelClients;
+
+    private Properties.MigrationTopology topology;
+
+    private ClientNodeRemote<?>[] nodes;
+
+    private MasterNodeImpl master;
+
+    @BeforeEach
+    public void setUp() {
+        parallelClients = Properties.NUM_PARALLEL_CLIENTS;
+        topology = Properties.MIGRATION_TOPOLOGY;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Properties.NUM_PARALLEL_CLIENTS = parallelClients;
+        Properties.MIGRATION_TOPOLOGY = topology;
+    }
+
+    private void startClients(int number) throws Exception {
+        Properties.NUM_PARALLEL_CLIENTS = number;
+        Registry registry = Mockito.mock(Registry.class);
+        master = new MasterNodeImpl(registry);
+        nodes = new ClientNodeRemote<?>[number];
+        for (int i = 0; i < number; i++) {
+            String id = "ClientNode" + i;
+            nodes[i] = Mockito.mock(ClientNodeRemote.class);
+            Mockito.when(registry.lookup(id)).thenReturn(nodes[i]);
+            master.evosuite_registerClientNode(id);
+            master.evosuite_informChangeOfStateInClient(id, ClientState.SEARCH,
+                    new ClientStateInformation(ClientState.SEARCH));
+        }
+    }
+
+    private static Set<TestChromosome> migrants() {
+        return Collections.singleton(new TestChromosome());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMigrationDoesNotWaitForReceiver() throws Exception {
+        startClients(2);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(nodes[1]).immigrate(any());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            master.evosuite_migrate("ClientNode0", migrants());
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        assertTrue(elapsed < 1000, "migration blocked for " + elapsed + "ms");
+        verify((ClientNodeRemote<TestChromosome>) nodes[1], timeout(5000).atLeastOnce()).immigrate(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRingSendsToNextSearchingClient() throws Exception {
+        Properties.MIGRATION_TOPOLOGY = Properties.MigrationTopology.RING;
+        startClients(3);
+        master.evosuite_informChangeOfStateInClient("ClientNode2", ClientState.DONE,
+                new ClientStateInformation(ClientState.DONE));
+
+        master.evosuite_migrate("ClientNode1", migrants());
+
+        verify((ClientNodeRemote<TestChromosome>) nodes[0], timeout(5000)).immigrate(any());
+        verify((ClientNodeRemote<TestChromosome>) nodes[2], never()).immigrate(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRandomNeverSendsToSender() throws Exception {
+        Properties.MIGRATION_TOPOLOGY = Properties.MigrationTopology.RANDOM;
+        startClients(4);
+
+        for (int i = 0; i < 20; i++) {
+            master.evosuite_migrate("ClientNode0", migrants());
+        }
+
+        verify((ClientNodeRemote<TestChromosome>) nodes[1], timeout(5000).atLeastOnce()).immigrate(any());
+        verify((ClientNodeRemote<TestChromosome>) nodes[0], never()).immigrate(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSenderStopsWhenReceiverStopsSearching() throws Exception {
+        startClients(2);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        }).when(nodes[1]).immigrate(any());
+
+        master.evosuite_migrate("ClientNode0", migrants());
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        master.evosuite_informChangeOfStateInClient("ClientNode1", ClientState.DONE,
+                new ClientStateInformation(ClientState.DONE));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "migration sender was not shut down");
+    }
+}
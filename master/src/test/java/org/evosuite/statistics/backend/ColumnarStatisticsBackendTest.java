@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.statistics.backend;
+
+import org.evosuite.Properties;
+import org.evosuite.statistics.OutputVariable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ColumnarStatisticsBackendTest {
+
+    private String reportDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        reportDir = Properties.REPORT_DIR;
+        Properties.REPORT_DIR = Files.createTempDirectory("evosuite-report-").toString();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ReportFile.closeAll();
+        Properties.REPORT_DIR = reportDir;
+        Properties.STATISTICS_FLUSH_INTERVAL = 1;
+    }
+
+    private static Map<String, OutputVariable<?>> row(Object target, Object coverage, Object goals) {
+        Map<String, OutputVariable<?>> data = new LinkedHashMap<>();
+        data.put("TARGET_CLASS", new OutputVariable<>("TARGET_CLASS", target));
+        data.put("Coverage", new OutputVariable<>("Coverage", coverage));
+        if (goals != null) {
+            data.put("Total_Goals", new OutputVariable<>("Total_Goals", goals));
+        }
+        return data;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ColumnarStatisticsBackend backend = new ColumnarStatisticsBackend();
+        backend.writeData(null, row("com.example.Foo", 0.5, 10));
+        backend.writeData(null, row("com.example.Bar", 1.0, null));
+        backend.writeData(null, row("com.example.Baz", 0.25, 4));
+
+        File dir = ColumnarStatisticsBackend.getColumnDir();
+        assertArrayEquals(new Object[]{"com.example.Foo", "com.example.Bar", "com.example.Baz"},
+                ColumnarStatisticsBackend.readColumn(dir, "TARGET_CLASS"));
+        assertArrayEquals(new Object[]{0.5, 1.0, 0.25},
+                ColumnarStatisticsBackend.readColumn(dir, "Coverage"));
+        assertArrayEquals(new Object[]{10L, null, 4L},
+                ColumnarStatisticsBackend.readColumn(dir, "Total_Goals"));
+        assertEquals(3, ColumnarStatisticsBackend.readColumns(dir).size());
+    }
+
+    @Test
+    public void testAppendAcrossBackends() throws IOException {
+        new ColumnarStatisticsBackend().writeData(null, row("com.example.Foo", 0.5, 10));
+        ReportFile.closeAll();
+        new ColumnarStatisticsBackend().writeData(null, row("com.example.Bar", 1.0, 20));
+
+        File dir = ColumnarStatisticsBackend.getColumnDir();
+        assertArrayEquals(new Object[]{10L, 20L}, ColumnarStatisticsBackend.readColumn(dir, "Total_Goals"));
+    }
+
+    @Test
+    public void testCSVKeepsHeaderAndBatchesRows() throws IOException {
+        Properties.STATISTICS_FLUSH_INTERVAL = 2;
+        CSVStatisticsBackend backend = new CSVStatisticsBackend();
+        File csv = new File(CSVStatisticsBackend.getReportDir(), "statistics.csv");
+
+        backend.writeData(null, row("com.example.Foo", 0.5, 10));
+        assertEquals(0L, csv.length());
+
+        backend.writeData(null, row("com.example.Bar", 1.0, 20));
+        List<String> lines = Files.readAllLines(csv.toPath(), Charset.defaultCharset());
+        assertEquals(3, lines.size());
+        assertEquals("TARGET_CLASS,Coverage,Total_Goals", lines.get(0));
+        assertEquals("com.example.Bar,1.0,20", lines.get(2));
+    }
+
+    @Test
+    public void testCSVReopensDeletedFile() throws IOException {
+        CSVStatisticsBackend backend = new CSVStatisticsBackend();
+        File csv = new File(CSVStatisticsBackend.getReportDir(), "statistics.csv");
+
+        backend.writeData(null, row("com.example.Foo", 0.5, 10));
+        assertEquals(2, Files.readAllLines(csv.toPath(), Charset.defaultCharset()).size());
+
+        Files.delete(csv.toPath());
+        backend.writeData(null, row("com.example.Bar", 1.0, 20));
+        List<String> lines = Files.readAllLines(csv.toPath(), Charset.defaultCharset());
+        assertEquals(2, lines.size());
+        assertEquals("TARGET_CLASS,Coverage,Total_Goals", lines.get(0));
+    }
+}
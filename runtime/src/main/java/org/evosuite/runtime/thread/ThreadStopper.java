@@ -39,6 +39,11 @@ public class ThreadStopper {
 
     protected transient Set<Thread> currentRunningThreads;
 
+    /**
+     * Reused buffer for {@link Thread#enumerate}.
+     */
+    private Thread[] threadBuffer = new Thread[16];
+
     private final KillSwitch killSwitch;
 
     /**
@@ -98,6 +103,14 @@ public class ThreadStopper {
      * running.
      * </p>
      * <p>
+     * Like {@link #killAndJoinClientThreads()}, this only looks at the thread
+     * group of the calling thread (and its subgroups), which is where threads
+     * started by the SUT end up. Both methods have to be called from the same
+     * thread. {@link Thread#enumerate} is used instead of
+     * {@link Thread#getAllStackTraces()}, which would capture the stack of
+     * every thread at a safepoint before each test.
+     * </p>
+     * <p>
      * <b>WARNING</b>: The sandbox might prevent accessing thread informations,
      * so need to check carefully when/where this method is called
      * </p>
@@ -109,12 +122,29 @@ public class ThreadStopper {
             currentRunningThreads.clear();
         }
 
-        Map<Thread, StackTraceElement[]> threadMap = Thread.getAllStackTraces();
-        for (Thread t : threadMap.keySet()) {
+        int count = enumerateThreads();
+        for (int i = 0; i < count; i++) {
+            Thread t = threadBuffer[i];
             if (t.isAlive()) {
                 currentRunningThreads.add(t);
             }
+            threadBuffer[i] = null;
+        }
+    }
+
+    /**
+     * Copies the threads of the current thread group into {@code threadBuffer},
+     * growing it until all threads fit.
+     *
+     * @return the number of threads
+     */
+    private int enumerateThreads() {
+        int count = Thread.enumerate(threadBuffer);
+        while (count >= threadBuffer.length) {
+            threadBuffer = new Thread[threadBuffer.length * 2];
+            count = Thread.enumerate(threadBuffer);
         }
+        return count;
     }
 
     /**
@@ -135,8 +165,9 @@ public class ThreadStopper {
 
         // Using enumerate here because getAllStackTraces may call hashCode of the SUT,
         // if the SUT is a subclass of Thread
-        Thread[] threadArray = new Thread[Thread.activeCount() + 2];
-        Thread.enumerate(threadArray);
+        int count = enumerateThreads();
+        Thread[] threadArray = Arrays.copyOf(threadBuffer, count);
+        Arrays.fill(threadBuffer, 0, count, null);
 
         /*
          * First we set the kill switch in the instrumented bytecode, this
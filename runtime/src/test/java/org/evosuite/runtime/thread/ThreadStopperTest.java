@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2010-2026 Gordon Fraser, Andrea Arcuri and EvoSuite
+ * contributors
+ *
+ * This file is part of EvoSuite.
+ *
+ * EvoSuite is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3.0 of the License, or
+ * (at your option) any later version.
+ *
+ * EvoSuite is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with EvoSuite. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.evosuite.runtime.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadStopperTest {
+
+    @Test
+    public void testOnlyThreadsStartedAfterStoringAreStopped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread existing = new Thread(() -> awaitQuietly(release));
+        existing.start();
+        try {
+            ThreadStopper stopper = new ThreadStopper(KillSwitchHandler.getInstance(), 5000);
+            stopper.startRecordingTime();
+            stopper.storeCurrentThreads();
+
+            Thread started = new Thread(() -> awaitQuietly(new CountDownLatch(1)));
+            started.start();
+            stopper.killAndJoinClientThreads();
+
+            assertFalse(started.isAlive());
+            assertTrue(existing.isAlive());
+        } finally {
+            release.countDown();
+            existing.join();
+        }
+    }
+
+    @Test
+    public void testManyThreadsAreStored() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread[] threads = new Thread[50];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> awaitQuietly(release));
+            threads[i].start();
+        }
+        try {
+            ThreadStopper stopper = new ThreadStopper(KillSwitchHandler.getInstance(), 5000);
+            stopper.startRecordingTime();
+            stopper.storeCurrentThreads();
+            stopper.killAndJoinClientThreads();
+
+            for (Thread t : threads) {
+                assertTrue(t.isAlive());
+            }
+        } finally {
+            release.countDown();
+            for (Thread t : threads) {
+                t.join();
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            // stopped
+        }
+    }
+}